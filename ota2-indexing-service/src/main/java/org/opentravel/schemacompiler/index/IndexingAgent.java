@@ -41,7 +41,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.jms.Connection;
 import javax.jms.Destination;
@@ -71,6 +78,7 @@ public class IndexingAgent {
     public static final String RESPONSE_QUEUE_BEANID = "indexingJobResponseQueue";
     public static final String REPOSITORY_LOCATION_BEANID = "repositoryLocation";
     public static final String SEARCH_INDEX_LOCATION_BEANID = "searchIndexLocation";
+    public static final String WORKER_COUNT_BEANID = "indexingWorkerCount";
 
     private boolean shutdownRequested = false;
     private File searchIndexLocation;
@@ -79,6 +87,8 @@ public class IndexingAgent {
     private Directory indexDirectory;
     private IndexWriterConfig writerConfig;
     private IndexWriter indexWriter;
+    private ExecutorService indexingWorkers;
+    private int workerCount;
     private JmsTemplate jmsTemplate;
     private Destination requestQueue;
     private Destination responseQueue;
@@ -167,6 +177,8 @@ public class IndexingAgent {
         this.responseQueue = (Destination) context.getBean( RESPONSE_QUEUE_BEANID );
         String repositoryLocationPath = (String) context.getBean( REPOSITORY_LOCATION_BEANID );
         String searchIndexLocationPath = (String) context.getBean( SEARCH_INDEX_LOCATION_BEANID );
+        Object workerCountSetting =
+            context.containsBean( WORKER_COUNT_BEANID ) ? context.getBean( WORKER_COUNT_BEANID ) : null;
 
         // Perform some preliminary error checking on the agent's configuration settings
         if (jmsTemplate == null) {
@@ -189,6 +201,7 @@ public class IndexingAgent {
         }
         repositoryManager = new RepositoryManager( repositoryLocation );
         jobManager = new IndexingJobManager( repositoryManager, searchIndexLocation );
+        setWorkerCount( (workerCountSetting == null) ? 0 : Integer.parseInt( workerCountSetting.toString().trim() ) );
         running = false;
 
         // Check to make sure the index was properly closed, and release any lock that might exist
@@ -221,6 +234,7 @@ public class IndexingAgent {
                 IndexingAgentStats agentStats = IndexingAgentStats.getInstance();
 
                 agentStats.setSearchIndexLocation( searchIndexLocation );
+                agentStats.setJobManager( jobManager );
                 mbs.registerMBean( agentStats, name );
             }
 
@@ -240,6 +254,26 @@ public class IndexingAgent {
         return jmsTemplate;
     }
 
+    /**
+     * Returns the number of worker threads that build search index documents concurrently.
+     * 
+     * @return int
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Assigns the number of worker threads that build search index documents concurrently. A value less than one will
+     * result in one worker for each available processor. This setting must be assigned before the agent starts
+     * listening for indexing jobs.
+     * 
+     * @param workerCount the number of indexing worker threads
+     */
+    public void setWorkerCount(int workerCount) {
+        this.workerCount = (workerCount < 1) ? Runtime.getRuntime().availableProcessors() : workerCount;
+    }
+
     /**
      * Permanently closes the index writer for this agent.
      */
@@ -269,6 +303,7 @@ public class IndexingAgent {
 
         configureMonitoring();
         checkJmsAvailable();
+        startIndexingWorkers();
         jobThread.start();
         running = true;
 
@@ -312,10 +347,60 @@ public class IndexingAgent {
             Thread.currentThread().interrupt();
 
         } finally {
+            stopIndexingWorkers();
             running = false;
         }
     }
 
+    /**
+     * Starts the pool of worker threads that build search index documents for repository items.
+     */
+    private synchronized void startIndexingWorkers() {
+        if (indexingWorkers == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+
+            indexingWorkers = Executors.newFixedThreadPool( workerCount, r -> {
+                Thread t = new Thread( r, "Indexing Worker-" + threadCounter.incrementAndGet() );
+
+                t.setDaemon( true );
+                return t;
+            } );
+            log.info( "Started " + workerCount + " indexing worker thread(s)." );
+        }
+    }
+
+    /**
+     * Shuts down the pool of indexing worker threads, waiting briefly for any active tasks to complete.
+     */
+    private synchronized void stopIndexingWorkers() {
+        if (indexingWorkers != null) {
+            indexingWorkers.shutdown();
+
+            try {
+                if (!indexingWorkers.awaitTermination( 30L, TimeUnit.SECONDS )) {
+                    indexingWorkers.shutdownNow();
+                }
+
+            } catch (InterruptedException e) {
+                indexingWorkers.shutdownNow();
+                Thread.currentThread().interrupt();
+
+            } finally {
+                indexingWorkers = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the executor that runs indexing tasks, starting the worker pool if it has not yet been started.
+     * 
+     * @return ExecutorService
+     */
+    private synchronized ExecutorService getIndexingWorkers() {
+        startIndexingWorkers();
+        return indexingWorkers;
+    }
+
     /**
      * Continuously scans for new indexing batch jobs until a shutdown is requested. When a new job has been detected,
      * it is dispatched for processing by the indexing service.
@@ -400,7 +485,9 @@ public class IndexingAgent {
     }
 
     /**
-     * Processes the given indexing job for the given list of items.
+     * Processes the given indexing job for the given list of items. The search index documents for each item are
+     * constructed concurrently by the agent's pool of indexing workers, all of which share the same index writer.
+     * Post-processing of contextual facet owners is performed once all of the items in the job have been indexed.
      * 
      * @param itemsToIndex the list of repository items to be indexed
      * @param deleteIndex flag indicating whether the index is to be created or deleted
@@ -408,17 +495,34 @@ public class IndexingAgent {
      */
     protected void processIndexingJob(List<RepositoryItem> itemsToIndex, boolean deleteIndex) throws IOException {
         IndexBuilderFactory factory = new IndexBuilderFactory( repositoryManager, indexWriter );
+        ExecutorService workers = getIndexingWorkers();
+        List<Future<?>> itemTasks = new ArrayList<>();
+        Throwable indexingError = null;
 
         for (RepositoryItem item : itemsToIndex) {
-            IndexBuilder<?> indexBuilder =
-                deleteIndex ? factory.newDeleteIndexBuilder( item ) : factory.newCreateIndexBuilder( item );
+            itemTasks.add( workers.submit( () -> processIndexingItem( factory, item, deleteIndex ) ) );
+        }
 
-            if (deleteIndex) {
-                log.info( "Deleting index for library: " + item.getFilename() );
-            } else {
-                log.info( "Indexing library: " + item.getFilename() );
+        // Wait for all of the items to finish before reporting the first error (if any)
+        for (Future<?> itemTask : itemTasks) {
+            try {
+                itemTask.get();
+
+            } catch (ExecutionException e) {
+                if (indexingError == null) {
+                    indexingError = e.getCause();
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException( "Interrupted while waiting for indexing tasks to complete.", e );
             }
-            indexBuilder.performIndexingAction();
+        }
+        if (indexingError instanceof RuntimeException) {
+            throw (RuntimeException) indexingError;
+
+        } else if (indexingError != null) {
+            throw new IOException( "Error processing indexing job.", indexingError );
         }
 
         if (!deleteIndex) {
@@ -427,6 +531,26 @@ public class IndexingAgent {
         IndexingAgentStats.getInstance().libraryIndexed();
     }
 
+    /**
+     * Creates or deletes the search index document(s) for a single repository item. This method is invoked from the
+     * indexing worker threads.
+     * 
+     * @param factory the index builder factory for the current indexing job
+     * @param item the repository item to be indexed
+     * @param deleteIndex flag indicating whether the index is to be created or deleted
+     */
+    private void processIndexingItem(IndexBuilderFactory factory, RepositoryItem item, boolean deleteIndex) {
+        IndexBuilder<?> indexBuilder =
+            deleteIndex ? factory.newDeleteIndexBuilder( item ) : factory.newCreateIndexBuilder( item );
+
+        if (deleteIndex) {
+            log.info( "Deleting index for library: " + item.getFilename() );
+        } else {
+            log.info( "Indexing library: " + item.getFilename() );
+        }
+        indexBuilder.performIndexingAction();
+    }
+
     /**
      * Processes the given indexing job for the subscription target provided.
      * 
@@ -32,6 +32,7 @@ public class IndexingAgentStats extends OTMStandardMBean implements IndexingAgen
     private boolean agentAvailable = true;
     private int libraryIndexCount;
     private File searchIndexLocation;
+    private IndexingJobManager jobManager;
 
     /**
      * Default constructor.
@@ -58,6 +59,15 @@ public class IndexingAgentStats extends OTMStandardMBean implements IndexingAgen
         this.searchIndexLocation = searchIndexLocation;
     }
 
+    /**
+     * Assigns the job manager whose queue statistics are reported by this MBean.
+     *
+     * @param jobManager the indexing job manager to assign
+     */
+    public void setJobManager(IndexingJobManager jobManager) {
+        this.jobManager = jobManager;
+    }
+
     /**
      * Assigns the boolean value indicating whether the indexing agent process is available.
      * 
@@ -115,4 +125,28 @@ public class IndexingAgentStats extends OTMStandardMBean implements IndexingAgen
         libraryIndexCount = 0;
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.index.IndexingAgentStatsMBean#getIndexingQueueDepth()
+     */
+    @Override
+    public int getIndexingQueueDepth() {
+        return (jobManager == null) ? 0 : jobManager.getQueueDepth();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.index.IndexingAgentStatsMBean#getDuplicateJobCount()
+     */
+    @Override
+    public long getDuplicateJobCount() {
+        return (jobManager == null) ? 0L : jobManager.getDuplicateJobCount();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.index.IndexingAgentStatsMBean#getAverageIndexingLag()
+     */
+    @Override
+    public long getAverageIndexingLag() {
+        return (jobManager == null) ? 0L : jobManager.getAverageIndexingLag();
+    }
+
 }
@@ -56,4 +56,27 @@ public interface IndexingAgentStatsMBean extends OTMBasicStatsMBean {
      */
     public void resetLibraryIndexCount();
 
+    /**
+     * Returns the number of indexing jobs that are waiting to be processed.
+     * 
+     * @return int
+     */
+    public int getIndexingQueueDepth();
+
+    /**
+     * Returns the number of duplicate indexing requests that were discarded because an identical job was already
+     * queued.
+     * 
+     * @return long
+     */
+    public long getDuplicateJobCount();
+
+    /**
+     * Returns the average time (in milliseconds) between the receipt of an indexing request and the completion of its
+     * indexing job.
+     * 
+     * @return long
+     */
+    public long getAverageIndexingLag();
+
 }
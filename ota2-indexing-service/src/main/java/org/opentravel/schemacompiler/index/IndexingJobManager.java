@@ -28,20 +28,28 @@ import org.opentravel.schemacompiler.repository.RepositoryManager;
 import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
 import org.opentravel.schemacompiler.util.FileUtils;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.Writer;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
-import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -51,21 +59,44 @@ import javax.xml.bind.Unmarshaller;
 
 
 /**
- * Manages the flow and sequence of indexing jobs. New jobs are saved to persistent storage ahead of processing to
- * prevent loss in case of system errors. As job batches are completed in the order received, the batches are deleted
- * from persistent storage.
+ * Manages the flow and sequence of indexing jobs. New jobs are appended to a journal in persistent storage ahead of
+ * processing to prevent loss in case of system errors, and an in-memory queue of the pending jobs is maintained so that
+ * the job folder never needs to be scanned. When a batch of jobs is completed, a completion marker is appended to the
+ * journal; once all pending jobs have been completed, the journal is deleted. If the agent is restarted, any jobs in
+ * the journal that were not marked as complete are replayed. To keep the journal from growing without bound while
+ * the queue remains busy, it is compacted to the pending jobs once the number of completed records it contains
+ * reaches <code>JOURNAL_COMPACTION_THRESHOLD</code>.
+ * 
+ * <p>
+ * Each repository item in an indexing request is queued as a separate job. If an item is already waiting in the queue
+ * for the same type of job (and no other job for that item has been queued since), the duplicate request is discarded.
+ * When jobs are dispatched, consecutive create or delete jobs are merged into batches of up to
+ * <code>MAX_INDEXING_BATCH_SIZE</code> items.
  */
 public class IndexingJobManager {
 
     public static final int MAX_INDEXING_BATCH_SIZE = 10;
 
+    static final int JOURNAL_COMPACTION_THRESHOLD = 500;
+
+    private static final String JOURNAL_FILENAME = "indexing-jobs.journal";
+    private static final String COMPLETION_MARKER = "DONE";
+    private static final String FIELD_SEPARATOR = "\t";
+
     private static final ObjectFactory objectFactory = new ObjectFactory();
     private static Logger log = LogManager.getLogger( IndexingJobManager.class );
 
-    private DateFormat baseFilenamePattern = new SimpleDateFormat( "yyyyMMddkkmmssSSS" );
     private RepositoryManager repositoryManager;
     private File indexingJobsFolder;
-    private File currentJobFile;
+    private File journalFile;
+    private Deque<PendingJob> pendingJobs = new ArrayDeque<>();
+    private Map<String,PendingJob> latestItemJobs = new HashMap<>();
+    private List<PendingJob> currentJobs = new ArrayList<>();
+    private long nextSequence = 1;
+    private int completedRecordCount;
+    private long duplicateJobCount;
+    private long completedJobCount;
+    private long totalIndexingLag;
     private IndexingJobType currentJobType;
     private SubscriptionTarget subscriptionTarget;
     private List<RepositoryItem> repositoryItems;
@@ -80,11 +111,13 @@ public class IndexingJobManager {
         this.repositoryManager = repositoryManager;
         this.indexingJobsFolder =
             new File( searchIndexLocation.getParentFile().getAbsolutePath() + "/search-index-jobs" );
+        this.journalFile = new File( indexingJobsFolder, JOURNAL_FILENAME );
         this.indexingJobsFolder.mkdirs();
+        recoverPendingJobs();
     }
 
     /**
-     * Returns the folder location where the indexing batch job files are stored.
+     * Returns the folder location where the indexing job journal is stored.
      *
      * @return File
      */
@@ -93,74 +126,165 @@ public class IndexingJobManager {
     }
 
     /**
-     * Iterates to the next available indexing job. If a new job is available, this method will return true (false
-     * otherwise).
+     * Returns the number of jobs that are waiting to be processed (including those in the current batch).
+     * 
+     * @return int
+     */
+    public synchronized int getQueueDepth() {
+        return pendingJobs.size() + currentJobs.size();
+    }
+
+    /**
+     * Returns the number of duplicate job requests that have been discarded because an identical job was already
+     * waiting in the queue.
+     * 
+     * @return long
+     */
+    public synchronized long getDuplicateJobCount() {
+        return duplicateJobCount;
+    }
+
+    /**
+     * Returns the average time (in milliseconds) between the receipt of an indexing request and the completion of its
+     * job.
+     * 
+     * @return long
+     */
+    public synchronized long getAverageIndexingLag() {
+        return (completedJobCount == 0) ? 0L : (totalIndexingLag / completedJobCount);
+    }
+
+    /**
+     * Marks the current batch as complete and iterates to the next available batch of indexing jobs. If a new batch
+     * is available, this method will return true (false otherwise).
      * 
      * @return boolean
      */
     public synchronized boolean nextIndexingJob() {
+        completeCurrentJobs();
+
+        while (!pendingJobs.isEmpty() && !loadNextBatch()) {
+            // Batches with unreadable content are skipped and marked as complete
+            completeCurrentJobs();
+        }
+        return (currentJobType != null);
+    }
+
+    /**
+     * Removes the next batch of jobs from the head of the queue and loads their content. Consecutive create or delete
+     * jobs are merged into a single batch; any job in the batch whose content cannot be loaded is skipped without
+     * affecting the other jobs. If none of the content of the batch can be loaded, this method will return false.
+     * 
+     * @return boolean
+     */
+    private boolean loadNextBatch() {
+        PendingJob firstJob = pendingJobs.poll();
         boolean success = false;
-        List<File> jobFiles;
 
-        while (!success) {
-            FileUtils.delete( currentJobFile );
-            jobFiles = new ArrayList<>( Arrays.asList( indexingJobsFolder.listFiles() ) );
-            Collections.sort( jobFiles, (f1, f2) -> f1.getName().compareTo( f2.getName() ) );
-            File jobFile = jobFiles.isEmpty() ? null : jobFiles.get( 0 );
+        dispatch( firstJob );
+        currentJobType = firstJob.jobType;
 
-            try {
-                loadJob( jobFile );
+        switch (currentJobType) {
+            case CREATE:
+            case DELETE:
+                repositoryItems = new ArrayList<>();
+                addRepositoryItem( firstJob );
+
+                while (!pendingJobs.isEmpty() && (pendingJobs.peek().jobType == currentJobType)
+                    && (repositoryItems.size() < MAX_INDEXING_BATCH_SIZE)) {
+                    PendingJob job = pendingJobs.poll();
+
+                    dispatch( job );
+                    addRepositoryItem( job );
+                }
+                success = !repositoryItems.isEmpty();
+                break;
+            case SUBSCRIPTION:
+                try {
+                    subscriptionTarget = unmarshallSubscriptionTarget( new StringReader( firstJob.content ) );
+                    success = true;
+
+                } catch (Exception e) {
+                    logJobError( firstJob, e );
+                }
+                break;
+            case DELETE_ALL:
                 success = true;
+                break;
+        }
+        return success;
+    }
 
-            } catch (Exception e) {
-                log.error(
-                    "Error loading indexing batch job file: " + ((jobFile == null) ? "NULL" : jobFile.getName()) );
-            }
+    /**
+     * Adds the repository item of the given job to the current batch. If the content of the job cannot be loaded, the
+     * error is logged and the job is skipped; since it has already been dispatched, it will be marked as complete along
+     * with the rest of the batch.
+     * 
+     * @param job the indexing job for a single repository item
+     */
+    private void addRepositoryItem(PendingJob job) {
+        try {
+            repositoryItems.add( getRepositoryItem( job ) );
+
+        } catch (Exception e) {
+            logJobError( job, e );
         }
-        return (currentJobFile != null);
     }
 
     /**
-     * Loads the next indexing batch job from the specified file. If a null value is passed to this method, the current
-     * indexing job is cleared to indicate that no further jobs currently exist.
+     * Logs an error for an indexing job whose content could not be loaded.
      * 
-     * @param jobFile the indexing batch job file (may be null)
-     * @throws JAXBException thrown if an error occurs during unmarshalling content from the job file
-     * @throws IOException thrown if the file content is unreadable
+     * @param job the indexing job that could not be loaded
+     * @param e the exception that occurred while loading the job content
      */
-    protected void loadJob(File jobFile) throws IOException, JAXBException {
-        if (jobFile != null) {
-            try (Reader reader = new FileReader( jobFile )) {
-                currentJobType = IndexingJobType.fromJobFile( jobFile );
-                currentJobFile = jobFile;
-
-                switch (currentJobType) {
-                    case CREATE:
-                    case DELETE:
-                        repositoryItems = unmarshallRepositoryItems( reader );
-                        subscriptionTarget = null;
-                        break;
-                    case DELETE_ALL:
-                        repositoryItems = null;
-                        subscriptionTarget = null;
-                        break;
-                    case SUBSCRIPTION:
-                        subscriptionTarget = unmarshallSubscriptionTarget( reader );
-                        repositoryItems = null;
-                        break;
-                }
+    private void logJobError(PendingJob job, Exception e) {
+        log.error( "Error loading indexing job content (job #" + job.sequence + ") - skipping.", e );
+    }
+
+    /**
+     * Moves the given job to the current batch. Once dispatched, the job is no longer eligible to absorb duplicate
+     * requests, since its repository content may already have been read.
+     * 
+     * @param job the job to dispatch
+     */
+    private void dispatch(PendingJob job) {
+        if ((job.itemKey != null) && (latestItemJobs.get( job.itemKey ) == job)) {
+            latestItemJobs.remove( job.itemKey );
+        }
+        currentJobs.add( job );
+    }
+
+    /**
+     * Marks all jobs in the current batch as complete, records their indexing lag, and clears the current batch
+     * information.
+     */
+    private void completeCurrentJobs() {
+        if (!currentJobs.isEmpty()) {
+            PendingJob lastJob = currentJobs.get( currentJobs.size() - 1 );
+            long now = System.currentTimeMillis();
+
+            for (PendingJob job : currentJobs) {
+                totalIndexingLag += now - job.enqueuedTime;
+                completedJobCount++;
             }
+            completedRecordCount += currentJobs.size() + 1;
+            currentJobs.clear();
 
-        } else {
-            clearCurrentJob();
+            if (pendingJobs.isEmpty()) {
+                FileUtils.delete( journalFile );
+                completedRecordCount = 0;
+
+            } else if ((completedRecordCount < JOURNAL_COMPACTION_THRESHOLD) || !compactJournal()) {
+                appendToJournal( Collections.singletonList( COMPLETION_MARKER + FIELD_SEPARATOR + lastJob.sequence ) );
+            }
         }
+        clearCurrentJob();
     }
 
     /**
      * Clears all information about the current indexing batch job.
      */
     protected void clearCurrentJob() {
-        currentJobFile = null;
         currentJobType = null;
         repositoryItems = null;
         subscriptionTarget = null;
@@ -205,7 +329,7 @@ public class IndexingJobManager {
     }
 
     /**
-     * Adds the given indexing message request to the backlog of indexing batch jobs.
+     * Adds the given indexing message request to the backlog of indexing jobs.
      * 
      * @param messageType the type of the indexing request
      * @param messageContent the message content of the indexing request
@@ -215,114 +339,286 @@ public class IndexingJobManager {
     public synchronized void addIndexingJobs(String messageType, String messageContent)
         throws IOException, JAXBException {
         IndexingJobType jobType = IndexingJobType.fromMessageType( messageType );
+        long enqueuedTime = System.currentTimeMillis();
+        List<PendingJob> newJobs = new ArrayList<>();
 
-        // Pausing for 1ms seems trivial but it eliminates a race condition that can occur if
-        // this method is called twice within the same millisecond. This is because we use a
-        // timestamp down to and including milliseconds in our job file naming algorithm.
-        pause( 1L );
-
+        if (jobType == null) {
+            throw new IllegalArgumentException( "Invalid indexing message type: " + messageType );
+        }
         switch (jobType) {
             case CREATE:
             case DELETE:
-                List<RepositoryItem> itemList = unmarshallRepositoryItems( new StringReader( messageContent ) );
-                List<LibraryInfoListType> batchList = createBatchJobs( itemList );
+                for (LibraryInfoType itemMetadata : unmarshallItemMetadata( new StringReader( messageContent ) )) {
+                    String itemKey = getItemKey( itemMetadata );
+                    PendingJob latestJob = latestItemJobs.get( itemKey );
+
+                    if ((latestJob != null) && (latestJob.jobType == jobType)) {
+                        duplicateJobCount++;
 
-                for (LibraryInfoListType batch : batchList) {
-                    marshallRepositoryItems( batch, nextIndexingFile( messageType ) );
+                    } else {
+                        newJobs.add( new PendingJob( nextSequence++, jobType, enqueuedTime, itemKey,
+                            marshallItemMetadata( itemMetadata ) ) );
+                    }
                 }
                 break;
             case SUBSCRIPTION:
-                saveBatchContent( nextIndexingFile( messageType ), messageContent );
+                unmarshallSubscriptionTarget( new StringReader( messageContent ) ); // validate before queueing
+                newJobs.add( new PendingJob( nextSequence++, jobType, enqueuedTime, null, messageContent ) );
                 break;
             case DELETE_ALL:
-                saveBatchContent( nextIndexingFile( messageType ), "" );
+                newJobs.add( new PendingJob( nextSequence++, jobType, enqueuedTime, null, "" ) );
                 break;
         }
+
+        if (!newJobs.isEmpty()) {
+            List<String> journalRecords = new ArrayList<>();
+
+            for (PendingJob job : newJobs) {
+                journalRecords.add( job.toJournalRecord() );
+            }
+            if (!appendToJournal( journalRecords )) {
+                throw new IOException( "Unable to save indexing jobs to the journal: " + journalFile.getName() );
+            }
+            newJobs.forEach( this::enqueue );
+        }
     }
 
     /**
-     * Returns the next indexing file to which indexing jobs should be saved.
+     * Adds the given job to the tail of the pending queue.
      * 
-     * @param messageType the type of the indexing request
-     * @return File
+     * @param job the job to enqueue
+     */
+    private void enqueue(PendingJob job) {
+        if (job.jobType == IndexingJobType.DELETE_ALL) {
+            latestItemJobs.clear(); // jobs received after a delete-all cannot be merged with earlier ones
+
+        } else if (job.itemKey != null) {
+            latestItemJobs.put( job.itemKey, job );
+        }
+        pendingJobs.add( job );
+    }
+
+    /**
+     * Appends the given records to the job journal and forces them to persistent storage.
+     * 
+     * @param journalRecords the journal records to append
+     * @return boolean
      */
-    protected File nextIndexingFile(String messageType) {
-        String filenameTimestamp = baseFilenamePattern.format( new Date() );
-        int fileCounter = 0;
-        File jobFile;
-
-        do {
-            jobFile = IndexingJobType.toJobFile( String.format( "%s-%05d", filenameTimestamp, fileCounter ),
-                indexingJobsFolder, messageType );
-            fileCounter++;
-
-        } while (jobFile.exists());
-        return jobFile;
+    private boolean appendToJournal(List<String> journalRecords) {
+        boolean success = false;
+
+        try (FileOutputStream out = new FileOutputStream( journalFile, true )) {
+            Writer writer = new BufferedWriter( new OutputStreamWriter( out, StandardCharsets.UTF_8 ) );
+
+            for (String journalRecord : journalRecords) {
+                writer.write( journalRecord );
+                writer.write( '\n' );
+            }
+            writer.flush();
+            out.getChannel().force( false );
+            success = true;
+
+        } catch (IOException e) {
+            log.error( "Error writing to indexing job journal: " + journalFile.getName(), e );
+        }
+        return success;
     }
 
     /**
-     * Breaks up the given list of repository items into smaller discrete batches that can be processed separately.
+     * Replays the journal (along with any job files created by earlier versions of the indexing agent) to restore the
+     * queue of pending jobs. Once recovered, the journal is rewritten so that it only contains the pending jobs.
+     */
+    private void recoverPendingJobs() {
+        List<PendingJob> recoveredJobs = new ArrayList<>();
+
+        if (journalFile.exists()) {
+            recoveredJobs.addAll( replayJournal() );
+        }
+        recoveredJobs.addAll( importLegacyJobFiles() );
+
+        for (PendingJob job : recoveredJobs) {
+            job.sequence = nextSequence++;
+            enqueue( job );
+        }
+        compactJournal();
+
+        if (!pendingJobs.isEmpty()) {
+            log.info( "Recovered " + pendingJobs.size() + " pending indexing job(s)." );
+        }
+    }
+
+    /**
+     * Reads the journal and returns the jobs that were not marked as complete. Records that cannot be parsed (e.g. the
+     * last record of a journal that was being written when the system failed) are ignored.
      * 
-     * @param itemList the full list of repository items to divide into batches
-     * @return List&lt;LibraryInfoListType&gt;
+     * @return List&lt;PendingJob&gt;
      */
-    private List<LibraryInfoListType> createBatchJobs(List<RepositoryItem> itemList) {
-        List<LibraryInfoListType> batchList = new ArrayList<>();
-        LibraryInfoListType currentBatch = new LibraryInfoListType();
+    private List<PendingJob> replayJournal() {
+        List<PendingJob> journalJobs = new ArrayList<>();
+        long completedSequence = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader( journalFile.toPath(), StandardCharsets.UTF_8 )) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                try {
+                    String[] fields = line.split( FIELD_SEPARATOR, -1 );
 
-        for (RepositoryItem item : itemList) {
-            List<LibraryInfoType> jaxbItems = currentBatch.getLibraryInfo();
+                    if (fields[0].equals( COMPLETION_MARKER )) {
+                        completedSequence = Math.max( completedSequence, Long.parseLong( fields[1] ) );
 
-            jaxbItems.add( RepositoryUtils.createItemMetadata( item ) );
+                    } else {
+                        journalJobs.add( PendingJob.fromJournalRecord( fields ) );
+                    }
 
-            if (jaxbItems.size() == MAX_INDEXING_BATCH_SIZE) {
-                batchList.add( currentBatch );
-                currentBatch = new LibraryInfoListType();
+                } catch (RuntimeException e) {
+                    log.warn( "Ignoring unreadable record in indexing job journal." );
+                }
             }
+
+        } catch (IOException e) {
+            log.error( "Error reading indexing job journal: " + journalFile.getName(), e );
+        }
+        final long lastCompleted = completedSequence;
+
+        journalJobs.removeIf( job -> job.sequence <= lastCompleted );
+        return journalJobs;
+    }
+
+    /**
+     * Converts any individual job files created by an earlier version of the indexing agent into pending jobs, and
+     * deletes the files.
+     * 
+     * @return List&lt;PendingJob&gt;
+     */
+    private List<PendingJob> importLegacyJobFiles() {
+        File[] folderContents = indexingJobsFolder.listFiles();
+        List<File> jobFiles = new ArrayList<>();
+        List<PendingJob> legacyJobs = new ArrayList<>();
+
+        if (folderContents != null) {
+            Arrays.stream( folderContents ).filter( f -> IndexingJobType.fromJobFile( f ) != null )
+                .forEach( jobFiles::add );
         }
+        Collections.sort( jobFiles, (f1, f2) -> f1.getName().compareTo( f2.getName() ) );
 
-        if (!currentBatch.getLibraryInfo().isEmpty()) {
-            batchList.add( currentBatch );
+        for (File jobFile : jobFiles) {
+            try {
+                IndexingJobType jobType = IndexingJobType.fromJobFile( jobFile );
+                String content = new String( Files.readAllBytes( jobFile.toPath() ), StandardCharsets.UTF_8 );
+                long enqueuedTime = jobFile.lastModified();
+
+                if ((jobType == IndexingJobType.CREATE) || (jobType == IndexingJobType.DELETE)) {
+                    for (LibraryInfoType itemMetadata : unmarshallItemMetadata( new StringReader( content ) )) {
+                        legacyJobs.add( new PendingJob( 0, jobType, enqueuedTime, getItemKey( itemMetadata ),
+                            marshallItemMetadata( itemMetadata ) ) );
+                    }
+                } else {
+                    legacyJobs.add( new PendingJob( 0, jobType, enqueuedTime, null, content ) );
+                }
+
+            } catch (IOException | JAXBException e) {
+                log.error( "Error loading indexing batch job file: " + jobFile.getName() );
+            }
         }
-        return batchList;
+        jobFiles.forEach( FileUtils::delete );
+        return legacyJobs;
     }
 
     /**
-     * Marshalls the list of repository items to the specified indexing job file.
+     * Rewrites the journal so that it only contains the jobs that are currently pending. The new journal is written to
+     * a temporary file that replaces the original once it is complete. If the journal cannot be compacted, the
+     * original is left in place and this method will return false.
      * 
-     * @param itemList the list of repository items to marshall
-     * @param jobFile the indexing batch job file where the list of repository items will be stored
-     * @throws JAXBException thrown if an error occurs during unmarshalling
-     * @throws IOException thrown if the message content is unreadable
+     * @return boolean
      */
-    private void marshallRepositoryItems(LibraryInfoListType itemList, File jobFile) throws JAXBException, IOException {
-        try (Writer writer = new FileWriter( jobFile )) {
-            JAXBContext jaxbContext = RepositoryJaxbContext.getContext();
-            Marshaller m = jaxbContext.createMarshaller();
+    private boolean compactJournal() {
+        boolean success = true;
 
-            m.setProperty( Marshaller.JAXB_FORMATTED_OUTPUT, true );
-            m.marshal( objectFactory.createLibraryInfoList( itemList ), writer );
+        if (pendingJobs.isEmpty()) {
+            FileUtils.delete( journalFile );
+
+        } else {
+            File tempFile = new File( indexingJobsFolder, JOURNAL_FILENAME + ".tmp" );
+
+            try {
+                List<String> journalRecords = new ArrayList<>();
+
+                for (PendingJob job : pendingJobs) {
+                    journalRecords.add( job.toJournalRecord() );
+                }
+                Files.write( tempFile.toPath(), journalRecords, StandardCharsets.UTF_8 );
+                Files.move( tempFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE );
+
+            } catch (IOException e) {
+                log.error( "Error compacting indexing job journal.", e );
+                FileUtils.delete( tempFile );
+                success = false;
+            }
+        }
+        if (success) {
+            completedRecordCount = 0;
         }
+        return success;
+    }
+
+    /**
+     * Returns the repository item to be indexed by the given job.
+     * 
+     * @param job the indexing job for a single repository item
+     * @return RepositoryItem
+     * @throws JAXBException thrown if the job content cannot be unmarshalled
+     */
+    private RepositoryItem getRepositoryItem(PendingJob job) throws JAXBException {
+        List<LibraryInfoType> itemMetadata = unmarshallItemMetadata( new StringReader( job.content ) );
+
+        return RepositoryUtils.createRepositoryItem( repositoryManager, itemMetadata.get( 0 ) );
+    }
+
+    /**
+     * Returns the key that identifies the repository item described by the given metadata.
+     * 
+     * @param itemMetadata the repository item metadata
+     * @return String
+     */
+    private static String getItemKey(LibraryInfoType itemMetadata) {
+        return itemMetadata.getOwningRepository() + "|" + itemMetadata.getBaseNamespace() + "|"
+            + itemMetadata.getFilename() + "|" + itemMetadata.getVersion();
     }
 
     /**
-     * Unmarshalls and returns the list of <code>RepositoryItem</code>s from the given reader.
+     * Marshalls the given repository item metadata as a single-item list.
+     * 
+     * @param itemMetadata the repository item metadata to marshall
+     * @return String
+     * @throws JAXBException thrown if an error occurs during marshalling
+     */
+    private static String marshallItemMetadata(LibraryInfoType itemMetadata) throws JAXBException {
+        JAXBContext jaxbContext = RepositoryJaxbContext.getContext();
+        Marshaller m = jaxbContext.createMarshaller();
+        LibraryInfoListType itemList = new LibraryInfoListType();
+        StringWriter writer = new StringWriter();
+
+        itemList.getLibraryInfo().add( itemMetadata );
+        m.marshal( objectFactory.createLibraryInfoList( itemList ), writer );
+        return writer.toString();
+    }
+
+    /**
+     * Unmarshalls and returns the list of repository item metadata from the given reader.
      * 
      * @param reader the reader from which to obtain message content
-     * @return List&lt;RepositoryItem&gt;
+     * @return List&lt;LibraryInfoType&gt;
      * @throws JAXBException thrown if an error occurs during unmarshalling
      */
     @SuppressWarnings("unchecked")
-    private List<RepositoryItem> unmarshallRepositoryItems(Reader reader) throws JAXBException {
+    private static List<LibraryInfoType> unmarshallItemMetadata(Reader reader) throws JAXBException {
         JAXBContext jaxbContext = RepositoryJaxbContext.getContext();
         Unmarshaller u = jaxbContext.createUnmarshaller();
         JAXBElement<LibraryInfoListType> msgElement = (JAXBElement<LibraryInfoListType>) u.unmarshal( reader );
-        List<RepositoryItem> itemList = new ArrayList<>();
 
-        for (LibraryInfoType msgItem : msgElement.getValue().getLibraryInfo()) {
-            itemList.add( RepositoryUtils.createRepositoryItem( repositoryManager, msgItem ) );
-        }
-        return itemList;
+        return msgElement.getValue().getLibraryInfo();
     }
 
     /**
@@ -333,7 +629,7 @@ public class IndexingJobManager {
      * @throws JAXBException thrown if an error occurs during unmarshalling
      */
     @SuppressWarnings("unchecked")
-    private SubscriptionTarget unmarshallSubscriptionTarget(Reader reader) throws JAXBException {
+    private static SubscriptionTarget unmarshallSubscriptionTarget(Reader reader) throws JAXBException {
         JAXBContext jaxbContext = RepositoryJaxbContext.getExtContext();
         Unmarshaller u = jaxbContext.createUnmarshaller();
         JAXBElement<SubscriptionTarget> msgElement = (JAXBElement<SubscriptionTarget>) u.unmarshal( reader );
@@ -342,30 +638,59 @@ public class IndexingJobManager {
     }
 
     /**
-     * Saves the raw batch content provided to the specified indexing job file.
-     * 
-     * @param jobFile the indexing batch job file to which content should be saved
-     * @param batchContent the batch content to be saved
-     * @throws IOException thrown if an error occurs while saving content to the file
+     * Encapsulates a single indexing job that is waiting in the queue.
      */
-    private void saveBatchContent(File jobFile, String batchContent) throws IOException {
-        try (Writer writer = new FileWriter( jobFile )) {
-            writer.write( batchContent );
+    private static class PendingJob {
+
+        private long sequence;
+        private IndexingJobType jobType;
+        private long enqueuedTime;
+        private String itemKey;
+        private String content;
+
+        /**
+         * Full constructor.
+         * 
+         * @param sequence the sequence number of the job
+         * @param jobType the type of indexing job
+         * @param enqueuedTime the time at which the indexing request was received
+         * @param itemKey the key of the repository item to be indexed (null for non-item jobs)
+         * @param content the message content of the job
+         */
+        public PendingJob(long sequence, IndexingJobType jobType, long enqueuedTime, String itemKey, String content) {
+            this.sequence = sequence;
+            this.jobType = jobType;
+            this.enqueuedTime = enqueuedTime;
+            this.itemKey = itemKey;
+            this.content = content;
         }
-    }
 
-    /**
-     * Pauses execution for the specified number of milliseconds.
-     * 
-     * @param millis the number of milliseconds to pause
-     */
-    private void pause(long millis) {
-        try {
-            Thread.sleep( millis );
+        /**
+         * Returns the journal record for this job.
+         * 
+         * @return String
+         */
+        public String toJournalRecord() {
+            return sequence + FIELD_SEPARATOR + jobType.name() + FIELD_SEPARATOR + enqueuedTime + FIELD_SEPARATOR
+                + ((itemKey == null) ? "" : itemKey) + FIELD_SEPARATOR
+                + Base64.getEncoder().encodeToString( content.getBytes( StandardCharsets.UTF_8 ) );
+        }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        /**
+         * Creates a job from the fields of a journal record.
+         * 
+         * @param fields the fields of the journal record
+         * @return PendingJob
+         */
+        public static PendingJob fromJournalRecord(String[] fields) {
+            if (fields.length != 5) {
+                throw new IllegalArgumentException( "Invalid journal record." );
+            }
+            return new PendingJob( Long.parseLong( fields[0] ), IndexingJobType.valueOf( fields[1] ),
+                Long.parseLong( fields[2] ), fields[3].isEmpty() ? null : fields[3],
+                new String( Base64.getDecoder().decode( fields[4] ), StandardCharsets.UTF_8 ) );
         }
+
     }
 
 }
@@ -16,9 +16,17 @@
 
 package org.opentravel.schemacompiler.index;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,6 +34,8 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.ObjectFactory;
 import org.opentravel.ns.ota2.repositoryinfoext_v01_00.SubscriptionTarget;
 import org.opentravel.repocommon.index.IndexingConstants;
+import org.opentravel.repocommon.index.IndexingTerms;
+import org.opentravel.repocommon.index.IndexingUtils;
 import org.opentravel.repocommon.util.RepositoryJaxbContext;
 import org.opentravel.schemacompiler.repository.RepositoryItem;
 import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
@@ -33,7 +43,10 @@ import org.springframework.context.support.FileSystemXmlApplicationContext;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.core.MessageCreator;
 
+import java.io.File;
 import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -110,6 +123,41 @@ public class TestIndexingAgent extends AbstractIndexingServiceTest {
         waitForCommitMessage();
     }
 
+    @Test
+    public void testIndexMultipleRepositoryItems() throws Exception {
+        String baseNS = "http://www.OpenTravel.org/ns/OTA2/SchemaCompiler/version-test";
+        JAXBContext jaxbContext = RepositoryJaxbContext.getContext();
+        LibraryInfoListType metadataList = new LibraryInfoListType();
+        Marshaller m = jaxbContext.createMarshaller();
+        StringWriter writer = new StringWriter();
+        List<RepositoryItem> items = Arrays.asList(
+            repositoryManager.getRepositoryItem( baseNS, "Version_Test_1_0_0.otm", "1.0.0" ),
+            repositoryManager.getRepositoryItem( baseNS, "Version_Test_1_1_0.otm", "1.1.0" ),
+            repositoryManager.getRepositoryItem( baseNS, "Version_Test_1_1_1.otm", "1.1.1" ) );
+
+        assertTrue( indexAgent.getWorkerCount() > 0 );
+
+        for (RepositoryItem item : items) {
+            metadataList.getLibraryInfo().add( RepositoryUtils.createItemMetadata( item ) );
+        }
+        m.marshal( new ObjectFactory().createLibraryInfoList( metadataList ), writer );
+        sendIndexingJob( IndexingConstants.JOB_TYPE_CREATE_INDEX, writer.toString() );
+        waitForCommitMessage();
+
+        // Every item processed by the concurrent workers must be present in the committed index
+        File indexLocation = new File( (String) context.getBean( IndexingAgent.SEARCH_INDEX_LOCATION_BEANID ) );
+
+        try (Directory indexDirectory = FSDirectory.open( indexLocation.toPath() );
+            DirectoryReader reader = DirectoryReader.open( indexDirectory )) {
+            IndexSearcher searcher = new IndexSearcher( reader );
+
+            for (RepositoryItem item : items) {
+                assertEquals( item.getFilename(), 1, searcher.count(
+                    new TermQuery( new Term( IndexingTerms.IDENTITY_FIELD, IndexingUtils.getIdentityKey( item ) ) ) ) );
+            }
+        }
+    }
+
     @Test
     public void testDeleteRepositoryItemIndex() throws Exception {
         RepositoryItem item = repositoryManager.getRepositoryItem(
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -38,8 +39,10 @@ import org.opentravel.schemacompiler.repository.testutil.RepositoryTestUtils;
 
 import java.io.File;
 import java.io.StringWriter;
+import java.nio.file.Files;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 
 /**
@@ -65,21 +68,20 @@ public class TestIndexingJobManager {
         File mockSearchIndexLocation = new File( System.getProperty( "user.dir" ), "/target/test-output/"
             + TestIndexingJobManager.class.getSimpleName() + "/" + testName.getMethodName() + "/search-index" );
 
+        // Clear any journal left by a previous run before the manager replays it
+        RepositoryTestUtils.deleteContents( new File( mockSearchIndexLocation.getParentFile(), "/search-index-jobs" ) );
         repositoryManager = new RepositoryManager( repositoryLocation );
         jobManager = new IndexingJobManager( repositoryManager, mockSearchIndexLocation );
         jobFolder = jobManager.getIndexingJobsFolder();
-        RepositoryTestUtils.deleteContents( jobFolder );
-        jobFolder.mkdirs();
     }
 
     @Test
     public void testAddCreateIndexJob() throws Exception {
-        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 1 ) );
-        File[] jobFiles = jobFolder.listFiles();
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 0, 1 ) );
 
-        // Ensure that the correct type of job file(s) were created
-        assertEquals( 1, jobFiles.length );
-        assertEquals( IndexingJobType.CREATE, IndexingJobType.fromJobFile( jobFiles[0] ) );
+        // Ensure that the job was saved to the journal
+        assertEquals( 1, jobFolder.listFiles().length );
+        assertEquals( 1, jobManager.getQueueDepth() );
 
         // Use the manager to retrieve the content of the job(s) we just created
         assertTrue( jobManager.nextIndexingJob() );
@@ -95,12 +97,11 @@ public class TestIndexingJobManager {
 
     @Test
     public void testAddDeleteIndexJob() throws Exception {
-        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_DELETE_INDEX, newRepositoryItemMessage( 1 ) );
-        File[] jobFiles = jobFolder.listFiles();
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_DELETE_INDEX, newRepositoryItemMessage( 0, 1 ) );
 
-        // Ensure that the correct type of job file(s) were created
-        assertEquals( 1, jobFiles.length );
-        assertEquals( IndexingJobType.DELETE, IndexingJobType.fromJobFile( jobFiles[0] ) );
+        // Ensure that the job was saved to the journal
+        assertEquals( 1, jobFolder.listFiles().length );
+        assertEquals( 1, jobManager.getQueueDepth() );
 
         // Use the manager to retrieve the content of the job(s) we just created
         assertTrue( jobManager.nextIndexingJob() );
@@ -117,11 +118,10 @@ public class TestIndexingJobManager {
     @Test
     public void testAddDeleteAllJob() throws Exception {
         jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_DELETE_ALL, "" );
-        File[] jobFiles = jobFolder.listFiles();
 
-        // Ensure that the correct type of job file(s) were created
-        assertEquals( 1, jobFiles.length );
-        assertEquals( IndexingJobType.DELETE_ALL, IndexingJobType.fromJobFile( jobFiles[0] ) );
+        // Ensure that the job was saved to the journal
+        assertEquals( 1, jobFolder.listFiles().length );
+        assertEquals( 1, jobManager.getQueueDepth() );
 
         // Use the manager to retrieve the content of the job(s) we just created
         assertTrue( jobManager.nextIndexingJob() );
@@ -137,11 +137,10 @@ public class TestIndexingJobManager {
     @Test
     public void testAddSubscriptionIndexJob() throws Exception {
         jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_SUBSCRIPTION, newSubscriptionTargetMessage() );
-        File[] jobFiles = jobFolder.listFiles();
 
-        // Ensure that the correct type of job file(s) were created
-        assertEquals( 1, jobFiles.length );
-        assertEquals( IndexingJobType.SUBSCRIPTION, IndexingJobType.fromJobFile( jobFiles[0] ) );
+        // Ensure that the job was saved to the journal
+        assertEquals( 1, jobFolder.listFiles().length );
+        assertEquals( 1, jobManager.getQueueDepth() );
 
         // Use the manager to retrieve the content of the job(s) we just created
         assertTrue( jobManager.nextIndexingJob() );
@@ -157,10 +156,10 @@ public class TestIndexingJobManager {
     @Test
     public void testAddLargeBatchJob() throws Exception {
         jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX,
-            newRepositoryItemMessage( IndexingJobManager.MAX_INDEXING_BATCH_SIZE * 3 ) );
-        File[] jobFiles = jobFolder.listFiles();
+            newRepositoryItemMessage( 0, IndexingJobManager.MAX_INDEXING_BATCH_SIZE * 3 ) );
 
-        assertEquals( 3, jobFiles.length );
+        assertEquals( 1, jobFolder.listFiles().length );
+        assertEquals( IndexingJobManager.MAX_INDEXING_BATCH_SIZE * 3, jobManager.getQueueDepth() );
 
         for (int i = 0; i < 3; i++) {
             assertTrue( jobManager.nextIndexingJob() );
@@ -172,13 +171,124 @@ public class TestIndexingJobManager {
         assertEquals( 0, jobFolder.listFiles().length );
     }
 
+    @Test
+    public void testMergeAndDeduplicateJobs() throws Exception {
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 0, 3 ) );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 2, 3 ) );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 0, 1 ) );
+
+        // Items 0 and 2 were requested more than once; only one job is queued for each
+        assertEquals( 5, jobManager.getQueueDepth() );
+        assertEquals( 2, jobManager.getDuplicateJobCount() );
+
+        // Jobs from separate messages are merged into a single batch
+        assertTrue( jobManager.nextIndexingJob() );
+        assertEquals( 5, jobManager.currentRepositoryItems().size() );
+        assertFalse( jobManager.nextIndexingJob() );
+        assertEquals( 0, jobManager.getQueueDepth() );
+    }
+
+    @Test
+    public void testJobOrderingPreserved() throws Exception {
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 0, 1 ) );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_DELETE_INDEX, newRepositoryItemMessage( 0, 1 ) );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 0, 1 ) );
+
+        // A create that follows a delete of the same item is not a duplicate of the earlier create
+        assertEquals( 3, jobManager.getQueueDepth() );
+        assertEquals( 0, jobManager.getDuplicateJobCount() );
+
+        assertTrue( jobManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.CREATE, jobManager.currentJobType() );
+        assertTrue( jobManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.DELETE, jobManager.currentJobType() );
+        assertTrue( jobManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.CREATE, jobManager.currentJobType() );
+        assertFalse( jobManager.nextIndexingJob() );
+    }
+
+    @Test
+    public void testJournalReplay() throws Exception {
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX,
+            newRepositoryItemMessage( 0, IndexingJobManager.MAX_INDEXING_BATCH_SIZE + 2 ) );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_SUBSCRIPTION, newSubscriptionTargetMessage() );
+
+        // Complete the first batch and then simulate a restart of the agent
+        assertTrue( jobManager.nextIndexingJob() );
+        assertTrue( jobManager.nextIndexingJob() );
+        assertEquals( 2, jobManager.currentRepositoryItems().size() );
+
+        IndexingJobManager recoveredManager = new IndexingJobManager( repositoryManager,
+            new File( jobFolder.getParentFile(), "/search-index" ) );
+
+        // The in-progress batch was not marked complete, so it is replayed along with the remaining jobs
+        assertEquals( 3, recoveredManager.getQueueDepth() );
+        assertTrue( recoveredManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.CREATE, recoveredManager.currentJobType() );
+        assertEquals( 2, recoveredManager.currentRepositoryItems().size() );
+        assertTrue( recoveredManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.SUBSCRIPTION, recoveredManager.currentJobType() );
+        assertFalse( recoveredManager.nextIndexingJob() );
+        assertEquals( 0, jobFolder.listFiles().length );
+    }
+
+    @Test
+    public void testJournalCompaction() throws Exception {
+        int jobCount = IndexingJobManager.JOURNAL_COMPACTION_THRESHOLD + IndexingJobManager.MAX_INDEXING_BATCH_SIZE;
+        File journalFile = new File( jobFolder, "indexing-jobs.journal" );
+
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, newRepositoryItemMessage( 0, jobCount ) );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_SUBSCRIPTION, newSubscriptionTargetMessage() );
+
+        while (jobManager.currentJobType() != IndexingJobType.SUBSCRIPTION) {
+            assertTrue( jobManager.nextIndexingJob() );
+        }
+
+        // Without compaction, the journal would still contain a record for every job and batch completion
+        assertTrue(
+            Files.readAllLines( journalFile.toPath() ).size() < IndexingJobManager.JOURNAL_COMPACTION_THRESHOLD );
+
+        IndexingJobManager recoveredManager = new IndexingJobManager( repositoryManager,
+            new File( jobFolder.getParentFile(), "/search-index" ) );
+
+        assertEquals( 1, recoveredManager.getQueueDepth() );
+        assertTrue( recoveredManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.SUBSCRIPTION, recoveredManager.currentJobType() );
+        assertFalse( recoveredManager.nextIndexingJob() );
+    }
+
+    @Test
+    public void testInvalidBatchItemSkipped() throws Exception {
+        LibraryInfoListType itemList = newRepositoryItemList( 0, 3 );
+
+        // Items without a status cannot be converted to repository items
+        itemList.getLibraryInfo().get( 1 ).setStatus( null );
+        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_CREATE_INDEX, marshallItemList( itemList ) );
+
+        assertTrue( jobManager.nextIndexingJob() );
+        assertEquals( IndexingJobType.CREATE, jobManager.currentJobType() );
+        assertEquals( 2, jobManager.currentRepositoryItems().size() );
+        assertEquals( "TestLibrary0", jobManager.currentRepositoryItems().get( 0 ).getLibraryName() );
+        assertEquals( "TestLibrary2", jobManager.currentRepositoryItems().get( 1 ).getLibraryName() );
+
+        assertFalse( jobManager.nextIndexingJob() );
+        assertEquals( 0, jobManager.getQueueDepth() );
+        assertEquals( 0, jobFolder.listFiles().length );
+    }
+
     @Test
     public void testInvalidMessageContent() throws Exception {
-        jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_SUBSCRIPTION, "bad-content" );
+        try {
+            jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_SUBSCRIPTION, "bad-content" );
+            fail( "Expected exception not thrown." );
+
+        } catch (JAXBException e) {
+            // Expected - invalid requests are rejected before they are queued
+        }
         jobManager.addIndexingJobs( IndexingConstants.JOB_TYPE_SUBSCRIPTION, newSubscriptionTargetMessage() );
 
-        assertEquals( 2, jobFolder.listFiles().length );
-        assertTrue( jobManager.nextIndexingJob() ); // Silently skipped the first batch due to bad content
+        assertEquals( 1, jobManager.getQueueDepth() );
+        assertTrue( jobManager.nextIndexingJob() );
         assertEquals( IndexingJobType.SUBSCRIPTION, jobManager.currentJobType() );
 
         assertFalse( jobManager.nextIndexingJob() );
@@ -206,23 +316,30 @@ public class TestIndexingJobManager {
         }
     }
 
-    private String newRepositoryItemMessage(int itemCount) throws Exception {
+    private String newRepositoryItemMessage(int firstItem, int itemCount) throws Exception {
+        return marshallItemList( newRepositoryItemList( firstItem, itemCount ) );
+    }
+
+    private LibraryInfoListType newRepositoryItemList(int firstItem, int itemCount) {
         LibraryInfoListType itemList = new LibraryInfoListType();
 
-        for (int i = 0; i < itemCount; i++) {
+        for (int i = firstItem; i < (firstItem + itemCount); i++) {
             LibraryInfoType item = new LibraryInfoType();
 
             item.setOwningRepository( repositoryManager.getId() );
             item.setBaseNamespace( "http://www.opentravel.org/ns" );
-            item.setFilename( "TestLibrary_1_0_0.otm" );
-            item.setLibraryName( "TestLibrary" );
+            item.setFilename( "TestLibrary" + i + "_1_0_0.otm" );
+            item.setLibraryName( "TestLibrary" + i );
             item.setVersion( "1.0.0" );
             item.setVersionScheme( "OTA2" );
             item.setStatus( LibraryStatus.DRAFT );
             item.setState( RepositoryState.MANAGED_UNLOCKED );
             itemList.getLibraryInfo().add( item );
         }
+        return itemList;
+    }
 
+    private String marshallItemList(LibraryInfoListType itemList) throws Exception {
         try (StringWriter writer = new StringWriter()) {
             JAXBContext jaxbContext = RepositoryJaxbContext.getContext();
             Marshaller m = jaxbContext.createMarshaller();
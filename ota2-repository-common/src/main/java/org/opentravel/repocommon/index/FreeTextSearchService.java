@@ -57,9 +57,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -93,6 +95,7 @@ public abstract class FreeTextSearchService {
     private DirectoryReader indexReader;
     private SearcherManager searchManager;
     private ReadWriteLock searchLock = new ReentrantReadWriteLock();
+    private AtomicLong indexGeneration = new AtomicLong();
 
     /**
      * Constructor that specifies the folder location of the index and the repository manager used to access the content
@@ -128,6 +131,7 @@ public abstract class FreeTextSearchService {
 
             this.indexReader = newIndexReader( this.indexDirectory );
             this.searchManager = new SearcherManager( indexReader, new SearcherFactory() );
+            this.indexGeneration.incrementAndGet();
             this.isRunning = true;
 
         } finally {
@@ -217,12 +221,23 @@ public abstract class FreeTextSearchService {
             searchLock.writeLock().lock();
             this.indexReader = newIndexReader( indexDirectory );
             this.searchManager = new SearcherManager( indexReader, new SearcherFactory() );
+            this.indexGeneration.incrementAndGet();
 
         } finally {
             searchLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Returns the generation number of the search index. The generation is incremented each time the index reader is
+     * refreshed, so any content derived from search results of an earlier generation may be out of date.
+     * 
+     * @return long
+     */
+    public long getIndexGeneration() {
+        return indexGeneration.get();
+    }
+
     /**
      * Returns the manager instance used to access the repository content.
      *
@@ -288,6 +303,39 @@ public abstract class FreeTextSearchService {
         indexWhereUsedLibraries( item );
     }
 
+    /**
+     * Submits all of the given repository items for indexing as a single job. For each item, all versions of the library
+     * and all libraries that directly reference the item are re-indexed; items that are reachable from more than one
+     * of the given items are only indexed once.
+     * 
+     * @param items the repository items to be indexed
+     * @throws RepositoryException thrown if an error occurs during the indexing operation
+     */
+    public void indexRepositoryItems(Collection<RepositoryItem> items) throws RepositoryException {
+        Map<String,RepositoryItem> itemsToIndex = new LinkedHashMap<>();
+        Set<String> indexedLibraries = new HashSet<>();
+
+        for (RepositoryItem item : items) {
+            String baseNamespace = item.getBaseNamespace();
+            String libraryName = item.getLibraryName();
+
+            if (indexedLibraries.add( baseNamespace + "|" + libraryName )) {
+                for (RepositoryItem candidateItem : repositoryManager.listItems( baseNamespace, TLLibraryStatus.DRAFT,
+                    false, null )) {
+                    if (libraryName.equals( candidateItem.getLibraryName() )) {
+                        itemsToIndex.putIfAbsent( IndexingUtils.getIdentityKey( candidateItem ), candidateItem );
+                    }
+                }
+            }
+        }
+        for (RepositoryItem item : items) {
+            for (RepositoryItem whereUsedItem : findWhereUsedLibraries( item )) {
+                itemsToIndex.putIfAbsent( IndexingUtils.getIdentityKey( whereUsedItem ), whereUsedItem );
+            }
+        }
+        submitIndexingJob( new ArrayList<>( itemsToIndex.values() ), false );
+    }
+
     /**
      * Removes the index for the specified repository item. If other versions of the item still exist, the version chain
      * will be re-indexed. If the item is the last existing version, the index will be deleted outright.
@@ -334,18 +382,31 @@ public abstract class FreeTextSearchService {
      * @throws RepositoryException thrown if an error occurs during the indexing operation
      */
     private void indexWhereUsedLibraries(RepositoryItem item) throws RepositoryException {
+        List<RepositoryItem> itemsToIndex = findWhereUsedLibraries( item );
+
+        if (!itemsToIndex.isEmpty()) {
+            submitIndexingJob( itemsToIndex, false );
+        }
+    }
+
+    /**
+     * Returns the repository items for all libraries that directly reference the given repository item.
+     * 
+     * @param item the repository item for which to return the where-used libraries
+     * @return List&lt;RepositoryItem&gt;
+     * @throws RepositoryException thrown if an error occurs while searching the index
+     */
+    private List<RepositoryItem> findWhereUsedLibraries(RepositoryItem item) throws RepositoryException {
         String libraryIndexId = IndexingUtils.getIdentityKey( item );
         LibrarySearchResult libraryIndex = getLibrary( libraryIndexId, false );
+        List<RepositoryItem> whereUsedItems = new ArrayList<>();
 
         if (libraryIndex != null) {
-            List<LibrarySearchResult> whereUsedLibraries = getLibraryWhereUsed( libraryIndex, false, false );
-            List<RepositoryItem> itemsToIndex = new ArrayList<>();
-
-            for (LibrarySearchResult whereUsed : whereUsedLibraries) {
-                itemsToIndex.add( whereUsed.getRepositoryItem() );
+            for (LibrarySearchResult whereUsed : getLibraryWhereUsed( libraryIndex, false, false )) {
+                whereUsedItems.add( whereUsed.getRepositoryItem() );
             }
-            submitIndexingJob( itemsToIndex, false );
         }
+        return whereUsedItems;
     }
 
     /**
@@ -46,6 +46,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Indexing service that handles post-processing of contextual-facet meta-data records that were created during the
@@ -55,7 +56,7 @@ public class FacetIndexingService {
 
     private static Logger log = LogManager.getLogger( FacetIndexingService.class );
 
-    private Set<String> rootFacetOwnerIds = new HashSet<>();
+    private Set<String> rootFacetOwnerIds = ConcurrentHashMap.newKeySet();
     private IndexWriter indexWriter;
 
     /**
@@ -71,7 +72,8 @@ public class FacetIndexingService {
     /**
      * Adds the identity string of a facet owner to the list of root facet owners that will be post-processed by this
      * service. It is not necessary to add contextual facet owners via this method; only business objects and choice
-     * records will be processed as root facet owners.
+     * records will be processed as root facet owners. This method may be called concurrently by multiple index
+     * builders.
      * 
      * @param ownerId the index identity of the root facet owner
      */
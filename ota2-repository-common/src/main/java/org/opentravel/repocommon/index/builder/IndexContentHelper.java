@@ -66,8 +66,6 @@ public class IndexContentHelper {
     private static Map<Class<?>,JaxbLibraryVersionConverter<?>> libraryVersionConverters;
     private static Map<Class<?>,Class<?>> entityClassMappings;
     private static Map<Class<?>,Method> objectFactoryMethods;
-    private static TransformerFactory<?> loaderTransformFactory;
-    private static TransformerFactory<?> saverTransformFactory;
     private static ObjectFactory objectFactory = new ObjectFactory();
     private static JAXBContext jaxbContext;
 
@@ -158,7 +156,7 @@ public class IndexContentHelper {
     public static String marshallLibrary(TLLibrary library) throws RepositoryException {
         try {
             ObjectTransformer<TLLibrary,Library,?> transformer =
-                saverTransformFactory.getTransformer( library, Library.class );
+                newSaverTransformFactory().getTransformer( library, Library.class );
             Library jaxbLibrary = transformer.transform( library );
             JAXBElement<Library> libraryElement = objectFactory.createLibrary( jaxbLibrary );
             Marshaller m = jaxbContext.createMarshaller();
@@ -186,7 +184,7 @@ public class IndexContentHelper {
         if (targetClass != null) {
             try {
                 ObjectTransformer<NamedEntity,?,?> transformer =
-                    saverTransformFactory.getTransformer( entity, targetClass );
+                    newSaverTransformFactory().getTransformer( entity, targetClass );
                 Object jaxbEntity = transformer.transform( entity );
                 Class<?> jaxbEntityClass = jaxbEntity.getClass();
                 Method factoryMethod = objectFactoryMethods.get( jaxbEntityClass );
@@ -218,7 +216,7 @@ public class IndexContentHelper {
      */
     public static TLLibrary transformLibrary(Library jaxbLibrary) {
         ObjectTransformer<Library,TLLibrary,?> transformer =
-            loaderTransformFactory.getTransformer( jaxbLibrary, TLLibrary.class );
+            newLoaderTransformFactory().getTransformer( jaxbLibrary, TLLibrary.class );
 
         return transformer.transform( jaxbLibrary );
     }
@@ -242,11 +240,37 @@ public class IndexContentHelper {
                 "No entity class mapping defined for: " + jaxbEntity.getClass().getSimpleName() );
         }
         ObjectTransformer<Object,? extends NamedEntity,?> transformer =
-            loaderTransformFactory.getTransformer( jaxbEntity, targetClass );
+            newLoaderTransformFactory().getTransformer( jaxbEntity, targetClass );
 
         return transformer.transform( jaxbEntity );
     }
 
+    /**
+     * Returns a new transformer factory for converting JAXB content into OTM model objects. Transformer factories and
+     * their contexts are not thread-safe, so a new instance is created for each operation; this is inexpensive since
+     * the factory's dispatch table is shared.
+     * 
+     * @return TransformerFactory&lt;?&gt;
+     */
+    private static TransformerFactory<?> newLoaderTransformFactory() {
+        return TransformerFactory.getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY,
+            new DefaultTransformerContext() );
+    }
+
+    /**
+     * Returns a new transformer factory (with its own symbol table) for converting OTM model objects into JAXB
+     * content.
+     * 
+     * @return TransformerFactory&lt;?&gt;
+     */
+    private static TransformerFactory<?> newSaverTransformFactory() {
+        SymbolResolverTransformerContext saverContext = new SymbolResolverTransformerContext();
+
+        saverContext.setSymbolResolver( new TLModelSymbolResolver( new SymbolTable() ) );
+        return TransformerFactory.getInstance( SchemaCompilerApplicationContext.SAVER_TRANSFORMER_FACTORY,
+            saverContext );
+    }
+
     /**
      * Handles the conversion of a JAXB library from its original version (as stored in the repository file system) to
      * the latest version which is compatible with the indexing service API's.
@@ -281,9 +305,9 @@ public class IndexContentHelper {
 
             } else {
                 ObjectTransformer<L,TLLibrary,?> loadTransformer =
-                    loaderTransformFactory.getTransformer( libraryType, TLLibrary.class );
+                    newLoaderTransformFactory().getTransformer( libraryType, TLLibrary.class );
                 ObjectTransformer<TLLibrary,Library,?> saveTransformer =
-                    saverTransformFactory.getTransformer( TLLibrary.class, Library.class );
+                    newSaverTransformFactory().getTransformer( TLLibrary.class, Library.class );
                 TLLibrary otmLibrary = loadTransformer.transform( (L) jaxbLibrary );
 
                 library = saveTransformer.transform( otmLibrary );
@@ -294,7 +318,7 @@ public class IndexContentHelper {
     }
 
     /**
-     * Initializes the JAXB context and transformer factory.
+     * Initializes the JAXB context and entity type mappings.
      */
     static {
         try {
@@ -322,20 +346,13 @@ public class IndexContentHelper {
             }
             objectFactoryMethods = Collections.unmodifiableMap( methodMappings );
 
-            // Initialize the transformer factories and the JAXB context
-            SymbolResolverTransformerContext saverContext = new SymbolResolverTransformerContext();
-
-            saverContext.setSymbolResolver( new TLModelSymbolResolver( new SymbolTable() ) );
-            saverTransformFactory = TransformerFactory
-                .getInstance( SchemaCompilerApplicationContext.SAVER_TRANSFORMER_FACTORY, saverContext );
-            loaderTransformFactory = TransformerFactory.getInstance(
-                SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, new DefaultTransformerContext() );
+            // Initialize the JAXB context
             schemaFactory.setResourceResolver( new ClasspathResourceResolver() );
             jaxbContext = JAXBContext.newInstance( SCHEMA_CONTEXT );
 
             // Initialize entity class mappings for transformer target lookups
-            initializeTypeMappings( loaderTransformFactory, classMappings );
-            initializeTypeMappings( saverTransformFactory, classMappings );
+            initializeTypeMappings( newLoaderTransformFactory(), classMappings );
+            initializeTypeMappings( newSaverTransformFactory(), classMappings );
             entityClassMappings = Collections.unmodifiableMap( classMappings );
 
         } catch (Exception e) {
@@ -16,6 +16,8 @@
 
 package org.opentravel.repocommon.jmx;
 
+import org.opentravel.repocommon.util.ExpiringCache;
+
 import java.io.File;
 
 /**
@@ -30,6 +32,7 @@ public class OTMRepositoryStats extends OTMStandardMBean implements OTMRepositor
     private File svnServerLocation;
     private File repositoryLocation;
     private File searchIndexLocation;
+    private ExpiringCache<?,?> consolePageCache;
 
     private boolean repositoryAvailable = true;
     private boolean svnServiceAvailable = false;
@@ -79,6 +82,15 @@ public class OTMRepositoryStats extends OTMStandardMBean implements OTMRepositor
         this.searchIndexLocation = searchIndexLocation;
     }
 
+    /**
+     * Assigns the cache of rendered page models for the repository web console.
+     *
+     * @param consolePageCache the console page cache to assign
+     */
+    public void setConsolePageCache(ExpiringCache<?,?> consolePageCache) {
+        this.consolePageCache = consolePageCache;
+    }
+
     /**
      * Assigns the boolean value indicating whether the OTM repository is available.
      * 
@@ -179,4 +191,28 @@ public class OTMRepositoryStats extends OTMStandardMBean implements OTMRepositor
         return getDiskVolumeMaxGB( searchIndexLocation );
     }
 
+    /**
+     * @see org.opentravel.repocommon.jmx.OTMRepositoryStatsMBean#getConsolePageCacheSize()
+     */
+    @Override
+    public int getConsolePageCacheSize() {
+        return (consolePageCache == null) ? 0 : consolePageCache.size();
+    }
+
+    /**
+     * @see org.opentravel.repocommon.jmx.OTMRepositoryStatsMBean#getConsolePageCacheHitRate()
+     */
+    @Override
+    public double getConsolePageCacheHitRate() {
+        double hitRate = 0.0;
+
+        if (consolePageCache != null) {
+            long hitCount = consolePageCache.getHitCount();
+            long lookupCount = hitCount + consolePageCache.getMissCount();
+
+            hitRate = (lookupCount == 0) ? 0.0 : ((double) hitCount / lookupCount);
+        }
+        return hitRate;
+    }
+
 }
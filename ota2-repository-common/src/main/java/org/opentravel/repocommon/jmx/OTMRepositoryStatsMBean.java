@@ -84,4 +84,19 @@ public interface OTMRepositoryStatsMBean extends OTMBasicStatsMBean {
      */
     public int getSearchIndexDiskMaxGB();
 
+    /**
+     * Returns the number of page models currently held in the repository console's page cache.
+     * 
+     * @return int
+     */
+    public int getConsolePageCacheSize();
+
+    /**
+     * Returns the ratio of page cache hits to the total number of page cache lookups performed by the repository
+     * console (a value between 0.0 and 1.0).
+     * 
+     * @return double
+     */
+    public double getConsolePageCacheHitRate();
+
 }
@@ -194,6 +194,7 @@ public class SVNRepositoryFileManager extends RepositoryFileManager {
             // Update with the latest content from the repository
             svnClient.getUpdateClient().doUpdate( repositoryLocation, SVNRevision.HEAD, SVNDepth.INFINITY, true,
                 false );
+            clearMetadataCatalog();
 
             log.info( "Done with OTA2.0 repository initialization.: " + repositoryLocation.getAbsolutePath() );
             OTMRepositoryStats.getInstance().setSvnServiceAvailable( true );
@@ -0,0 +1,266 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.repocommon.security.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.NamingException;
+import javax.naming.ServiceUnavailableException;
+import javax.naming.directory.DirContext;
+
+/**
+ * Bounded pool of directory contexts that are all bound using the same (service account) credentials. Contexts that
+ * are returned to the pool in a healthy state are reused by subsequent borrowers until they have been idle for longer
+ * than the configured idle timeout.
+ */
+public class DirContextPool {
+
+    private static Logger log = LogManager.getLogger( DirContextPool.class );
+
+    private final DirContextFactory contextFactory;
+    private final Deque<IdleContext> idleContexts = new ArrayDeque<>();
+    private final Semaphore activePermits;
+    private final int maxIdle;
+    private final long idleTimeout;
+    private final long waitTimeout;
+    private boolean closed = false;
+
+    /**
+     * Factory used to create new directory contexts when no idle context is available from the pool.
+     */
+    @FunctionalInterface
+    public interface DirContextFactory {
+
+        /**
+         * Creates and returns a new directory context.
+         *
+         * @return DirContext
+         * @throws NamingException thrown if the connection to the remote directory cannot be established
+         */
+        public DirContext newContext() throws NamingException;
+
+    }
+
+    /**
+     * Constructor that specifies the factory and size limits for the pool.
+     *
+     * @param contextFactory the factory used to create new directory contexts
+     * @param maxActive the maximum number of contexts that may be borrowed from the pool at any one time
+     * @param maxIdle the maximum number of idle contexts that will be retained by the pool
+     * @param idleTimeout the amount of time (in milliseconds) that a context may remain idle before it is closed
+     * @param waitTimeout the maximum amount of time (in milliseconds) to wait for a context when the pool is exhausted
+     */
+    public DirContextPool(DirContextFactory contextFactory, int maxActive, int maxIdle, long idleTimeout,
+        long waitTimeout) {
+        this.contextFactory = contextFactory;
+        this.activePermits = new Semaphore( Math.max( maxActive, 1 ), true );
+        this.maxIdle = maxIdle;
+        this.idleTimeout = idleTimeout;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Borrows a context from the pool, creating a new one if no idle contexts are available. Each context that is
+     * borrowed must be returned using the <code>returnContext()</code> method.
+     *
+     * @return DirContext
+     * @throws NamingException thrown if the pool is exhausted or a new context cannot be created
+     */
+    public DirContext borrowContext() throws NamingException {
+        DirContext context = null;
+
+        acquirePermit();
+
+        try {
+            context = pollIdleContext();
+
+            if (context == null) {
+                context = contextFactory.newContext();
+            }
+            return context;
+
+        } finally {
+            if (context == null) {
+                activePermits.release();
+            }
+        }
+    }
+
+    /**
+     * Returns a previously-borrowed context to the pool. If the context is not reusable (e.g. because a communication
+     * error occurred while it was in use), it will be closed and discarded.
+     *
+     * @param context the context to return to the pool
+     * @param reusable flag indicating whether the context is in a state that allows it to be reused
+     */
+    public void returnContext(DirContext context, boolean reusable) {
+        if (context == null) {
+            return;
+        }
+        try {
+            boolean retained = false;
+
+            if (reusable) {
+                synchronized (idleContexts) {
+                    if (!closed && (idleContexts.size() < maxIdle)) {
+                        idleContexts.push( new IdleContext( context ) );
+                        retained = true;
+                    }
+                }
+            }
+            if (!retained) {
+                closeContext( context );
+            }
+
+        } finally {
+            activePermits.release();
+        }
+    }
+
+    /**
+     * Closes all idle contexts and prevents any additional contexts from being retained by the pool. Contexts that are
+     * currently borrowed will be closed when they are returned.
+     */
+    public void close() {
+        List<IdleContext> contextsToClose;
+
+        synchronized (idleContexts) {
+            contextsToClose = new ArrayList<>( idleContexts );
+            idleContexts.clear();
+            closed = true;
+        }
+        contextsToClose.forEach( c -> closeContext( c.getContext() ) );
+    }
+
+    /**
+     * Returns the number of idle contexts currently retained by the pool.
+     *
+     * @return int
+     */
+    public int getIdleCount() {
+        synchronized (idleContexts) {
+            return idleContexts.size();
+        }
+    }
+
+    /**
+     * Acquires a permit to borrow a context, waiting up to the configured timeout if the pool is exhausted.
+     *
+     * @throws NamingException thrown if a permit could not be acquired within the wait timeout
+     */
+    private void acquirePermit() throws NamingException {
+        boolean acquired;
+
+        try {
+            acquired = activePermits.tryAcquire( waitTimeout, TimeUnit.MILLISECONDS );
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new ServiceUnavailableException( "Timed out waiting for an available directory connection." );
+        }
+    }
+
+    /**
+     * Returns the most recently used idle context that has not exceeded the idle timeout. Any stale contexts that are
+     * encountered are closed and discarded.
+     *
+     * @return DirContext
+     */
+    private DirContext pollIdleContext() {
+        List<DirContext> staleContexts = new ArrayList<>();
+        DirContext context = null;
+
+        synchronized (idleContexts) {
+            while ((context == null) && !idleContexts.isEmpty()) {
+                IdleContext idleContext = idleContexts.pop();
+
+                if (idleContext.isStale()) {
+                    staleContexts.add( idleContext.getContext() );
+
+                } else {
+                    context = idleContext.getContext();
+                }
+            }
+        }
+        staleContexts.forEach( this::closeContext );
+        return context;
+    }
+
+    /**
+     * Closes the given context, logging any errors that occur.
+     *
+     * @param context the context to close
+     */
+    private void closeContext(DirContext context) {
+        try {
+            context.close();
+
+        } catch (Exception e) {
+            log.warn( "Error closing JNDI context.", e );
+        }
+    }
+
+    /**
+     * Wrapper for an idle context that records the time at which it was returned to the pool.
+     */
+    private class IdleContext {
+
+        private DirContext context;
+        private long idleSince;
+
+        /**
+         * Constructor that specifies the idle context.
+         *
+         * @param context the directory context that was returned to the pool
+         */
+        public IdleContext(DirContext context) {
+            this.context = context;
+            this.idleSince = System.currentTimeMillis();
+        }
+
+        /**
+         * Returns the idle directory context.
+         *
+         * @return DirContext
+         */
+        public DirContext getContext() {
+            return context;
+        }
+
+        /**
+         * Returns true if the context has remained idle for longer than the pool's idle timeout.
+         *
+         * @return boolean
+         */
+        public boolean isStale() {
+            return (System.currentTimeMillis() - idleSince) > idleTimeout;
+        }
+
+    }
+
+}
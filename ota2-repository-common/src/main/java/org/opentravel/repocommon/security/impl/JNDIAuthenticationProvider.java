@@ -21,6 +21,7 @@ import org.apache.logging.log4j.Logger;
 import org.opentravel.ns.ota2.repositoryinfoext_v01_00.UserInfo;
 import org.opentravel.repocommon.security.PasswordValidator;
 import org.opentravel.repocommon.security.UserPrincipal;
+import org.opentravel.repocommon.util.ExpiringCache;
 import org.opentravel.schemacompiler.repository.RepositoryException;
 import org.opentravel.schemacompiler.repository.RepositorySecurityException;
 import org.opentravel.schemacompiler.security.PasswordHelper;
@@ -34,6 +35,7 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.naming.CommunicationException;
 import javax.naming.Context;
@@ -130,6 +132,40 @@ import javax.naming.directory.SearchResult;
  * <td>Optional</td>
  * </tr>
  * <tr>
+ * <td>authenticationCacheMaxSize</td>
+ * <td>The maximum number of users whose login results and profile refreshes will be cached. When the limit is
+ * exceeded, the least-recently used entries are discarded. Default value is 1000.</td>
+ * <td>Optional</td>
+ * <td>Optional</td>
+ * </tr>
+ * <tr>
+ * <td>connectionPoolMaxActive</td>
+ * <td>The maximum number of pooled directory connections (bound as the <code>connectionPrincipal</code>) that may be
+ * in use at any one time. Default value is 8.</td>
+ * <td>Optional</td>
+ * <td>Optional</td>
+ * </tr>
+ * <tr>
+ * <td>connectionPoolMaxIdle</td>
+ * <td>The maximum number of idle directory connections that will be retained for reuse. Default value is 4.</td>
+ * <td>Optional</td>
+ * <td>Optional</td>
+ * </tr>
+ * <tr>
+ * <td>connectionPoolIdleTimeout</td>
+ * <td>The amount of time (in milliseconds) that a pooled connection may remain idle before it is closed. Default value
+ * is 1 minute.</td>
+ * <td>Optional</td>
+ * <td>Optional</td>
+ * </tr>
+ * <tr>
+ * <td>connectionPoolWaitTimeout</td>
+ * <td>The maximum amount of time (in milliseconds) to wait for a pooled connection when all connections are in use.
+ * Default value is 10 seconds.</td>
+ * <td>Optional</td>
+ * <td>Optional</td>
+ * </tr>
+ * <tr>
  * <td>connectionPrincipal</td>
  * <td>The directory username to use when establishing a connection to the directory for LDAP search and lookup
  * operations. If not specified an anonymous connection is made, which is often sufficient unless you specify the
@@ -286,13 +322,42 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
     private String userEmailAttribute = "mail";
     private String userCredentialAttribute = "userPassword";
     private String referralStrategy = "ignore";
-    private boolean isInitialized = false;
+    private volatile boolean isInitialized = false;
     private long authenticationCacheTimeout = 300000; // 5-minutes
-
-    private Map<String,Long> profileCacheTimeouts = new HashMap<>();
-    private Map<String,AuthenticationCacheEntry> authenticationCache = new HashMap<>();
+    private int authenticationCacheMaxSize = 1000;
+    private int connectionPoolMaxActive = 8;
+    private int connectionPoolMaxIdle = 4;
+    private long connectionPoolIdleTimeout = 60000; // 1-minute
+    private long connectionPoolWaitTimeout = 10000;
+
+    private ExpiringCache<String,Boolean> profileCache =
+        new ExpiringCache<>( authenticationCacheMaxSize, authenticationCacheTimeout );
+    private ExpiringCache<String,AuthenticationCacheEntry> authenticationCache =
+        new ExpiringCache<>( authenticationCacheMaxSize, authenticationCacheTimeout );
+    private AtomicLong directoryOperationCount = new AtomicLong();
+    private AtomicLong directoryOperationNanos = new AtomicLong();
+    private DirContextPool contextPool;
     private PasswordValidator passwordValidator;
 
+    /**
+     * Callback interface for operations that are performed using a pooled directory context.
+     *
+     * @param <T> the type of the value returned by the operation
+     */
+    @FunctionalInterface
+    private interface DirectoryOperation<T> {
+
+        /**
+         * Performs the operation using the directory context provided.
+         *
+         * @param context the pooled directory context to use for the operation
+         * @return T
+         * @throws NamingException thrown if an error occurs while communicating with the remote directory
+         */
+        public T execute(DirContext context) throws NamingException;
+
+    }
+
     /**
      * @see org.opentravel.repocommon.security.AuthenticationProvider#isValidUser(java.lang.String,java.lang.String)
      */
@@ -335,7 +400,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
     @Override
     public void deleteUser(String userId) throws RepositoryException {
         super.deleteUser( userId );
-        profileCacheTimeouts.remove( userId );
+        profileCache.remove( userId );
         authenticationCache.remove( userId );
     }
 
@@ -351,7 +416,6 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
                 Arrays.asList( userLastNameAttribute, userFirstNameAttribute, userFullNameAttribute );
             SearchControls constraints = new SearchControls();
             String searchFilter = buildSearchFilter( searchCriteria, searchAttributes );
-            DirContext context = null;
 
             constraints
                 .setSearchScope( searchUserSubtree ? SearchControls.SUBTREE_SCOPE : SearchControls.ONELEVEL_SCOPE );
@@ -362,29 +426,10 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
 
             try {
                 initializeConfigurationSettings();
-                context = openConnection( connectionPrincipal, connectionPassword );
-                NamingEnumeration<SearchResult> searchResults =
-                    context.search( userSearchBase, searchFilter, constraints );
-
-                while (searchResults.hasMore()) {
-                    SearchResult resultItem = searchResults.next();
-                    Attributes itemAttrs = resultItem.getAttributes();
-                    String userId = getAttributeValue( itemAttrs, userIdAttribute );
-                    String lastName = getAttributeValue( itemAttrs, userLastNameAttribute );
-                    String firstName = getAttributeValue( itemAttrs, userFirstNameAttribute );
-                    String email = getAttributeValue( itemAttrs, userEmailAttribute );
-                    UserPrincipal user = new UserPrincipal();
-
-                    user.setUserId( userId );
-                    user.setLastName( lastName );
-                    user.setFirstName( firstName );
-                    user.setEmailAddress( email );
-                    userList.add( user );
-                }
-
-            } catch (PartialResultException | SizeLimitExceededException e) {
-                // Ignore - this means we have reached the end of the list and that any remaining
-                // items are aliased referrals which cannot be resolved.
+                executeDirectoryOperation( context -> {
+                    searchCandidateUsers( searchFilter, constraints, context, userList );
+                    return null;
+                } );
 
             } catch (NamingException e) {
                 throw new RepositoryException( "Error encountered during directory search.", e );
@@ -393,6 +438,42 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
         return userList;
     }
 
+    /**
+     * Performs a search for candidate users using the directory context provided.
+     *
+     * @param searchFilter the JNDI search filter
+     * @param constraints the constraints for the directory search
+     * @param context the directory context to use for the search
+     * @param userList the list to which all user search results will be added
+     * @throws NamingException thrown if an error occurs while communicating with the remote directory
+     */
+    private void searchCandidateUsers(String searchFilter, SearchControls constraints, DirContext context,
+        List<UserPrincipal> userList) throws NamingException {
+        try {
+            NamingEnumeration<SearchResult> searchResults = context.search( userSearchBase, searchFilter, constraints );
+
+            while (searchResults.hasMore()) {
+                SearchResult resultItem = searchResults.next();
+                Attributes itemAttrs = resultItem.getAttributes();
+                String userId = getAttributeValue( itemAttrs, userIdAttribute );
+                String lastName = getAttributeValue( itemAttrs, userLastNameAttribute );
+                String firstName = getAttributeValue( itemAttrs, userFirstNameAttribute );
+                String email = getAttributeValue( itemAttrs, userEmailAttribute );
+                UserPrincipal user = new UserPrincipal();
+
+                user.setUserId( userId );
+                user.setLastName( lastName );
+                user.setFirstName( firstName );
+                user.setEmailAddress( email );
+                userList.add( user );
+            }
+
+        } catch (PartialResultException | SizeLimitExceededException e) {
+            // Ignore - this means we have reached the end of the list and that any remaining
+            // items are aliased referrals which cannot be resolved.
+        }
+    }
+
     /**
      * Constructs a JNDI search filter using the given search criteria and attributes.
      * 
@@ -422,82 +503,115 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @throws NamingException thrown if an error occurs while communicating with the remote directory
      */
     protected boolean checkCredentials(String userId, String authCredentials) throws NamingException {
-        DirContext context = null;
-        boolean isValid = false;
-
-        try {
-            AuthenticationCacheEntry cacheEntry = getCachedAuthentication( userId );
-            boolean isAuthenticationCached = false;
+        AuthenticationCacheEntry cacheEntry = authenticationCache.get( userId );
+        boolean isValid;
 
-            if ((cacheEntry != null) && (authCredentials != null)
-                && PasswordHelper.encrypt( authCredentials ).equals( cacheEntry.getEncryptedPassword() )) {
-                isAuthenticationCached = true;
-                isValid = cacheEntry.isAuthenticationSuccessful();
-            }
+        if ((cacheEntry != null) && (authCredentials != null)
+            && PasswordHelper.encrypt( authCredentials ).equals( cacheEntry.getEncryptedPassword() )) {
+            isValid = cacheEntry.isAuthenticationSuccessful();
 
-            if (!isAuthenticationCached) {
-                // The cached authentication was expired or unavailable, so we
-                // need to perform a live authentication against the JNDI server.
-                context = openConnection( connectionPrincipal, connectionPassword );
-                String userPassword;
-
-                if (mode == AuthenticationMode.USER_LOOKUP) {
-                    userPassword = lookupUserPassword( userId, context );
+        } else {
+            // The cached authentication was expired or unavailable, so we
+            // need to perform a live authentication against the JNDI server.
+            if (mode == AuthenticationMode.USER_LOOKUP) {
+                String userPassword = executeDirectoryOperation( context -> lookupUserPassword( userId, context ) );
 
-                    if (userPassword != null) {
-                        isValid = passwordValidator.isValidPassword( authCredentials, userPassword );
-                    }
+                isValid = (userPassword != null) && passwordValidator.isValidPassword( authCredentials, userPassword );
 
-                } else { // AuthenticationMode.USER_SEARCH
-                    context = authenticateUser( userId, authCredentials, context );
-                    isValid = (context != null);
-                }
+            } else { // AuthenticationMode.USER_SEARCH
+                String userDn = executeDirectoryOperation( context -> findUserDn( userId, context ) );
 
-                // Add these results to the cache so the results will be cached
-                // for the next inquiry
-                setCachedAuthentication(
-                    new AuthenticationCacheEntry( userId, PasswordHelper.encrypt( authCredentials ), isValid ) );
+                isValid = authenticateUser( userDn, authCredentials );
             }
-            return isValid;
 
-        } finally {
-            try {
-                if (context != null) {
-                    context.close();
-                }
-            } catch (Exception e) {
-                log.warn( ERROR_CLOSING_JNDI_CONTEXT, e );
-            }
+            // Add these results to the cache so the results will be cached
+            // for the next inquiry
+            authenticationCache.put( userId,
+                new AuthenticationCacheEntry( PasswordHelper.encrypt( authCredentials ), isValid ) );
         }
+        return isValid;
     }
 
     /**
-     * Authenticates the user by closing the given context and opening a new one, using the credentials provided to
-     * perform the authentication. If the operation was successful, the new context will be returned. On failure, this
-     * method will return null.
+     * Authenticates the user by opening a new (non-pooled) connection to the directory using the user's own
+     * credentials. The connection is closed immediately after the bind attempt completes.
      * 
-     * @param userId the user ID to authenticate
+     * @param userDn the distinguished name of the user to authenticate (may be null if the user was not found)
      * @param authCredentials the user's password to authenticate
-     * @param context the directory context to user for the user's DN lookup
-     * @return DirContext
-     * @throws NamingException thrown if an error occurs during the user's DN lookup
+     * @return boolean
      */
-    private DirContext authenticateUser(String userId, String authCredentials, DirContext context)
-        throws NamingException {
-        String userDn = findUserDn( userId, context );
-
-        context.close(); // close the generic lookup context
-        context = null;
+    private boolean authenticateUser(String userDn, String authCredentials) {
+        boolean isValid = false;
 
         if (userDn != null) {
+            long startTime = System.nanoTime();
+            DirContext context = null;
+
             try {
                 context = openConnection( userDn, authCredentials );
+                isValid = true;
 
             } catch (NamingException e) {
                 // Ignore and return false
+
+            } finally {
+                closeContext( context );
+                recordDirectoryOperation( startTime );
             }
         }
-        return context;
+        return isValid;
+    }
+
+    /**
+     * Executes the given operation using a directory context that is borrowed from the connection pool. If the
+     * operation fails with an error, the context is discarded instead of being returned to the pool for reuse.
+     * 
+     * @param <T> the type of the value returned by the operation
+     * @param operation the directory operation to execute
+     * @return T
+     * @throws NamingException thrown if an error occurs while communicating with the remote directory
+     */
+    private <T> T executeDirectoryOperation(DirectoryOperation<T> operation) throws NamingException {
+        DirContextPool pool = getContextPool();
+        long startTime = System.nanoTime();
+        DirContext context = pool.borrowContext();
+        boolean reusable = false;
+
+        try {
+            T result = operation.execute( context );
+
+            reusable = true;
+            return result;
+
+        } finally {
+            pool.returnContext( context, reusable );
+            recordDirectoryOperation( startTime );
+        }
+    }
+
+    /**
+     * Records the elapsed time of a directory operation that was started at the given time.
+     * 
+     * @param startTime the start time of the operation (as reported by <code>System.nanoTime()</code>)
+     */
+    private void recordDirectoryOperation(long startTime) {
+        directoryOperationNanos.addAndGet( System.nanoTime() - startTime );
+        directoryOperationCount.incrementAndGet();
+    }
+
+    /**
+     * Closes the given directory context, logging any errors that occur.
+     * 
+     * @param context the directory context to close (may be null)
+     */
+    private void closeContext(DirContext context) {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } catch (Exception e) {
+            log.warn( ERROR_CLOSING_JNDI_CONTEXT, e );
+        }
     }
 
     /**
@@ -517,30 +631,17 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
     @Override
     protected void refreshUserInfo(UserInfo userInfo) {
         String userId = (userInfo == null) ? null : userInfo.getUserId();
-        DirContext context = null;
 
         try {
-            if (userId != null) {
-                Long profileCacheTimeout = profileCacheTimeouts.get( userId );
-
-                if ((profileCacheTimeout == null) || (System.currentTimeMillis() > profileCacheTimeout)) {
-                    context = openConnection( connectionPrincipal, connectionPassword );
+            if ((userId != null) && (profileCache.get( userId ) == null)) {
+                executeDirectoryOperation( context -> {
                     refreshUserInfo( userInfo, context );
-                    profileCacheTimeouts.put( userId, System.currentTimeMillis() + authenticationCacheTimeout );
-                }
+                    return null;
+                } );
             }
 
         } catch (NamingException e) {
             log.error( "Error refreshing user account: " + userId, e );
-
-        } finally {
-            try {
-                if (context != null) {
-                    context.close();
-                }
-            } catch (Exception e) {
-                log.warn( ERROR_CLOSING_JNDI_CONTEXT, e );
-            }
         }
     }
 
@@ -586,8 +687,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
 
         } finally {
             if (userInfo != null) {
-                profileCacheTimeouts.put( userInfo.getUserId(),
-                    System.currentTimeMillis() + authenticationCacheTimeout );
+                profileCache.put( userInfo.getUserId(), Boolean.TRUE );
             }
         }
     }
@@ -597,34 +697,26 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      */
     @Override
     protected void refreshAllUsers() {
-        DirContext context = null;
+        List<UserInfo> expiredUsers = new ArrayList<>();
 
-        try {
-            for (Entry<String,UserInfo> entry : userRegistry.entrySet()) {
-                String userId = entry.getKey();
-                Long profileCacheTimeout = profileCacheTimeouts.get( userId );
-
-                if ((profileCacheTimeout == null) || (System.currentTimeMillis() > profileCacheTimeout)) {
-                    UserInfo userInfo = entry.getValue();
+        for (Entry<String,UserInfo> entry : userRegistry.entrySet()) {
+            if (profileCache.get( entry.getKey() ) == null) {
+                expiredUsers.add( entry.getValue() );
+            }
+        }
 
-                    if (context == null) {
-                        context = openConnection( connectionPrincipal, connectionPassword );
+        try {
+            if (!expiredUsers.isEmpty()) {
+                executeDirectoryOperation( context -> {
+                    for (UserInfo userInfo : expiredUsers) {
+                        refreshUserInfo( userInfo, context );
                     }
-                    refreshUserInfo( userInfo, context );
-                }
+                    return null;
+                } );
             }
 
         } catch (NamingException e) {
             log.error( "Error refreshing user accounts.", e );
-
-        } finally {
-            try {
-                if (context != null) {
-                    context.close();
-                }
-            } catch (Exception e) {
-                log.warn( ERROR_CLOSING_JNDI_CONTEXT );
-            }
         }
     }
 
@@ -845,6 +937,34 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
             // userSearchBase, userSearchPatterns
             validateUserSearch();
         }
+        isInitialized = true;
+    }
+
+    /**
+     * Invalidates the current configuration settings and closes the connection pool so that any configuration changes
+     * will be applied to the next directory operation.
+     */
+    private synchronized void resetConfiguration() {
+        isInitialized = false;
+
+        if (contextPool != null) {
+            contextPool.close();
+            contextPool = null;
+        }
+    }
+
+    /**
+     * Returns the pool of directory contexts that are bound using the connection principal's credentials, creating a
+     * new pool if one does not yet exist for the current configuration settings.
+     * 
+     * @return DirContextPool
+     */
+    private synchronized DirContextPool getContextPool() {
+        if (contextPool == null) {
+            contextPool = new DirContextPool( () -> openConnection( connectionPrincipal, connectionPassword ),
+                connectionPoolMaxActive, connectionPoolMaxIdle, connectionPoolIdleTimeout, connectionPoolWaitTimeout );
+        }
+        return contextPool;
     }
 
     /**
@@ -908,7 +1028,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param contextFactory the field value to assign
      */
     public void setContextFactory(String contextFactory) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.contextFactory = contextFactory;
     }
 
@@ -927,7 +1047,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param connectionUrl the field value to assign
      */
     public void setConnectionUrl(String connectionUrl) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.connectionUrl = connectionUrl;
     }
 
@@ -948,7 +1068,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param alternateUrl the field value to assign
      */
     public void setAlternateUrl(String alternateUrl) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.alternateUrl = alternateUrl;
     }
 
@@ -967,7 +1087,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param connectionProtocol the field value to assign
      */
     public void setConnectionProtocol(String connectionProtocol) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.connectionProtocol = connectionProtocol;
     }
 
@@ -988,7 +1108,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param securityAuthentication the field value to assign
      */
     public void setSecurityAuthentication(String securityAuthentication) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.securityAuthentication = securityAuthentication;
     }
 
@@ -1009,7 +1129,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param connectionTimeout the field value to assign
      */
     public void setConnectionTimeout(int connectionTimeout) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.connectionTimeout = connectionTimeout;
     }
 
@@ -1032,7 +1152,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param connectionPrincipal the field value to assign
      */
     public void setConnectionPrincipal(String connectionPrincipal) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.connectionPrincipal = connectionPrincipal;
     }
 
@@ -1053,7 +1173,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param connectionPassword the field value to assign
      */
     public void setConnectionPassword(String connectionPassword) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.connectionPassword = connectionPassword;
     }
 
@@ -1074,7 +1194,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param userPattern the field value to assign
      */
     public void setUserPattern(String userPattern) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.userPattern = (userPattern == null) ? null : new MessageFormat( userPattern );
     }
 
@@ -1093,7 +1213,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param userSearchBase the field value to assign
      */
     public void setUserSearchBase(String userSearchBase) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.userSearchBase = userSearchBase;
     }
 
@@ -1116,7 +1236,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param searchUserSubtree the field value to assign
      */
     public void setSearchUserSubtree(boolean searchUserSubtree) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.searchUserSubtree = searchUserSubtree;
     }
 
@@ -1153,7 +1273,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param userSearchPatterns the field value to assign
      */
     public void setUserSearchPatterns(String userSearchPatterns) {
-        this.isInitialized = false;
+        resetConfiguration();
 
         if (userSearchPatterns != null) {
             String[] patternList = userSearchPatterns.split( "\\:" );
@@ -1184,7 +1304,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param userSearchTimeout the field value to assign
      */
     public void setUserSearchTimeout(int userSearchTimeout) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.userSearchTimeout = userSearchTimeout;
     }
 
@@ -1305,7 +1425,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param userCredentialAttribute the attribute name to assign
      */
     public void setUserPasswordAttribute(String userCredentialAttribute) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.userCredentialAttribute = userCredentialAttribute;
     }
 
@@ -1330,7 +1450,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param referralStrategy the field value to assign
      */
     public void setReferralStrategy(String referralStrategy) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.referralStrategy = referralStrategy;
     }
 
@@ -1356,7 +1476,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @throws NoSuchAlgorithmException thrown if the specified algorithm is not supported
      */
     public synchronized void setDigestAlgorithm(String digestAlgorithm) throws NoSuchAlgorithmException {
-        this.isInitialized = false;
+        resetConfiguration();
         this.digestAlgorithm = digestAlgorithm;
         this.passwordValidator =
             (digestAlgorithm == null) ? null : new PasswordValidator( digestAlgorithm, digestEncoding );
@@ -1377,7 +1497,7 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      * @param digestEncoding the field value to assign
      */
     public synchronized void setDigestEncoding(String digestEncoding) {
-        this.isInitialized = false;
+        resetConfiguration();
         this.digestEncoding = digestEncoding;
 
         if (passwordValidator != null) {
@@ -1401,74 +1521,193 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
      */
     public void setAuthenticationCacheTimeout(long connectionCacheTimeout) {
         this.authenticationCacheTimeout = connectionCacheTimeout;
+        this.authenticationCache.setTimeToLive( connectionCacheTimeout );
+        this.profileCache.setTimeToLive( connectionCacheTimeout );
     }
 
     /**
-     * Returns the cached authentication results for the specified user ID. If a cache entry does not exist for the
-     * user, this method will return null. Expired entries will be removed from the cache and not returned by this
-     * method.
+     * Returns the maximum number of user entries that will be retained in the authentication and profile caches.
      * 
-     * @param userId the ID of the user for which to retrieve cached authentication results
-     * @return AuthenticationCacheEntry
+     * @return int
      */
-    private AuthenticationCacheEntry getCachedAuthentication(String userId) {
-        synchronized (authenticationCache) {
-            AuthenticationCacheEntry cacheEntry = authenticationCache.get( userId );
+    public int getAuthenticationCacheMaxSize() {
+        return authenticationCacheMaxSize;
+    }
 
-            if ((cacheEntry != null) && cacheEntry.isExpired()) {
-                authenticationCache.remove( userId );
-                cacheEntry = null;
-            }
-            return cacheEntry;
-        }
+    /**
+     * Assigns the maximum number of user entries that will be retained in the authentication and profile caches.
+     * 
+     * @param authenticationCacheMaxSize the field value to assign
+     */
+    public void setAuthenticationCacheMaxSize(int authenticationCacheMaxSize) {
+        this.authenticationCacheMaxSize = authenticationCacheMaxSize;
+        this.authenticationCache.setMaxSize( authenticationCacheMaxSize );
+        this.profileCache.setMaxSize( authenticationCacheMaxSize );
     }
 
     /**
-     * Assigns cached authentication results for the specified user ID. If a cache entry does not exist for the user,
-     * this method will return null.
+     * Returns the maximum number of pooled directory connections that may be in use at any one time.
      * 
-     * @param cacheEntry the authentication results to cache
+     * @return int
      */
-    private void setCachedAuthentication(AuthenticationCacheEntry cacheEntry) {
-        synchronized (authenticationCache) {
-            if ((cacheEntry != null) && !cacheEntry.isExpired()) {
-                authenticationCache.put( cacheEntry.getUserId(), cacheEntry );
-            }
-        }
+    public int getConnectionPoolMaxActive() {
+        return connectionPoolMaxActive;
+    }
+
+    /**
+     * Assigns the maximum number of pooled directory connections that may be in use at any one time.
+     * 
+     * @param connectionPoolMaxActive the field value to assign
+     */
+    public void setConnectionPoolMaxActive(int connectionPoolMaxActive) {
+        resetConfiguration();
+        this.connectionPoolMaxActive = connectionPoolMaxActive;
+    }
+
+    /**
+     * Returns the maximum number of idle directory connections that will be retained by the connection pool.
+     * 
+     * @return int
+     */
+    public int getConnectionPoolMaxIdle() {
+        return connectionPoolMaxIdle;
+    }
+
+    /**
+     * Assigns the maximum number of idle directory connections that will be retained by the connection pool.
+     * 
+     * @param connectionPoolMaxIdle the field value to assign
+     */
+    public void setConnectionPoolMaxIdle(int connectionPoolMaxIdle) {
+        resetConfiguration();
+        this.connectionPoolMaxIdle = connectionPoolMaxIdle;
+    }
+
+    /**
+     * Returns the amount of time (in milliseconds) that a pooled directory connection may remain idle before it is
+     * closed.
+     * 
+     * @return long
+     */
+    public long getConnectionPoolIdleTimeout() {
+        return connectionPoolIdleTimeout;
+    }
+
+    /**
+     * Assigns the amount of time (in milliseconds) that a pooled directory connection may remain idle before it is
+     * closed.
+     * 
+     * @param connectionPoolIdleTimeout the field value to assign
+     */
+    public void setConnectionPoolIdleTimeout(long connectionPoolIdleTimeout) {
+        resetConfiguration();
+        this.connectionPoolIdleTimeout = connectionPoolIdleTimeout;
+    }
+
+    /**
+     * Returns the maximum amount of time (in milliseconds) to wait for a pooled directory connection when all
+     * connections are in use.
+     * 
+     * @return long
+     */
+    public long getConnectionPoolWaitTimeout() {
+        return connectionPoolWaitTimeout;
+    }
+
+    /**
+     * Assigns the maximum amount of time (in milliseconds) to wait for a pooled directory connection when all
+     * connections are in use.
+     * 
+     * @param connectionPoolWaitTimeout the field value to assign
+     */
+    public void setConnectionPoolWaitTimeout(long connectionPoolWaitTimeout) {
+        resetConfiguration();
+        this.connectionPoolWaitTimeout = connectionPoolWaitTimeout;
+    }
+
+    /**
+     * Returns the number of credential checks that were satisfied from the authentication cache.
+     * 
+     * @return long
+     */
+    public long getAuthenticationCacheHitCount() {
+        return authenticationCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of credential checks that could not be satisfied from the authentication cache.
+     * 
+     * @return long
+     */
+    public long getAuthenticationCacheMissCount() {
+        return authenticationCache.getMissCount();
+    }
+
+    /**
+     * Returns the number of user profile refreshes that were satisfied from the profile cache.
+     * 
+     * @return long
+     */
+    public long getProfileCacheHitCount() {
+        return profileCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of user profile refreshes that required a lookup in the remote directory.
+     * 
+     * @return long
+     */
+    public long getProfileCacheMissCount() {
+        return profileCache.getMissCount();
+    }
+
+    /**
+     * Returns the total number of operations that have been performed against the remote directory.
+     * 
+     * @return long
+     */
+    public long getDirectoryOperationCount() {
+        return directoryOperationCount.get();
+    }
+
+    /**
+     * Returns the average latency (in milliseconds) of the operations that have been performed against the remote
+     * directory.
+     * 
+     * @return double
+     */
+    public double getAverageDirectoryLatency() {
+        long opCount = directoryOperationCount.get();
+
+        return (opCount == 0) ? 0.0 : (directoryOperationNanos.get() / (opCount * 1000000.0));
+    }
+
+    /**
+     * Returns the number of idle directory connections that are currently retained by the connection pool.
+     * 
+     * @return int
+     */
+    public synchronized int getIdleConnectionCount() {
+        return (contextPool == null) ? 0 : contextPool.getIdleCount();
     }
 
     /**
      * Cached entry for authentication credentials and login attempts.
      */
-    private class AuthenticationCacheEntry {
+    private static class AuthenticationCacheEntry {
 
-        private String userId;
         private String encryptedPassword;
         private boolean authenticationSuccessful;
-        private long expirationTime;
 
         /**
-         * Constructor that specifies the user ID, encrypted password, and expiration time interval for the new cache
-         * entry.
+         * Constructor that specifies the encrypted password and authentication result for the new cache entry.
          * 
-         * @param userId the user ID of the account being cached
          * @param encryptedPassword the last-used password (encrypted) for the account being cached
          * @param authenticationSuccessful indicates whether the last live authentication attempt was successful
          */
-        public AuthenticationCacheEntry(String userId, String encryptedPassword, boolean authenticationSuccessful) {
-            this.userId = userId;
+        public AuthenticationCacheEntry(String encryptedPassword, boolean authenticationSuccessful) {
             this.encryptedPassword = encryptedPassword;
             this.authenticationSuccessful = authenticationSuccessful;
-            this.expirationTime = System.currentTimeMillis() + authenticationCacheTimeout;
-        }
-
-        /**
-         * Returns the user ID of the account being cached.
-         * 
-         * @return String
-         */
-        public String getUserId() {
-            return userId;
         }
 
         /**
@@ -1489,15 +1728,6 @@ public class JNDIAuthenticationProvider extends AbstractAuthenticationProvider {
             return authenticationSuccessful;
         }
 
-        /**
-         * Returns true if this cache entry has expired.
-         * 
-         * @return boolean
-         */
-        public boolean isExpired() {
-            return System.currentTimeMillis() >= expirationTime;
-        }
-
     }
 
 }
@@ -0,0 +1,338 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.repocommon.subscription;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.mail.AuthenticationFailedException;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.PasswordAuthentication;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+
+/**
+ * Delivers email messages to an SMTP host using a bounded pool of worker threads. Each worker keeps its own connected
+ * <code>Transport</code> that is reused for all of the messages it sends, so the cost of connecting and authenticating
+ * with the SMTP host is only incurred when a worker's connection is first opened or must be re-established after an
+ * error.
+ */
+public class EmailDeliveryService {
+
+    private static final int MAX_RETRIES = 3;
+
+    private static Logger log = LogManager.getLogger( EmailDeliveryService.class );
+
+    private final SMTPConfig smtpConfig;
+    private final Session mailSession;
+    private final int workerCount;
+    private final int maxPendingMessages;
+    private final ThreadLocal<Transport> workerTransport = new ThreadLocal<>();
+    private final Queue<Transport> openTransports = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalDeliveryMillis = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Constructor that specifies the SMTP configuration settings and the size limits for the delivery pool.
+     *
+     * @param smtpConfig the SMTP configuration settings
+     * @param workerCount the number of worker threads that will deliver messages concurrently
+     * @param maxPendingMessages the maximum number of messages that may be queued for delivery before submitters are
+     *        required to wait
+     */
+    public EmailDeliveryService(SMTPConfig smtpConfig, int workerCount, int maxPendingMessages) {
+        this.smtpConfig = smtpConfig;
+        this.mailSession = createMailSession( smtpConfig );
+        this.workerCount = Math.max( workerCount, 1 );
+        this.maxPendingMessages = Math.max( maxPendingMessages, 1 );
+    }
+
+    /**
+     * Starts the worker threads that deliver email messages.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            throw new IllegalStateException( "The email delivery service is already running." );
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor( workerCount, workerCount, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>( maxPendingMessages ), r -> {
+                Thread t = new Thread( r, "Email Delivery Worker-" + threadCounter.incrementAndGet() );
+
+                t.setDaemon( true );
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy() );
+    }
+
+    /**
+     * Shuts down the worker threads, waiting up to the specified amount of time for any pending messages to be
+     * delivered. All SMTP connections are closed once the workers have stopped.
+     *
+     * @param timeout the maximum amount of time (in milliseconds) to wait for pending deliveries
+     */
+    public synchronized void shutdown(long timeout) {
+        if (executor != null) {
+            executor.shutdown();
+
+            try {
+                if (!executor.awaitTermination( timeout, TimeUnit.MILLISECONDS )) {
+                    log.warn( "Email delivery workers did not finish before the shutdown timeout expired." );
+                    executor.shutdownNow();
+                }
+
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+
+            } finally {
+                executor = null;
+                closeAllTransports();
+            }
+        }
+    }
+
+    /**
+     * Returns the mail session that should be used to construct the messages submitted to this service.
+     *
+     * @return Session
+     */
+    public Session getMailSession() {
+        return mailSession;
+    }
+
+    /**
+     * Submits the given message for asynchronous delivery. If the delivery queue is full, the message will be delivered
+     * on the caller's thread.
+     *
+     * @param message the email message to deliver
+     */
+    public void submit(Message message) {
+        ThreadPoolExecutor exec;
+
+        synchronized (this) {
+            exec = executor;
+        }
+        long submitTime = System.currentTimeMillis();
+
+        pendingCount.incrementAndGet();
+
+        if (exec != null) {
+            exec.execute( () -> deliver( message, submitTime ) );
+
+        } else {
+            deliver( message, submitTime );
+        }
+    }
+
+    /**
+     * Returns the number of messages that have been submitted but not yet delivered.
+     *
+     * @return int
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Returns the number of messages that have been successfully delivered.
+     *
+     * @return long
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Returns the number of messages that could not be delivered.
+     *
+     * @return long
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Returns the average time (in milliseconds) between the submission and successful delivery of a message.
+     *
+     * @return double
+     */
+    public double getAverageDeliveryLatency() {
+        long count = deliveredCount.get();
+
+        return (count == 0) ? 0.0 : ((double) totalDeliveryMillis.get() / count);
+    }
+
+    /**
+     * Delivers the given message using the current thread's SMTP connection, retrying up to the maximum number of
+     * attempts if a recoverable error occurs.
+     *
+     * @param message the email message to deliver
+     * @param submitTime the time at which the message was submitted for delivery
+     */
+    private void deliver(Message message, long submitTime) {
+        boolean successInd = false;
+        boolean abortInd = false;
+        int retryCount = 1;
+
+        try {
+            while (!successInd && !abortInd && (retryCount <= MAX_RETRIES)) {
+                try {
+                    Transport transport = getTransport();
+
+                    message.saveChanges();
+                    transport.sendMessage( message, message.getAllRecipients() );
+                    successInd = true;
+
+                } catch (SendFailedException | AuthenticationFailedException e) {
+                    log.error( "Fatal error sending email notification - " + getErrorMessage( e ) );
+                    abortInd = true;
+
+                } catch (Exception e) {
+                    log.error(
+                        "Error sending email notification (attempt " + retryCount + ") - " + getErrorMessage( e ) );
+                    closeTransport();
+                    retryCount++;
+                }
+            }
+
+        } finally {
+            pendingCount.decrementAndGet();
+
+            if (successInd) {
+                totalDeliveryMillis.addAndGet( System.currentTimeMillis() - submitTime );
+                deliveredCount.incrementAndGet();
+
+            } else {
+                failedCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the connected SMTP transport for the current thread, opening a new connection if necessary.
+     *
+     * @return Transport
+     * @throws MessagingException thrown if the connection to the SMTP host cannot be established
+     */
+    private Transport getTransport() throws MessagingException {
+        Transport transport = workerTransport.get();
+
+        if ((transport == null) || !transport.isConnected()) {
+            closeTransport();
+            transport = mailSession.getTransport( "smtp" );
+
+            if (smtpConfig.isAuthEnable() && (smtpConfig.getSmtpUser() != null)
+                && (smtpConfig.getSmtpPassword() != null)) {
+                transport.connect( smtpConfig.getSmtpUser(), smtpConfig.getSmtpPassword() );
+
+            } else {
+                transport.connect();
+            }
+            workerTransport.set( transport );
+            openTransports.add( transport );
+        }
+        return transport;
+    }
+
+    /**
+     * Closes the current thread's SMTP transport (if one is open).
+     */
+    private void closeTransport() {
+        Transport transport = workerTransport.get();
+
+        if (transport != null) {
+            workerTransport.remove();
+            openTransports.remove( transport );
+            closeQuietly( transport );
+        }
+    }
+
+    /**
+     * Closes all of the SMTP transports that were opened by the worker threads.
+     */
+    private void closeAllTransports() {
+        Transport transport;
+
+        while ((transport = openTransports.poll()) != null) {
+            closeQuietly( transport );
+        }
+    }
+
+    /**
+     * Closes the given transport, ignoring any errors that occur.
+     *
+     * @param transport the SMTP transport to close
+     */
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+
+        } catch (MessagingException e) {
+            log.debug( "Error closing SMTP transport.", e );
+        }
+    }
+
+    /**
+     * Returns the error message for the given exception.
+     *
+     * @param e the exception for which to return a message
+     * @return String
+     */
+    private String getErrorMessage(Exception e) {
+        String errorMessage = e.getMessage();
+
+        if (errorMessage == null) {
+            errorMessage = e.getClass().getSimpleName();
+        }
+        return errorMessage;
+    }
+
+    /**
+     * Creates the SMTP mail session to use for all email deliveries.
+     *
+     * @param smtpConfig the SMTP configuration settings
+     * @return Session
+     */
+    private static Session createMailSession(SMTPConfig smtpConfig) {
+        final String smtpUser = smtpConfig.getSmtpUser();
+        final String smtpPassword = smtpConfig.getSmtpPassword();
+
+        return smtpConfig.isAuthEnable()
+            ? Session.getInstance( smtpConfig.getSmtpProps(), new javax.mail.Authenticator() {
+                @Override
+                protected PasswordAuthentication getPasswordAuthentication() {
+                    return new PasswordAuthentication( smtpUser, smtpPassword );
+                }
+            } )
+            : Session.getInstance( smtpConfig.getSmtpProps() );
+    }
+
+}
@@ -44,23 +44,23 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.ResourceBundle;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
 
 import javax.mail.Address;
-import javax.mail.AuthenticationFailedException;
 import javax.mail.Message;
 import javax.mail.Message.RecipientType;
-import javax.mail.PasswordAuthentication;
-import javax.mail.SendFailedException;
-import javax.mail.Session;
-import javax.mail.Transport;
+import javax.mail.MessagingException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 
@@ -79,7 +79,9 @@ public class SubscriptionManager {
     private static final long DEFAULT_NOTIFICATION_DELAY = 5000; // 5 sec
     private static final String TEMPLATE_LOCATION = "/org/opentravel/notification/templates/";
     private static final String SUBJECT_FORMAT = "{1} - {0}";
-    private static final int MAX_RETRIES = 3;
+    private static final String RB_LOCATION = "org.opentravel.notification.notification_messages";
+    private static final String DIGEST_SEPARATOR = "<br/>";
+    private static final long DELIVERY_SHUTDOWN_TIMEOUT = 10000; // 10 sec
 
     private static Logger log = LogManager.getLogger( SubscriptionManager.class );
     private static VelocityEngine velocityEngine;
@@ -97,6 +99,9 @@ public class SubscriptionManager {
     private BlockingQueue<NotificationJob> notificationQueue = new DelayQueue<>();
     private RepositorySubscriptionListener repositoryListener;
     private long notificationDelay = DEFAULT_NOTIFICATION_DELAY;
+    private int deliveryWorkerCount = 4;
+    private int maxPendingDeliveries = 100;
+    private volatile EmailDeliveryService deliveryService;
     private boolean shutdownRequested = false;
 
     /**
@@ -406,7 +411,8 @@ public class SubscriptionManager {
             String userId = manager.getFileManager().getCurrentUserId();
 
             if (DEBUG_MODE) {
-                processNotificationJob( new NotificationJob( action, userId, affectedNamespace, null ) );
+                processNotificationJobs(
+                    Collections.singletonList( new NotificationJob( action, userId, affectedNamespace, null ) ) );
 
             } else {
                 if ((notificationThread != null) && notificationThread.isAlive() && !shutdownRequested) {
@@ -439,7 +445,8 @@ public class SubscriptionManager {
             String userId = manager.getFileManager().getCurrentUserId();
 
             if (DEBUG_MODE) {
-                processNotificationJob( new NotificationJob( action, userId, item, remarks ) );
+                processNotificationJobs(
+                    Collections.singletonList( new NotificationJob( action, userId, item, remarks ) ) );
 
             } else {
                 if ((notificationThread != null) && notificationThread.isAlive() && !shutdownRequested) {
@@ -465,6 +472,8 @@ public class SubscriptionManager {
         }
 
         if (smtpConfig != null) {
+            deliveryService = new EmailDeliveryService( smtpConfig, deliveryWorkerCount, maxPendingDeliveries );
+            deliveryService.start();
             notificationThread = new Thread( this::listenForNotificationEvents );
             shutdownRequested = false;
             notificationThread.start();
@@ -495,6 +504,8 @@ public class SubscriptionManager {
 
                 } finally {
                     notificationThread = null;
+                    deliveryService.shutdown( DELIVERY_SHUTDOWN_TIMEOUT );
+                    deliveryService = null;
                 }
 
             } else {
@@ -526,6 +537,99 @@ public class SubscriptionManager {
         this.notificationDelay = notificationDelay;
     }
 
+    /**
+     * Returns the number of worker threads that deliver email notifications concurrently.
+     *
+     * @return int
+     */
+    public int getDeliveryWorkerCount() {
+        return deliveryWorkerCount;
+    }
+
+    /**
+     * Assigns the number of worker threads that deliver email notifications concurrently. The new value will take
+     * effect the next time the notification listener is started.
+     *
+     * @param deliveryWorkerCount the number of delivery workers to assign
+     */
+    public void setDeliveryWorkerCount(int deliveryWorkerCount) {
+        this.deliveryWorkerCount = deliveryWorkerCount;
+    }
+
+    /**
+     * Returns the maximum number of email messages that may be queued for delivery before the notification listener
+     * waits for the delivery workers to catch up.
+     *
+     * @return int
+     */
+    public int getMaxPendingDeliveries() {
+        return maxPendingDeliveries;
+    }
+
+    /**
+     * Assigns the maximum number of email messages that may be queued for delivery before the notification listener
+     * waits for the delivery workers to catch up. The new value will take effect the next time the notification
+     * listener is started.
+     *
+     * @param maxPendingDeliveries the maximum number of pending deliveries to assign
+     */
+    public void setMaxPendingDeliveries(int maxPendingDeliveries) {
+        this.maxPendingDeliveries = maxPendingDeliveries;
+    }
+
+    /**
+     * Returns the number of notification jobs that are waiting for their notification delay to expire.
+     *
+     * @return int
+     */
+    public int getNotificationQueueDepth() {
+        return notificationQueue.size();
+    }
+
+    /**
+     * Returns the number of email messages that have been submitted for delivery but not yet sent.
+     *
+     * @return int
+     */
+    public int getPendingDeliveryCount() {
+        EmailDeliveryService service = deliveryService;
+
+        return (service == null) ? 0 : service.getPendingCount();
+    }
+
+    /**
+     * Returns the number of email messages that have been delivered since the notification listener was started.
+     *
+     * @return long
+     */
+    public long getDeliveredMessageCount() {
+        EmailDeliveryService service = deliveryService;
+
+        return (service == null) ? 0 : service.getDeliveredCount();
+    }
+
+    /**
+     * Returns the number of email messages that could not be delivered since the notification listener was started.
+     *
+     * @return long
+     */
+    public long getFailedMessageCount() {
+        EmailDeliveryService service = deliveryService;
+
+        return (service == null) ? 0 : service.getFailedCount();
+    }
+
+    /**
+     * Returns the average time (in milliseconds) between the submission and delivery of an email message.
+     *
+     * @return double
+     */
+    public double getAverageDeliveryLatency() {
+        EmailDeliveryService service = deliveryService;
+
+        return (service == null) ? 0.0 : service.getAverageDeliveryLatency();
+    }
+
     /**
      * Returns the base URL that should be used when creating links to the OTM repository in email notification
      * messages.
@@ -566,7 +670,9 @@ public class SubscriptionManager {
 
     /**
      * Executes the loop that listens for notification events and periodically checks to see if a listener shutdown has
-     * been requested.
+     * been requested. When the delay of the oldest job expires, the jobs that were queued within the notification delay
+     * period that followed it are collected as well, so that the notifications for a bulk operation are processed (and
+     * delivered to each recipient as a digest) together. Each of those jobs is still held until its own delay expires.
      */
     private void listenForNotificationEvents() {
         while (!shutdownRequested) {
@@ -574,7 +680,7 @@ public class SubscriptionManager {
                 NotificationJob job = notificationQueue.poll( 1000, TimeUnit.MILLISECONDS );
 
                 if (job != null) {
-                    processNotificationJob( job );
+                    processNotificationJobs( collectCoalescedJobs( job ) );
                 }
 
             } catch (InterruptedException e) {
@@ -584,65 +690,149 @@ public class SubscriptionManager {
     }
 
     /**
-     * Processes the given <code></code> by sending an email message to all user accounts which are configured with a
-     * valid email address.
+     * Returns a list that contains the given job along with all of the pending jobs whose delays expire within the
+     * coalescing window (one notification delay period) that follows the expiration of the first job.
      * 
-     * @param job the notification job to process
+     * @param firstJob the job whose delay has expired
+     * @return List&lt;NotificationJob&gt;
+     * @throws InterruptedException thrown if the thread is interrupted while waiting for a job's delay to expire
      */
-    private void processNotificationJob(NotificationJob job) {
+    private List<NotificationJob> collectCoalescedJobs(NotificationJob firstJob) throws InterruptedException {
+        long windowExpiration = firstJob.delayExpiration + notificationDelay;
+        List<NotificationJob> jobs = new ArrayList<>();
+        NotificationJob job = firstJob;
+
         try {
-            List<String> userList = getUserList( job );
-            List<InternetAddress> recipients = getEmailAddresses( userList );
+            while (job != null) {
+                jobs.add( job );
+                job = pollCoalescedJob( windowExpiration );
+            }
+
+        } catch (InterruptedException e) {
+            processNotificationJobs( jobs ); // Do not discard the jobs that were already collected
+            throw e;
+        }
+        return jobs;
+    }
+
+    /**
+     * Waits for the delay of the next pending job to expire and returns it, provided that its delay expires before the
+     * end of the coalescing window. If the queue is empty or the next job falls outside the window, this method
+     * returns null immediately.
+     * 
+     * @param windowExpiration the time (in milliseconds) at which the coalescing window ends
+     * @return NotificationJob
+     * @throws InterruptedException thrown if the thread is interrupted while waiting for a job's delay to expire
+     */
+    private NotificationJob pollCoalescedJob(long windowExpiration) throws InterruptedException {
+        NotificationJob nextJob;
+
+        // This is the only thread that removes jobs from the queue, and new jobs always expire after the
+        // existing ones, so the head of the queue does not change while we wait for its delay to expire
+        while (((nextJob = notificationQueue.peek()) != null) && (nextJob.delayExpiration <= windowExpiration)) {
+            NotificationJob expiredJob =
+                notificationQueue.poll( nextJob.getDelay( TimeUnit.MILLISECONDS ), TimeUnit.MILLISECONDS );
+
+            if (expiredJob != null) {
+                return expiredJob;
+            }
+        }
+        return null;
+    }
 
-            log.info( "Processing notification job: " + job.getAction() + " (" + recipients.size() + " recipients)" );
+    /**
+     * Processes the given list of <code>NotificationJob</code>s by sending email messages to all user accounts which
+     * are configured with a valid email address. Recipients who are to be notified of exactly the same set of jobs
+     * share a single message; when that set contains more than one job, the message is sent as a digest.
+     * 
+     * @param jobs the list of notification jobs to process
+     */
+    private void processNotificationJobs(List<NotificationJob> jobs) {
+        Map<InternetAddress,List<NotificationJob>> recipientJobs = new LinkedHashMap<>();
+        Map<List<NotificationJob>,List<InternetAddress>> messageGroups = new LinkedHashMap<>();
+        Map<NotificationJob,String> messageBodies = new HashMap<>();
 
-            if (!recipients.isEmpty()) {
-                final String smtpUser = smtpConfig.getSmtpUser();
-                final String smtpPassword = smtpConfig.getSmtpPassword();
-                Session mailSession = getMailSession( smtpUser, smtpPassword );
+        for (NotificationJob job : jobs) {
+            try {
+                List<InternetAddress> recipients = getRecipients( job );
 
-                InternetAddress fromAddress =
-                    new InternetAddress( smtpConfig.getSenderAddress(), smtpConfig.getSenderName() );
-                Message message = new MimeMessage( mailSession );
+                log.info(
+                    "Processing notification job: " + job.getAction() + " (" + recipients.size() + " recipients)" );
 
                 for (InternetAddress recipient : recipients) {
-                    message.addRecipient( RecipientType.TO, recipient );
-                }
-                for (String ccAddress : smtpConfig.getCcRecipients()) {
-                    message.addRecipient( RecipientType.CC, new InternetAddress( ccAddress ) );
-                }
-                if (smtpConfig.getReplyToAddress() != null) {
-                    message.setReplyTo( new Address[] {
-                        new InternetAddress( smtpConfig.getReplyToAddress(), smtpConfig.getReplyToName() )} );
+                    recipientJobs.computeIfAbsent( recipient, r -> new ArrayList<>() ).add( job );
                 }
-                message.setFrom( fromAddress );
-                message.setSubject( buildMessageSubject( job ) );
-                message.setContent( buildMessageBody( job ), "text/html" );
 
-                sendEmailNotification( message, smtpUser, smtpPassword );
+            } catch (Exception e) {
+                log.error( "Error processing notification job.", e );
             }
+        }
+        recipientJobs.forEach( (recipient, recipientJobList) -> messageGroups
+            .computeIfAbsent( recipientJobList, j -> new ArrayList<>() ).add( recipient ) );
 
-        } catch (Exception e) {
-            log.error( "Error processing notification job.", e );
+        for (Entry<List<NotificationJob>,List<InternetAddress>> entry : messageGroups.entrySet()) {
+            try {
+                deliverNotification( entry.getKey(), entry.getValue(), messageBodies );
+
+            } catch (Exception e) {
+                log.error( "Error processing notification job.", e );
+            }
         }
     }
 
     /**
-     * Returns the SMTP mail session to use for email notifications.
+     * Constructs an email message for the given jobs and submits it for delivery to the recipients provided.
      * 
-     * @param smtpUser the user who is sending the messages
-     * @param smtpPassword the password of the user sending the messages
-     * @return Session
+     * @param jobs the notification jobs to be included in the message
+     * @param recipients the recipients of the email message
+     * @param messageBodies the message bodies that have already been rendered for each notification job
+     * @throws MessagingException thrown if an error occurs while constructing the email message
+     * @throws UnsupportedEncodingException thrown if the sender or reply-to name cannot be encoded
      */
-    private Session getMailSession(final String smtpUser, final String smtpPassword) {
-        return smtpConfig.isAuthEnable()
-            ? Session.getInstance( smtpConfig.getSmtpProps(), new javax.mail.Authenticator() {
-                @Override
-                protected PasswordAuthentication getPasswordAuthentication() {
-                    return new PasswordAuthentication( smtpUser, smtpPassword );
-                }
-            } )
-            : Session.getInstance( smtpConfig.getSmtpProps() );
+    private void deliverNotification(List<NotificationJob> jobs, List<InternetAddress> recipients,
+        Map<NotificationJob,String> messageBodies) throws MessagingException, UnsupportedEncodingException {
+        EmailDeliveryService service = deliveryService;
+
+        if (service == null) {
+            log.warn( "Email notifications not sent because the delivery service is not running." );
+            return;
+        }
+        InternetAddress fromAddress = new InternetAddress( smtpConfig.getSenderAddress(), smtpConfig.getSenderName() );
+        Message message = new MimeMessage( service.getMailSession() );
+        StringBuilder messageBody = new StringBuilder();
+
+        for (InternetAddress recipient : recipients) {
+            message.addRecipient( RecipientType.TO, recipient );
+        }
+        for (String ccAddress : smtpConfig.getCcRecipients()) {
+            message.addRecipient( RecipientType.CC, new InternetAddress( ccAddress ) );
+        }
+        if (smtpConfig.getReplyToAddress() != null) {
+            message.setReplyTo(
+                new Address[] {new InternetAddress( smtpConfig.getReplyToAddress(), smtpConfig.getReplyToName() )} );
+        }
+        for (NotificationJob job : jobs) {
+            if (messageBody.length() > 0) {
+                messageBody.append( DIGEST_SEPARATOR );
+            }
+            messageBody.append( messageBodies.computeIfAbsent( job, this::buildMessageBody ) );
+        }
+        message.setFrom( fromAddress );
+        message.setSubject( (jobs.size() == 1) ? buildMessageSubject( jobs.get( 0 ) ) : buildDigestSubject( jobs ) );
+        message.setContent( messageBody.toString(), "text/html" );
+
+        service.submit( message );
+    }
+
+    /**
+     * Returns the email addresses of the repository users to which the given notification should be sent.
+     * 
+     * @param job the notification job for which to return the list of recipients
+     * @return List&lt;InternetAddress&gt;
+     * @throws RepositoryException thrown if an error occurs while accessing the repository search index
+     */
+    List<InternetAddress> getRecipients(NotificationJob job) throws RepositoryException {
+        return getEmailAddresses( getUserList( job ) );
     }
 
     /**
@@ -666,60 +856,6 @@ public class SubscriptionManager {
         return userList;
     }
 
-    /**
-     * Sends the given email message notification.
-     * 
-     * @param message the email message to be sent
-     * @param smtpUser the user who is sending the message
-     * @param smtpPassword the password of the user sending the message
-     */
-    private void sendEmailNotification(Message message, final String smtpUser, final String smtpPassword) {
-        boolean successInd = false;
-        boolean abortInd = false;
-        int retryCount = 1;
-
-        while (!successInd && !abortInd && (retryCount <= MAX_RETRIES)) {
-            try {
-                if (smtpConfig.isAuthEnable() && (smtpUser != null) && (smtpPassword != null)) {
-                    Transport.send( message, smtpUser, smtpPassword );
-
-                } else {
-                    Transport.send( message );
-                }
-                successInd = true;
-
-            } catch (SendFailedException | AuthenticationFailedException e) {
-                String errorMessage = getErrorMessage( e );
-                log.error( "Fatal error sending email notification - " + errorMessage );
-                abortInd = true;
-
-            } catch (Exception e) {
-                String errorMessage = e.getMessage();
-
-                if (errorMessage == null) {
-                    errorMessage = e.getClass().getSimpleName();
-                }
-                log.error( "Error sending email notification (attempt " + retryCount + ") - " + errorMessage );
-                retryCount++;
-            }
-        }
-    }
-
-    /**
-     * Returns the error message for the given exception.
-     * 
-     * @param e the exception for which to return a message
-     * @return String
-     */
-    private String getErrorMessage(Exception e) {
-        String errorMessage = e.getMessage();
-
-        if (errorMessage == null) {
-            errorMessage = e.getClass().getSimpleName();
-        }
-        return errorMessage;
-    }
-
     /**
      * Returns the list of all users who should be notified of the specified action that was performed on the given
      * repository item.
@@ -847,13 +983,26 @@ public class SubscriptionManager {
             manager.getDisplayName() );
     }
 
+    /**
+     * Contstructs the subject line for a digest email notification that includes the given jobs.
+     * 
+     * @param jobs the email notification jobs for which to generate the subject line
+     * @return String
+     */
+    private String buildDigestSubject(List<NotificationJob> jobs) {
+        ResourceBundle displayLabels = ResourceBundle.getBundle( RB_LOCATION, Locale.getDefault() );
+        String digestLabel = MessageFormat.format( displayLabels.getString( "DIGEST" ), jobs.size() );
+
+        return MessageFormat.format( SUBJECT_FORMAT, digestLabel, manager.getDisplayName() );
+    }
+
     /**
      * Contstructs the message body for an email notification using information from the given job.
      * 
      * @param job the email notification job for which to generate the email message body
      * @return String
      */
-    private String buildMessageBody(NotificationJob job) {
+    String buildMessageBody(NotificationJob job) {
         RepositorySecurityManager securityManager = RepositoryComponentFactory.getDefault().getSecurityManager();
         UserPrincipal user = (job.getUserId() == null) ? null : securityManager.getUser( job.getUserId() );
         String templateLocation = new StringBuilder().append( TEMPLATE_LOCATION )
@@ -897,7 +1046,7 @@ public class SubscriptionManager {
     /**
      * Encapsulates all information required in order to process an email notification job.
      */
-    private class NotificationJob implements Delayed {
+    class NotificationJob implements Delayed {
 
         private RepositoryActionType action;
         private String userId;
@@ -1004,7 +1153,7 @@ public class SubscriptionManager {
          */
         @Override
         public long getDelay(TimeUnit unit) {
-            return delayExpiration - System.currentTimeMillis();
+            return unit.convert( delayExpiration - System.currentTimeMillis(), TimeUnit.MILLISECONDS );
         }
 
     }
@@ -0,0 +1,244 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.repocommon.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache whose entries expire after a configurable time-to-live. The cache is bounded in size; when the
+ * maximum number of entries is exceeded, the least-recently used entries are evicted first.
+ *
+ * @param <K> the type of the keys maintained by the cache
+ * @param <V> the type of the cached values
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K,CacheEntry<V>> entries = new LinkedHashMap<>( 16, 0.75f, true );
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile int maxSize;
+    private volatile long timeToLive;
+
+    /**
+     * Constructor that specifies the maximum size and time-to-live for the cache entries.
+     *
+     * @param maxSize the maximum number of entries that can be held by the cache
+     * @param timeToLive the amount of time (in milliseconds) that an entry should remain in the cache
+     */
+    public ExpiringCache(int maxSize, long timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the cached value for the specified key. If the entry does not exist or has expired, this method will
+     * return null.
+     *
+     * @param key the key of the entry to return
+     * @return V
+     */
+    public V get(K key) {
+        V value = null;
+
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get( key );
+
+            if (entry != null) {
+                if (entry.isExpired()) {
+                    entries.remove( key );
+
+                } else {
+                    value = entry.getValue();
+                }
+            }
+        }
+
+        if (value == null) {
+            missCount.incrementAndGet();
+
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Assigns the given value to the specified key in the cache. If the cache size exceeds its maximum, expired entries
+     * are purged first, followed by the least-recently used entries.
+     *
+     * @param key the key of the entry to assign
+     * @param value the value to be cached (null values are not cached)
+     */
+    public void put(K key, V value) {
+        if (value == null) {
+            remove( key );
+            return;
+        }
+        synchronized (entries) {
+            entries.put( key, new CacheEntry<>( value, System.currentTimeMillis() + timeToLive ) );
+
+            if (entries.size() > maxSize) {
+                purgeExpiredEntries();
+            }
+            Iterator<K> iterator = entries.keySet().iterator();
+
+            while ((entries.size() > maxSize) && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the specified entry from the cache.
+     *
+     * @param key the key of the entry to remove
+     */
+    public void remove(K key) {
+        synchronized (entries) {
+            entries.remove( key );
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held in the cache (including any that may have expired but have not yet
+     * been purged).
+     *
+     * @return int
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all expired entries from the cache. The caller must hold the lock on the entry map.
+     */
+    private void purgeExpiredEntries() {
+        entries.values().removeIf( CacheEntry::isExpired );
+    }
+
+    /**
+     * Returns the number of cache lookups that resulted in a hit.
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of cache lookups that resulted in a miss.
+     *
+     * @return long
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the maximum number of entries that can be held by the cache.
+     *
+     * @return int
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Assigns the maximum number of entries that can be held by the cache.
+     *
+     * @param maxSize the field value to assign
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the amount of time (in milliseconds) that an entry should remain in the cache.
+     *
+     * @return long
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Assigns the amount of time (in milliseconds) that an entry should remain in the cache. The new value will only
+     * apply to entries that are added after the assignment.
+     *
+     * @param timeToLive the field value to assign
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Encapsulates a single cached value and its expiration time.
+     *
+     * @param <V> the type of the cached value
+     */
+    private static class CacheEntry<V> {
+
+        private V value;
+        private long expirationTime;
+
+        /**
+         * Constructor that specifies the value and expiration time of the cache entry.
+         *
+         * @param value the cached value
+         * @param expirationTime the time at which the cache entry will expire
+         */
+        public CacheEntry(V value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        /**
+         * Returns the cached value.
+         *
+         * @return V
+         */
+        public V getValue() {
+            return value;
+        }
+
+        /**
+         * Returns true if this cache entry has expired.
+         *
+         * @return boolean
+         */
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= expirationTime;
+        }
+
+    }
+
+}
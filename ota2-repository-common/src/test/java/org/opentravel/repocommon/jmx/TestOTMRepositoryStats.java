@@ -16,12 +16,14 @@
 
 package org.opentravel.repocommon.jmx;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.opentravel.repocommon.jmx.OTMRepositoryStats;
+import org.opentravel.repocommon.util.ExpiringCache;
 
 import java.io.File;
 
@@ -93,4 +95,20 @@ public class TestOTMRepositoryStats {
         assertTrue( stats.isSvnUserConfigOk() );
     }
 
+    @Test
+    public void testConsolePageCacheStats() throws Exception {
+        ExpiringCache<String,String> pageCache = new ExpiringCache<>( 10, 60000L );
+
+        assertEquals( 0, stats.getConsolePageCacheSize() );
+        assertEquals( 0.0D, stats.getConsolePageCacheHitRate(), 0.0001D );
+
+        stats.setConsolePageCache( pageCache );
+        pageCache.put( "page1", "model1" );
+        pageCache.get( "page1" );
+        pageCache.get( "page2" );
+
+        assertEquals( 1, stats.getConsolePageCacheSize() );
+        assertEquals( 0.5D, stats.getConsolePageCacheHitRate(), 0.0001D );
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.opentravel.repocommon.security.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -121,6 +122,12 @@ public class TestJNDIAuthenticationProvider {
         assertEquals( "userPassword", ap.getUserPasswordAttribute() );
         assertEquals( "ignore", ap.getReferralStrategy() );
         assertEquals( 300000, ap.getAuthenticationCacheTimeout() );
+        assertEquals( 1000, ap.getAuthenticationCacheMaxSize() );
+        assertEquals( 8, ap.getConnectionPoolMaxActive() );
+        assertEquals( 4, ap.getConnectionPoolMaxIdle() );
+        assertEquals( 60000, ap.getConnectionPoolIdleTimeout() );
+        assertEquals( 10000, ap.getConnectionPoolWaitTimeout() );
+        assertEquals( 0, ap.getIdleConnectionCount() ); // no pool created for read-only metrics
     }
 
     @Test
@@ -139,6 +146,22 @@ public class TestJNDIAuthenticationProvider {
         assertTrue( authProvider.isValidUser( "testuser", "password" ) ); // retrieves from cached authentication
     }
 
+    @Test
+    public void testAuthenticationCacheAndPooling() throws Exception {
+        long cacheHits = authProvider.getAuthenticationCacheHitCount();
+        long directoryOps;
+
+        assertFalse( authProvider.isValidUser( "testuser", "wrong-password" ) );
+        directoryOps = authProvider.getDirectoryOperationCount();
+        assertTrue( directoryOps > 0 );
+        assertTrue( authProvider.getIdleConnectionCount() > 0 );
+
+        assertFalse( authProvider.isValidUser( "testuser", "wrong-password" ) ); // cached failure
+        assertEquals( cacheHits + 1, authProvider.getAuthenticationCacheHitCount() );
+        assertEquals( directoryOps, authProvider.getDirectoryOperationCount() );
+        assertTrue( authProvider.getAverageDirectoryLatency() >= 0.0 );
+    }
+
     @Test(expected = RepositorySecurityException.class)
     public void testUserLookupMode_missingConnectionPrincipal() throws Exception {
         JNDIAuthenticationProvider ap = new JNDIAuthenticationProvider();
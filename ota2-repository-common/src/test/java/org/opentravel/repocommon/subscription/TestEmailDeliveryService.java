@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.repocommon.subscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+
+import javax.mail.Message;
+import javax.mail.Message.RecipientType;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * Verifies the function of the <code>EmailDeliveryService</code> class using a local SMTP server.
+ */
+public class TestEmailDeliveryService {
+
+    private static final int SMTP_PORT = 1596;
+    private static final int MESSAGE_COUNT = 20;
+
+    private static GreenMail smtpServer;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        smtpServer = new GreenMail( new ServerSetup( SMTP_PORT, null, ServerSetup.PROTOCOL_SMTP ) );
+        smtpServer.start();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        smtpServer.stop();
+    }
+
+    @Test
+    public void testParallelDelivery() throws Exception {
+        SMTPConfig smtpConfig = new SMTPConfig();
+        EmailDeliveryService deliveryService;
+
+        smtpConfig.setSmtpHost( "localhost" );
+        smtpConfig.setSmtpPort( SMTP_PORT );
+        smtpConfig.setTimeout( 5000 );
+        deliveryService = new EmailDeliveryService( smtpConfig, 4, 5 );
+        deliveryService.start();
+
+        try {
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                deliveryService.submit( newMessage( deliveryService, i ) );
+            }
+            assertTrue( smtpServer.waitForIncomingEmail( 10000, MESSAGE_COUNT ) );
+
+        } finally {
+            deliveryService.shutdown( 5000 );
+        }
+        assertEquals( MESSAGE_COUNT, deliveryService.getDeliveredCount() );
+        assertEquals( 0, deliveryService.getFailedCount() );
+        assertEquals( 0, deliveryService.getPendingCount() );
+        assertTrue( deliveryService.getAverageDeliveryLatency() >= 0.0 );
+    }
+
+    @Test
+    public void testDeliveryFailure() throws Exception {
+        SMTPConfig smtpConfig = new SMTPConfig();
+        EmailDeliveryService deliveryService;
+
+        smtpConfig.setSmtpHost( "localhost" );
+        smtpConfig.setSmtpPort( SMTP_PORT + 1 ); // no server listening on this port
+        smtpConfig.setTimeout( 1000 );
+        deliveryService = new EmailDeliveryService( smtpConfig, 1, 1 );
+
+        deliveryService.submit( newMessage( deliveryService, 0 ) ); // not started - delivered synchronously
+        assertEquals( 0, deliveryService.getDeliveredCount() );
+        assertEquals( 1, deliveryService.getFailedCount() );
+        assertEquals( 0, deliveryService.getPendingCount() );
+    }
+
+    private Message newMessage(EmailDeliveryService deliveryService, int index) throws Exception {
+        Message message = new MimeMessage( deliveryService.getMailSession() );
+
+        message.setFrom( new InternetAddress( "sender@opentravel.org" ) );
+        message.addRecipient( RecipientType.TO, new InternetAddress( "user" + index + "@opentravel.org" ) );
+        message.setSubject( "Test Message " + index );
+        message.setContent( "<p>Test message body.</p>", "text/html" );
+        return message;
+    }
+
+}
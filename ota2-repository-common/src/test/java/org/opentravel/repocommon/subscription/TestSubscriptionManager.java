@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.repocommon.subscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * Verifies the coalescing of email notifications by the <code>SubscriptionManager</code> using a local SMTP server.
+ */
+public class TestSubscriptionManager {
+
+    private static final int SMTP_PORT = 1597;
+    private static final int JOB_COUNT = 5;
+    private static final long NOTIFICATION_DELAY = 500L;
+
+    private static GreenMail smtpServer;
+
+    @Rule
+    public TemporaryFolder repositoryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        smtpServer = new GreenMail( new ServerSetup( SMTP_PORT, null, ServerSetup.PROTOCOL_SMTP ) );
+        smtpServer.start();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        smtpServer.stop();
+    }
+
+    @Test
+    public void testNotificationBurstDigest() throws Exception {
+        SubscriptionManager subscriptionManager =
+            new TestableSubscriptionManager( new RepositoryManager( repositoryFolder.getRoot() ) );
+        SMTPConfig smtpConfig = new SMTPConfig();
+        MimeMessage[] messages;
+
+        smtpConfig.setSmtpHost( "localhost" );
+        smtpConfig.setSmtpPort( SMTP_PORT );
+        smtpConfig.setTimeout( 5000 );
+        smtpConfig.setSenderAddress( "repository@opentravel.org" );
+        subscriptionManager.setSmtpConfig( smtpConfig );
+        subscriptionManager.setNotificationDelay( NOTIFICATION_DELAY );
+        subscriptionManager.startNotificationListener();
+
+        try {
+            // Each job is queued shortly after the previous one, so every delay expires at a different time
+            for (int i = 0; i < JOB_COUNT; i++) {
+                subscriptionManager.notifySubscribedUsers( newRepositoryItem( i ), RepositoryActionType.PROMOTE,
+                    null );
+                Thread.sleep( NOTIFICATION_DELAY / (JOB_COUNT * 2) );
+            }
+            assertTrue( smtpServer.waitForIncomingEmail( 10000, 1 ) );
+            Thread.sleep( NOTIFICATION_DELAY * 2 ); // allow time for any stray messages to arrive
+
+        } finally {
+            subscriptionManager.shutdownNotificationListener();
+        }
+        messages = smtpServer.getReceivedMessages();
+
+        assertEquals( 1, messages.length );
+        assertTrue( messages[0].getSubject().contains( JOB_COUNT + " Repository Notifications" ) );
+        assertEquals( 0, subscriptionManager.getNotificationQueueDepth() );
+    }
+
+    private RepositoryItem newRepositoryItem(int index) {
+        RepositoryItemImpl item = new RepositoryItemImpl();
+
+        item.setBaseNamespace( "http://www.opentravel.org/ns/test" );
+        item.setLibraryName( "TestLibrary" + index );
+        item.setVersion( "1.0.0" );
+        return item;
+    }
+
+    /**
+     * Subscription manager that sends all notifications to a single subscriber without accessing the repository's
+     * security manager or search index.
+     */
+    private static class TestableSubscriptionManager extends SubscriptionManager {
+
+        public TestableSubscriptionManager(RepositoryManager manager) {
+            super( manager );
+        }
+
+        @Override
+        List<InternetAddress> getRecipients(NotificationJob job) {
+            try {
+                return Collections.singletonList( new InternetAddress( "subscriber@opentravel.org" ) );
+
+            } catch (Exception e) {
+                throw new IllegalStateException( e );
+            }
+        }
+
+        @Override
+        String buildMessageBody(NotificationJob job) {
+            return "<p>" + job.getAction() + ": " + job.getItem().getLibraryName() + "</p>";
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.repocommon.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Verifies the function of the <code>ExpiringCache</code> class.
+ */
+public class TestExpiringCache {
+
+    @Test
+    public void testHitAndMissCounts() throws Exception {
+        ExpiringCache<String,String> cache = new ExpiringCache<>( 10, 60000 );
+
+        cache.put( "key1", "value1" );
+        assertEquals( "value1", cache.get( "key1" ) );
+        assertNull( cache.get( "key2" ) );
+        assertEquals( 1, cache.getHitCount() );
+        assertEquals( 1, cache.getMissCount() );
+    }
+
+    @Test
+    public void testEntryExpiration() throws Exception {
+        ExpiringCache<String,String> cache = new ExpiringCache<>( 10, 50 );
+
+        cache.put( "key1", "value1" );
+        Thread.sleep( 100 );
+        assertNull( cache.get( "key1" ) );
+        assertEquals( 0, cache.size() );
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        ExpiringCache<String,String> cache = new ExpiringCache<>( 2, 60000 );
+
+        cache.put( "key1", "value1" );
+        cache.put( "key2", "value2" );
+        cache.get( "key1" ); // key2 is now the least-recently used entry
+        cache.put( "key3", "value3" );
+
+        assertEquals( 2, cache.size() );
+        assertEquals( "value1", cache.get( "key1" ) );
+        assertNull( cache.get( "key2" ) );
+        assertEquals( "value3", cache.get( "key3" ) );
+    }
+
+    @Test
+    public void testRemoveAndClear() throws Exception {
+        ExpiringCache<String,String> cache = new ExpiringCache<>( 10, 60000 );
+
+        cache.put( "key1", "value1" );
+        cache.put( "key2", "value2" );
+        cache.remove( "key1" );
+        assertNull( cache.get( "key1" ) );
+        cache.clear();
+        assertEquals( 0, cache.size() );
+    }
+
+}
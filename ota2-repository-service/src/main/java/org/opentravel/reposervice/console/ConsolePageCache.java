@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.reposervice.console;
+
+import org.opentravel.ns.ota2.security_v01_00.RepositoryPermission;
+import org.opentravel.repocommon.util.ExpiringCache;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server-side cache of the page model attributes that are derived from the search index for the repository console's
+ * item and entity pages. Each page model is keyed by the name of the page, the search index ID of the item being
+ * displayed, the permission tier of the user viewing the page, and the generation of the search index from which the
+ * model was constructed. Since the index generation changes each time the indexing agent commits a new batch, stale
+ * page models are never returned; the cache is also cleared whenever a commit notification is received so that the
+ * memory held by stale entries can be released.
+ */
+public class ConsolePageCache {
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final long DEFAULT_TIME_TO_LIVE = 3600000L; // 1 hour
+
+    private static ConsolePageCache defaultInstance = new ConsolePageCache( DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE );
+
+    private ExpiringCache<String,Map<String,Object>> pageModels;
+
+    /**
+     * Builder that populates the attributes of a page model when it is not already present in the cache.
+     */
+    @FunctionalInterface
+    public interface PageModelBuilder {
+
+        /**
+         * Adds the attributes of the page being displayed to the model provided.
+         *
+         * @param pageModel the page model to populate
+         * @throws RepositoryException thrown if an error occurs while retrieving the content of the page model
+         */
+        public void buildPageModel(Map<String,Object> pageModel) throws RepositoryException;
+
+    }
+
+    /**
+     * Constructor that specifies the maximum size and time-to-live for the cached page models.
+     *
+     * @param maxSize the maximum number of page models that can be held by the cache
+     * @param timeToLive the amount of time (in milliseconds) that a page model should remain in the cache
+     */
+    public ConsolePageCache(int maxSize, long timeToLive) {
+        this.pageModels = new ExpiringCache<>( maxSize, timeToLive );
+    }
+
+    /**
+     * Returns the default page cache instance for the repository console.
+     *
+     * @return ConsolePageCache
+     */
+    public static ConsolePageCache getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Returns the page model for the specified page, constructing and caching a new one if a model does not yet exist
+     * for the current index generation. The page models returned by this method are read-only.
+     *
+     * @param pageName the name of the console page being displayed
+     * @param searchIndexId the search index ID of the item or entity being displayed
+     * @param permission the permission tier of the user viewing the page (null if the page content does not vary by
+     *        user permission)
+     * @param indexGeneration the generation of the search index from which the page model will be constructed
+     * @param builder the builder that will populate the page model if it is not already cached
+     * @return Map&lt;String,Object&gt;
+     * @throws RepositoryException thrown if an error occurs while constructing a new page model
+     */
+    public Map<String,Object> getPageModel(String pageName, String searchIndexId, RepositoryPermission permission,
+        long indexGeneration, PageModelBuilder builder) throws RepositoryException {
+        String cacheKey = pageName + "|" + searchIndexId + "|" + permission + "|" + indexGeneration;
+        Map<String,Object> pageModel = pageModels.get( cacheKey );
+
+        if (pageModel == null) {
+            Map<String,Object> newModel = new HashMap<>();
+
+            builder.buildPageModel( newModel );
+            pageModel = Collections.unmodifiableMap( newModel );
+            pageModels.put( cacheKey, pageModel );
+        }
+        return pageModel;
+    }
+
+    /**
+     * Removes all page models from the cache.
+     */
+    public void invalidateAll() {
+        pageModels.clear();
+    }
+
+    /**
+     * Returns the underlying cache of page models (used to publish cache statistics via JMX).
+     *
+     * @return ExpiringCache&lt;String,Map&lt;String,Object&gt;&gt;
+     */
+    public ExpiringCache<String,Map<String,Object>> getCache() {
+        return pageModels;
+    }
+
+}
@@ -20,6 +20,7 @@ import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opentravel.ns.ota2.repositoryinfoext_v01_00.SubscriptionTarget;
+import org.opentravel.ns.ota2.security_v01_00.RepositoryPermission;
 import org.opentravel.repocommon.index.AssemblySearchResult;
 import org.opentravel.repocommon.index.EntitySearchResult;
 import org.opentravel.repocommon.index.FreeTextSearchService;
@@ -33,6 +34,7 @@ import org.opentravel.repocommon.repository.RepositoryComponentFactory;
 import org.opentravel.repocommon.security.RepositorySecurityManager;
 import org.opentravel.repocommon.security.UserPrincipal;
 import org.opentravel.repocommon.subscription.SubscriptionManager;
+import org.opentravel.reposervice.console.ConsolePageCache.PageModelBuilder;
 import org.opentravel.reposervice.util.DocumentationHelper;
 import org.opentravel.reposervice.util.FacetIdentityWrapper;
 import org.opentravel.reposervice.util.PageUtils;
@@ -89,6 +91,7 @@ public class ViewItemController extends BaseController {
     private static final String PAGE_UTILS = "pageUtils";
     private static final String LIBRARY = "library";
     private static final String ENTITY = "entity";
+    private static final String ENTITY_LOOKUP = "entityLookup";
     public static final String LIBRARY_NOT_AUTHORIZED = "You are not authorized to view the requested library.";
     public static final String RELEASE_NOT_AUTHORIZED = "You are not authorized to view the requested release.";
     public static final String ASSEMBLY_NOT_AUTHORIZED = "You are not authorized to view the requested assembly.";
@@ -125,29 +128,32 @@ public class ViewItemController extends BaseController {
             if (securityManager.isReadAuthorized( user, item )) {
                 FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
                 String releaseIndexId = IndexingUtils.getIdentityKey( item );
-                ReleaseSearchResult release = searchService.getRelease( releaseIndexId, true );
-
-                if (release == null) {
-                    throw new RepositoryException( "The requested release cannot be displayed." );
-                }
-                List<ReleaseMemberItem> principalLibraries =
-                    getReleaseMembers( release.getItemContent().getPrincipalMembers(), searchService );
-                List<ReleaseMemberItem> referencedLibraries =
-                    getReleaseMembers( release.getItemContent().getReferencedMembers(), searchService );
 
-                Collections.sort( principalLibraries, (ReleaseMemberItem lib1, ReleaseMemberItem lib2) -> lib1
-                    .getLibrary().getItemName().compareTo( lib2.getLibrary().getItemName() ) );
-                Collections.sort( referencedLibraries, (ReleaseMemberItem lib1, ReleaseMemberItem lib2) -> lib1
-                    .getLibrary().getItemName().compareTo( lib2.getLibrary().getItemName() ) );
+                model.addAllAttributes( getPageModel( "releaseView", releaseIndexId, user, item, pageModel -> {
+                    ReleaseSearchResult release = searchService.getRelease( releaseIndexId, true );
 
+                    if (release == null) {
+                        throw new RepositoryException( "The requested release cannot be displayed." );
+                    }
+                    List<ReleaseMemberItem> principalLibraries =
+                        getReleaseMembers( release.getItemContent().getPrincipalMembers(), searchService );
+                    List<ReleaseMemberItem> referencedLibraries =
+                        getReleaseMembers( release.getItemContent().getReferencedMembers(), searchService );
+
+                    Collections.sort( principalLibraries, (ReleaseMemberItem lib1, ReleaseMemberItem lib2) -> lib1
+                        .getLibrary().getItemName().compareTo( lib2.getLibrary().getItemName() ) );
+                    Collections.sort( referencedLibraries, (ReleaseMemberItem lib1, ReleaseMemberItem lib2) -> lib1
+                        .getLibrary().getItemName().compareTo( lib2.getLibrary().getItemName() ) );
+
+                    pageModel.put( "release", release );
+                    pageModel.put( "principalLibraries", principalLibraries );
+                    pageModel.put( "referencedLibraries", referencedLibraries );
+                    pageModel.put( "externalPrincipals", release.getExternalPrincipals() );
+                    pageModel.put( "externalReferences", release.getExternalReferences() );
+                } ) );
                 model.addAttribute( IMAGE_RESOLVER, new SearchResultImageResolver() );
                 model.addAttribute( PAGE_UTILS, new PageUtils() );
                 model.addAttribute( "item", item );
-                model.addAttribute( "release", release );
-                model.addAttribute( "principalLibraries", principalLibraries );
-                model.addAttribute( "referencedLibraries", referencedLibraries );
-                model.addAttribute( "externalPrincipals", release.getExternalPrincipals() );
-                model.addAttribute( "externalReferences", release.getExternalReferences() );
 
             } else {
                 setErrorMessage( RELEASE_NOT_AUTHORIZED, model );
@@ -308,13 +314,16 @@ public class ViewItemController extends BaseController {
             if (securityManager.isReadAuthorized( user, item )) {
                 FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
                 String libraryIndexId = IndexingUtils.getIdentityKey( item );
-                List<EntitySearchResult> entityList = searchService.getEntities( libraryIndexId, false );
 
-                Collections.sort( entityList, (EntitySearchResult entity1, EntitySearchResult entity2) -> entity1
-                    .getItemName().compareTo( entity2.getItemName() ) );
+                model.addAllAttributes( getPageModel( "libraryDictionary", libraryIndexId, user, item, pageModel -> {
+                    List<EntitySearchResult> entityList = searchService.getEntities( libraryIndexId, false );
+
+                    Collections.sort( entityList, (EntitySearchResult entity1, EntitySearchResult entity2) -> entity1
+                        .getItemName().compareTo( entity2.getItemName() ) );
+                    pageModel.put( "entityList", entityList );
+                } ) );
                 model.addAttribute( IMAGE_RESOLVER, new SearchResultImageResolver() );
                 model.addAttribute( PAGE_UTILS, new PageUtils() );
-                model.addAttribute( "entityList", entityList );
                 model.addAttribute( "item", item );
 
             } else {
@@ -359,19 +368,22 @@ public class ViewItemController extends BaseController {
             if (securityManager.isReadAuthorized( user, item )) {
                 FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
                 String indexItemId = IndexingUtils.getIdentityKey( item );
-                LibrarySearchResult indexItem = searchService.getLibrary( indexItemId, false );
-                List<LibrarySearchResult> usesLibraries =
-                    searchService.getLibraries( indexItem.getReferencedLibraryIds(), false );
-                List<LibrarySearchResult> directWhereUsed =
-                    searchService.getLibraryWhereUsed( indexItem, false, false );
-                List<LibrarySearchResult> indirectWhereUsed =
-                    searchService.getLibraryWhereUsed( indexItem, true, false );
-
-                purgeDirectWhereUsed( indirectWhereUsed, directWhereUsed );
-
-                model.addAttribute( "usesLibraries", usesLibraries );
-                model.addAttribute( DIRECT_WHERE_USED, directWhereUsed );
-                model.addAttribute( INDIRECT_WHERE_USED, indirectWhereUsed );
+
+                model.addAllAttributes( getPageModel( "libraryUsage", indexItemId, user, item, pageModel -> {
+                    LibrarySearchResult indexItem = searchService.getLibrary( indexItemId, false );
+                    List<LibrarySearchResult> usesLibraries =
+                        searchService.getLibraries( indexItem.getReferencedLibraryIds(), false );
+                    List<LibrarySearchResult> directWhereUsed =
+                        searchService.getLibraryWhereUsed( indexItem, false, false );
+                    List<LibrarySearchResult> indirectWhereUsed =
+                        searchService.getLibraryWhereUsed( indexItem, true, false );
+
+                    purgeDirectWhereUsed( indirectWhereUsed, directWhereUsed );
+
+                    pageModel.put( "usesLibraries", usesLibraries );
+                    pageModel.put( DIRECT_WHERE_USED, directWhereUsed );
+                    pageModel.put( INDIRECT_WHERE_USED, indirectWhereUsed );
+                } ) );
                 model.addAttribute( "item", item );
 
             } else {
@@ -771,24 +783,26 @@ public class ViewItemController extends BaseController {
             FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
             RepositorySecurityManager securityManager = getSecurityManager();
             String identityKey = IndexingUtils.getIdentityKey( namespace, localName, true );
-            EntitySearchResult indexEntity = searchService.getEntity( identityKey, true );
-            LibrarySearchResult indexLibrary =
-                (indexEntity == null) ? null : searchService.getLibrary( indexEntity.getOwningLibraryId(), false );
+            Map<String,Object> entityLookup = getEntityLookup( identityKey, searchService );
+            EntitySearchResult indexEntity = (EntitySearchResult) entityLookup.get( ENTITY );
+            LibrarySearchResult indexLibrary = (LibrarySearchResult) entityLookup.get( LIBRARY );
 
             if (indexLibrary != null) {
                 UserPrincipal user = getCurrentUser( session );
 
                 if (securityManager.isReadAuthorized( user, indexLibrary.getRepositoryItem() )) {
-                    ReferenceFinder refFinder = new ReferenceFinder( indexEntity, indexLibrary );
-                    Map<String,EntitySearchResult> entitiesByReference =
-                        refFinder.buildEntityReferenceMap( searchService );
-                    List<FacetIdentityWrapper> entityFacets = buildFacetList( indexEntity.getItemContent() );
-
+                    model.addAllAttributes(
+                        getPageModel( "entityDictionary", identityKey, user, indexLibrary.getRepositoryItem(),
+                            pageModel -> {
+                                ReferenceFinder refFinder = new ReferenceFinder( indexEntity, indexLibrary );
+
+                                pageModel.put( ENTITY_FACETS, buildFacetList( indexEntity.getItemContent() ) );
+                                pageModel.put( ENTITIES_BY_REFERENCE,
+                                    refFinder.buildEntityReferenceMap( searchService ) );
+                            } ) );
                     model.addAttribute( ENTITY, indexEntity );
                     model.addAttribute( LIBRARY, indexLibrary );
                     model.addAttribute( PAGE_UTILS, new PageUtils() );
-                    model.addAttribute( ENTITY_FACETS, entityFacets );
-                    model.addAttribute( ENTITIES_BY_REFERENCE, entitiesByReference );
                     model.addAttribute( DOC_HELPER, new DocumentationHelper( indexEntity ) );
                     model.addAttribute( IMAGE_RESOLVER, new SearchResultImageResolver() );
 
@@ -829,25 +843,28 @@ public class ViewItemController extends BaseController {
             FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
             RepositorySecurityManager securityManager = getSecurityManager();
             String identityKey = IndexingUtils.getIdentityKey( namespace, localName, true );
-            EntitySearchResult indexEntity = searchService.getEntity( identityKey, true );
-            LibrarySearchResult indexLibrary =
-                (indexEntity == null) ? null : searchService.getLibrary( indexEntity.getOwningLibraryId(), false );
+            Map<String,Object> entityLookup = getEntityLookup( identityKey, searchService );
+            EntitySearchResult indexEntity = (EntitySearchResult) entityLookup.get( ENTITY );
+            LibrarySearchResult indexLibrary = (LibrarySearchResult) entityLookup.get( LIBRARY );
 
             if (indexLibrary != null) {
                 UserPrincipal user = getCurrentUser( session );
 
                 if (securityManager.isReadAuthorized( user, indexLibrary.getRepositoryItem() )) {
-                    List<EntitySearchResult> directWhereUsed =
-                        searchService.getEntityWhereUsed( indexEntity, false, false );
-                    List<EntitySearchResult> indirectWhereUsed =
-                        searchService.getEntityWhereUsed( indexEntity, true, false );
-
-                    purgeDirectWhereUsed( indirectWhereUsed, directWhereUsed );
-
+                    model.addAllAttributes(
+                        getPageModel( "entityUsage", identityKey, user, indexLibrary.getRepositoryItem(), pageModel -> {
+                            List<EntitySearchResult> directWhereUsed =
+                                searchService.getEntityWhereUsed( indexEntity, false, false );
+                            List<EntitySearchResult> indirectWhereUsed =
+                                searchService.getEntityWhereUsed( indexEntity, true, false );
+
+                            purgeDirectWhereUsed( indirectWhereUsed, directWhereUsed );
+
+                            pageModel.put( DIRECT_WHERE_USED, directWhereUsed );
+                            pageModel.put( INDIRECT_WHERE_USED, indirectWhereUsed );
+                        } ) );
                     model.addAttribute( ENTITY, indexEntity );
                     model.addAttribute( LIBRARY, indexLibrary );
-                    model.addAttribute( DIRECT_WHERE_USED, directWhereUsed );
-                    model.addAttribute( INDIRECT_WHERE_USED, indirectWhereUsed );
                     model.addAttribute( IMAGE_RESOLVER, new SearchResultImageResolver() );
 
                 } else {
@@ -887,9 +904,9 @@ public class ViewItemController extends BaseController {
             FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
             RepositorySecurityManager securityManager = getSecurityManager();
             String identityKey = IndexingUtils.getIdentityKey( namespace, localName, true );
-            EntitySearchResult indexEntity = searchService.getEntity( identityKey, true );
-            LibrarySearchResult indexLibrary =
-                (indexEntity == null) ? null : searchService.getLibrary( indexEntity.getOwningLibraryId(), false );
+            Map<String,Object> entityLookup = getEntityLookup( identityKey, searchService );
+            EntitySearchResult indexEntity = (EntitySearchResult) entityLookup.get( ENTITY );
+            LibrarySearchResult indexLibrary = (LibrarySearchResult) entityLookup.get( LIBRARY );
 
             if (indexLibrary != null) {
                 UserPrincipal user = getCurrentUser( session );
@@ -1029,6 +1046,52 @@ public class ViewItemController extends BaseController {
         return memberItems;
     }
 
+    /**
+     * Returns the search index entity and its owning library for the specified entity identity key. The results are
+     * obtained from the console page cache if they are available for the current index generation. If the entity does
+     * not exist in the search index, the map that is returned will be empty.
+     * 
+     * @param identityKey the search index identity key of the entity to retrieve
+     * @param searchService the search service to use when retrieving the entity from the search index
+     * @return Map&lt;String,Object&gt;
+     * @throws RepositoryException thrown if the search index cannnot be accessed
+     */
+    private Map<String,Object> getEntityLookup(String identityKey, FreeTextSearchService searchService)
+        throws RepositoryException {
+        return ConsolePageCache.getDefault().getPageModel( ENTITY_LOOKUP, identityKey, null,
+            searchService.getIndexGeneration(), pageModel -> {
+                EntitySearchResult indexEntity = searchService.getEntity( identityKey, true );
+                LibrarySearchResult indexLibrary = (indexEntity == null) ? null
+                    : searchService.getLibrary( indexEntity.getOwningLibraryId(), false );
+
+                if (indexLibrary != null) {
+                    pageModel.put( ENTITY, indexEntity );
+                    pageModel.put( LIBRARY, indexLibrary );
+                }
+            } );
+    }
+
+    /**
+     * Returns the cached model attributes for the specified console page. If the attributes are not already cached for
+     * the current index generation and the user's permission tier, they will be constructed using the builder provided.
+     * 
+     * @param pageName the name of the console page being displayed
+     * @param searchIndexId the search index ID of the item or entity being displayed
+     * @param user the user who is viewing the page
+     * @param item the repository item that is displayed (or owns the entity that is displayed) on the page
+     * @param builder the builder that will populate the page model if it is not already cached
+     * @return Map&lt;String,Object&gt;
+     * @throws RepositoryException thrown if the page model cannot be constructed
+     */
+    private Map<String,Object> getPageModel(String pageName, String searchIndexId, UserPrincipal user,
+        RepositoryItem item, PageModelBuilder builder) throws RepositoryException {
+        FreeTextSearchService searchService = FreeTextSearchServiceFactory.getInstance();
+        RepositoryPermission permission = getSecurityManager().getAuthorization( user, item.getNamespace() );
+
+        return ConsolePageCache.getDefault().getPageModel( pageName, searchIndexId, permission,
+            searchService.getIndexGeneration(), builder );
+    }
+
     /**
      * Verifies that the given repository item matches the specified item type and throws an exception if it is not.
      * 
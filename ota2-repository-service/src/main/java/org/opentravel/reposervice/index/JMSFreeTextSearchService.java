@@ -31,6 +31,7 @@ import org.opentravel.repocommon.index.FreeTextSearchService;
 import org.opentravel.repocommon.index.IndexingConstants;
 import org.opentravel.repocommon.repository.RepositoryComponentFactory;
 import org.opentravel.repocommon.util.RepositoryJaxbContext;
+import org.opentravel.reposervice.console.ConsolePageCache;
 import org.opentravel.schemacompiler.repository.RepositoryItem;
 import org.opentravel.schemacompiler.repository.RepositoryManager;
 import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
@@ -257,7 +258,8 @@ public class JMSFreeTextSearchService extends FreeTextSearchService {
 
     /**
      * Background thread listener that will refresh the service's index reader when the remote indexing service sends a
-     * notification that the index directory has been updated.
+     * notification that the index directory has been updated. Any page models that were cached by the repository
+     * console for the previous index generation are discarded at the same time.
      */
     private class IndexCommitListener implements Runnable {
 
@@ -282,6 +284,7 @@ public class JMSFreeTextSearchService extends FreeTextSearchService {
                             .equals( IndexingConstants.RESPONSE_TYPE_COMMIT )) {
                             log.debug( "Commit notification received from indexing agent." );
                             refreshIndexReader();
+                            ConsolePageCache.getDefault().invalidateAll();
                         }
 
                     } catch (Exception e) {
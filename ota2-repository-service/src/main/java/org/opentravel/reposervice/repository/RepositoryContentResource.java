@@ -18,6 +18,7 @@ package org.opentravel.reposervice.repository;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
 import org.glassfish.jersey.media.multipart.FormDataParam;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -64,6 +65,7 @@ import org.opentravel.schemacompiler.version.VersionSchemeFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -71,6 +73,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
@@ -945,6 +948,194 @@ public class RepositoryContentResource {
         }
     }
 
+    /**
+     * Called by remote clients to publish a batch of new library content to the OTA2.0 repository. All of the items
+     * are published under a single change set and submitted for indexing as a single job; if the publication of any
+     * item fails, none of the items are published. The response contains the metadata of each published item, in the
+     * same order as the item list of the request.
+     * 
+     * @param itemListElement the XML element that describes each of the items to be published
+     * @param contentParts the raw content of each item being published (in the same order as the item list)
+     * @param authorizationHeader the header value that contains the encoded Basic Auth credentials
+     * @return JAXBElement&lt;LibraryInfoListType&gt;
+     * @throws RepositoryException thrown if the request cannot be processed
+     */
+    @POST
+    @Path("publish-batch")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @Produces(MediaType.TEXT_XML)
+    public JAXBElement<LibraryInfoListType> publishContentBatch(
+        @FormDataParam("items") JAXBElement<LibraryInfoListType> itemListElement,
+        @FormDataParam("fileContent") List<FormDataBodyPart> contentParts,
+        @HeaderParam("Authorization") String authorizationHeader) throws RepositoryException {
+        List<LibraryInfoType> itemList = getBatchItems( itemListElement, contentParts );
+        UserPrincipal user = securityManager.authenticateUser( authorizationHeader );
+        Map<String,String[]> lockResources = new TreeMap<>();
+
+        for (LibraryInfoType itemMetadata : itemList) {
+            if (!securityManager.isAuthorized( user, itemMetadata.getNamespace(), RepositoryPermission.WRITE )) {
+                throw new RepositorySecurityException(
+                    "The user does not have permission to publish the item: " + itemMetadata.getFilename() );
+            }
+
+            // As with single-item publications, proceed without the lock if the base namespace cannot be determined
+            try {
+                VersionScheme vScheme =
+                    VersionSchemeFactory.getInstance().getVersionScheme( itemMetadata.getVersionScheme() );
+                String baseNamespace = vScheme.getBaseNamespace( itemMetadata.getNamespace() );
+
+                lockResources.put( baseNamespace + "|" + itemMetadata.getFilename(),
+                    new String[] {baseNamespace, itemMetadata.getFilename()} );
+
+            } catch (VersionSchemeException e) {
+                // Ignore and proceed
+            }
+        }
+
+        List<LockableResource> lockedResources = acquireWriteLocks( lockResources );
+        try {
+            repositoryManager.getFileManager().setCurrentUserId( user.getUserId() );
+            List<RepositoryItem> publishedItems = repositoryManager.executeBatch( () -> {
+                List<RepositoryItem> items = new ArrayList<>();
+
+                for (int i = 0; i < itemList.size(); i++) {
+                    LibraryInfoType itemMetadata = itemList.get( i );
+
+                    items.add( repositoryManager.publish( contentParts.get( i ).getValueAs( InputStream.class ),
+                        itemMetadata.getFilename(), itemMetadata.getLibraryName(), itemMetadata.getNamespace(),
+                        itemMetadata.getVersion(), itemMetadata.getVersionScheme(),
+                        TLLibraryStatus.fromRepositoryStatus( itemMetadata.getStatus() ) ) );
+                }
+                return items;
+            } );
+
+            LibraryInfoListType metadataList = new LibraryInfoListType();
+
+            for (RepositoryItem item : publishedItems) {
+                metadataList.getLibraryInfo().add( RepositoryUtils.createItemMetadata( item ) );
+            }
+            indexRepositoryItems( publishedItems );
+            return objectFactory.createLibraryInfoList( metadataList );
+
+        } finally {
+            releaseWriteLocks( lockedResources );
+        }
+    }
+
+    /**
+     * Called by remote clients to update a batch of existing library content in the OTA2.0 repository. All of the items
+     * are committed under a single change set and submitted for indexing as a single job; if the commit of any item
+     * fails, none of the items are committed.
+     * 
+     * @param itemListElement the XML element that identifies each of the repository items to be committed
+     * @param contentParts the raw content of each item being committed (in the same order as the item list)
+     * @param remarks the commit remarks for the updated library content
+     * @param authorizationHeader the header value that contains the encoded Basic Auth credentials
+     * @return Response
+     * @throws RepositoryException thrown if the request cannot be processed
+     */
+    @POST
+    @Path("commit-batch")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    public Response commitContentBatch(@FormDataParam("items") JAXBElement<LibraryInfoListType> itemListElement,
+        @FormDataParam("fileContent") List<FormDataBodyPart> contentParts, @FormDataParam("remarks") String remarks,
+        @HeaderParam("Authorization") String authorizationHeader) throws RepositoryException {
+        List<LibraryInfoType> itemList = getBatchItems( itemListElement, contentParts );
+        UserPrincipal user = securityManager.authenticateUser( authorizationHeader );
+        Map<String,String[]> lockResources = new TreeMap<>();
+
+        for (LibraryInfoType itemIdentity : itemList) {
+            lockResources.put( itemIdentity.getBaseNamespace() + "|" + itemIdentity.getFilename(),
+                new String[] {itemIdentity.getBaseNamespace(), itemIdentity.getFilename()} );
+        }
+
+        List<LockableResource> lockedResources = acquireWriteLocks( lockResources );
+        try {
+            List<RepositoryItem> items = new ArrayList<>();
+
+            for (LibraryInfoType itemIdentity : itemList) {
+                LibraryInfoType itemMetadata = repositoryManager.getFileManager().loadLibraryMetadata(
+                    itemIdentity.getBaseNamespace(), itemIdentity.getFilename(), itemIdentity.getVersion() );
+                RepositoryItemImpl item = RepositoryUtils.createRepositoryItem( repositoryManager, itemMetadata );
+
+                if (!securityManager.isWriteAuthorized( user, item )) {
+                    throw new RepositorySecurityException( USER_NOT_AUTHORIZED );
+                }
+                items.add( item );
+            }
+            repositoryManager.getFileManager().setCurrentUserId( user.getUserId() );
+            repositoryManager.executeBatch( () -> {
+                for (int i = 0; i < items.size(); i++) {
+                    repositoryManager.commit( items.get( i ), contentParts.get( i ).getValueAs( InputStream.class ),
+                        remarks );
+                }
+                return null;
+            } );
+
+            indexRepositoryItems( items );
+            return Response.status( Response.Status.OK ).build();
+
+        } finally {
+            releaseWriteLocks( lockedResources );
+        }
+    }
+
+    /**
+     * Returns the list of items from the manifest of a batch request, after verifying that a content part has been
+     * provided for each item.
+     * 
+     * @param itemListElement the XML element that describes each of the items in the batch
+     * @param contentParts the content parts of the batch request
+     * @return List&lt;LibraryInfoType&gt;
+     * @throws RepositoryException thrown if the number of content parts does not match the number of items
+     */
+    private List<LibraryInfoType> getBatchItems(JAXBElement<LibraryInfoListType> itemListElement,
+        List<FormDataBodyPart> contentParts) throws RepositoryException {
+        List<LibraryInfoType> itemList = itemListElement.getValue().getLibraryInfo();
+
+        if ((contentParts == null) || (contentParts.size() != itemList.size())) {
+            throw new RepositoryException( "The number of content files does not match the number of batch items." );
+        }
+        return itemList;
+    }
+
+    /**
+     * Acquires write locks for each of the given resources. To avoid deadlocks with concurrent batch requests, the
+     * locks are always acquired in the sort order of the map's keys.
+     * 
+     * @param lockResources the sorted map of namespace/resource-name pairs to be locked
+     * @return List&lt;LockableResource&gt;
+     * @throws RepositoryException thrown if any of the locks cannot be acquired
+     */
+    private List<LockableResource> acquireWriteLocks(Map<String,String[]> lockResources) throws RepositoryException {
+        List<LockableResource> lockedResources = new ArrayList<>();
+        boolean success = false;
+        try {
+            for (String[] resource : lockResources.values()) {
+                lockedResources.add( RepositoryLockManager.getInstance().acquireWriteLock( resource[0], resource[1] ) );
+            }
+            success = true;
+            return lockedResources;
+
+        } finally {
+            if (!success) {
+                releaseWriteLocks( lockedResources );
+            }
+        }
+    }
+
+    /**
+     * Releases the write locks for each of the given resources.
+     * 
+     * @param lockedResources the list of resources to be released
+     * @throws RepositoryException thrown if any of the locks cannot be released
+     */
+    private void releaseWriteLocks(List<LockableResource> lockedResources) throws RepositoryException {
+        for (LockableResource lockedResource : lockedResources) {
+            RepositoryLockManager.getInstance().releaseWriteLock( lockedResource );
+        }
+    }
+
     /**
      * Called by remote clients to obtain a lock for an item in the OTA2.0 repository.
      * 
@@ -1613,6 +1804,24 @@ public class RepositoryContentResource {
         indexRepositoryItem( item, false );
     }
 
+    /**
+     * Submits the given repository items for indexing by the <code>FreeTextSearchService</code> as a single job.
+     * 
+     * @param items the repository items to be indexed
+     */
+    private void indexRepositoryItems(List<RepositoryItem> items) {
+        FreeTextSearchService service = FreeTextSearchServiceFactory.getInstance();
+
+        if ((service != null) && !items.isEmpty()) {
+            try {
+                service.indexRepositoryItems( items );
+
+            } catch (Exception e) {
+                log.warn( "Error submitting batch of " + items.size() + " repository items for indexing.", e );
+            }
+        }
+    }
+
     /**
      * Submits the given repository item for indexing by the <code>FreeTextSearchService</code>.
      * 
@@ -25,8 +25,10 @@ import org.opentravel.repocommon.index.FreeTextSearchServiceFactory;
 import org.opentravel.repocommon.jmx.OTMRepositoryStats;
 import org.opentravel.repocommon.repository.RepositoryComponentFactory;
 import org.opentravel.repocommon.subscription.SubscriptionManager;
+import org.opentravel.reposervice.console.ConsolePageCache;
 import org.opentravel.reposervice.notification.NotificationServiceFactory;
 import org.opentravel.reposervice.util.RepositoryLogoImage;
+import org.opentravel.schemacompiler.repository.RepositoryHistoryManager;
 
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
@@ -107,6 +109,7 @@ public class RepositoryServlet extends ServletContainer {
 
         // Shut down the notification service
         NotificationServiceFactory.shutdown();
+        RepositoryHistoryManager.clearReconstructedContent();
         OTMRepositoryStats.getInstance().setRepositoryAvailable( false );
     }
 
@@ -123,6 +126,7 @@ public class RepositoryServlet extends ServletContainer {
             repoStats.setRepositoryLocation( rcf.getRepositoryLocation() );
             repoStats.setSearchIndexLocation( rcf.getSearchIndexLocation() );
             repoStats.setSvnServerLocation( rcf.getSvnRepositoryLocation() );
+            repoStats.setConsolePageCache( ConsolePageCache.getDefault().getCache() );
             mbs.registerMBean( repoStats, repoStatsName );
 
         } catch (Exception e) {
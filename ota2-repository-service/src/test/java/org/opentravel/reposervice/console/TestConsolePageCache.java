@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.reposervice.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opentravel.ns.ota2.security_v01_00.RepositoryPermission;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies the functions of the <code>ConsolePageCache</code> class.
+ */
+public class TestConsolePageCache {
+
+    private ConsolePageCache pageCache;
+    private AtomicInteger buildCount;
+
+    @Before
+    public void setup() {
+        pageCache = new ConsolePageCache( 10, 60000L );
+        buildCount = new AtomicInteger();
+    }
+
+    @Test
+    public void testCachedPageModel() throws Exception {
+        Map<String,Object> model1 = getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 1L );
+        Map<String,Object> model2 = getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 1L );
+
+        assertSame( model1, model2 );
+        assertEquals( 1, buildCount.get() );
+        assertEquals( 1, model1.get( "buildNumber" ) );
+        assertEquals( 1L, pageCache.getCache().getHitCount() );
+    }
+
+    @Test
+    public void testPageModelKeys() throws Exception {
+        getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 1L );
+        getPageModel( "libraryDictionary", RepositoryPermission.READ_FINAL, 1L );
+        getPageModel( "libraryUsage", RepositoryPermission.WRITE, 1L );
+        getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 2L );
+
+        assertEquals( 4, buildCount.get() );
+        assertEquals( 4, pageCache.getCache().size() );
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 1L );
+        pageCache.invalidateAll();
+        getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 1L );
+
+        assertEquals( 2, buildCount.get() );
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testPageModelReadOnly() throws Exception {
+        getPageModel( "libraryUsage", RepositoryPermission.READ_FINAL, 1L ).put( "newAttribute", "value" );
+    }
+
+    private Map<String,Object> getPageModel(String pageName, RepositoryPermission permission, long indexGeneration)
+        throws Exception {
+        return pageCache.getPageModel( pageName, "LIB:test-library", permission, indexGeneration,
+            pageModel -> pageModel.put( "buildNumber", buildCount.incrementAndGet() ) );
+    }
+
+}
@@ -33,6 +33,9 @@ import org.opentravel.schemacompiler.task.AssemblyModelType;
 import org.opentravel.schemacompiler.task.CommonCompilerTaskOptions;
 import org.opentravel.schemacompiler.task.CompileAllCompilerTask;
 import org.opentravel.schemacompiler.task.CompileAllTaskOptions;
+import org.opentravel.schemacompiler.task.CompilerMetrics;
+import org.opentravel.schemacompiler.task.CompilerPhaseMetrics;
+import org.opentravel.schemacompiler.task.CompilerStats;
 import org.opentravel.schemacompiler.task.TaskFactory;
 import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.FindingMessageFormat;
@@ -190,6 +193,13 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
     @Parameter(defaultValue = "false")
     protected boolean debug;
 
+    /**
+     * The location of the file to which a JSON report of the time and memory consumed by each compiler phase should be
+     * written. If omitted, compiler metrics are not collected.
+     */
+    @Parameter(property = "ota2.metricsReport")
+    protected File metricsReport;
+
     private RepositoryManager repositoryManager;
 
     /**
@@ -234,6 +244,7 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
 
                 // Execute the compilation and return
                 CompileAllCompilerTask compilerTask = TaskFactory.getTask( CompileAllCompilerTask.class );
+                CompilerMetrics metrics = (metricsReport == null) ? null : new CompilerMetrics();
                 ValidationFindings findings = null;
                 Log log = getLog();
 
@@ -241,6 +252,7 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
                 compilerTask.applyTaskOptions( this );
                 compilerTask.setRepositoryManager( repositoryManager );
                 compilerTask.setModelType( assemblyModelType );
+                compilerTask.setCompilerMetrics( metrics );
 
                 if (libraryFile != null) {
                     findings = compilerTask.compileOutput( libraryFile );
@@ -248,6 +260,9 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
                 } else if (repositoryItem != null) {
                     findings = compilerTask.compileOutput( repositoryItem );
                 }
+                if (metrics != null) {
+                    reportMetrics( metrics );
+                }
                 displayValidationFindings( findings );
 
             } catch (Exception e) {
@@ -272,6 +287,28 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
         }
     }
 
+    /**
+     * Displays a summary of the compiler metrics, writes the full report to the configured report file, and publishes
+     * the metrics to the <code>CompilerStats</code> MBean for monitoring of long-running build processes.
+     * 
+     * @param metrics the compiler metrics to report
+     * @throws IOException thrown if the metrics report cannot be written
+     */
+    private void reportMetrics(CompilerMetrics metrics) throws IOException {
+        Log log = getLog();
+
+        log.info( "Compiler metrics:" );
+        for (CompilerPhaseMetrics phaseMetrics : metrics.getPhaseMetrics()) {
+            log.info( "  " + phaseMetrics );
+        }
+        log.info( "  " + metrics.getTotalMetrics() );
+        metrics.writeReport( metricsReport );
+        log.info( "Compiler metrics report: " + metricsReport.getAbsolutePath() );
+
+        CompilerStats.getInstance().recordCompilation( metrics );
+        CompilerStats.register();
+    }
+
     /**
      * Displays the validation findings and throws an exception if any errors exist.
      * 
@@ -397,6 +434,8 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
         log.info( "exampleMaxRepeat              = " + exampleMaxRepeat );
         log.info( "exampleMaxDepth               = " + exampleMaxDepth );
         log.info( "suppressOptionalFields        = " + suppressOptionalFields );
+        log.info( "metricsReport                 = "
+            + ((metricsReport == null) ? NULL_VALUE : metricsReport.getAbsolutePath()) );
     }
 
     /**
@@ -16,6 +16,8 @@
 
 package org.opentravel.schemacompiler.mvn;
 
+import static org.junit.Assert.assertTrue;
+
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.MojoRule;
 import org.apache.maven.plugin.testing.SilentLog;
@@ -49,6 +51,19 @@ public class TestOTA2SchemaCompilerMojo {
         executeMojo( config );
     }
 
+    @Test
+    public void testCompileLibraryWithMetrics() throws Exception {
+        File pomFile = new File( testProjectsFolder, "/test-project-1/pom.xml" );
+        File reportFile =
+            new File( System.getProperty( "user.dir" ), "/target/test-output/test-project-1/compiler-metrics.json" );
+        PlexusConfiguration config = rule.extractPluginConfiguration( "ota2-schema-compiler", pomFile );
+
+        reportFile.delete();
+        config.getChild( "metricsReport" ).setValue( reportFile.getAbsolutePath() );
+        executeMojo( config );
+        assertTrue( reportFile.exists() );
+    }
+
     @Test
     public void testCompileManagedRelease() throws Exception {
         File pomFile = new File( testProjectsFolder, "/test-project-2/pom.xml" );
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.model.TLModel;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Base class for benchmarks that operate on a synthetic model. Before the first iteration of each trial, a model of
+ * the requested size is generated and its libraries are saved to a temporary work folder that is deleted when the
+ * trial completes. Each trial runs in a forked JVM with a fixed heap so that results are comparable between runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public abstract class AbstractModelBenchmark {
+
+    @Param({"4", "16"})
+    public int libraryCount;
+
+    @Param({"50"})
+    public int entitiesPerLibrary;
+
+    @Param({"20140101"})
+    public long seed;
+
+    protected File workFolder;
+    protected File libraryFolder;
+    protected TLModel model;
+
+    /**
+     * Generates the model for the current trial and saves its libraries to the work folder.
+     *
+     * @throws Exception thrown if the model cannot be generated or saved
+     */
+    @Setup(Level.Trial)
+    public void setupModel() throws Exception {
+        workFolder = Files.createTempDirectory( "otm-benchmark" ).toFile();
+        libraryFolder = new File( workFolder, "libraries" );
+        libraryFolder.mkdirs();
+        model = new SyntheticModelGenerator( libraryCount, entitiesPerLibrary, seed )
+            .generateAndSaveModel( libraryFolder );
+        setupBenchmark();
+    }
+
+    /**
+     * Called after the model has been generated to perform any additional setup that is required by the benchmark. By
+     * default, this method takes no action.
+     *
+     * @throws Exception thrown if an error occurs during setup
+     */
+    protected void setupBenchmark() throws Exception {}
+
+    /**
+     * Releases the resources of the benchmark and deletes the work folder and all of its contents.
+     *
+     * @throws IOException thrown if the work folder cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDownModel() throws IOException {
+        tearDownBenchmark();
+
+        if (workFolder != null) {
+            deleteFolder( workFolder );
+            workFolder = null;
+        }
+        model = null;
+    }
+
+    /**
+     * Called before the work folder is deleted to release any resources that were allocated by the benchmark. By
+     * default, this method takes no action.
+     *
+     * @throws IOException thrown if an error occurs while releasing resources
+     */
+    protected void tearDownBenchmark() throws IOException {}
+
+    /**
+     * Returns a new, empty folder with the specified name in the work folder. Any existing folder with the same name is
+     * deleted along with its contents.
+     *
+     * @param folderName the name of the folder to create
+     * @return File
+     * @throws IOException thrown if the folder cannot be created
+     */
+    protected File newOutputFolder(String folderName) throws IOException {
+        File outputFolder = new File( workFolder, folderName );
+
+        deleteFolder( outputFolder );
+        outputFolder.mkdirs();
+        return outputFolder;
+    }
+
+    /**
+     * Recursively deletes the given folder and all of its contents.
+     *
+     * @param folder the folder to delete
+     * @throws IOException thrown if the folder cannot be deleted
+     */
+    protected static void deleteFolder(File folder) throws IOException {
+        if (folder.exists()) {
+            try (Stream<Path> paths = Files.walk( folder.toPath() )) {
+                for (Path path : (Iterable<Path>) paths.sorted( Comparator.reverseOrder() )::iterator) {
+                    Files.delete( path );
+                }
+            }
+        }
+    }
+
+}
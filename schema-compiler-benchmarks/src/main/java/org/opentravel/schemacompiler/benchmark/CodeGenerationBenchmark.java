@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.codegen.CodeGenerationContext;
+import org.opentravel.schemacompiler.codegen.CodeGenerationException;
+import org.opentravel.schemacompiler.codegen.CodeGenerator;
+import org.opentravel.schemacompiler.codegen.CodeGeneratorFactory;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLResource;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the time required to generate XML schemas, JSON schemas and OpenAPI specifications for all of the libraries
+ * of a synthetic model. Each benchmark writes its output to a separate folder of the work folder, replacing the files
+ * that were generated by the previous invocation.
+ */
+public class CodeGenerationBenchmark extends AbstractModelBenchmark {
+
+    private File xsdOutputFolder;
+    private File jsonOutputFolder;
+    private File openApiOutputFolder;
+
+    /**
+     * @see org.opentravel.schemacompiler.benchmark.AbstractModelBenchmark#setupBenchmark()
+     */
+    @Override
+    protected void setupBenchmark() throws Exception {
+        xsdOutputFolder = newOutputFolder( "xsd" );
+        jsonOutputFolder = newOutputFolder( "json" );
+        openApiOutputFolder = newOutputFolder( "openapi" );
+    }
+
+    /**
+     * Generates an XML schema for each library of the model.
+     *
+     * @return List&lt;File&gt;
+     * @throws CodeGenerationException thrown if an error occurs during code generation
+     */
+    @Benchmark
+    public List<File> generateXmlSchemas() throws CodeGenerationException {
+        return generateLibraryOutput( CodeGeneratorFactory.XSD_TARGET_FORMAT, xsdOutputFolder );
+    }
+
+    /**
+     * Generates a JSON schema for each library of the model.
+     *
+     * @return List&lt;File&gt;
+     * @throws CodeGenerationException thrown if an error occurs during code generation
+     */
+    @Benchmark
+    public List<File> generateJsonSchemas() throws CodeGenerationException {
+        return generateLibraryOutput( CodeGeneratorFactory.JSON_SCHEMA_TARGET_FORMAT, jsonOutputFolder );
+    }
+
+    /**
+     * Generates a single-file OpenAPI specification for each resource of the model.
+     *
+     * @return List&lt;File&gt;
+     * @throws CodeGenerationException thrown if an error occurs during code generation
+     */
+    @Benchmark
+    public List<File> generateOpenApiSpecifications() throws CodeGenerationException {
+        CodeGenerationContext context = newContext( openApiOutputFolder );
+        List<File> outputFiles = new ArrayList<>();
+
+        context.setValue( CodeGenerationContext.CK_ENABLE_SINGLE_FILE, "true" );
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            for (TLResource resource : library.getResourceTypes()) {
+                CodeGenerator<TLResource> generator = CodeGeneratorFactory.getInstance()
+                    .newCodeGenerator( CodeGeneratorFactory.OPENAPI_TARGET_FORMAT, TLResource.class );
+
+                outputFiles.addAll( generator.generateOutput( resource, context ) );
+            }
+        }
+        return outputFiles;
+    }
+
+    /**
+     * Generates output in the specified format for each library of the model.
+     *
+     * @param targetFormat the target format of the output to generate
+     * @param outputFolder the folder to which the output files should be written
+     * @return List&lt;File&gt;
+     * @throws CodeGenerationException thrown if an error occurs during code generation
+     */
+    private List<File> generateLibraryOutput(String targetFormat, File outputFolder) throws CodeGenerationException {
+        CodeGenerationContext context = newContext( outputFolder );
+        List<File> outputFiles = new ArrayList<>();
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            CodeGenerator<TLLibrary> generator =
+                CodeGeneratorFactory.getInstance().newCodeGenerator( targetFormat, TLLibrary.class );
+
+            outputFiles.addAll( generator.generateOutput( library, context ) );
+        }
+        return outputFiles;
+    }
+
+    /**
+     * Returns a new code generation context that directs output to the given folder.
+     *
+     * @param outputFolder the folder to which the output files should be written
+     * @return CodeGenerationContext
+     */
+    private CodeGenerationContext newContext(File outputFolder) {
+        CodeGenerationContext context = new CodeGenerationContext();
+
+        context.setValue( CodeGenerationContext.CK_OUTPUT_FOLDER, outputFolder.getAbsolutePath() );
+        return context;
+    }
+
+}
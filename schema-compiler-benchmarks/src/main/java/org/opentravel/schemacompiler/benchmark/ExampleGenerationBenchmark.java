@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.codegen.CodeGenerationException;
+import org.opentravel.schemacompiler.codegen.example.ExampleBuilder;
+import org.opentravel.schemacompiler.codegen.example.ExampleDocumentBuilder;
+import org.opentravel.schemacompiler.codegen.example.ExampleGenerationCache;
+import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions;
+import org.opentravel.schemacompiler.codegen.example.ExampleJsonBuilder;
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.validate.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Measures the time required to generate XML and JSON examples for every core object and business object of a
+ * synthetic model. As in a compilation pass, the validation and navigation results of each invocation are shared by
+ * all of its example builders using a new <code>ExampleGenerationCache</code>.
+ */
+public class ExampleGenerationBenchmark extends AbstractModelBenchmark {
+
+    private List<NamedEntity> exampleEntities;
+    private ExampleGeneratorOptions options;
+
+    /**
+     * @see org.opentravel.schemacompiler.benchmark.AbstractModelBenchmark#setupBenchmark()
+     */
+    @Override
+    protected void setupBenchmark() {
+        exampleEntities = new ArrayList<>();
+        options = new ExampleGeneratorOptions();
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            exampleEntities.addAll( library.getCoreObjectTypes() );
+            exampleEntities.addAll( library.getBusinessObjectTypes() );
+        }
+    }
+
+    /**
+     * Generates an XML example for each example entity.
+     *
+     * @return int
+     * @throws ValidationException thrown if one of the example entities contains validation errors
+     * @throws CodeGenerationException thrown if an error occurs during example generation
+     */
+    @Benchmark
+    public int generateXmlExamples() throws ValidationException, CodeGenerationException {
+        return generateExamples( () -> new ExampleDocumentBuilder( options ) );
+    }
+
+    /**
+     * Generates a JSON example for each example entity.
+     *
+     * @return int
+     * @throws ValidationException thrown if one of the example entities contains validation errors
+     * @throws CodeGenerationException thrown if an error occurs during example generation
+     */
+    @Benchmark
+    public int generateJsonExamples() throws ValidationException, CodeGenerationException {
+        return generateExamples( () -> new ExampleJsonBuilder( options ) );
+    }
+
+    /**
+     * Generates an example for each example entity using builders from the given supplier, and returns the total
+     * length of the example content that was produced.
+     *
+     * @param builderSupplier supplies a new example builder for each example entity
+     * @return int
+     * @throws ValidationException thrown if one of the example entities contains validation errors
+     * @throws CodeGenerationException thrown if an error occurs during example generation
+     */
+    private int generateExamples(Supplier<ExampleBuilder<?>> builderSupplier)
+        throws ValidationException, CodeGenerationException {
+        ExampleGenerationCache generationCache = new ExampleGenerationCache();
+        int contentLength = 0;
+
+        for (NamedEntity entity : exampleEntities) {
+            ExampleBuilder<?> builder = builderSupplier.get();
+
+            builder.setModelElement( entity ).setGenerationCache( generationCache );
+            contentLength += builder.buildString().length();
+        }
+        return contentLength;
+    }
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.repocommon.index.FreeTextSearchService;
+import org.opentravel.repocommon.index.RealTimeFreeTextSearchService;
+import org.opentravel.repocommon.index.SearchResult;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+import org.opentravel.schemacompiler.util.URLUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Measures the time required for the <code>FreeTextSearchService</code> to execute keyword queries. The libraries of
+ * the synthetic model are published to a new local repository in the work folder, and a search index for the
+ * repository is built before the first iteration of each trial.
+ */
+public class FreeTextSearchBenchmark extends AbstractModelBenchmark {
+
+    @Param({"reservation", "traveler payment"})
+    public String keywords;
+
+    @Param({"false", "true"})
+    public boolean latestVersionsOnly;
+
+    private FreeTextSearchService searchService;
+
+    /**
+     * @see org.opentravel.schemacompiler.benchmark.AbstractModelBenchmark#setupBenchmark()
+     */
+    @Override
+    protected void setupBenchmark() throws Exception {
+        RepositoryManager repositoryManager = new RepositoryManager( newOutputFolder( "repository" ) );
+
+        repositoryManager.createRootNamespace( SyntheticModelGenerator.ROOT_NAMESPACE );
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            publishLibrary( library, repositoryManager );
+        }
+        searchService = new RealTimeFreeTextSearchService( newOutputFolder( "search-index" ), repositoryManager );
+        searchService.startService();
+        searchService.indexAllRepositoryItems();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.benchmark.AbstractModelBenchmark#tearDownBenchmark()
+     */
+    @Override
+    protected void tearDownBenchmark() throws IOException {
+        if (searchService != null) {
+            searchService.stopService();
+            searchService = null;
+        }
+    }
+
+    /**
+     * Executes a free-text search for the current keywords.
+     *
+     * @return List&lt;SearchResult&lt;Object&gt;&gt;
+     * @throws RepositoryException thrown if an error occurs while executing the search
+     */
+    @Benchmark
+    public List<SearchResult<Object>> search() throws RepositoryException {
+        return searchService.search( keywords, null, latestVersionsOnly, false );
+    }
+
+    /**
+     * Publishes the saved content of the given library to the repository.
+     *
+     * @param library the library to publish
+     * @param repositoryManager the repository manager to which the library should be published
+     * @throws IOException thrown if the library content cannot be read
+     * @throws RepositoryException thrown if the library cannot be published
+     */
+    private void publishLibrary(TLLibrary library, RepositoryManager repositoryManager)
+        throws IOException, RepositoryException {
+        File libraryFile = URLUtils.toFile( library.getLibraryUrl() );
+
+        repositoryManager.publish( new FileInputStream( libraryFile ), libraryFile.getName(), library.getName(),
+            library.getNamespace(), library.getVersion(), library.getVersionScheme(), library.getStatus() );
+    }
+
+}
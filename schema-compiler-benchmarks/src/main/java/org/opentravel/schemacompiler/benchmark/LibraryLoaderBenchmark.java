@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.loader.LibraryInputSource;
+import org.opentravel.schemacompiler.loader.LibraryModelLoader;
+import org.opentravel.schemacompiler.loader.impl.LibraryStreamInputSource;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.util.URLUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the time required for the <code>LibraryModelLoader</code> to load all of the libraries of a synthetic model
+ * from the file system into a new <code>TLModel</code>.
+ */
+public class LibraryLoaderBenchmark extends AbstractModelBenchmark {
+
+    private List<File> libraryFiles;
+
+    /**
+     * @see org.opentravel.schemacompiler.benchmark.AbstractModelBenchmark#setupBenchmark()
+     */
+    @Override
+    protected void setupBenchmark() {
+        libraryFiles = new ArrayList<>();
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            libraryFiles.add( URLUtils.toFile( library.getLibraryUrl() ) );
+        }
+    }
+
+    /**
+     * Loads all of the saved libraries into a new model.
+     *
+     * @return TLModel
+     * @throws Exception thrown if an error occurs while loading the libraries
+     */
+    @Benchmark
+    public TLModel loadLibraries() throws Exception {
+        LibraryModelLoader<InputStream> modelLoader = new LibraryModelLoader<>();
+
+        for (File libraryFile : libraryFiles) {
+            LibraryInputSource<InputStream> libraryInput = new LibraryStreamInputSource( libraryFile );
+
+            modelLoader.loadLibraryModel( libraryInput );
+        }
+        return modelLoader.getLibraryModel();
+    }
+
+}
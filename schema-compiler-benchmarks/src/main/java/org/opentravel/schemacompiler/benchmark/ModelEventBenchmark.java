@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventBatchListener;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLCoreObject;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of model event dispatch during a large bulk edit. Each invocation creates a new model and adds a
+ * large number of core objects and attributes to it, with the resulting events delivered either individually or in a
+ * single batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ModelEventBenchmark {
+
+    private static final int ATTRIBUTES_PER_ENTITY = 10;
+
+    @Param({"2000"})
+    public int entityCount;
+
+    @Param({"false", "true"})
+    public boolean batched;
+
+    /**
+     * Creates a new model and performs the bulk edit.
+     *
+     * @return long
+     */
+    @Benchmark
+    public long bulkEdit() {
+        TLModel model = new TLModel();
+        TLLibrary library = new TLLibrary();
+        TLSimple simpleType = new TLSimple();
+        CountingListener listener = new CountingListener();
+
+        library.setNamespace( "http://www.opentravel.org/schemas/benchmark/v1" );
+        library.setName( "BenchmarkLibrary" );
+        library.setPrefix( "bm" );
+        model.addLibrary( library );
+        simpleType.setName( "BenchmarkString" );
+        library.addNamedMember( simpleType );
+        model.addListener( listener );
+
+        if (batched) {
+            model.startEventBatch();
+        }
+        for (int i = 0; i < entityCount; i++) {
+            TLCoreObject core = new TLCoreObject();
+
+            core.setName( "BenchmarkCore" + i );
+            library.addNamedMember( core );
+
+            for (int j = 0; j < ATTRIBUTES_PER_ENTITY; j++) {
+                TLAttribute attribute = new TLAttribute();
+
+                core.getSummaryFacet().addAttribute( attribute );
+                attribute.setName( "attr" + j );
+                attribute.setType( simpleType );
+            }
+        }
+        if (batched) {
+            model.endEventBatch();
+        }
+        return listener.eventCount;
+    }
+
+    /**
+     * Listener that counts the events it receives.
+     */
+    private static class CountingListener implements ModelEventBatchListener<ModelEvent<Object>,Object> {
+
+        private long eventCount;
+
+        /**
+         * @see org.opentravel.schemacompiler.event.ModelEventListener#processModelEvent(org.opentravel.schemacompiler.event.ModelEvent)
+         */
+        @Override
+        public void processModelEvent(ModelEvent<Object> event) {
+            eventCount++;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.event.ModelEventBatchListener#processModelEvents(java.util.List)
+         */
+        @Override
+        public void processModelEvents(List<ModelEvent<Object>> events) {
+            eventCount += events.size();
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.event.ModelEventListener#getEventClass()
+         */
+        @Override
+        public Class<?> getEventClass() {
+            return null;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.event.ModelEventListener#getSourceObjectClass()
+         */
+        @Override
+        public Class<Object> getSourceObjectClass() {
+            return null;
+        }
+
+    }
+
+}
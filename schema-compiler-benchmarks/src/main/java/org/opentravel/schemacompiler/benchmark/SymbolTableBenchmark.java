@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.transform.SymbolTable;
+import org.opentravel.schemacompiler.transform.symbols.SymbolTableFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures the time required to construct a <code>SymbolTable</code> for all of the libraries of a synthetic model.
+ */
+public class SymbolTableBenchmark extends AbstractModelBenchmark {
+
+    /**
+     * Constructs a new symbol table from the model.
+     *
+     * @return SymbolTable
+     */
+    @Benchmark
+    public SymbolTable buildSymbolTable() {
+        return SymbolTableFactory.newSymbolTableFromModel( model );
+    }
+
+}
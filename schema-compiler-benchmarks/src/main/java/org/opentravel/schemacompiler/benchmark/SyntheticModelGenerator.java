@@ -0,0 +1,468 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.ic.ImportManagementIntegrityChecker;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.TLAction;
+import org.opentravel.schemacompiler.model.TLActionFacet;
+import org.opentravel.schemacompiler.model.TLActionRequest;
+import org.opentravel.schemacompiler.model.TLActionResponse;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLAttributeType;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.model.TLClosedEnumeration;
+import org.opentravel.schemacompiler.model.TLCoreObject;
+import org.opentravel.schemacompiler.model.TLDocumentation;
+import org.opentravel.schemacompiler.model.TLEnumValue;
+import org.opentravel.schemacompiler.model.TLFacet;
+import org.opentravel.schemacompiler.model.TLHttpMethod;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLLibraryStatus;
+import org.opentravel.schemacompiler.model.TLMimeType;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLParamGroup;
+import org.opentravel.schemacompiler.model.TLParamLocation;
+import org.opentravel.schemacompiler.model.TLParameter;
+import org.opentravel.schemacompiler.model.TLProperty;
+import org.opentravel.schemacompiler.model.TLReferenceType;
+import org.opentravel.schemacompiler.model.TLResource;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.opentravel.schemacompiler.saver.LibraryModelSaver;
+import org.opentravel.schemacompiler.saver.LibrarySaveException;
+import org.opentravel.schemacompiler.util.URLUtils;
+import org.opentravel.schemacompiler.validate.FindingType;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+
+/**
+ * Generates synthetic OTM models of a configurable size for use by the benchmarks. Each library contains a mix of
+ * simple types, closed enumerations, core objects, business objects and resources whose fields refer to the types
+ * declared earlier in the same library or in libraries with a lower index. References never point forward, so the
+ * generated libraries contain no circular dependencies.
+ *
+ * <p>
+ * All names, field counts and type assignments are derived from a pseudo-random sequence with a fixed seed, so two
+ * generators created with the same parameters always produce identical models.
+ */
+public class SyntheticModelGenerator {
+
+    public static final long DEFAULT_SEED = 20140101L;
+    public static final String ROOT_NAMESPACE = "http://www.opentravel.org/ns/benchmark";
+
+    private static final String LIBRARY_NAME_PREFIX = "BenchmarkLibrary";
+    private static final String[] XSD_TYPE_NAMES = {"string", "int", "decimal", "date", "boolean"};
+    private static final String[] ENTITY_WORDS =
+        {"Reservation", "Traveler", "Itinerary", "Payment", "Vehicle", "Property", "Flight", "Offer", "Address",
+            "Loyalty", "Invoice", "Schedule", "Location", "Contact", "Amenity", "Policy"};
+    private static final String[] FIELD_WORDS = {"code", "name", "amount", "status", "date", "count", "rate", "type",
+        "reference", "quantity", "description", "category"};
+    private static final List<TLMimeType> MIME_TYPES =
+        Arrays.asList( TLMimeType.APPLICATION_XML, TLMimeType.APPLICATION_JSON );
+
+    private int libraryCount;
+    private int entitiesPerLibrary;
+    private long seed;
+
+    /**
+     * Constructor that specifies the size of the models to generate, using the default random seed.
+     *
+     * @param libraryCount the number of libraries to generate
+     * @param entitiesPerLibrary the approximate number of named entities to generate in each library
+     */
+    public SyntheticModelGenerator(int libraryCount, int entitiesPerLibrary) {
+        this( libraryCount, entitiesPerLibrary, DEFAULT_SEED );
+    }
+
+    /**
+     * Constructor that specifies the size of the models to generate and the seed of the random sequence used to
+     * generate their content.
+     *
+     * @param libraryCount the number of libraries to generate
+     * @param entitiesPerLibrary the approximate number of named entities to generate in each library
+     * @param seed the seed for the pseudo-random sequence used to generate the model content
+     */
+    public SyntheticModelGenerator(int libraryCount, int entitiesPerLibrary, long seed) {
+        if ((libraryCount < 1) || (entitiesPerLibrary < 1)) {
+            throw new IllegalArgumentException( "The library and entity counts must be greater than zero." );
+        }
+        this.libraryCount = libraryCount;
+        this.entitiesPerLibrary = entitiesPerLibrary;
+        this.seed = seed;
+    }
+
+    /**
+     * Generates a new model. The URL of each library is assigned to a file in the given folder, but the libraries are
+     * not saved until the <code>saveLibraries()</code> method is called.
+     *
+     * @param libraryFolder the folder to which the library files of the model will be assigned
+     * @return TLModel
+     */
+    public TLModel generateModel(File libraryFolder) {
+        TLModel model = new TLModel();
+        GeneratorState state = new GeneratorState( model );
+
+        for (int i = 0; i < libraryCount; i++) {
+            TLLibrary library = newLibrary( i, libraryFolder );
+
+            model.addLibrary( library );
+            populateLibrary( library, i, state );
+        }
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            ImportManagementIntegrityChecker.verifyReferencedLibraries( library );
+        }
+        return model;
+    }
+
+    /**
+     * Generates a new model and saves its libraries to the given folder.
+     *
+     * @param libraryFolder the folder to which the library files of the model will be saved
+     * @return TLModel
+     * @throws LibrarySaveException thrown if one or more of the libraries cannot be saved
+     */
+    public TLModel generateAndSaveModel(File libraryFolder) throws LibrarySaveException {
+        TLModel model = generateModel( libraryFolder );
+
+        saveLibraries( model );
+        return model;
+    }
+
+    /**
+     * Saves all of the user-defined libraries in the given model to their assigned URL locations.
+     *
+     * @param model the model whose libraries are to be saved
+     * @throws LibrarySaveException thrown if one or more of the libraries cannot be saved
+     */
+    public static void saveLibraries(TLModel model) throws LibrarySaveException {
+        ValidationFindings findings = new LibraryModelSaver().saveAllLibraries( model );
+
+        if (findings.hasFinding( FindingType.ERROR )) {
+            throw new LibrarySaveException( "Errors reported while saving the benchmark libraries." );
+        }
+    }
+
+    /**
+     * Returns the base namespace of the library with the specified index.
+     *
+     * @param libraryIndex the index of the library
+     * @return String
+     */
+    public static String getBaseNamespace(int libraryIndex) {
+        return ROOT_NAMESPACE + "/lib" + libraryIndex;
+    }
+
+    /**
+     * Returns the words that are used to construct the names and documentation of the generated entities. Free-text
+     * searches on these words are guaranteed to match content in any generated model.
+     *
+     * @return String[]
+     */
+    public static String[] getEntityWords() {
+        return ENTITY_WORDS.clone();
+    }
+
+    /**
+     * Creates a new library with the specified index.
+     *
+     * @param libraryIndex the index of the library to create
+     * @param libraryFolder the folder to which the library file will be assigned
+     * @return TLLibrary
+     */
+    private TLLibrary newLibrary(int libraryIndex, File libraryFolder) {
+        TLLibrary library = new TLLibrary();
+        String libraryName = LIBRARY_NAME_PREFIX + libraryIndex;
+
+        library.setName( libraryName );
+        library.setNamespace( getBaseNamespace( libraryIndex ) + "/v01" );
+        library.setPrefix( "lib" + libraryIndex );
+        library.setStatus( TLLibraryStatus.DRAFT );
+        library.setLibraryUrl( URLUtils.toURL( new File( libraryFolder, libraryName + "_1_0_0.otm" ) ) );
+        return library;
+    }
+
+    /**
+     * Adds the generated entities to the given library.
+     *
+     * @param library the library to populate
+     * @param libraryIndex the index of the library
+     * @param state the state of the model generator
+     */
+    private void populateLibrary(TLLibrary library, int libraryIndex, GeneratorState state) {
+        int simpleCount = Math.max( 1, entitiesPerLibrary / 5 );
+        int enumCount = Math.max( 1, entitiesPerLibrary / 5 );
+        int boCount = Math.max( 1, entitiesPerLibrary / 5 );
+        int coreCount = Math.max( 1, entitiesPerLibrary - simpleCount - enumCount - boCount );
+        Set<TLCoreObject> elementTypes = new HashSet<>();
+
+        for (int i = 0; i < simpleCount; i++) {
+            TLSimple simple = new TLSimple();
+
+            simple.setName( newEntityName( "Code", libraryIndex, i, state ) );
+            simple.setParentType( state.xsdString );
+            simple.setMaxLength( 8 + state.random.nextInt( 32 ) );
+            simple.setDocumentation( newDocumentation( simple.getName(), state ) );
+            library.addNamedMember( simple );
+            state.attributeTypes.add( simple );
+        }
+
+        for (int i = 0; i < enumCount; i++) {
+            TLClosedEnumeration closedEnum = new TLClosedEnumeration();
+            int valueCount = 3 + state.random.nextInt( 6 );
+
+            closedEnum.setName( newEntityName( "Enum", libraryIndex, i, state ) );
+            closedEnum.setDocumentation( newDocumentation( closedEnum.getName(), state ) );
+
+            for (int j = 0; j < valueCount; j++) {
+                TLEnumValue value = new TLEnumValue();
+
+                value.setLiteral( FIELD_WORDS[j % FIELD_WORDS.length] + j );
+                closedEnum.addValue( value );
+            }
+            library.addNamedMember( closedEnum );
+            state.attributeTypes.add( closedEnum );
+        }
+
+        for (int i = 0; i < coreCount; i++) {
+            TLCoreObject core = new TLCoreObject();
+
+            core.setName( newEntityName( "Core", libraryIndex, i, state ) );
+            core.setDocumentation( newDocumentation( core.getName(), state ) );
+            core.getSimpleFacet().setSimpleType( state.randomAttributeType() );
+            populateFacet( core.getSummaryFacet(), 2, 0, state, elementTypes );
+            populateFacet( core.getDetailFacet(), 1, 2, state, elementTypes );
+            elementTypes.clear();
+            library.addNamedMember( core );
+            state.coreObjects.add( core );
+        }
+
+        for (int i = 0; i < boCount; i++) {
+            TLBusinessObject bo = new TLBusinessObject();
+            TLAttribute idAttribute = new TLAttribute();
+
+            bo.setName( newEntityName( "Object", libraryIndex, i, state ) );
+            bo.setDocumentation( newDocumentation( bo.getName(), state ) );
+            idAttribute.setName( "id" );
+            idAttribute.setType( state.xsdString );
+            idAttribute.setMandatory( true );
+            bo.getIdFacet().addAttribute( idAttribute );
+            populateFacet( bo.getSummaryFacet(), 2, 2, state, elementTypes );
+            populateFacet( bo.getDetailFacet(), 2, 1, state, elementTypes );
+            elementTypes.clear();
+            library.addNamedMember( bo );
+            library.addNamedMember( newResource( bo, idAttribute ) );
+        }
+    }
+
+    /**
+     * Adds a random number of attributes and elements to the given facet. Elements are only added if at least one core
+     * object has already been generated. Since the facets of an entity inherit the fields of its lower-level facets,
+     * field names include the facet type, and each core object is used as an element type at most once per entity.
+     *
+     * @param facet the facet to populate
+     * @param minAttributes the minimum number of attributes to add
+     * @param maxElements the maximum number of elements to add
+     * @param state the state of the model generator
+     * @param elementTypes the element types that have already been used by the other facets of the entity
+     */
+    private void populateFacet(TLFacet facet, int minAttributes, int maxElements, GeneratorState state,
+        Set<TLCoreObject> elementTypes) {
+        int attributeCount = minAttributes + state.random.nextInt( 4 );
+        int elementCount = state.coreObjects.isEmpty() ? 0 : state.random.nextInt( maxElements + 1 );
+        String facetLabel = facet.getFacetType().getIdentityName();
+
+        for (int i = 0; i < attributeCount; i++) {
+            TLAttribute attribute = new TLAttribute();
+
+            attribute.setName( FIELD_WORDS[state.random.nextInt( FIELD_WORDS.length )] + facetLabel + i );
+            attribute.setType( state.randomAttributeType() );
+            facet.addAttribute( attribute );
+        }
+
+        for (int i = 0; i < elementCount; i++) {
+            TLCoreObject elementType = state.coreObjects.get( state.random.nextInt( state.coreObjects.size() ) );
+
+            if (elementTypes.add( elementType )) {
+                TLProperty element = new TLProperty();
+
+                element.setName( elementType.getName() );
+                element.setType( elementType );
+                element.setRepeat( state.random.nextInt( 3 ) );
+                facet.addElement( element );
+            }
+        }
+    }
+
+    /**
+     * Creates a first-class resource for the given business object with a read action and a create action.
+     *
+     * @param bo the business object for which to create the resource
+     * @param idAttribute the identifier attribute of the business object
+     * @return TLResource
+     */
+    private TLResource newResource(TLBusinessObject bo, TLAttribute idAttribute) {
+        TLResource resource = new TLResource();
+        TLParamGroup idParams = new TLParamGroup();
+        TLParameter idParam = new TLParameter();
+        TLActionFacet objectFacet = new TLActionFacet();
+        TLActionFacet summaryFacet = new TLActionFacet();
+
+        resource.setName( bo.getName() + "Resource" );
+        resource.setBusinessObjectRef( bo );
+        resource.setBasePath( "/services/" + bo.getName() );
+        resource.setFirstClass( true );
+
+        idParams.setName( "IDParameters" );
+        idParams.setIdGroup( true );
+        idParams.setFacetRef( bo.getIdFacet() );
+        idParam.setFieldRef( idAttribute );
+        idParam.setLocation( TLParamLocation.PATH );
+        idParams.addParameter( idParam );
+        resource.addParamGroup( idParams );
+
+        objectFacet.setName( "ObjectOnly" );
+        objectFacet.setReferenceType( TLReferenceType.REQUIRED );
+        resource.addActionFacet( objectFacet );
+        summaryFacet.setName( "ObjectSummary" );
+        summaryFacet.setReferenceType( TLReferenceType.REQUIRED );
+        summaryFacet.setReferenceFacetName( "Summary" );
+        resource.addActionFacet( summaryFacet );
+
+        resource.addAction( newAction( "Read", TLHttpMethod.GET, "/items/{id}", idParams, null, summaryFacet ) );
+        resource.addAction( newAction( "Create", TLHttpMethod.POST, "/items", null, objectFacet, objectFacet ) );
+        return resource;
+    }
+
+    /**
+     * Creates a new resource action with a single request and a single response.
+     *
+     * @param actionId the ID of the action to create
+     * @param httpMethod the HTTP method of the action request
+     * @param pathTemplate the path template of the action request
+     * @param paramGroup the parameter group of the action request (may be null)
+     * @param requestPayload the payload of the action request (may be null)
+     * @param responsePayload the payload of the action response
+     * @return TLAction
+     */
+    private TLAction newAction(String actionId, TLHttpMethod httpMethod, String pathTemplate, TLParamGroup paramGroup,
+        TLActionFacet requestPayload, TLActionFacet responsePayload) {
+        TLAction action = new TLAction();
+        TLActionRequest request = new TLActionRequest();
+        TLActionResponse response = new TLActionResponse();
+
+        action.setActionId( actionId );
+        request.setHttpMethod( httpMethod );
+        request.setPathTemplate( pathTemplate );
+        request.setParamGroup( paramGroup );
+
+        if (requestPayload != null) {
+            request.setPayloadType( requestPayload );
+            request.setMimeTypes( MIME_TYPES );
+        }
+        action.setRequest( request );
+
+        response.setStatusCodes( Arrays.asList( (httpMethod == TLHttpMethod.POST) ? 201 : 200 ) );
+        response.setPayloadType( responsePayload );
+        response.setMimeTypes( MIME_TYPES );
+        action.addResponse( response );
+        return action;
+    }
+
+    /**
+     * Returns a new entity name that is unique within the generated model.
+     *
+     * @param entityKind the kind of entity being named
+     * @param libraryIndex the index of the library that will own the entity
+     * @param entityIndex the index of the entity within its kind
+     * @param state the state of the model generator
+     * @return String
+     */
+    private String newEntityName(String entityKind, int libraryIndex, int entityIndex, GeneratorState state) {
+        return String.format( "%s%s%02d%03d", ENTITY_WORDS[state.random.nextInt( ENTITY_WORDS.length )], entityKind,
+            libraryIndex, entityIndex );
+    }
+
+    /**
+     * Returns new documentation for the named entity that contains a random selection of the entity words.
+     *
+     * @param entityName the name of the entity being documented
+     * @param state the state of the model generator
+     * @return TLDocumentation
+     */
+    private TLDocumentation newDocumentation(String entityName, GeneratorState state) {
+        TLDocumentation doc = new TLDocumentation();
+        StringBuilder description = new StringBuilder( entityName ).append( " describes the" );
+
+        for (int i = 0; i < 3; i++) {
+            description.append( ' ' ).append( ENTITY_WORDS[state.random.nextInt( ENTITY_WORDS.length )].toLowerCase() );
+        }
+        doc.setDescription( description.append( " details." ).toString() );
+        return doc;
+    }
+
+    /**
+     * Maintains the random sequence and the previously-generated entities while a model is being generated.
+     */
+    private class GeneratorState {
+
+        private Random random = new Random( seed );
+        private TLAttributeType xsdString;
+        private List<TLAttributeType> attributeTypes = new ArrayList<>();
+        private List<TLCoreObject> coreObjects = new ArrayList<>();
+
+        /**
+         * Constructor that initializes the built-in types that are available from the given model.
+         *
+         * @param model the model being generated
+         */
+        public GeneratorState(TLModel model) {
+            for (AbstractLibrary xsdLibrary : model.getLibrariesForNamespace( XMLConstants.W3C_XML_SCHEMA_NS_URI )) {
+                for (String typeName : XSD_TYPE_NAMES) {
+                    TLAttributeType xsdType = (TLAttributeType) xsdLibrary.getNamedMember( typeName );
+
+                    if (xsdType != null) {
+                        attributeTypes.add( xsdType );
+                    }
+                }
+                if (xsdString == null) {
+                    xsdString = (TLAttributeType) xsdLibrary.getNamedMember( "string" );
+                }
+            }
+        }
+
+        /**
+         * Returns a random attribute type from the built-in types and the previously-generated types.
+         *
+         * @return TLAttributeType
+         */
+        public TLAttributeType randomAttributeType() {
+            return attributeTypes.get( random.nextInt( attributeTypes.size() ) );
+        }
+
+    }
+
+}
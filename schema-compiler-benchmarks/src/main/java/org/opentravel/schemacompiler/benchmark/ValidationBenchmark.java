@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.benchmark;
+
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.validate.compile.TLModelCompileValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures the time required by the <code>TLModelCompileValidator</code> to validate all of the libraries of a
+ * synthetic model.
+ */
+public class ValidationBenchmark extends AbstractModelBenchmark {
+
+    /**
+     * Validates the model using the compile-time validation rules.
+     *
+     * @return ValidationFindings
+     */
+    @Benchmark
+    public ValidationFindings validateModel() {
+        return TLModelCompileValidator.validateModel( model );
+    }
+
+}
@@ -1,5 +1,6 @@
 module org.opentravel.schemacompilercli {
     requires commons.cli;
+    requires java.management;
     requires org.opentravel.schemacompiler;
     requires org.apache.logging.log4j;
 }
@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.cli;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.GnuParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opentravel.schemacompiler.task.TaskUtils;
+import org.opentravel.schemacompiler.util.SchemaCompilerException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thin command-line client that forwards compile requests to a running <code>CompilerDaemon</code>. The client accepts
+ * the same arguments as the <code>Main</code> command-line compiler; if no daemon is listening, the compilation is
+ * performed locally instead. The <code>--shutdown</code> argument stops a running daemon.
+ *
+ * <p>
+ * Each request includes the access token that the daemon wrote to its token file when it was started. If the token
+ * file does not exist or cannot be read, the daemon is treated as unavailable.
+ */
+public class CompilerClient {
+
+    public static final String SHUTDOWN_ARG = "--shutdown";
+
+    private static final List<String> PATH_OPTIONS = Arrays.asList( "d", "c", "m" );
+
+    private static final Logger log = LogManager.getLogger( CompilerClient.class );
+
+    private final int port;
+    private final File tokenFolder;
+
+    @SuppressWarnings("squid:S106")
+    private OutputStream outputStream = System.out;
+
+    /**
+     * Main method invoked from the command-line.
+     *
+     * @param args the GNU-style command-line arguments
+     */
+    public static void main(String[] args) {
+        try {
+            new CompilerClient( CompilerDaemon.getDefaultPort() ).execute( args );
+
+        } catch (Exception e) {
+            Throwable rootCause = Main.getRootCauseException( e );
+
+            log.error( Main.getMessage( "errorMessage",
+                (rootCause.getMessage() == null) ? rootCause.getClass().getSimpleName() : rootCause.getMessage() ) );
+        }
+    }
+
+    /**
+     * Constructor that specifies the port on which the compiler daemon is listening.
+     *
+     * @param port the port of the compiler daemon
+     */
+    public CompilerClient(int port) {
+        this( port, DaemonToken.getDefaultTokenFolder() );
+    }
+
+    /**
+     * Constructor that specifies the port on which the compiler daemon is listening and the folder that contains the
+     * daemon's access token file.
+     *
+     * @param port the port of the compiler daemon
+     * @param tokenFolder the folder that contains the access token file of the daemon
+     */
+    public CompilerClient(int port, File tokenFolder) {
+        this.port = port;
+        this.tokenFolder = tokenFolder;
+    }
+
+    /**
+     * Sends the compile request specified by the command-line arguments to the compiler daemon and displays its output.
+     * If the daemon is not running, the compilation is performed locally.
+     *
+     * @param args the GNU-style command-line arguments
+     * @return int the status code of the compilation (zero if the compilation completed normally)
+     * @throws SchemaCompilerException thrown if an error occurs during local library compilation
+     * @throws ParseException thrown if the command-line arguments cannot be parsed
+     * @throws IOException thrown if an error occurs while communicating with the daemon
+     */
+    public int execute(String[] args) throws SchemaCompilerException, ParseException, IOException {
+        PrintWriter out = new PrintWriter( outputStream );
+        boolean shutdownRequest = (args.length == 1) && SHUTDOWN_ARG.equals( args[0] );
+        int status;
+
+        try {
+            if (shutdownRequest) {
+                status = sendRequest( CompilerDaemon.COMMAND_SHUTDOWN, Collections.emptyList(), out );
+            } else {
+                status = sendRequest( CompilerDaemon.COMMAND_COMPILE, resolveArguments( args ), out );
+            }
+
+        } catch (ConnectException e) {
+            out.println( Main.getMessage( "daemonUnavailable", Integer.toString( port ) ) );
+            status = CompilerDaemon.STATUS_SUCCESS;
+
+            if (!shutdownRequest) {
+                Main cliMain = new Main();
+
+                out.flush();
+                cliMain.setOutput( outputStream );
+                cliMain.execute( args );
+            }
+
+        } finally {
+            out.flush();
+        }
+        return status;
+    }
+
+    /**
+     * Assigns the output stream to use for all displayed output (default is system-out).
+     *
+     * @param out the stream target for all CLI output
+     */
+    @SuppressWarnings("squid:S106")
+    public void setOutput(OutputStream out) {
+        this.outputStream = (out == null) ? System.out : out;
+    }
+
+    /**
+     * Sends a request to the compiler daemon and copies the response to the output writer.
+     *
+     * @param command the request command to send
+     * @param args the arguments of the request
+     * @param out the writer to which the daemon's response should be copied
+     * @return int
+     * @throws IOException thrown if an error occurs while communicating with the daemon
+     */
+    private int sendRequest(String command, List<String> args, PrintWriter out) throws IOException {
+        String token = DaemonToken.read( DaemonToken.getTokenFile( tokenFolder, port ) );
+
+        if (token == null) {
+            throw new ConnectException( "No access token available for the compiler daemon on port " + port );
+        }
+        try (Socket socket = new Socket( InetAddress.getLoopbackAddress(), port );
+            PrintWriter writer =
+                new PrintWriter( new OutputStreamWriter( socket.getOutputStream(), StandardCharsets.UTF_8 ) );
+            BufferedReader reader =
+                new BufferedReader( new InputStreamReader( socket.getInputStream(), StandardCharsets.UTF_8 ) )) {
+            int status = CompilerDaemon.STATUS_ERROR;
+            String line;
+
+            writer.println( token );
+            writer.println( command );
+
+            for (String arg : args) {
+                writer.println( arg );
+            }
+            writer.println();
+            writer.flush();
+
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith( CompilerDaemon.STATUS_PREFIX )) {
+                    status = Integer.parseInt( line.substring( CompilerDaemon.STATUS_PREFIX.length() ) );
+                } else {
+                    out.println( line );
+                }
+            }
+            return status;
+        }
+    }
+
+    /**
+     * Returns a copy of the given arguments in which all file locations have been converted to absolute paths, since
+     * the working directory of the daemon may be different from that of the client.
+     *
+     * @param args the GNU-style command-line arguments
+     * @return List&lt;String&gt;
+     * @throws ParseException thrown if the command-line arguments cannot be parsed
+     */
+    private List<String> resolveArguments(String[] args) throws ParseException {
+        CommandLine commandLineArgs = new GnuParser().parse( Main.getCommandLineOptions(), args );
+        List<String> resolvedArgs = new ArrayList<>();
+
+        for (Option option : commandLineArgs.getOptions()) {
+            resolvedArgs.add( "-" + option.getOpt() );
+
+            if (option.hasArg()) {
+                String value = option.getValue();
+
+                resolvedArgs.add( PATH_OPTIONS.contains( option.getOpt() ) ? toAbsolutePath( value ) : value );
+            }
+        }
+        for (String arg : commandLineArgs.getArgs()) {
+            resolvedArgs.add( toAbsolutePath( arg ) );
+        }
+        return resolvedArgs;
+    }
+
+    /**
+     * Converts the given file location to an absolute path using the working directory of the client.
+     *
+     * @param location the file location to convert
+     * @return String
+     */
+    private String toAbsolutePath(String location) {
+        return TaskUtils.getPathFromOptionValue( location ).getAbsolutePath();
+    }
+
+}
@@ -0,0 +1,862 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.cli;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.GnuParser;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opentravel.schemacompiler.ioc.CompilerExtensionRegistry;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.task.CompileAllCompilerTask;
+import org.opentravel.schemacompiler.task.CompilerMetrics;
+import org.opentravel.schemacompiler.task.CompilerStats;
+import org.opentravel.schemacompiler.util.URLUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running compiler process that keeps the OTM compiler (and its application context, JAXB contexts, and built-in
+ * libraries) warm between compilations. Compile requests are received from <code>CompilerClient</code> instances over
+ * a socket that is bound to the loopback interface. When the daemon starts, it writes a random access token to a file
+ * in the OTA2 home folder of the current user that only the owner can read, and rejects any request that does not
+ * present that token.
+ *
+ * <p>
+ * The daemon remembers the output of each successful compilation along with the source files of the model that was
+ * compiled. Those files are watched for changes; if a request is received for a target whose sources have not changed
+ * and whose output still exists, the previous output is returned without recompiling. When a source file changes,
+ * only the targets that depend on that file are recompiled in the background. Files that are no longer part of any
+ * cached compilation are no longer watched.
+ *
+ * <p>
+ * The request protocol is line-oriented (UTF-8). A request begins with the access token, followed by a command line
+ * (<code>COMPILE</code> or <code>SHUTDOWN</code>); compile commands are followed by one command-line argument per
+ * line and a blank line. The response contains the compiler output followed by a final status line.
+ */
+public class CompilerDaemon {
+
+    public static final String DAEMON_PORT_PROPERTY = "ota2.daemon.port";
+    public static final int DEFAULT_PORT = 7621;
+
+    static final String COMMAND_COMPILE = "COMPILE";
+    static final String COMMAND_SHUTDOWN = "SHUTDOWN";
+    static final String STATUS_PREFIX = "#STATUS:";
+    static final int STATUS_SUCCESS = 0;
+    static final int STATUS_ERROR = 1;
+
+    private static final long RECOMPILE_DELAY_MILLIS = 500;
+    private static final long MODIFIED_DURING_COMPILATION = -1L;
+
+    private static final Logger log = LogManager.getLogger( CompilerDaemon.class );
+
+    private final Map<String,CompilationResult> compilationCache = new ConcurrentHashMap<>();
+    private final Map<String,Set<Path>> knownDependencies = new ConcurrentHashMap<>();
+    private final Map<String,String[]> pendingRecompiles = new LinkedHashMap<>();
+    private final Set<Path> changedFiles = new HashSet<>();
+    private final DependencyWatcher watcher = new DependencyWatcher( this::fileChanged );
+    private final CountDownLatch shutdownLatch = new CountDownLatch( 1 );
+    private final int port;
+    private final File tokenFolder;
+    private File tokenFile;
+    private String token;
+    private ScheduledExecutorService compileExecutor;
+    private ExecutorService connectionExecutor;
+    private ScheduledFuture<?> recompileTask;
+    private ServerSocket serverSocket;
+    private String defaultBindingStyle;
+
+    /**
+     * Main method invoked from the command-line. The port of the daemon may be specified as the only argument; if
+     * omitted, the port is obtained from the <code>ota2.daemon.port</code> system property (or the default port).
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        try {
+            int daemonPort = (args.length > 0) ? Integer.parseInt( args[0] ) : getDefaultPort();
+            CompilerDaemon daemon = new CompilerDaemon( daemonPort );
+
+            daemon.start();
+            daemon.awaitShutdown();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+        } catch (Exception e) {
+            Throwable rootCause = Main.getRootCauseException( e );
+
+            log.error( Main.getMessage( "errorMessage",
+                (rootCause.getMessage() == null) ? rootCause.getClass().getSimpleName() : rootCause.getMessage() ) );
+        }
+    }
+
+    /**
+     * Returns the port on which daemons and clients communicate by default.
+     *
+     * @return int
+     */
+    public static int getDefaultPort() {
+        return Integer.getInteger( DAEMON_PORT_PROPERTY, DEFAULT_PORT );
+    }
+
+    /**
+     * Constructor that specifies the port on which the daemon will listen for compile requests. If a port of zero is
+     * specified, an unused port will be assigned when the daemon is started.
+     *
+     * @param port the port on which to listen for compile requests
+     */
+    public CompilerDaemon(int port) {
+        this( port, DaemonToken.getDefaultTokenFolder() );
+    }
+
+    /**
+     * Constructor that specifies the port on which the daemon will listen for compile requests and the folder in which
+     * its access token file will be created.
+     *
+     * @param port the port on which to listen for compile requests
+     * @param tokenFolder the folder in which to create the access token file
+     */
+    public CompilerDaemon(int port, File tokenFolder) {
+        this.port = port;
+        this.tokenFolder = tokenFolder;
+    }
+
+    /**
+     * Starts the daemon and begins listening for compile requests.
+     *
+     * @throws IOException thrown if the server socket, access token file, or file watcher cannot be created
+     */
+    public synchronized void start() throws IOException {
+        if (serverSocket == null) {
+            defaultBindingStyle = CompilerExtensionRegistry.getActiveExtension();
+            serverSocket = new ServerSocket( port, 0, InetAddress.getLoopbackAddress() );
+
+            try {
+                tokenFile = DaemonToken.getTokenFile( tokenFolder, serverSocket.getLocalPort() );
+                token = DaemonToken.create( tokenFile );
+
+            } catch (IOException e) {
+                serverSocket.close();
+                serverSocket = null;
+                throw e;
+            }
+            compileExecutor = Executors.newSingleThreadScheduledExecutor( r -> newThread( r, "OTM Compiler" ) );
+            connectionExecutor = Executors.newCachedThreadPool( r -> newThread( r, "OTM Compiler Request" ) );
+            watcher.start();
+            CompilerStats.register();
+            newThread( this::acceptConnections, "OTM Compiler Daemon" ).start();
+            log.info( Main.getMessage( "daemonStarted", Integer.toString( serverSocket.getLocalPort() ) ) );
+        }
+    }
+
+    /**
+     * Stops the daemon and releases all of its resources.
+     */
+    public synchronized void shutdown() {
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+                watcher.close();
+
+            } catch (IOException e) {
+                log.warn( "Error releasing compiler daemon resources.", e );
+            }
+            compileExecutor.shutdownNow();
+            connectionExecutor.shutdown();
+            compilationCache.clear();
+            DaemonToken.delete( tokenFile );
+            serverSocket = null;
+            token = null;
+            shutdownLatch.countDown();
+            log.info( Main.getMessage( "daemonStopped" ) );
+        }
+    }
+
+    /**
+     * Blocks the calling thread until the daemon has been shut down.
+     *
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting
+     */
+    public void awaitShutdown() throws InterruptedException {
+        shutdownLatch.await();
+    }
+
+    /**
+     * Returns true if the daemon is currently accepting compile requests.
+     *
+     * @return boolean
+     */
+    public synchronized boolean isRunning() {
+        return serverSocket != null;
+    }
+
+    /**
+     * Returns the port on which the daemon is listening for compile requests.
+     *
+     * @return int
+     */
+    public synchronized int getPort() {
+        return (serverSocket == null) ? port : serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the file that contains the access token which clients must present with each request (null if the
+     * daemon has not been started).
+     *
+     * @return File
+     */
+    public synchronized File getTokenFile() {
+        return tokenFile;
+    }
+
+    /**
+     * Compiles the target specified by the given command-line arguments. If the same arguments were compiled
+     * previously, none of the model's source files have changed, and the compiler output still exists, the previous
+     * result is returned.
+     *
+     * @param args the command-line arguments for the compiler (all file paths must be absolute)
+     * @return CompilationResult
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting for the compiler
+     */
+    public CompilationResult compile(String[] args) throws InterruptedException {
+        try {
+            return compileExecutor.submit( () -> {
+                CompilationResult result = compilationCache.get( getCacheKey( args ) );
+
+                return ((result != null) && result.isCurrent()) ? result.reuse() : runCompiler( args );
+            } ).get();
+
+        } catch (ExecutionException e) {
+            throw new IllegalStateException( e.getCause() );
+        }
+    }
+
+    /**
+     * Accepts client connections until the server socket is closed.
+     */
+    private void acceptConnections() {
+        ServerSocket socket;
+
+        synchronized (this) {
+            socket = serverSocket;
+        }
+        try {
+            while (true) {
+                Socket clientSocket = socket.accept();
+
+                connectionExecutor.execute( () -> handleConnection( clientSocket ) );
+            }
+
+        } catch (SocketException e) {
+            // Normal termination when the daemon is shut down
+
+        } catch (IOException e) {
+            log.error( "Compiler daemon is no longer accepting requests.", e );
+        }
+    }
+
+    /**
+     * Processes a single request from a compiler client.
+     *
+     * @param clientSocket the socket connection to the client
+     */
+    private void handleConnection(Socket clientSocket) {
+        try (Socket socket = clientSocket;
+            BufferedReader reader =
+                new BufferedReader( new InputStreamReader( socket.getInputStream(), StandardCharsets.UTF_8 ) );
+            PrintWriter writer =
+                new PrintWriter( new OutputStreamWriter( socket.getOutputStream(), StandardCharsets.UTF_8 ) )) {
+            String clientToken = reader.readLine();
+            String command;
+
+            if (!DaemonToken.matches( getToken(), clientToken )) {
+                log.warn( "Rejected compiler daemon request without a valid access token." );
+                writer.println( Main.getMessage( "daemonUnauthorized" ) );
+                writer.println( STATUS_PREFIX + STATUS_ERROR );
+                return;
+            }
+            command = reader.readLine();
+
+            if (COMMAND_COMPILE.equals( command )) {
+                CompilationResult result = compile( readArguments( reader ) );
+
+                if (result.isReused()) {
+                    writer.println( Main.getMessage( "daemonUpToDate", result.getTarget() ) );
+                }
+                writer.print( result.getOutput() );
+                writer.println( STATUS_PREFIX + result.getStatus() );
+
+            } else if (COMMAND_SHUTDOWN.equals( command )) {
+                writer.println( Main.getMessage( "daemonStopped" ) );
+                writer.println( STATUS_PREFIX + STATUS_SUCCESS );
+                writer.flush();
+                shutdown();
+
+            } else {
+                writer.println( Main.getMessage( "daemonInvalidRequest", command ) );
+                writer.println( STATUS_PREFIX + STATUS_ERROR );
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+        } catch (IOException | RuntimeException e) {
+            log.warn( "Error processing compiler daemon request.", e );
+        }
+    }
+
+    /**
+     * Returns the access token of the running daemon (null if the daemon is not running).
+     *
+     * @return String
+     */
+    private synchronized String getToken() {
+        return token;
+    }
+
+    /**
+     * Reads the command-line arguments of a compile request. The arguments are terminated by a blank line or the end
+     * of the stream.
+     *
+     * @param reader the reader from which to obtain the arguments
+     * @return String[]
+     * @throws IOException thrown if the arguments cannot be read
+     */
+    private String[] readArguments(BufferedReader reader) throws IOException {
+        List<String> args = new ArrayList<>();
+        String line;
+
+        while (((line = reader.readLine()) != null) && !line.isEmpty()) {
+            args.add( line );
+        }
+        return args.toArray( new String[args.size()] );
+    }
+
+    /**
+     * Invokes the command-line compiler with the given arguments and caches the result. This method is only called on
+     * the compiler thread.
+     *
+     * <p>
+     * The timestamps of the source files that are already known to be dependencies of the target are captured, and
+     * those files are watched, before the compiler is invoked. The result is only cached if none of those files were
+     * modified during the compilation and none of the dependencies that were discovered by the compilation were
+     * modified after it started.
+     *
+     * @param args the command-line arguments for the compiler
+     * @return CompilationResult
+     */
+    private CompilationResult runCompiler(String[] args) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DaemonMain cli = new DaemonMain();
+        CommandLine commandLineArgs = parseArguments( args );
+        String target = getTargetFilename( commandLineArgs );
+        String cacheKey = getCacheKey( args );
+        Map<Path,Long> timestampSnapshot = CompilationResult.getTimestamps( getKnownDependencies( cacheKey, target ) );
+        long compileStartTime = System.currentTimeMillis();
+        int status = STATUS_SUCCESS;
+        CompilationResult result;
+
+        watcher.watch( timestampSnapshot.keySet() );
+
+        // Reset any binding style that was selected by a previous request
+        CompilerExtensionRegistry.setActiveExtension( defaultBindingStyle );
+        cli.setOutput( output );
+
+        try {
+            cli.execute( args );
+
+        } catch (Exception e) {
+            Throwable rootCause = Main.getRootCauseException( e );
+            PrintWriter writer = new PrintWriter( output );
+
+            writer.println( Main.getMessage( "errorMessage",
+                (rootCause.getMessage() == null) ? rootCause.getClass().getSimpleName() : rootCause.getMessage() ) );
+            writer.flush();
+            status = STATUS_ERROR;
+        }
+        CompileAllCompilerTask compilerTask = cli.getCompilerTask();
+        Set<Path> dependencies = Collections.emptySet();
+        Set<Path> outputs = new HashSet<>();
+
+        if (compilerTask != null) {
+            CompilerStats.getInstance().recordCompilation( compilerTask.getCompilerMetrics() );
+            dependencies = getDependencies( compilerTask, target );
+            addOutputLocation( compilerTask.getOutputFolder(), outputs );
+        }
+        if (commandLineArgs != null) {
+            addOutputLocation( commandLineArgs.getOptionValue( "m" ), outputs );
+        }
+        result = new CompilationResult( target, output.toString(), status,
+            getDependencyTimestamps( dependencies, timestampSnapshot, compileStartTime ), outputs );
+
+        if ((status == STATUS_SUCCESS) && !dependencies.isEmpty()) {
+            knownDependencies.put( cacheKey, dependencies );
+            watcher.watch( dependencies );
+        }
+        if ((status == STATUS_SUCCESS) && !dependencies.isEmpty() && result.isCurrent()) {
+            compilationCache.put( cacheKey, result );
+
+        } else {
+            compilationCache.remove( cacheKey );
+        }
+        watcher.retain( getCachedDependencies() );
+        return result;
+    }
+
+    /**
+     * Returns the source files that are known to be dependencies of the given target before it is compiled. These
+     * include the target file itself and the dependencies that were discovered by its last successful compilation.
+     *
+     * @param cacheKey the key under which the results of the compilation are cached
+     * @param target the name of the library, project, or release file to be compiled (may be null)
+     * @return Set&lt;Path&gt;
+     */
+    private Set<Path> getKnownDependencies(String cacheKey, String target) {
+        Set<Path> dependencies = new HashSet<>( knownDependencies.getOrDefault( cacheKey, Collections.emptySet() ) );
+
+        if ((target != null) && new File( target ).exists()) {
+            dependencies.add( new File( target ).toPath().toAbsolutePath().normalize() );
+        }
+        return dependencies;
+    }
+
+    /**
+     * Returns the timestamps against which the given dependencies of a compilation are to be checked. Files whose
+     * timestamps were captured before the compilation started are assigned the captured values. Other dependencies are
+     * assigned their current timestamps, unless they were modified after the compilation started; such files are
+     * assigned a timestamp that never matches, since the compiler may have read their previous content.
+     *
+     * @param dependencies the source files on which the compiled output depends
+     * @param timestampSnapshot the timestamps that were captured before the compilation started
+     * @param compileStartTime the time at which the compilation started
+     * @return Map&lt;Path,Long&gt;
+     */
+    private Map<Path,Long> getDependencyTimestamps(Set<Path> dependencies, Map<Path,Long> timestampSnapshot,
+        long compileStartTime) {
+        Map<Path,Long> timestamps = new HashMap<>();
+
+        for (Map.Entry<Path,Long> entry : CompilationResult.getTimestamps( dependencies ).entrySet()) {
+            Long timestamp = timestampSnapshot.get( entry.getKey() );
+
+            if ((timestamp == null) && (entry.getValue() > compileStartTime)) {
+                timestamp = MODIFIED_DURING_COMPILATION;
+            }
+            timestamps.put( entry.getKey(), (timestamp == null) ? entry.getValue() : timestamp );
+        }
+        return timestamps;
+    }
+
+    /**
+     * Returns the source files on which all of the currently cached compilation results depend.
+     *
+     * @return Set&lt;Path&gt;
+     */
+    private Set<Path> getCachedDependencies() {
+        Set<Path> dependencies = new HashSet<>();
+
+        for (CompilationResult result : compilationCache.values()) {
+            dependencies.addAll( result.getDependencies() );
+        }
+        return dependencies;
+    }
+
+    /**
+     * Adds the absolute path of the given output file or folder to the set provided if it was produced by the
+     * compilation (i.e. the location is non-null and exists).
+     *
+     * @param location the location of the output file or folder
+     * @param outputs the set of output locations being constructed
+     */
+    private void addOutputLocation(String location, Set<Path> outputs) {
+        if ((location != null) && new File( location ).exists()) {
+            outputs.add( new File( location ).toPath().toAbsolutePath().normalize() );
+        }
+    }
+
+    /**
+     * Called by the dependency watcher when one of the watched files has changed. Cached results that depend on the
+     * file are discarded and a background recompilation of the affected targets is scheduled.
+     *
+     * @param changedFile the file that was changed
+     */
+    private synchronized void fileChanged(Path changedFile) {
+        boolean affected = false;
+
+        for (Map.Entry<String,CompilationResult> entry : compilationCache.entrySet()) {
+            if (entry.getValue().getDependencies().contains( changedFile )
+                && (compilationCache.remove( entry.getKey() ) != null)) {
+                pendingRecompiles.put( entry.getKey(), entry.getKey().split( "\n" ) );
+                affected = true;
+            }
+        }
+
+        if (affected && (serverSocket != null)) {
+            changedFiles.add( changedFile );
+
+            // Wait briefly before recompiling since editors often save a file using several write operations
+            if ((recompileTask == null) || recompileTask.isDone()) {
+                recompileTask = compileExecutor.schedule( this::recompileChangedTargets, RECOMPILE_DELAY_MILLIS,
+                    TimeUnit.MILLISECONDS );
+            }
+        }
+    }
+
+    /**
+     * Recompiles each of the targets that were affected by file changes since the last recompilation. Targets that
+     * have already been recompiled in response to a client request are skipped.
+     */
+    private void recompileChangedTargets() {
+        Map<String,String[]> targets;
+        List<Path> modifiedFiles;
+
+        synchronized (this) {
+            targets = new LinkedHashMap<>( pendingRecompiles );
+            modifiedFiles = new ArrayList<>( changedFiles );
+            pendingRecompiles.clear();
+            changedFiles.clear();
+        }
+
+        for (Map.Entry<String,String[]> entry : targets.entrySet()) {
+            if (!compilationCache.containsKey( entry.getKey() )) {
+                CompilationResult result = runCompiler( entry.getValue() );
+
+                log.info( Main.getMessage( "daemonRecompiled", result.getTarget(), modifiedFiles ) );
+            }
+        }
+    }
+
+    /**
+     * Returns the source files of the model that was compiled by the given task. If the task did not identify any
+     * primary libraries (e.g. a project without a default item), the target file and all OTM libraries in the same
+     * folder are returned.
+     *
+     * @param compilerTask the compiler task that was executed
+     * @param target the absolute path of the library, project, or release file that was compiled
+     * @return Set&lt;Path&gt;
+     */
+    private Set<Path> getDependencies(CompileAllCompilerTask compilerTask, String target) {
+        Set<Path> dependencies = new HashSet<>();
+        Set<TLModel> models = new HashSet<>();
+
+        if (target != null) {
+            dependencies.add( new File( target ).toPath().toAbsolutePath().normalize() );
+        }
+        if (compilerTask.getCatalogLocation() != null) {
+            dependencies.add( new File( compilerTask.getCatalogLocation() ).toPath().toAbsolutePath().normalize() );
+        }
+
+        for (AbstractLibrary library : compilerTask.getPrimaryLibraries()) {
+            if ((library != null) && (library.getOwningModel() != null)) {
+                models.add( library.getOwningModel() );
+            }
+        }
+        for (TLModel model : models) {
+            List<AbstractLibrary> libraries = new ArrayList<>( model.getUserDefinedLibraries() );
+
+            libraries.addAll( model.getLegacySchemaLibraries() );
+            addLibraryFiles( libraries, dependencies );
+        }
+        if (models.isEmpty() && (target != null)) {
+            File[] folderLibraries = new File( target ).getAbsoluteFile().getParentFile()
+                .listFiles( f -> f.getName().toLowerCase().endsWith( ".otm" ) );
+
+            for (File libraryFile : (folderLibraries == null) ? new File[0] : folderLibraries) {
+                dependencies.add( libraryFile.toPath().toAbsolutePath().normalize() );
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Adds the local file location of each library to the set of dependencies provided.
+     *
+     * @param libraries the libraries whose file locations are to be added
+     * @param dependencies the set of dependencies being constructed
+     */
+    private void addLibraryFiles(List<AbstractLibrary> libraries, Set<Path> dependencies) {
+        for (AbstractLibrary library : libraries) {
+            if ((library.getLibraryUrl() != null) && URLUtils.isFileURL( library.getLibraryUrl() )) {
+                dependencies.add( URLUtils.toFile( library.getLibraryUrl() ).toPath().toAbsolutePath().normalize() );
+            }
+        }
+    }
+
+    /**
+     * Parses the given command-line arguments (null if the arguments cannot be parsed).
+     *
+     * @param args the command-line arguments for the compiler
+     * @return CommandLine
+     */
+    private CommandLine parseArguments(String[] args) {
+        CommandLine commandLineArgs = null;
+
+        try {
+            commandLineArgs = new GnuParser().parse( Main.getCommandLineOptions(), args );
+
+        } catch (ParseException e) {
+            // No error - return null
+        }
+        return commandLineArgs;
+    }
+
+    /**
+     * Returns the name of the library, project, or release file that is specified by the given command-line arguments
+     * (null if the arguments could not be parsed).
+     *
+     * @param commandLineArgs the parsed command-line arguments for the compiler
+     * @return String
+     */
+    private String getTargetFilename(CommandLine commandLineArgs) {
+        String target = null;
+
+        if ((commandLineArgs != null) && (commandLineArgs.getArgs().length > 0)) {
+            target = commandLineArgs.getArgs()[0];
+        }
+        return target;
+    }
+
+    /**
+     * Returns the key under which the results of a compilation with the given arguments are cached.
+     *
+     * @param args the command-line arguments for the compiler
+     * @return String
+     */
+    private String getCacheKey(String[] args) {
+        return String.join( "\n", args );
+    }
+
+    /**
+     * Returns a new daemon thread for the given task.
+     *
+     * @param task the task to be executed by the thread
+     * @param name the name of the thread
+     * @return Thread
+     */
+    private static Thread newThread(Runnable task, String name) {
+        Thread thread = new Thread( task, name );
+
+        thread.setDaemon( true );
+        return thread;
+    }
+
+    /**
+     * The output and status of a single compilation, along with the source files on which it depends and the output
+     * files or folders that it produced.
+     */
+    public static class CompilationResult {
+
+        private final String target;
+        private final String output;
+        private final int status;
+        private final Map<Path,Long> dependencyTimestamps;
+        private final Set<Path> outputs;
+        private final boolean reused;
+
+        /**
+         * Constructor for the result of a new compilation.
+         *
+         * @param target the name of the library, project, or release file that was compiled
+         * @param output the output produced by the compiler
+         * @param status the status code of the compilation
+         * @param dependencyTimestamps the source files on which the compiled output depends and their timestamps
+         * @param outputs the output files and folders produced by the compilation
+         */
+        CompilationResult(String target, String output, int status, Map<Path,Long> dependencyTimestamps,
+            Set<Path> outputs) {
+            this( target, output, status, dependencyTimestamps, outputs, false );
+        }
+
+        /**
+         * Full constructor.
+         *
+         * @param target the name of the library, project, or release file that was compiled
+         * @param output the output produced by the compiler
+         * @param status the status code of the compilation
+         * @param dependencyTimestamps the source files on which the compiled output depends and their timestamps
+         * @param outputs the output files and folders produced by the compilation
+         * @param reused flag indicating whether the result was returned from a previous compilation
+         */
+        private CompilationResult(String target, String output, int status, Map<Path,Long> dependencyTimestamps,
+            Set<Path> outputs, boolean reused) {
+            this.target = target;
+            this.output = output;
+            this.status = status;
+            this.dependencyTimestamps = Collections.unmodifiableMap( dependencyTimestamps );
+            this.outputs = Collections.unmodifiableSet( outputs );
+            this.reused = reused;
+        }
+
+        /**
+         * Returns a copy of this result that indicates it was returned from a previous compilation.
+         *
+         * @return CompilationResult
+         */
+        CompilationResult reuse() {
+            return new CompilationResult( target, output, status, dependencyTimestamps, outputs, true );
+        }
+
+        /**
+         * Returns true if all of the outputs of this compilation still exist and none of its source files have been
+         * modified since it was performed. Checking the timestamps ensures that a change is detected even if the
+         * file system notification has not yet been received.
+         *
+         * @return boolean
+         */
+        boolean isCurrent() {
+            boolean current = true;
+
+            for (Path outputLocation : outputs) {
+                current &= outputLocation.toFile().exists();
+            }
+            for (Map.Entry<Path,Long> entry : dependencyTimestamps.entrySet()) {
+                current &= (entry.getKey().toFile().lastModified() == entry.getValue());
+            }
+            return current;
+        }
+
+        /**
+         * Returns the last-modified timestamp of each of the given files.
+         *
+         * @param files the files for which to return timestamps
+         * @return Map&lt;Path,Long&gt;
+         */
+        static Map<Path,Long> getTimestamps(Set<Path> files) {
+            Map<Path,Long> timestamps = new HashMap<>();
+
+            for (Path file : files) {
+                timestamps.put( file, file.toFile().lastModified() );
+            }
+            return timestamps;
+        }
+
+        /**
+         * Returns the name of the library, project, or release file that was compiled.
+         *
+         * @return String
+         */
+        public String getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns the output produced by the compiler.
+         *
+         * @return String
+         */
+        public String getOutput() {
+            return output;
+        }
+
+        /**
+         * Returns the status code of the compilation (zero if the compilation completed normally).
+         *
+         * @return int
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns the source files on which the compiled output depends.
+         *
+         * @return Set&lt;Path&gt;
+         */
+        public Set<Path> getDependencies() {
+            return dependencyTimestamps.keySet();
+        }
+
+        /**
+         * Returns the output files and folders that were produced by the compilation.
+         *
+         * @return Set&lt;Path&gt;
+         */
+        public Set<Path> getOutputs() {
+            return outputs;
+        }
+
+        /**
+         * Returns true if this result was returned from a previous compilation because none of its source files had
+         * changed.
+         *
+         * @return boolean
+         */
+        public boolean isReused() {
+            return reused;
+        }
+
+    }
+
+    /**
+     * Command-line compiler that retains a reference to its compiler task and collects metrics for each compilation.
+     */
+    private static class DaemonMain extends Main {
+
+        private CompileAllCompilerTask compilerTask;
+
+        /**
+         * @see org.opentravel.schemacompiler.cli.Main#newCompilerTask()
+         */
+        @Override
+        protected CompileAllCompilerTask newCompilerTask() {
+            compilerTask = super.newCompilerTask();
+            compilerTask.setCompilerMetrics( new CompilerMetrics() );
+            return compilerTask;
+        }
+
+        /**
+         * Returns the compiler task that was used for the last compilation (null if no compilation was attempted).
+         *
+         * @return CompileAllCompilerTask
+         */
+        public CompileAllCompilerTask getCompilerTask() {
+            return compilerTask;
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.cli;
+
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Manages the access token that a <code>CompilerClient</code> must present with each request to a
+ * <code>CompilerDaemon</code>. The daemon generates a random token when it starts and writes it to a file in the OTA2
+ * home folder of the current user that only the owner can read; requests that do not include the token are rejected,
+ * so other local users cannot submit compile requests to the daemon.
+ */
+final class DaemonToken {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final SecureRandom random = new SecureRandom();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DaemonToken() {}
+
+    /**
+     * Returns the default folder in which token files are stored (the OTA2 home folder of the current user).
+     *
+     * @return File
+     */
+    public static File getDefaultTokenFolder() {
+        return RepositoryFileManager.getOta2HomeFolder();
+    }
+
+    /**
+     * Returns the token file for the daemon that listens on the specified port.
+     *
+     * @param tokenFolder the folder in which token files are stored
+     * @param port the port of the compiler daemon
+     * @return File
+     */
+    public static File getTokenFile(File tokenFolder, int port) {
+        return new File( tokenFolder, "compiler-daemon-" + port + ".token" );
+    }
+
+    /**
+     * Generates a new random token and writes it to the given file. The file is created with owner-only permissions
+     * before the token is written.
+     *
+     * @param tokenFile the file to which the token should be written
+     * @return String
+     * @throws IOException thrown if the token file cannot be created
+     */
+    public static String create(File tokenFile) throws IOException {
+        Path tokenPath = tokenFile.toPath();
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        String token;
+
+        random.nextBytes( tokenBytes );
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString( tokenBytes );
+
+        Files.createDirectories( tokenPath.toAbsolutePath().getParent() );
+        Files.deleteIfExists( tokenPath );
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" )) {
+            Files.createFile( tokenPath, PosixFilePermissions.asFileAttribute(
+                PosixFilePermissions.fromString( "rw-------" ) ) );
+
+        } else {
+            Files.createFile( tokenPath );
+            restrictToOwner( tokenFile );
+        }
+        Files.write( tokenPath, token.getBytes( StandardCharsets.UTF_8 ) );
+        return token;
+    }
+
+    /**
+     * Returns the token that is stored in the given file, or null if the file does not exist or cannot be read.
+     *
+     * @param tokenFile the file from which to read the token
+     * @return String
+     */
+    public static String read(File tokenFile) {
+        String token = null;
+
+        if (tokenFile.isFile()) {
+            try {
+                token = new String( Files.readAllBytes( tokenFile.toPath() ), StandardCharsets.UTF_8 ).trim();
+
+            } catch (IOException e) {
+                // No error - return a null token
+            }
+        }
+        return token;
+    }
+
+    /**
+     * Deletes the given token file if it exists.
+     *
+     * @param tokenFile the token file to delete
+     */
+    public static void delete(File tokenFile) {
+        try {
+            Files.deleteIfExists( tokenFile.toPath() );
+
+        } catch (IOException e) {
+            // Ignore and continue
+        }
+    }
+
+    /**
+     * Returns true if the token presented by a client matches the expected token. The comparison is performed in
+     * constant time.
+     *
+     * @param expectedToken the token of the daemon
+     * @param presentedToken the token presented by the client
+     * @return boolean
+     */
+    public static boolean matches(String expectedToken, String presentedToken) {
+        return (expectedToken != null) && (presentedToken != null)
+            && MessageDigest.isEqual( expectedToken.getBytes( StandardCharsets.UTF_8 ),
+                presentedToken.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    /**
+     * Restricts the permissions of the given file to its owner on file systems that do not support POSIX permissions.
+     * This is a best-effort operation since some file systems (e.g. Windows) cannot revoke read access using these
+     * methods; on those systems, the user's home folder is already private to its owner.
+     *
+     * @param file the file whose permissions are to be restricted
+     */
+    @SuppressWarnings("squid:S899")
+    private static void restrictToOwner(File file) {
+        file.setReadable( false, false );
+        file.setWritable( false, false );
+        file.setExecutable( false, false );
+        file.setReadable( true, true );
+        file.setWritable( true, true );
+    }
+
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.cli;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Watches the source files of compiled OTM models and notifies a listener when any of them are created, modified, or
+ * deleted. Because the file system can only be watched at the folder level, the parent folder of each file is
+ * registered and events for files that are not being watched are ignored (this also prevents compiler output that is
+ * written alongside the source files from triggering a notification).
+ */
+class DependencyWatcher implements Closeable {
+
+    private static final Logger log = LogManager.getLogger( DependencyWatcher.class );
+
+    private final Map<Path,WatchKey> watchedFolders = new HashMap<>();
+    private final Set<Path> watchedFiles = new HashSet<>();
+    private final Consumer<Path> listener;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    /**
+     * Constructor that specifies the listener to be notified when a watched file changes.
+     *
+     * @param listener the listener to notify with the absolute path of each modified file
+     */
+    public DependencyWatcher(Consumer<Path> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Starts the background thread that monitors the file system for changes.
+     *
+     * @throws IOException thrown if the file system watch service cannot be created
+     */
+    public synchronized void start() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            watchThread = new Thread( this::processEvents, "OTM Compiler Dependency Watcher" );
+            watchThread.setDaemon( true );
+            watchThread.start();
+        }
+    }
+
+    /**
+     * Adds the given files to the set that are being watched by this component.
+     *
+     * @param files the files to watch
+     */
+    public synchronized void watch(Collection<Path> files) {
+        for (Path file : files) {
+            Path absoluteFile = file.toAbsolutePath().normalize();
+            Path folder = absoluteFile.getParent();
+
+            if ((folder != null) && (watchService != null) && !watchedFolders.containsKey( folder )) {
+                try {
+                    watchedFolders.put( folder,
+                        folder.register( watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE ) );
+
+                } catch (IOException e) {
+                    log.warn( "Unable to watch folder for changes: " + folder, e );
+                }
+            }
+            watchedFiles.add( absoluteFile );
+        }
+    }
+
+    /**
+     * Stops watching any file that is not in the given collection. Folders that no longer contain any watched files
+     * are unregistered from the file system watch service.
+     *
+     * @param files the files that should remain watched
+     */
+    public synchronized void retain(Collection<Path> files) {
+        Set<Path> retainedFiles = new HashSet<>();
+        Set<Path> retainedFolders = new HashSet<>();
+        Iterator<Map.Entry<Path,WatchKey>> folderIterator = watchedFolders.entrySet().iterator();
+
+        for (Path file : files) {
+            retainedFiles.add( file.toAbsolutePath().normalize() );
+        }
+        watchedFiles.retainAll( retainedFiles );
+
+        for (Path file : watchedFiles) {
+            retainedFolders.add( file.getParent() );
+        }
+        while (folderIterator.hasNext()) {
+            Map.Entry<Path,WatchKey> entry = folderIterator.next();
+
+            if (!retainedFolders.contains( entry.getKey() )) {
+                entry.getValue().cancel();
+                folderIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given folder is currently registered with the file system watch service.
+     *
+     * @param folder the folder to check
+     * @return boolean
+     */
+    public synchronized boolean isFolderWatched(Path folder) {
+        return watchedFolders.containsKey( folder.toAbsolutePath().normalize() );
+    }
+
+    /**
+     * Returns true if the given file is currently being watched.
+     *
+     * @param file the file to check
+     * @return boolean
+     */
+    public synchronized boolean isWatched(Path file) {
+        return watchedFiles.contains( file.toAbsolutePath().normalize() );
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+            watchedFolders.clear();
+            watchedFiles.clear();
+        }
+    }
+
+    /**
+     * Processes file system events until the watch service is closed.
+     */
+    private void processEvents() {
+        WatchService service;
+
+        synchronized (this) {
+            service = watchService;
+        }
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path folder = (Path) key.watchable();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path) {
+                        Path changedFile = folder.resolve( (Path) event.context() );
+
+                        if (isWatched( changedFile )) {
+                            notifyListener( changedFile );
+                        }
+                    }
+                }
+                key.reset();
+            }
+
+        } catch (ClosedWatchServiceException e) {
+            // Normal termination when the watcher is closed
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Notifies the listener that the given file has changed.
+     *
+     * @param changedFile the file that was created, modified, or deleted
+     */
+    private void notifyListener(Path changedFile) {
+        try {
+            listener.accept( changedFile );
+
+        } catch (RuntimeException e) {
+            log.warn( "Error processing change notification for file: " + changedFile, e );
+        }
+    }
+
+}
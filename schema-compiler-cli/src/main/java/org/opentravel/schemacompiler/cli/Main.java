@@ -25,6 +25,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opentravel.schemacompiler.ioc.CompilerExtensionRegistry;
 import org.opentravel.schemacompiler.task.CompileAllCompilerTask;
+import org.opentravel.schemacompiler.task.CompilerMetrics;
 import org.opentravel.schemacompiler.task.TaskFactory;
 import org.opentravel.schemacompiler.util.SchemaCompilerException;
 import org.opentravel.schemacompiler.validate.FindingMessageFormat;
@@ -112,13 +113,22 @@ public class Main {
                 }
 
                 if (libraryFile.exists()) {
-                    CompileAllCompilerTask compilerTask = TaskFactory.getTask( CompileAllCompilerTask.class );
+                    CompileAllCompilerTask compilerTask = newCompilerTask();
+                    String metricsReport = commandLineArgs.getOptionValue( "m" );
                     ValidationFindings findings;
 
                     compilerTask.applyTaskOptions( taskOptions );
+
+                    if (metricsReport != null) {
+                        compilerTask.setCompilerMetrics( new CompilerMetrics() );
+                    }
                     findings = compilerTask.compileOutput( libraryFile );
                     logFindings( findings );
 
+                    if (metricsReport != null) {
+                        writeMetricsReport( compilerTask.getCompilerMetrics(), metricsReport );
+                    }
+
                 } else {
                     throw new IOException(
                         MessageFormat.format( messageBundle.getString( "fileNotFound" ), filename ) );
@@ -133,6 +143,16 @@ public class Main {
         }
     }
 
+    /**
+     * Returns a new compiler task that will be used to compile the library, project, or release specified on the
+     * command line.
+     * 
+     * @return CompileAllCompilerTask
+     */
+    protected CompileAllCompilerTask newCompilerTask() {
+        return TaskFactory.getTask( CompileAllCompilerTask.class );
+    }
+
     /**
      * Assigns the active binding style for the OTM compiler. If the specified binding style is valid this method will
      * return true; false otherwise.
@@ -170,6 +190,25 @@ public class Main {
         }
     }
 
+    /**
+     * Writes the JSON report of the compiler metrics to the specified file. Relative file paths are resolved against
+     * the current working directory.
+     * 
+     * @param metrics the compiler metrics to report
+     * @param reportFilename the name of the report file to create
+     * @throws IOException thrown if the report file cannot be written
+     */
+    private void writeMetricsReport(CompilerMetrics metrics, String reportFilename) throws IOException {
+        File reportFile = new File( reportFilename );
+
+        if (!reportFile.isAbsolute()) {
+            reportFile = new File( System.getProperty( "user.dir" ), reportFilename );
+        }
+        metrics.writeReport( reportFile );
+        out.println(
+            MessageFormat.format( messageBundle.getString( "metricsReportWritten" ), reportFile.getAbsolutePath() ) );
+    }
+
     /**
      * Returns the command-line options for the OTA2 compiler.
      * 
@@ -196,6 +235,7 @@ public class Main {
         options.addOption( "o", "suppressOptional", false, messageBundle.getString( "suppressOptional" ) );
         options.addOption( "d", "dir", true, messageBundle.getString( "dir" ) );
         options.addOption( "c", "catalog", true, messageBundle.getString( "catalog" ) );
+        options.addOption( "m", "metricsReport", true, messageBundle.getString( "metricsReport" ) );
         return options;
     }
 
@@ -227,6 +267,17 @@ public class Main {
             getCommandLineOptions(), 2, 2, null );
     }
 
+    /**
+     * Returns the formatted message from the CLI resource bundle that is associated with the given key.
+     * 
+     * @param key the key of the message to return
+     * @param params the parameters to use when formatting the message
+     * @return String
+     */
+    static String getMessage(String key, Object... params) {
+        return MessageFormat.format( messageBundle.getString( key ), params );
+    }
+
     /**
      * Returns the root-cause exception for the given throwable object.
      * 
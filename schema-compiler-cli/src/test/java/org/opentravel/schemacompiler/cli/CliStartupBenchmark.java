@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold-start time of the command-line compiler. Each iteration launches a new JVM that compiles the test
+ * library, so that the measured time includes class loading and the initialization of the compiler's application
+ * context. This class is not executed as part of the unit test suite; run it from the module directory using the test
+ * classpath:
+ * 
+ * <pre>
+ * java -cp &lt;test-classpath&gt; org.opentravel.schemacompiler.cli.CliStartupBenchmark [iterations]
+ * </pre>
+ */
+public class CliStartupBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 10;
+    private static final int WARMUP_ITERATIONS = 1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CliStartupBenchmark() {}
+
+    /**
+     * Runs the benchmark and prints the minimum, median and maximum start-up times.
+     * 
+     * @param args the command-line arguments (an optional iteration count)
+     * @throws Exception thrown if the compiler process cannot be launched
+     */
+    public static void main(String[] args) throws Exception {
+        int iterations = (args.length > 0) ? Integer.parseInt( args[0] ) : DEFAULT_ITERATIONS;
+        File libraryFile = new File( System.getProperty( "user.dir" ), "/src/test/resources/test-models/TestLibrary.otm" );
+        File outputFolder = new File( System.getProperty( "user.dir" ), "/target/benchmark-output" );
+        long[] elapsedMillis = new long[iterations];
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runCompiler( libraryFile, outputFolder );
+        }
+        for (int i = 0; i < iterations; i++) {
+            elapsedMillis[i] = runCompiler( libraryFile, outputFolder );
+        }
+        Arrays.sort( elapsedMillis );
+        System.out.println( String.format( "CLI start-up + compile (%d runs): min=%dms, median=%dms, max=%dms",
+            iterations, elapsedMillis[0], elapsedMillis[iterations / 2], elapsedMillis[iterations - 1] ) );
+    }
+
+    /**
+     * Launches the command-line compiler in a new JVM and returns the elapsed time.
+     * 
+     * @param libraryFile the library file to compile
+     * @param outputFolder the folder to which compiler output should be written
+     * @return long
+     * @throws IOException thrown if the compiler process cannot be launched
+     * @throws InterruptedException thrown if the current thread is interrupted while waiting for the compiler
+     */
+    private static long runCompiler(File libraryFile, File outputFolder) throws IOException, InterruptedException {
+        String javaCommand = System.getProperty( "java.home" ) + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>();
+        long startTime = System.nanoTime();
+        Process process;
+
+        command.addAll( Arrays.asList( javaCommand, "-cp", System.getProperty( "java.class.path" ),
+            Main.class.getName(), "-d", outputFolder.getAbsolutePath(), "-b", "OTA2",
+            libraryFile.getAbsolutePath() ) );
+        process = new ProcessBuilder( command ).inheritIO().start();
+
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException( "Compiler process exited with status " + process.exitValue() );
+        }
+        return TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+    }
+
+}
@@ -22,6 +22,8 @@ import org.junit.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 /**
  * Verifies the functions of the OTM command-line compiler utility application.
@@ -40,6 +42,27 @@ public class TestCliMain {
         executeCli( libraryFile, outputFolder, "OTA2" );
     }
 
+    @Test
+    public void testCompileLibraryWithMetrics() throws Exception {
+        File libraryFile = new File( testModelsFolder, "/TestLibrary.otm" );
+        File outputFolder = new File( baseOutputFolder, "/testCompileLibraryWithMetrics" );
+        File reportFile = new File( outputFolder, "compiler-metrics.json" );
+        ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+        Main cliMain = new Main();
+        String report;
+
+        reportFile.delete();
+        cliMain.setOutput( streamOut );
+        cliMain.execute( new String[] {"-d", outputFolder.getAbsolutePath(), "-m", reportFile.getAbsolutePath(),
+            libraryFile.getAbsolutePath()} );
+        report = new String( Files.readAllBytes( reportFile.toPath() ), StandardCharsets.UTF_8 );
+
+        Assert.assertTrue( streamOut.toString( "UTF-8" ).contains( reportFile.getAbsolutePath() ) );
+        Assert.assertTrue( report.contains( "\"loading\"" ) );
+        Assert.assertTrue( report.contains( "\"validation\"" ) );
+        Assert.assertTrue( report.contains( "\"xsd\"" ) );
+    }
+
     @Test
     public void testPrintUsage() throws Exception {
         ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
@@ -0,0 +1,195 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.cli;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Verifies the functions of the <code>CompilerDaemon</code> and <code>CompilerClient</code> classes.
+ */
+public class TestCompilerDaemon {
+
+    private static final File testModelsFolder =
+        new File( System.getProperty( "user.dir" ), "/src/test/resources/test-models" );
+    private static final File baseOutputFolder = new File( System.getProperty( "user.dir" ), "/target/test-output" );
+    private static final String UP_TO_DATE = "No changes detected";
+
+    @Test
+    public void testDaemonCompilation() throws Exception {
+        File outputFolder = new File( baseOutputFolder, "/testDaemonCompilation" );
+        File compilerOutputFolder = new File( outputFolder, "/output" );
+        File libraryFile = new File( outputFolder, "/source/TestLibrary.otm" );
+        File tokenFolder = new File( outputFolder, "/tokens" );
+        String[] args = new String[] {"-d", compilerOutputFolder.getAbsolutePath(), libraryFile.getAbsolutePath()};
+        CompilerDaemon daemon = new CompilerDaemon( 0, tokenFolder );
+
+        libraryFile.getParentFile().mkdirs();
+        Files.copy( new File( testModelsFolder, "/TestLibrary.otm" ).toPath(), libraryFile.toPath(),
+            StandardCopyOption.REPLACE_EXISTING );
+
+        try {
+            daemon.start();
+            CompilerClient client = new CompilerClient( daemon.getPort(), tokenFolder );
+            String output = executeClient( client, args );
+
+            Assert.assertTrue( output.contains( "Errors/Warnings Encountered" ) );
+            Assert.assertFalse( output.contains( UP_TO_DATE ) );
+
+            // The second request should be served from the previous compilation
+            output = executeClient( client, args );
+            Assert.assertTrue( output.contains( UP_TO_DATE ) );
+
+            // Modifying the library must cause the next request to be recompiled
+            Files.write( libraryFile.toPath(), Files.readAllBytes( libraryFile.toPath() ) );
+            libraryFile.setLastModified( libraryFile.lastModified() + 10000L );
+            output = executeClient( client, args );
+            Assert.assertTrue( output.contains( "Errors/Warnings Encountered" ) );
+            Assert.assertFalse( output.contains( UP_TO_DATE ) );
+
+            // Deleting the compiler output must also cause the next request to be recompiled
+            deleteFolder( compilerOutputFolder.toPath() );
+            output = executeClient( client, args );
+            Assert.assertFalse( output.contains( UP_TO_DATE ) );
+            Assert.assertTrue( compilerOutputFolder.exists() );
+
+            output = executeClient( client, new String[] {CompilerClient.SHUTDOWN_ARG} );
+            Assert.assertTrue( output.contains( "Compiler Daemon stopped" ) );
+            Assert.assertFalse( daemon.isRunning() );
+
+        } finally {
+            daemon.shutdown();
+        }
+    }
+
+    @Test
+    public void testDaemonRejectsInvalidToken() throws Exception {
+        File tokenFolder = new File( baseOutputFolder, "/testDaemonRejectsInvalidToken" );
+        CompilerDaemon daemon = new CompilerDaemon( 0, tokenFolder );
+
+        try {
+            daemon.start();
+            File tokenFile = daemon.getTokenFile();
+
+            Assert.assertTrue( tokenFile.exists() );
+
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" )) {
+                Assert.assertEquals( PosixFilePermissions.fromString( "rw-------" ),
+                    Files.getPosixFilePermissions( tokenFile.toPath() ) );
+            }
+
+            try (Socket socket = new Socket( InetAddress.getLoopbackAddress(), daemon.getPort() );
+                PrintWriter writer =
+                    new PrintWriter( new OutputStreamWriter( socket.getOutputStream(), StandardCharsets.UTF_8 ) );
+                BufferedReader reader = new BufferedReader(
+                    new InputStreamReader( socket.getInputStream(), StandardCharsets.UTF_8 ) )) {
+                writer.println( "invalid-token" );
+                writer.println( CompilerDaemon.COMMAND_SHUTDOWN );
+                writer.println();
+                writer.flush();
+
+                Assert.assertTrue( reader.readLine().contains( "rejected" ) );
+                Assert.assertEquals( CompilerDaemon.STATUS_PREFIX + CompilerDaemon.STATUS_ERROR, reader.readLine() );
+            }
+            Assert.assertTrue( daemon.isRunning() );
+
+        } finally {
+            daemon.shutdown();
+        }
+        Assert.assertFalse( daemon.getTokenFile().exists() );
+    }
+
+    @Test
+    public void testDaemonUnavailable() throws Exception {
+        File outputFolder = new File( baseOutputFolder, "/testDaemonUnavailable" );
+        File libraryFile = new File( testModelsFolder, "/TestLibrary.otm" );
+        int unusedPort;
+
+        try (ServerSocket socket = new ServerSocket( 0 )) {
+            unusedPort = socket.getLocalPort();
+        }
+        String output = executeClient( new CompilerClient( unusedPort, new File( outputFolder, "/tokens" ) ),
+            new String[] {"-d", outputFolder.getAbsolutePath(), libraryFile.getAbsolutePath()} );
+
+        Assert.assertTrue( output.contains( "is not running" ) );
+        Assert.assertTrue( output.contains( "Errors/Warnings Encountered" ) );
+    }
+
+    @Test
+    public void testUnwatchDependencies() throws Exception {
+        Path sourceFolder = new File( testModelsFolder.getAbsolutePath() ).toPath();
+        Path file1 = sourceFolder.resolve( "TestLibrary.otm" );
+        Path file2 = baseOutputFolder.toPath().resolve( "Other.otm" );
+
+        baseOutputFolder.mkdirs();
+
+        try (DependencyWatcher watcher = new DependencyWatcher( f -> {
+        } )) {
+            watcher.start();
+            watcher.watch( Arrays.asList( file1, file2 ) );
+            Assert.assertTrue( watcher.isWatched( file1 ) );
+            Assert.assertTrue( watcher.isWatched( file2 ) );
+
+            watcher.retain( Collections.singletonList( file1 ) );
+            Assert.assertTrue( watcher.isWatched( file1 ) );
+            Assert.assertFalse( watcher.isWatched( file2 ) );
+            Assert.assertTrue( watcher.isFolderWatched( file1.getParent() ) );
+            Assert.assertFalse( watcher.isFolderWatched( file2.getParent() ) );
+
+            watcher.retain( Collections.emptyList() );
+            Assert.assertFalse( watcher.isWatched( file1 ) );
+            Assert.assertFalse( watcher.isFolderWatched( file1.getParent() ) );
+        }
+    }
+
+    private String executeClient(CompilerClient client, String[] args) throws Exception {
+        ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+
+        client.setOutput( streamOut );
+        Assert.assertEquals( CompilerDaemon.STATUS_SUCCESS, client.execute( args ) );
+        return streamOut.toString( "UTF-8" );
+    }
+
+    private void deleteFolder(Path folder) throws Exception {
+        try (Stream<Path> paths = Files.walk( folder )) {
+            for (Path path : (Iterable<Path>) paths.sorted( Comparator.reverseOrder() )::iterator) {
+                Files.delete( path );
+            }
+        }
+    }
+
+}
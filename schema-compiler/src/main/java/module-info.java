@@ -19,6 +19,8 @@ open module org.opentravel.schemacompiler {
     requires org.apache.logging.log4j;
     requires com.sun.xml.bind;
     requires transitive java.xml;
+    requires java.management;
+    requires jdk.management;
     requires java.xml.bind;
     requires spring.jcl;
 
@@ -46,6 +46,8 @@ public abstract class AbstractExampleCodeGenerator extends AbstractCodeGenerator
      */
     protected final String fileExtension;
 
+    private ExampleGenerationCache generationCache;
+
     /**
      * Constructor which sets the file extension to be used.
      * 
@@ -55,6 +57,26 @@ public abstract class AbstractExampleCodeGenerator extends AbstractCodeGenerator
         this.fileExtension = fileExtension;
     }
 
+    /**
+     * Returns the cache of validation and navigation results that is shared with other example generators during the
+     * current compilation pass (may be null).
+     * 
+     * @return ExampleGenerationCache
+     */
+    public ExampleGenerationCache getGenerationCache() {
+        return generationCache;
+    }
+
+    /**
+     * Assigns the cache of validation and navigation results that is shared with other example generators during the
+     * current compilation pass.
+     * 
+     * @param generationCache the shared example generation cache to assign
+     */
+    public void setGenerationCache(ExampleGenerationCache generationCache) {
+        this.generationCache = generationCache;
+    }
+
     /**
      * Constructs the <code>ExampleGeneratorOptions</code> using the code generation context provided.
      * 
@@ -37,6 +37,7 @@ public abstract class ExampleBuilder<T> {
 
     protected ExampleGeneratorOptions options = new ExampleGeneratorOptions();
     protected NamedEntity modelElement;
+    protected ExampleGenerationCache generationCache;
 
     /**
      * Default constructor.
@@ -76,6 +77,19 @@ public abstract class ExampleBuilder<T> {
         return this;
     }
 
+    /**
+     * Assigns the cache of validation and navigation results that should be shared with other builders during the
+     * current compilation pass. Assigning a null value will cause all validation and navigation to be performed by this
+     * builder.
+     * 
+     * @param generationCache the shared example generation cache
+     * @return ExampleBuilder&lt;T&gt;
+     */
+    public ExampleBuilder<T> setGenerationCache(ExampleGenerationCache generationCache) {
+        this.generationCache = generationCache;
+        return this;
+    }
+
     /**
      * Validates the current model element and all of its dependencies and throws a <code>ValidationException</code> if
      * one or more errors are detected.
@@ -87,13 +101,31 @@ public abstract class ExampleBuilder<T> {
         if (modelElement == null) {
             throw new NullPointerException( "The model element for example output cannot be null." );
         }
-        ValidationFindings findings = TLModelCompileValidator.validateModelElement( (TLModelElement) modelElement );
+        ValidationFindings findings = (generationCache != null)
+            ? generationCache.getValidationFindings( modelElement )
+            : TLModelCompileValidator.validateModelElement( (TLModelElement) modelElement );
 
         if (findings.hasFinding( FindingType.ERROR )) {
             throw new ValidationException( "Unable to generate example content due to validation errors.", findings );
         }
     }
 
+    /**
+     * Navigates the current model element, delivering the resulting events to the visitor provided.
+     * 
+     * @param visitor the visitor to be notified of navigation events
+     * @param navigateLatestMinorVersions flag indicating whether navigation should follow the latest minor version of
+     *        each referenced entity
+     */
+    protected void navigateModelElement(ExampleVisitor visitor, boolean navigateLatestMinorVersions) {
+        if (generationCache != null) {
+            generationCache.navigate( modelElement, visitor, options, navigateLatestMinorVersions );
+
+        } else {
+            ExampleNavigator.navigate( modelElement, visitor, options, navigateLatestMinorVersions );
+        }
+    }
+
     /**
      * Generates the example output and returns a string containing the content.
      * 
@@ -127,7 +127,7 @@ public class ExampleDocumentBuilder extends ExampleBuilder<Document> {
         Document domDocument;
 
         validateModelElement();
-        ExampleNavigator.navigate( modelElement, visitor, options, false );
+        navigateModelElement( visitor, false );
         domDocument = visitor.getDocument();
 
         if (schemaLocationRequired()) {
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.example;
+
+import org.opentravel.schemacompiler.codegen.example.RecordingExampleVisitor.ExampleEvent;
+import org.opentravel.schemacompiler.codegen.json.JsonSchemaCodegenUtils;
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLModelElement;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.validate.compile.CompileValidationCache;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache that allows the results of example validation and navigation to be shared by the example builders of a single
+ * compilation pass. The model is assumed to remain unchanged for the lifetime of the cache.
+ *
+ * <p>
+ * The validation findings for each entity are retained so that dependencies shared by many library members are only
+ * validated once. The visitor events produced by the most recent navigation are also retained, so that the XML and
+ * JSON examples for the same member can be produced from a single navigation of the model. Navigations are only shared
+ * when the model contains no later minor versions of its libraries, since the JSON examples follow the latest minor
+ * version of each referenced entity while XML examples do not.
+ */
+public class ExampleGenerationCache {
+
+    private CompileValidationCache validationCache = new CompileValidationCache();
+    private Map<TLModel,Boolean> minorVersionFreeModels = new IdentityHashMap<>();
+    private NamedEntity recordedEntity;
+    private String recordedNavigationKey;
+    private List<ExampleEvent> recordedEvents;
+
+    /**
+     * Returns the validation findings for the given entity and all of its dependencies.
+     *
+     * @param entity the entity to validate
+     * @return ValidationFindings
+     */
+    public ValidationFindings getValidationFindings(NamedEntity entity) {
+        return validationCache.getFindings( (TLModelElement) entity );
+    }
+
+    /**
+     * Navigates the given entity and delivers the resulting events to the visitor provided. If the events of an
+     * equivalent navigation are already cached, they are replayed instead of navigating the model a second time.
+     *
+     * @param target the entity to navigate
+     * @param visitor the visitor to be notified of navigation events
+     * @param options the example generation options
+     * @param navigateLatestMinorVersions flag indicating whether navigation should follow the latest minor version of
+     *        each referenced entity
+     */
+    public void navigate(NamedEntity target, ExampleVisitor visitor, ExampleGeneratorOptions options,
+        boolean navigateLatestMinorVersions) {
+        ExampleGeneratorOptions navOptions = (options != null) ? options : new ExampleGeneratorOptions();
+        TLModel model = target.getOwningModel();
+        boolean shareable = (model != null) && isMinorVersionFree( model );
+
+        if (!shareable) {
+            ExampleNavigator.navigate( target, visitor, navOptions, navigateLatestMinorVersions );
+
+        } else if ((target == recordedEntity) && navOptions.getNavigationKey().equals( recordedNavigationKey )) {
+            for (ExampleEvent event : recordedEvents) {
+                event.deliver( visitor );
+            }
+
+        } else {
+            List<ExampleEvent> events = new ArrayList<>();
+
+            recordedEntity = null;
+            ExampleNavigator.navigate( target, new RecordingExampleVisitor( visitor, events::add ), navOptions,
+                navigateLatestMinorVersions );
+            recordedEntity = target;
+            recordedNavigationKey = navOptions.getNavigationKey();
+            recordedEvents = events;
+        }
+    }
+
+    /**
+     * Returns true if none of the user-defined libraries in the given model have a later minor version in the same
+     * model. In such models, following the latest minor version of a referenced entity always yields the entity
+     * itself.
+     *
+     * @param model the model to check
+     * @return boolean
+     */
+    private boolean isMinorVersionFree(TLModel model) {
+        return minorVersionFreeModels.computeIfAbsent( model, m -> {
+            boolean result = true;
+
+            for (TLLibrary library : m.getUserDefinedLibraries()) {
+                if (!JsonSchemaCodegenUtils.isLatestMinorVersion( library )) {
+                    result = false;
+                    break;
+                }
+            }
+            return result;
+        } );
+    }
+
+}
@@ -161,4 +161,15 @@ public class ExampleGeneratorOptions {
         this.suppressOptionalFields = suppressOptionalFields;
     }
 
+    /**
+     * Returns a key that identifies all of the option values that affect the navigation of the model. Two option
+     * instances with the same navigation key will produce identical sequences of visitor events for the same entity.
+     * 
+     * @return String
+     */
+    String getNavigationKey() {
+        return detailLevel + "|" + exampleContext + "|" + maxRepeat + "|" + maxRecursionDepth + "|"
+            + suppressOptionalFields + "|" + preferredFacetMap;
+    }
+
 }
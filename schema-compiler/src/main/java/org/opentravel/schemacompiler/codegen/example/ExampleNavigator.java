@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.codegen.example;
 
 import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions.DetailLevel;
+import org.opentravel.schemacompiler.codegen.example.RecordingExampleVisitor.ExampleEvent;
 import org.opentravel.schemacompiler.codegen.json.JsonSchemaCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.AliasCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.ExtensionPointRegistry;
@@ -59,10 +60,13 @@ import org.opentravel.schemacompiler.model.XSDElement;
 import org.opentravel.schemacompiler.model.XSDSimpleType;
 import org.opentravel.schemacompiler.version.Versioned;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -78,14 +82,20 @@ import javax.xml.XMLConstants;
  */
 public class ExampleNavigator {
 
+    private static final int MAX_RECORDED_EVENTS = 10000;
+    private static final int MAX_SUBTREE_VARIANTS = 8;
+
     private static FacetCodegenDelegateFactory facetDelegateFactory = new FacetCodegenDelegateFactory( null );
 
     private Deque<Object> entityStack = new LinkedList<>();
+    private Map<TLFacet,List<SubtreeRecording>> memoizedSubtrees = new IdentityHashMap<>();
+    private Deque<SubtreeRecording> activeRecordings = new ArrayDeque<>();
     private ExtensionPointRegistry extensionPointRegistry;
     private Map<TLChoiceObject,List<TLFacet>> choiceFacetRotation = new HashMap<>();
     private ExampleGeneratorOptions options;
     private ExampleVisitor visitor;
     private boolean navigateLatestMinorVersions = false;
+    private int replayCount = 0;
 
     /**
      * Constructor that initializes the visitor to be notified when model elements are encountered during navigation.
@@ -99,7 +109,7 @@ public class ExampleNavigator {
     public ExampleNavigator(ExampleVisitor visitor, ExampleGeneratorOptions options, TLModel model,
         boolean navigateLatestMinorVersions) {
         this.options = (options != null) ? options : new ExampleGeneratorOptions();
-        this.visitor = visitor;
+        this.visitor = new RecordingExampleVisitor( visitor, this::recordEvent );
         this.navigateLatestMinorVersions = navigateLatestMinorVersions;
         this.extensionPointRegistry = new ExtensionPointRegistry( model );
     }
@@ -120,6 +130,16 @@ public class ExampleNavigator {
             .navigateEntity( target );
     }
 
+    /**
+     * Returns the number of facet subtrees that this navigator has replayed from previously-recorded visitor events
+     * instead of navigating them again.
+     * 
+     * @return int
+     */
+    public int getReplayCount() {
+        return replayCount;
+    }
+
     /**
      * Navigates the given <code>NamedEntity</code> and its sub-elements in a depth-first fashion.
      * 
@@ -364,29 +384,56 @@ public class ExampleNavigator {
     /**
      * Called when a <code>TLFacet</code> instance is encountered during model navigation.
      * 
+     * <p>
+     * The visitor events produced by each facet subtree are recorded so that later occurrences of the same facet (e.g.
+     * repeating elements or shared core objects) can be replayed without navigating the subtree again. A recorded
+     * subtree is only replayed when the recursion counts of the current navigation path would produce the same
+     * visitation decisions as the ones that were made when the subtree was recorded. Since all example values are
+     * produced by the visitor as the events are delivered, replayed subtrees receive the same value variations as a
+     * full navigation would.
+     * 
      * @param facet the facet entity to visit and navigate
      */
     public void navigateFacet(TLFacet facet) {
         TLFacet navFacet = getReference( facet );
 
-        try {
-            if (facet instanceof TLContextualFacet) {
-                TLFacet preferredFacet = options.getPreferredFacet( (TLContextualFacet) facet );
+        if (facet instanceof TLContextualFacet) {
+            TLFacet preferredFacet = options.getPreferredFacet( (TLContextualFacet) facet );
 
-                if (preferredFacet != null) {
-                    navFacet = preferredFacet;
-                }
+            if (preferredFacet != null) {
+                navFacet = preferredFacet;
             }
+        }
+        Map<Object,Integer> recursionCounts = getRecursionCounts();
+        SubtreeRecording memoizedSubtree = findMemoizedSubtree( navFacet, recursionCounts );
 
-            incrementRecursionCount( navFacet );
+        if (memoizedSubtree != null) {
+            replaySubtree( memoizedSubtree );
 
-            if (canVisit( navFacet )) {
-                visitor.startFacet( navFacet );
-                navigateFacetMembers( navFacet );
-                visitor.endFacet( navFacet );
+        } else {
+            SubtreeRecording recording = new SubtreeRecording( recursionCounts );
+            boolean success = false;
+
+            activeRecordings.push( recording );
+
+            try {
+                incrementRecursionCount( navFacet );
+
+                if (canVisit( navFacet )) {
+                    visitor.startFacet( navFacet );
+                    navigateFacetMembers( navFacet );
+                    visitor.endFacet( navFacet );
+                }
+                success = true;
+
+            } finally {
+                decrementRecursionCount( navFacet );
+                activeRecordings.pop();
+
+                if (success) {
+                    memoizeSubtree( navFacet, recording );
+                }
             }
-        } finally {
-            decrementRecursionCount( navFacet );
         }
     }
 
@@ -584,6 +631,89 @@ public class ExampleNavigator {
         }
     }
 
+    /**
+     * Returns the number of times that each object appears on the current navigation path.
+     * 
+     * @return Map&lt;Object,Integer&gt;
+     */
+    private Map<Object,Integer> getRecursionCounts() {
+        Map<Object,Integer> recursionCounts = new IdentityHashMap<>();
+
+        for (Object visitedEntity : entityStack) {
+            recursionCounts.merge( visitedEntity, 1, Integer::sum );
+        }
+        return recursionCounts;
+    }
+
+    /**
+     * Returns a previously-recorded subtree for the given facet that can be replayed from the current navigation path,
+     * or null if no such recording exists.
+     * 
+     * @param facet the facet whose subtree is to be navigated
+     * @param recursionCounts the recursion counts of the current navigation path
+     * @return SubtreeRecording
+     */
+    private SubtreeRecording findMemoizedSubtree(TLFacet facet, Map<Object,Integer> recursionCounts) {
+        List<SubtreeRecording> recordings = memoizedSubtrees.get( facet );
+        SubtreeRecording memoizedSubtree = null;
+
+        if (recordings != null) {
+            for (SubtreeRecording recording : recordings) {
+                if (recording.isReplayable( recursionCounts )) {
+                    memoizedSubtree = recording;
+                    break;
+                }
+            }
+        }
+        return memoizedSubtree;
+    }
+
+    /**
+     * Saves the given subtree recording so that it can be replayed during subsequent navigations of the same facet.
+     * 
+     * @param facet the facet whose subtree was recorded
+     * @param recording the recording of the facet's subtree
+     */
+    private void memoizeSubtree(TLFacet facet, SubtreeRecording recording) {
+        recording.endRecording();
+
+        if (recording.isComplete()) {
+            List<SubtreeRecording> recordings = memoizedSubtrees.computeIfAbsent( facet, f -> new ArrayList<>() );
+
+            if (recordings.size() < MAX_SUBTREE_VARIANTS) {
+                recordings.add( recording );
+            }
+        }
+    }
+
+    /**
+     * Replays the visitor events of a previously-recorded subtree. If other subtrees are currently being recorded, the
+     * replayed events (and the visitation checks they depend upon) are included in those recordings as well.
+     * 
+     * @param memoizedSubtree the subtree recording to replay
+     */
+    private void replaySubtree(SubtreeRecording memoizedSubtree) {
+        replayCount++;
+
+        for (SubtreeRecording recording : activeRecordings) {
+            recording.addVisitedObjects( memoizedSubtree );
+        }
+        for (ExampleEvent event : memoizedSubtree.getEvents()) {
+            event.deliver( visitor );
+        }
+    }
+
+    /**
+     * Adds the given visitor event to all of the subtree recordings that are currently active.
+     * 
+     * @param event the visitor event to record
+     */
+    private void recordEvent(ExampleEvent event) {
+        for (SubtreeRecording recording : activeRecordings) {
+            recording.addEvent( event );
+        }
+    }
+
     /**
      * Returns true if the given object can be visited based on its recursion count within the current depth-first
      * navigation structure.
@@ -602,6 +732,10 @@ public class ExampleNavigator {
             int maxRecursion = Math.max( 1, options.getMaxRecursionDepth() );
             int recursionCount = 0;
 
+            for (SubtreeRecording recording : activeRecordings) {
+                recording.addVisitedObject( obj );
+            }
+
             for (Object visitedEntity : entityStack) {
                 if (visitedEntity == obj) {
                     recursionCount++;
@@ -1258,4 +1392,119 @@ public class ExampleNavigator {
         return xsdEntity;
     }
 
+    /**
+     * Recording of the visitor events produced by the navigation of a single facet subtree. Along with the events, the
+     * recording captures every object whose visitation was checked during the navigation, and the number of times each
+     * of those objects appeared on the navigation path above the subtree. The recording can be replayed from any other
+     * navigation path where those objects appear the same number of times, since the same visitation decisions would be
+     * made.
+     */
+    private static class SubtreeRecording {
+
+        private Map<Object,Integer> pathCounts;
+        private Set<Object> visitedObjects = Collections.newSetFromMap( new IdentityHashMap<>() );
+        private Map<Object,Integer> dependentCounts = new IdentityHashMap<>();
+        private List<ExampleEvent> events = new ArrayList<>();
+
+        /**
+         * Constructor that specifies the recursion counts of the navigation path above the recorded subtree.
+         * 
+         * @param pathCounts the recursion counts of the current navigation path
+         */
+        public SubtreeRecording(Map<Object,Integer> pathCounts) {
+            this.pathCounts = pathCounts;
+        }
+
+        /**
+         * Called when the navigation of the recorded subtree is complete to release the resources that are only
+         * required while the recording is in progress.
+         */
+        public void endRecording() {
+            pathCounts = null;
+        }
+
+        /**
+         * Returns the list of visitor events that were recorded for the subtree.
+         * 
+         * @return List&lt;ExampleEvent&gt;
+         */
+        public List<ExampleEvent> getEvents() {
+            return events;
+        }
+
+        /**
+         * Returns true if the recording captured all of the events of the subtree without exceeding the maximum number
+         * of recorded events.
+         * 
+         * @return boolean
+         */
+        public boolean isComplete() {
+            return events != null;
+        }
+
+        /**
+         * Adds the given event to this recording.
+         * 
+         * @param event the visitor event to record
+         */
+        public void addEvent(ExampleEvent event) {
+            if (events != null) {
+                if (events.size() < MAX_RECORDED_EVENTS) {
+                    events.add( event );
+
+                } else {
+                    events = null;
+                }
+            }
+        }
+
+        /**
+         * Registers an object whose visitation was checked during the navigation of the recorded subtree.
+         * 
+         * @param obj the object that was checked
+         */
+        public void addVisitedObject(Object obj) {
+            if (visitedObjects.add( obj )) {
+                Integer pathCount = pathCounts.get( obj );
+
+                if (pathCount != null) {
+                    dependentCounts.put( obj, pathCount );
+                }
+            }
+        }
+
+        /**
+         * Registers all of the objects that were checked during the navigation of a nested subtree that was replayed
+         * from an earlier recording.
+         * 
+         * @param nestedSubtree the nested subtree recording that was replayed
+         */
+        public void addVisitedObjects(SubtreeRecording nestedSubtree) {
+            for (Object obj : nestedSubtree.visitedObjects) {
+                addVisitedObject( obj );
+            }
+        }
+
+        /**
+         * Returns true if this recording produces the same visitor events as a navigation from a path with the
+         * recursion counts provided.
+         * 
+         * @param recursionCounts the recursion counts of the current navigation path
+         * @return boolean
+         */
+        public boolean isReplayable(Map<Object,Integer> recursionCounts) {
+            boolean replayable = true;
+            int matchCount = 0;
+
+            for (Map.Entry<Object,Integer> entry : recursionCounts.entrySet()) {
+                if (visitedObjects.contains( entry.getKey() )) {
+                    replayable &= entry.getValue().equals( dependentCounts.get( entry.getKey() ) );
+                    matchCount++;
+                }
+            }
+            return replayable && (matchCount == dependentCounts.size());
+        }
+
+    }
+
 }
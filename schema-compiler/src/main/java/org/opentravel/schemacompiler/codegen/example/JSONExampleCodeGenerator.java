@@ -71,6 +71,7 @@ public class JSONExampleCodeGenerator extends AbstractExampleCodeGenerator {
             try (OutputStream out = new FileOutputStream( outputFile );) {
                 ExampleJsonBuilder exampleBuilder = new ExampleJsonBuilder( getOptions( context ) );
                 exampleBuilder.setModelElement( (NamedEntity) source );
+                exampleBuilder.setGenerationCache( getGenerationCache() );
                 JsonNode node = exampleBuilder.buildTree();
                 getObjectMapper().writeValue( out, node );
                 addGeneratedFile( outputFile );
@@ -0,0 +1,368 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.example;
+
+import org.opentravel.schemacompiler.model.TLActionFacet;
+import org.opentravel.schemacompiler.model.TLAlias;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLAttributeType;
+import org.opentravel.schemacompiler.model.TLExtensionPointFacet;
+import org.opentravel.schemacompiler.model.TLFacet;
+import org.opentravel.schemacompiler.model.TLIndicator;
+import org.opentravel.schemacompiler.model.TLListFacet;
+import org.opentravel.schemacompiler.model.TLOpenEnumeration;
+import org.opentravel.schemacompiler.model.TLPatchableFacet;
+import org.opentravel.schemacompiler.model.TLProperty;
+import org.opentravel.schemacompiler.model.TLRole;
+import org.opentravel.schemacompiler.model.TLRoleEnumeration;
+import org.opentravel.schemacompiler.model.TLValueWithAttributes;
+import org.opentravel.schemacompiler.model.XSDComplexType;
+import org.opentravel.schemacompiler.model.XSDElement;
+
+import java.util.Collection;
+
+/**
+ * Visitor that forwards all of the events it receives to a delegate visitor, reporting each event to a listener before
+ * it is delivered. This allows the <code>ExampleNavigator</code> to record the visitor events produced by a navigated
+ * subtree so they can be replayed later without repeating the navigation.
+ */
+class RecordingExampleVisitor implements ExampleVisitor {
+
+    private ExampleVisitor delegate;
+    private EventListener listener;
+
+    /**
+     * Represents a single visitor event that can be delivered (or re-delivered) to an <code>ExampleVisitor</code>.
+     */
+    @FunctionalInterface
+    interface ExampleEvent {
+
+        /**
+         * Delivers this event to the given visitor.
+         * 
+         * @param visitor the visitor to which the event should be delivered
+         */
+        public void deliver(ExampleVisitor visitor);
+
+    }
+
+    /**
+     * Listener that is notified of each visitor event before it is delivered to the delegate visitor.
+     */
+    @FunctionalInterface
+    interface EventListener {
+
+        /**
+         * Called when a visitor event is received.
+         * 
+         * @param event the visitor event that was received
+         */
+        public void eventReceived(ExampleEvent event);
+
+    }
+
+    /**
+     * Constructor that specifies the delegate visitor and the listener to notify when events are received.
+     * 
+     * @param delegate the visitor to which all events will be forwarded
+     * @param listener the listener to notify when events are received
+     */
+    public RecordingExampleVisitor(ExampleVisitor delegate, EventListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the delegate visitor to which all events are forwarded.
+     * 
+     * @return ExampleVisitor
+     */
+    public ExampleVisitor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Reports the given event to the listener and delivers it to the delegate visitor.
+     * 
+     * @param event the visitor event to process
+     */
+    private void process(ExampleEvent event) {
+        listener.eventReceived( event );
+        event.deliver( delegate );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#getBoundNamespaces()
+     */
+    @Override
+    public Collection<String> getBoundNamespaces() {
+        return delegate.getBoundNamespaces();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#visitSimpleType(org.opentravel.schemacompiler.model.TLAttributeType)
+     */
+    @Override
+    public void visitSimpleType(TLAttributeType simpleType) {
+        process( v -> v.visitSimpleType( simpleType ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startFacet(org.opentravel.schemacompiler.model.TLFacet)
+     */
+    @Override
+    public void startFacet(TLFacet facet) {
+        process( v -> v.startFacet( facet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endFacet(org.opentravel.schemacompiler.model.TLFacet)
+     */
+    @Override
+    public void endFacet(TLFacet facet) {
+        process( v -> v.endFacet( facet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startListFacet(org.opentravel.schemacompiler.model.TLListFacet,
+     *      org.opentravel.schemacompiler.model.TLRole)
+     */
+    @Override
+    public void startListFacet(TLListFacet listFacet, TLRole role) {
+        process( v -> v.startListFacet( listFacet, role ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endListFacet(org.opentravel.schemacompiler.model.TLListFacet,
+     *      org.opentravel.schemacompiler.model.TLRole)
+     */
+    @Override
+    public void endListFacet(TLListFacet listFacet, TLRole role) {
+        process( v -> v.endListFacet( listFacet, role ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startAlias(org.opentravel.schemacompiler.model.TLAlias)
+     */
+    @Override
+    public void startAlias(TLAlias alias) {
+        process( v -> v.startAlias( alias ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endAlias(org.opentravel.schemacompiler.model.TLAlias)
+     */
+    @Override
+    public void endAlias(TLAlias alias) {
+        process( v -> v.endAlias( alias ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startActionFacet(org.opentravel.schemacompiler.model.TLActionFacet,
+     *      org.opentravel.schemacompiler.model.TLFacet)
+     */
+    @Override
+    public void startActionFacet(TLActionFacet actionFacet, TLFacet payloadFacet) {
+        process( v -> v.startActionFacet( actionFacet, payloadFacet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endActionFacet(org.opentravel.schemacompiler.model.TLActionFacet,
+     *      org.opentravel.schemacompiler.model.TLFacet)
+     */
+    @Override
+    public void endActionFacet(TLActionFacet actionFacet, TLFacet payloadFacet) {
+        process( v -> v.endActionFacet( actionFacet, payloadFacet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startAttribute(org.opentravel.schemacompiler.model.TLAttribute)
+     */
+    @Override
+    public void startAttribute(TLAttribute attribute) {
+        process( v -> v.startAttribute( attribute ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endAttribute(org.opentravel.schemacompiler.model.TLAttribute)
+     */
+    @Override
+    public void endAttribute(TLAttribute attribute) {
+        process( v -> v.endAttribute( attribute ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startElement(org.opentravel.schemacompiler.model.TLProperty)
+     */
+    @Override
+    public void startElement(TLProperty element) {
+        process( v -> v.startElement( element ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endElement(org.opentravel.schemacompiler.model.TLProperty)
+     */
+    @Override
+    public void endElement(TLProperty element) {
+        process( v -> v.endElement( element ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startIndicatorAttribute(org.opentravel.schemacompiler.model.TLIndicator)
+     */
+    @Override
+    public void startIndicatorAttribute(TLIndicator indicator) {
+        process( v -> v.startIndicatorAttribute( indicator ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endIndicatorAttribute(org.opentravel.schemacompiler.model.TLIndicator)
+     */
+    @Override
+    public void endIndicatorAttribute(TLIndicator indicator) {
+        process( v -> v.endIndicatorAttribute( indicator ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startIndicatorElement(org.opentravel.schemacompiler.model.TLIndicator)
+     */
+    @Override
+    public void startIndicatorElement(TLIndicator indicator) {
+        process( v -> v.startIndicatorElement( indicator ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endIndicatorElement(org.opentravel.schemacompiler.model.TLIndicator)
+     */
+    @Override
+    public void endIndicatorElement(TLIndicator indicator) {
+        process( v -> v.endIndicatorElement( indicator ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startOpenEnumeration(org.opentravel.schemacompiler.model.TLOpenEnumeration)
+     */
+    @Override
+    public void startOpenEnumeration(TLOpenEnumeration openEnum) {
+        process( v -> v.startOpenEnumeration( openEnum ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endOpenEnumeration(org.opentravel.schemacompiler.model.TLOpenEnumeration)
+     */
+    @Override
+    public void endOpenEnumeration(TLOpenEnumeration openEnum) {
+        process( v -> v.endOpenEnumeration( openEnum ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startRoleEnumeration(org.opentravel.schemacompiler.model.TLRoleEnumeration)
+     */
+    @Override
+    public void startRoleEnumeration(TLRoleEnumeration roleEnum) {
+        process( v -> v.startRoleEnumeration( roleEnum ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endRoleEnumeration(org.opentravel.schemacompiler.model.TLRoleEnumeration)
+     */
+    @Override
+    public void endRoleEnumeration(TLRoleEnumeration roleEnum) {
+        process( v -> v.endRoleEnumeration( roleEnum ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startValueWithAttributes(org.opentravel.schemacompiler.model.TLValueWithAttributes)
+     */
+    @Override
+    public void startValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
+        process( v -> v.startValueWithAttributes( valueWithAttributes ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endValueWithAttributes(org.opentravel.schemacompiler.model.TLValueWithAttributes)
+     */
+    @Override
+    public void endValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
+        process( v -> v.endValueWithAttributes( valueWithAttributes ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startExtensionPoint(org.opentravel.schemacompiler.model.TLPatchableFacet)
+     */
+    @Override
+    public void startExtensionPoint(TLPatchableFacet facet) {
+        process( v -> v.startExtensionPoint( facet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endExtensionPoint(org.opentravel.schemacompiler.model.TLPatchableFacet)
+     */
+    @Override
+    public void endExtensionPoint(TLPatchableFacet facet) {
+        process( v -> v.endExtensionPoint( facet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startExtensionPointFacet(org.opentravel.schemacompiler.model.TLExtensionPointFacet)
+     */
+    @Override
+    public void startExtensionPointFacet(TLExtensionPointFacet facet) {
+        process( v -> v.startExtensionPointFacet( facet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endExtensionPointFacet(org.opentravel.schemacompiler.model.TLExtensionPointFacet)
+     */
+    @Override
+    public void endExtensionPointFacet(TLExtensionPointFacet facet) {
+        process( v -> v.endExtensionPointFacet( facet ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startXsdComplexType(org.opentravel.schemacompiler.model.XSDComplexType)
+     */
+    @Override
+    public void startXsdComplexType(XSDComplexType xsdComplexType) {
+        process( v -> v.startXsdComplexType( xsdComplexType ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endXsdComplexType(org.opentravel.schemacompiler.model.XSDComplexType)
+     */
+    @Override
+    public void endXsdComplexType(XSDComplexType xsdComplexType) {
+        process( v -> v.endXsdComplexType( xsdComplexType ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startXsdElement(org.opentravel.schemacompiler.model.XSDElement)
+     */
+    @Override
+    public void startXsdElement(XSDElement xsdElement) {
+        process( v -> v.startXsdElement( xsdElement ) );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endXsdElement(org.opentravel.schemacompiler.model.XSDElement)
+     */
+    @Override
+    public void endXsdElement(XSDElement xsdElement) {
+        process( v -> v.endXsdElement( xsdElement ) );
+    }
+
+}
@@ -62,6 +62,7 @@ public class XMLExampleCodeGenerator extends AbstractExampleCodeGenerator {
         try (OutputStream out = new FileOutputStream( outputFile );) {
             ExampleDocumentBuilder exampleBuilder = new ExampleDocumentBuilder( getOptions( context ) );
             exampleBuilder.setModelElement( (NamedEntity) source );
+            exampleBuilder.setGenerationCache( getGenerationCache() );
 
             // Register the schema location for each library in the model
             registerSchemaLocations( exampleBuilder, source.getOwningModel(), context );
@@ -75,7 +75,7 @@ public class Configuration {
      */
     public static final String CONSTANTS_FILE_NAME = "constant-values.html";
 
-    private static Configuration instance = new Configuration();
+    private static final ThreadLocal<Configuration> currentConfiguration = new ThreadLocal<>();
 
     /**
      * Argument for command line option "-doctitle".
@@ -108,11 +108,6 @@ public class Configuration {
      */
     private String topFile = "";
 
-    /**
-     * The classdoc for the class file getting generated.
-     */
-    private DocumentationBuilder currentMember = null;
-
     /**
      * The Root of the generated Program Structure from the Doclet API.
      */
@@ -177,24 +172,56 @@ public class Configuration {
 
     private ExampleGeneratorOptions exampleOptions;
 
+    private int workerCount = Runtime.getRuntime().availableProcessors();
+
     /**
      * Constructor. Initializes resource for the {@link com.sun.tools.doclets.MessageRetriever}.
      */
-    private Configuration() {
+    public Configuration() {
         message = new MessageRetriever( this, DOCLETS_RESOURCE );
         setTopFile( "overview-summary.html" );
     }
 
     /**
-     * Reset to a fresh new Configuration, to allow multiple invocations of javadoc within a single VM. It would be
-     * better not to be using static fields at all, but .... (sigh).
+     * Binds a fresh new Configuration to the current thread.
      */
     public static void reset() {
-        instance = new Configuration();
+        currentConfiguration.set( new Configuration() );
     }
 
+    /**
+     * Returns the configuration of the documentation run that is executing on the current thread. If no run is
+     * active, a new configuration is created and bound to the current thread.
+     * 
+     * @return Configuration
+     */
     public static Configuration getInstance() {
-        return instance;
+        Configuration config = currentConfiguration.get();
+
+        if (config == null) {
+            config = new Configuration();
+            currentConfiguration.set( config );
+        }
+        return config;
+    }
+
+    /**
+     * Binds the given configuration to the current thread for the duration of a documentation run and returns the
+     * configuration (if any) that was previously bound.
+     * 
+     * @param config the configuration to bind to the current thread (null to clear the binding)
+     * @return Configuration
+     */
+    public static Configuration bind(Configuration config) {
+        Configuration previous = currentConfiguration.get();
+
+        if (config == null) {
+            currentConfiguration.remove();
+
+        } else {
+            currentConfiguration.set( config );
+        }
+        return previous;
     }
 
     /**
@@ -416,13 +443,31 @@ public class Configuration {
      *
      * @return the builder factory for this doclet.
      */
-    public DocumentationBuilderFactory getBuilderFactory() {
+    public synchronized DocumentationBuilderFactory getBuilderFactory() {
         if (builderFactory == null) {
-            builderFactory = DocumentationBuilderFactory.getInstance();
+            builderFactory = new DocumentationBuilderFactory();
         }
         return builderFactory;
     }
 
+    /**
+     * Returns the number of worker threads used to write library and library member pages.
+     *
+     * @return int
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Assigns the number of worker threads used to write library and library member pages.
+     *
+     * @param workerCount the field value to assign
+     */
+    public void setWorkerCount(int workerCount) {
+        this.workerCount = Math.max( workerCount, 1 );
+    }
+
     public void setModel(TLModel model) {
         this.model = model;
     }
@@ -554,24 +599,6 @@ public class Configuration {
         this.topFile = topFile;
     }
 
-    /**
-     * Returns the value of the 'currentMember' field.
-     *
-     * @return DocumentationBuilder
-     */
-    public DocumentationBuilder getCurrentMember() {
-        return currentMember;
-    }
-
-    /**
-     * Assigns the value of the 'currentMember' field.
-     *
-     * @param currentMember the field value to assign
-     */
-    public void setCurrentMember(DocumentationBuilder currentMember) {
-        this.currentMember = currentMember;
-    }
-
     /**
      * Returns the value of the 'docencoding' field.
      *
@@ -31,7 +31,7 @@ public abstract class Content {
      */
     public String toString() {
         StringBuilder contentBuilder = new StringBuilder();
-        write( contentBuilder );
+        write( new ContentWriter( contentBuilder ) );
         return contentBuilder.toString();
     }
 
@@ -50,11 +50,11 @@ public abstract class Content {
     public abstract void addContent(String stringContent);
 
     /**
-     * Writes content to a StringBuilder.
+     * Writes content to the given content writer.
      * 
-     * @param contentBuilder the string builder to which content should be written
+     * @param contentWriter the content writer to which content should be written
      */
-    public abstract void write(StringBuilder contentBuilder);
+    public abstract void write(ContentWriter contentWriter);
 
     /**
      * Returns true if the content is empty.
@@ -87,27 +87,10 @@ public abstract class Content {
     /**
      * Returns true if the content ends with a newline character. Empty content is considered as ending with new line.
      *
-     * @param contentBuilder content to test for newline character at the end
+     * @param contentWriter content to test for newline character at the end
      * @return true if the content ends with newline.
      */
-    protected boolean endsWithNewLine(StringBuilder contentBuilder) {
-        int contentLength = contentBuilder.length();
-        if (contentLength == 0) {
-            return true;
-        }
-        int nlLength = DocletConstants.NL.length();
-        if (contentLength < nlLength) {
-            return false;
-        }
-        int contentIndex = contentLength - 1;
-        int nlIndex = nlLength - 1;
-        while (nlIndex >= 0) {
-            if (contentBuilder.charAt( contentIndex ) != DocletConstants.NL.charAt( nlIndex )) {
-                return false;
-            }
-            contentIndex--;
-            nlIndex--;
-        }
-        return true;
+    protected boolean endsWithNewLine(ContentWriter contentWriter) {
+        return contentWriter.endsWithNewLine();
     }
 }
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.html;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Target to which <code>Content</code> is written. Content may be written to an in-memory buffer or streamed directly
+ * to an output writer; in either case, only the trailing characters needed to detect line endings are retained.
+ */
+public class ContentWriter {
+
+    private final Appendable out;
+    private String tail = "";
+    private boolean empty = true;
+
+    /**
+     * Constructor that specifies the target to which all content will be written.
+     *
+     * @param out the string builder or writer that will receive the content
+     */
+    public ContentWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Appends the given text to the output.
+     *
+     * @param text the text to append
+     * @return ContentWriter
+     */
+    public ContentWriter append(CharSequence text) {
+        int length = text.length();
+
+        if (length > 0) {
+            int nlLength = DocletConstants.NL.length();
+
+            try {
+                out.append( text );
+
+            } catch (IOException e) {
+                throw new UncheckedIOException( e );
+            }
+            if (length >= nlLength) {
+                tail = text.subSequence( length - nlLength, length ).toString();
+
+            } else {
+                String newTail = tail + text;
+                tail = newTail.substring( Math.max( 0, newTail.length() - nlLength ) );
+            }
+            empty = false;
+        }
+        return this;
+    }
+
+    /**
+     * Returns true if the content written so far ends with a newline character. Empty content is considered as ending
+     * with a new line.
+     *
+     * @return boolean
+     */
+    public boolean endsWithNewLine() {
+        return empty || tail.equals( DocletConstants.NL );
+    }
+
+}
@@ -43,7 +43,7 @@ public class DocumentationGenerator implements CodeGenerator<TLModel> {
     @Override
     public Collection<File> generateOutput(TLModel model, CodeGenerationContext context)
         throws ValidationException, CodeGenerationException {
-        Configuration config = Configuration.getInstance();
+        Configuration config = new Configuration();
         File destination = new File( context.getValue( CodeGenerationContext.CK_OUTPUT_FOLDER ) );
         if (!destination.exists()) {
             destination.mkdirs();
@@ -57,7 +57,7 @@ public class DocumentationGenerator implements CodeGenerator<TLModel> {
         ExampleGeneratorOptions exampleOptions = new XMLExampleCodeGenerator().getOptions( context );
         config.setExampleOptions( exampleOptions );
         config.setModel( model );
-        HtmlDoclet.start( model );
+        HtmlDoclet.start( config, model );
         return Collections.emptyList();
     }
 
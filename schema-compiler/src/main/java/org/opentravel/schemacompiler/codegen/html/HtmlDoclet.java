@@ -17,14 +17,26 @@
 package org.opentravel.schemacompiler.codegen.html;
 
 import org.opentravel.schemacompiler.codegen.CodeGenerationException;
+import org.opentravel.schemacompiler.codegen.html.builders.AttributeOwnerDocumentationBuilder;
 import org.opentravel.schemacompiler.codegen.html.builders.DocumentationBuilder;
+import org.opentravel.schemacompiler.codegen.html.builders.FacetDocumentationBuilder;
+import org.opentravel.schemacompiler.codegen.html.builders.FacetOwnerDocumentationBuilder;
+import org.opentravel.schemacompiler.codegen.html.builders.LibraryDocumentationBuilder;
+import org.opentravel.schemacompiler.codegen.html.builders.OperationDocumentationBuilder;
+import org.opentravel.schemacompiler.codegen.html.builders.ServiceDocumentationBuilder;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLModel;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The class with "start" method, calls individual Writers.
@@ -42,10 +54,22 @@ public class HtmlDoclet extends AbstractDoclet {
 
     public static final String TOGGLE_OPEN_IMAGE = "expand_normal_open_16x16.png";
 
+    private final Configuration runConfiguration;
+
     /**
-     * Default constructor.
+     * Default constructor that uses the configuration bound to the current thread.
      */
     public HtmlDoclet() {
+        this( null );
+    }
+
+    /**
+     * Constructor that specifies the configuration to use for the documentation run.
+     *
+     * @param runConfiguration the configuration for the run (null to use the configuration bound to the current thread)
+     */
+    public HtmlDoclet(Configuration runConfiguration) {
+        this.runConfiguration = runConfiguration;
         setConfiguration( newConfiguration() );
     }
 
@@ -57,10 +81,28 @@ public class HtmlDoclet extends AbstractDoclet {
      */
     public static boolean start(TLModel model) {
         try {
-            HtmlDoclet doclet = new HtmlDoclet();
+            return start( Configuration.getInstance(), model );
+        } finally {
+            Configuration.bind( null );
+        }
+    }
+
+    /**
+     * Generates documentation for the given model using the configuration provided. Multiple runs may execute
+     * concurrently, provided that each is given its own configuration instance.
+     *
+     * @param configuration the configuration for the documentation run
+     * @param model the model for which the documentation tree is being generated
+     * @return true if the doclet ran without encountering any errors
+     */
+    public static boolean start(Configuration configuration, TLModel model) {
+        Configuration previous = Configuration.bind( configuration );
+
+        try {
+            HtmlDoclet doclet = new HtmlDoclet( configuration );
             return doclet.start( doclet, model );
         } finally {
-            Configuration.reset();
+            Configuration.bind( previous );
         }
     }
 
@@ -68,7 +110,7 @@ public class HtmlDoclet extends AbstractDoclet {
      * Create the configuration instance. Override this method to use a different configuration.
      */
     public Configuration newConfiguration() {
-        return Configuration.getInstance();
+        return (runConfiguration != null) ? runConfiguration : Configuration.getInstance();
     }
 
     /**
@@ -116,6 +158,7 @@ public class HtmlDoclet extends AbstractDoclet {
     protected void generateLibraryFiles(TLModel model) throws CodeGenerationException {
         List<TLLibrary> libraries = model.getUserDefinedLibraries();
         Configuration conf = getConfiguration();
+        List<PageTask> pageTasks = new ArrayList<>();
 
         if (libraries.size() > 1) {
             LibraryIndexFrameWriter.generate( conf );
@@ -124,15 +167,120 @@ public class HtmlDoclet extends AbstractDoclet {
         TLLibrary next;
         ListIterator<TLLibrary> libIter = libraries.listIterator();
 
+        // Builders reference one another across libraries, so they are all created before any
+        // of the library or member pages are written
         while (libIter.hasNext()) {
             prev = libIter.hasPrevious() ? libraries.get( libIter.previousIndex() ) : null;
             TLLibrary lib = libIter.next();
             next = libIter.hasNext() ? libraries.get( libIter.nextIndex() ) : null;
-            LibraryFrameWriter.generate( conf, lib );
-            DocumentationBuilder libraryBuilder =
-                conf.getBuilderFactory().getLibraryDocumentationBuilder( lib, prev, next );
-            libraryBuilder.build();
+            LibraryDocumentationBuilder libraryBuilder = (LibraryDocumentationBuilder) conf.getBuilderFactory()
+                .getLibraryDocumentationBuilder( lib, prev, next );
+
+            pageTasks.add( () -> {
+                LibraryFrameWriter.generate( conf, lib );
+                libraryBuilder.buildLibraryPage();
+            } );
+
+            for (DocumentationBuilder memberBuilder : libraryBuilder.getMemberBuilders()) {
+                generateExamples( memberBuilder );
+                pageTasks.add( memberBuilder::build );
+            }
+        }
+        writePages( conf, pageTasks );
+    }
+
+    /**
+     * Generates the XML and JSON examples for the given builder and any of its nested facet or operation builders.
+     * Example generation can modify the model (e.g. by creating ghost facets) and performs compile-time validation, so
+     * it is performed serially on the generating thread before any pages are written concurrently.
+     *
+     * @param builder the documentation builder for which to generate examples
+     */
+    private void generateExamples(DocumentationBuilder builder) {
+        if (builder instanceof AttributeOwnerDocumentationBuilder) {
+            ((AttributeOwnerDocumentationBuilder<?>) builder).generateExamples();
+        }
+        if (builder instanceof FacetOwnerDocumentationBuilder) {
+            for (FacetDocumentationBuilder facetBuilder : ((FacetOwnerDocumentationBuilder<?>) builder).getFacets()) {
+                generateExamples( facetBuilder );
+            }
         }
+        if (builder instanceof ServiceDocumentationBuilder) {
+            for (OperationDocumentationBuilder opBuilder : ((ServiceDocumentationBuilder) builder).getOperations()) {
+                generateExamples( opBuilder );
+            }
+        }
+    }
+
+    /**
+     * Executes the given page-writing tasks concurrently using the configured number of worker threads. The run's
+     * configuration is bound to each worker while its tasks are executing.
+     *
+     * @param conf the configuration for the documentation run
+     * @param pageTasks the page-writing tasks to execute
+     * @throws CodeGenerationException thrown if any of the pages cannot be written
+     */
+    private void writePages(Configuration conf, List<PageTask> pageTasks) throws CodeGenerationException {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool( conf.getWorkerCount(), r -> {
+            Thread t = new Thread( r, "Documentation Writer-" + threadCounter.incrementAndGet() );
+
+            t.setDaemon( true );
+            return t;
+        } );
+
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+
+            for (PageTask pageTask : pageTasks) {
+                results.add( executor.submit( () -> {
+                    Configuration previous = Configuration.bind( conf );
+
+                    try {
+                        pageTask.write();
+                        return null;
+
+                    } finally {
+                        Configuration.bind( previous );
+                    }
+                } ) );
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof CodeGenerationException) {
+                throw (CodeGenerationException) cause;
+
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CodeGenerationException( "Error writing documentation pages.", cause );
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CodeGenerationException( "Documentation generation was interrupted.", e );
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Task that writes one or more documentation pages.
+     */
+    @FunctionalInterface
+    private interface PageTask {
+
+        /**
+         * Writes the documentation page(s) for this task.
+         *
+         * @throws CodeGenerationException thrown if an error occurs while writing the page(s)
+         */
+        public void write() throws CodeGenerationException;
 
     }
 
@@ -55,7 +55,7 @@ public class LinkFactoryImpl extends LinkFactory {
             : "";
         StringBuilder label = new StringBuilder( classLinkInfo.getClassLinkLabel( mWriter.newConfiguration() ) );
         classLinkInfo.setDisplayLength( classLinkInfo.getDisplayLength() + label.length() );
-        Configuration configuration = Configuration.getInstance();
+        Configuration configuration = mWriter.newConfiguration();
         LinkOutputImpl linkOutput = new LinkOutputImpl();
         if (configuration.isGeneratedDoc( builder )) {
             String filename = pathString( classLinkInfo );
@@ -79,7 +79,7 @@ public class LinkFactoryImpl extends LinkFactory {
      * @return the tool tip for the namespace.
      */
     private String getObjectToolTip(String namespace) {
-        Configuration configuration = Configuration.getInstance();
+        Configuration configuration = mWriter.newConfiguration();
         return configuration.getText( "doclet.Href_Member_Title", namespace );
     }
 
@@ -254,14 +254,9 @@ public class Util {
             fos = new FileOutputStream( filename );
         }
         if (docencoding == null) {
-            return new OutputStreamWriter( fos );
+            return new BufferedWriter( new OutputStreamWriter( fos ) );
         } else {
-            try (OutputStreamWriter os = new OutputStreamWriter( fos, docencoding )) {
-                return os;
-            } catch (IOException ex) {
-                throw new IOException( ex );
-            }
-
+            return new BufferedWriter( new OutputStreamWriter( fos, docencoding ) );
         }
     }
 
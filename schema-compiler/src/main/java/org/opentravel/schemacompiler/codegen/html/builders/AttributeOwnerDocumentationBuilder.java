@@ -43,6 +43,8 @@ public abstract class AttributeOwnerDocumentationBuilder<
 
     protected List<IndicatorDocumentationBuilder> indicators;
 
+    private ExampleGeneratorOptions exampleOptions;
+
     private String exampleXML;
 
     private String exampleJSON;
@@ -65,11 +67,27 @@ public abstract class AttributeOwnerDocumentationBuilder<
             indicators.add( indBuilder );
             indBuilder.setOwner( this );
         }
-        buildExamples( t );
+        exampleOptions = Configuration.getInstance().getExampleOptions();
+    }
+
+    /**
+     * Generates the XML and JSON examples for this attribute owner if they have not already been generated. Example
+     * generation can create ghost facets and validate the model, so the documentation doclet calls this method
+     * serially for every page before any of the pages are written concurrently.
+     */
+    public synchronized void generateExamples() {
+        if ((exampleXML == null) || (exampleJSON == null)) {
+            buildExamples( element );
+        }
     }
 
+    /**
+     * Generates the XML and JSON examples for the given attribute owner.
+     * 
+     * @param t the attribute owner for which to generate examples
+     */
     protected void buildExamples(T t) {
-        ExampleGeneratorOptions options = Configuration.getInstance().getExampleOptions();
+        ExampleGeneratorOptions options = exampleOptions;
         try {
             ExampleDocumentBuilder exampleBuilder = new ExampleDocumentBuilder( options );
             exampleBuilder.setModelElement( t );
@@ -97,11 +115,13 @@ public abstract class AttributeOwnerDocumentationBuilder<
         return Collections.unmodifiableList( indicators );
     }
 
-    public String getExampleXML() {
+    public synchronized String getExampleXML() {
+        generateExamples();
         return exampleXML;
     }
 
-    public String getExampleJSON() {
+    public synchronized String getExampleJSON() {
+        generateExamples();
         return exampleJSON;
     }
 
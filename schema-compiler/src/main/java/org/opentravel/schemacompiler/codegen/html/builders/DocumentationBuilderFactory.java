@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.codegen.html.builders;
 
+import org.opentravel.schemacompiler.codegen.html.Configuration;
 import org.opentravel.schemacompiler.model.NamedEntity;
 import org.opentravel.schemacompiler.model.TLAbstractEnumeration;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
@@ -30,25 +31,27 @@ import org.opentravel.schemacompiler.model.TLValueWithAttributes;
 import org.opentravel.schemacompiler.transform.SymbolTable;
 
 /**
+ * Creates and caches the documentation builders for a single documentation run. Each <code>Configuration</code> owns
+ * its own factory instance, so concurrent documentation runs do not share builders.
+ * 
  * @author Eric.Bronson
  */
 public class DocumentationBuilderFactory {
 
-    private static SymbolTable table = new SymbolTable();
+    private SymbolTable table = new SymbolTable();
 
-    private DocumentationBuilderFactory() {}
+    /**
+     * Default constructor.
+     */
+    public DocumentationBuilderFactory() {}
 
     /**
-     * Returns the default singleton instance.
+     * Returns the factory instance for the documentation run that is executing on the current thread.
      * 
      * @return DocumentationBuilderFactory
      */
     public static DocumentationBuilderFactory getInstance() {
-        return DocumentationManagerSingleton.INSTANCE;
-    }
-
-    private static class DocumentationManagerSingleton {
-        private static final DocumentationBuilderFactory INSTANCE = new DocumentationBuilderFactory();
+        return Configuration.getInstance().getBuilderFactory();
     }
 
     /**
@@ -57,7 +60,7 @@ public class DocumentationBuilderFactory {
      * @param element the named entity for which to return a builder
      * @return DocumentationBuilder
      */
-    public DocumentationBuilder getDocumentationBuilder(final NamedEntity element) {
+    public synchronized DocumentationBuilder getDocumentationBuilder(final NamedEntity element) {
         String namespace = element.getNamespace();
         String localName = element.getLocalName();
         DocumentationBuilder builder = (DocumentationBuilder) table.getEntity( namespace, localName );
@@ -94,7 +97,8 @@ public class DocumentationBuilderFactory {
      * @param next the next named entity in the list
      * @return DocumentationBuilder
      */
-    public DocumentationBuilder getDocumentationBuilder(NamedEntity element, NamedEntity prev, NamedEntity next) {
+    public synchronized DocumentationBuilder getDocumentationBuilder(NamedEntity element, NamedEntity prev,
+        NamedEntity next) {
         DocumentationBuilder builder = getDocumentationBuilder( element );
         DocumentationBuilder nextBuilder = null;
         DocumentationBuilder prevBuilder = null;
@@ -117,7 +121,8 @@ public class DocumentationBuilderFactory {
      * @param next the next library in the list
      * @return DocumentationBuilder
      */
-    public DocumentationBuilder getLibraryDocumentationBuilder(TLLibrary lib, TLLibrary prev, TLLibrary next) {
+    public synchronized DocumentationBuilder getLibraryDocumentationBuilder(TLLibrary lib, TLLibrary prev,
+        TLLibrary next) {
         DocumentationBuilder builder = getLibraryBuilder( lib );
 
         if (builder != null) {
@@ -151,14 +156,18 @@ public class DocumentationBuilderFactory {
     }
 
     /**
-     * Adds a documentation builder to the default factory instance.
+     * Adds a documentation builder to the factory instance of the current documentation run.
      * 
      * @param builder the builder instance to add
      * @param namespace the namespace of the builder's entity
      * @param localName the local name of the builder's entity
      */
     public static void addDocumentationBuilder(DocumentationBuilder builder, String namespace, String localName) {
-        table.addEntity( namespace, localName, builder );
+        DocumentationBuilderFactory factory = getInstance();
+
+        synchronized (factory) {
+            factory.table.addEntity( namespace, localName, builder );
+        }
     }
 
 }
@@ -32,6 +32,7 @@ import org.opentravel.schemacompiler.model.TLValueWithAttributes;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -136,6 +137,19 @@ public class LibraryDocumentationBuilder implements DocumentationBuilder {
 
     @Override
     public void build() throws CodeGenerationException {
+        buildLibraryPage();
+
+        for (DocumentationBuilder builder : getMemberBuilders()) {
+            builder.build();
+        }
+    }
+
+    /**
+     * Writes the summary page for this library, without writing the pages of its members.
+     * 
+     * @throws CodeGenerationException thrown if the library page cannot be written
+     */
+    public void buildLibraryPage() throws CodeGenerationException {
         try {
             LibraryWriter writer = new LibraryWriter( Configuration.getInstance(), this, prev, next );
             Content content = writer.getHeader();
@@ -145,24 +159,32 @@ public class LibraryDocumentationBuilder implements DocumentationBuilder {
             writer.addFooter( content );
             writer.printDocument( content );
             writer.close();
-            DocumentationBuilder p;
-            DocumentationBuilder n;
-            ListIterator<DocumentationBuilder> objectIter = allObjects.listIterator();
-
-            while (objectIter.hasNext()) {
-                p = objectIter.hasPrevious() ? allObjects.get( objectIter.previousIndex() ) : null;
-                DocumentationBuilder builder = objectIter.next();
-                n = objectIter.hasNext() ? allObjects.get( objectIter.nextIndex() ) : null;
-                builder.setPrevious( p );
-                builder.setNext( n );
-                builder.build();
-            }
 
         } catch (IOException e) {
             throw new CodeGenerationException( "Error creating doclet writer", e );
         }
     }
 
+    /**
+     * Returns the builders for all members of this library, with the previous and next links of each member assigned.
+     * 
+     * @return List&lt;DocumentationBuilder&gt;
+     */
+    public List<DocumentationBuilder> getMemberBuilders() {
+        DocumentationBuilder p;
+        DocumentationBuilder n;
+        ListIterator<DocumentationBuilder> objectIter = allObjects.listIterator();
+
+        while (objectIter.hasNext()) {
+            p = objectIter.hasPrevious() ? allObjects.get( objectIter.previousIndex() ) : null;
+            DocumentationBuilder builder = objectIter.next();
+            n = objectIter.hasNext() ? allObjects.get( objectIter.nextIndex() ) : null;
+            builder.setPrevious( p );
+            builder.setNext( n );
+        }
+        return Collections.unmodifiableList( allObjects );
+    }
+
     /**
      * @return the version
      */
@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.codegen.html.markup;
 
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DocletAbortException;
 import org.opentravel.schemacompiler.codegen.html.DocletConstants;
 
@@ -69,12 +70,12 @@ public class Comment extends Content {
     /**
      * {@inheritDoc}
      */
-    public void write(StringBuilder contentBuilder) {
-        if (!endsWithNewLine( contentBuilder )) {
-            contentBuilder.append( DocletConstants.NL );
+    public void write(ContentWriter contentWriter) {
+        if (!endsWithNewLine( contentWriter )) {
+            contentWriter.append( DocletConstants.NL );
         }
-        contentBuilder.append( "<!-- " );
-        contentBuilder.append( commentText );
-        contentBuilder.append( " -->" + DocletConstants.NL );
+        contentWriter.append( "<!-- " );
+        contentWriter.append( commentText );
+        contentWriter.append( " -->" + DocletConstants.NL );
     }
 }
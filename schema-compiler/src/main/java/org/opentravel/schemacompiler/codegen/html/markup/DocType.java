@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.codegen.html.markup;
 
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DocletAbortException;
 import org.opentravel.schemacompiler.codegen.html.DocletConstants;
 
@@ -111,7 +112,7 @@ public class DocType extends Content {
     /**
      * {@inheritDoc}
      */
-    public void write(StringBuilder contentBuilder) {
-        contentBuilder.append( docTypeHeader );
+    public void write(ContentWriter contentWriter) {
+        contentWriter.append( docTypeHeader );
     }
 }
@@ -19,6 +19,7 @@ package org.opentravel.schemacompiler.codegen.html.markup;
 
 
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DocletAbortException;
 
 import java.util.ArrayList;
@@ -91,9 +92,9 @@ public class HtmlDocument extends Content {
     /**
      * {@inheritDoc}
      */
-    public void write(StringBuilder contentBuilder) {
+    public void write(ContentWriter contentWriter) {
         for (Content c : docContent) {
-            c.write( contentBuilder );
+            c.write( contentWriter );
         }
     }
 }
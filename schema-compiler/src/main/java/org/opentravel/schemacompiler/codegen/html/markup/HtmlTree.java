@@ -18,6 +18,7 @@ package org.opentravel.schemacompiler.codegen.html.markup;
 
 
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DocletConstants;
 import org.opentravel.schemacompiler.codegen.html.Util;
 
@@ -793,14 +794,14 @@ public class HtmlTree extends Content {
     /**
      * {@inheritDoc}
      */
-    public void write(StringBuilder contentBuilder) {
-        if (!isInline() && !endsWithNewLine( contentBuilder )) {
-            contentBuilder.append( DocletConstants.NL );
+    public void write(ContentWriter contentWriter) {
+        if (!isInline() && !endsWithNewLine( contentWriter )) {
+            contentWriter.append( DocletConstants.NL );
         }
         String tagString = htmlTag.toString();
 
-        contentBuilder.append( "<" );
-        contentBuilder.append( tagString );
+        contentWriter.append( "<" );
+        contentWriter.append( tagString );
 
         Iterator<String> iterator = attrs.keySet().iterator();
         String key;
@@ -809,27 +810,27 @@ public class HtmlTree extends Content {
         while (iterator.hasNext()) {
             key = iterator.next();
             value = attrs.get( key );
-            contentBuilder.append( " " );
-            contentBuilder.append( key );
+            contentWriter.append( " " );
+            contentWriter.append( key );
 
             if (!value.isEmpty()) {
-                contentBuilder.append( "=\"" );
-                contentBuilder.append( value );
-                contentBuilder.append( "\"" );
+                contentWriter.append( "=\"" );
+                contentWriter.append( value );
+                contentWriter.append( "\"" );
             }
         }
-        contentBuilder.append( ">" );
+        contentWriter.append( ">" );
 
         for (Content c : content) {
-            c.write( contentBuilder );
+            c.write( contentWriter );
         }
         if (htmlTag.endTagRequired()) {
-            contentBuilder.append( "</" );
-            contentBuilder.append( tagString );
-            contentBuilder.append( ">" );
+            contentWriter.append( "</" );
+            contentWriter.append( tagString );
+            contentWriter.append( ">" );
         }
         if (!isInline()) {
-            contentBuilder.append( DocletConstants.NL );
+            contentWriter.append( DocletConstants.NL );
         }
     }
 }
@@ -18,6 +18,7 @@ package org.opentravel.schemacompiler.codegen.html.markup;
 
 import org.opentravel.schemacompiler.codegen.html.Configuration;
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DirectoryManager;
 import org.opentravel.schemacompiler.codegen.html.DocletConstants;
 import org.opentravel.schemacompiler.codegen.html.HtmlDoclet;
@@ -920,7 +921,7 @@ public class HtmlWriter extends PrintWriter {
         head.addContent( getFramesetJavaScript() );
         Content htmlTree = HtmlTree.html( configuration.getLocale().getLanguage(), head, frameset );
         Content htmlDocument = new HtmlDocument( htmlDocType, htmlComment, htmlTree );
-        print( htmlDocument.toString() );
+        htmlDocument.write( new ContentWriter( this ) );
     }
 
     /**
@@ -1039,7 +1040,7 @@ public class HtmlWriter extends PrintWriter {
         script = getToggleScript();
         htmlTree.addContent( script );
         Content htmlDocument = new HtmlDocument( htmlDocType, htmlComment, htmlTree );
-        print( htmlDocument.toString() );
+        htmlDocument.write( new ContentWriter( this ) );
     }
 
     /**
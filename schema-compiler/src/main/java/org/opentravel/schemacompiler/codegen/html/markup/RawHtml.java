@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.codegen.html.markup;
 
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DocletAbortException;
 
 
@@ -70,7 +71,7 @@ public class RawHtml extends Content {
     /**
      * {@inheritDoc}
      */
-    public void write(StringBuilder contentBuilder) {
-        contentBuilder.append( rawHtmlContent );
+    public void write(ContentWriter contentWriter) {
+        contentWriter.append( rawHtmlContent );
     }
 }
@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.codegen.html.markup;
 
 import org.opentravel.schemacompiler.codegen.html.Content;
+import org.opentravel.schemacompiler.codegen.html.ContentWriter;
 import org.opentravel.schemacompiler.codegen.html.DocletAbortException;
 import org.opentravel.schemacompiler.codegen.html.Util;
 
@@ -84,7 +85,7 @@ public class StringContent extends Content {
     /**
      * {@inheritDoc}
      */
-    public void write(StringBuilder contentBuilder) {
-        contentBuilder.append( content );
+    public void write(ContentWriter contentWriter) {
+        contentWriter.append( content );
     }
 }
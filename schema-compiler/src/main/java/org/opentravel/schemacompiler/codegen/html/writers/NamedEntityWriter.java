@@ -57,7 +57,6 @@ public class NamedEntityWriter<T extends NamedEntityDocumentationBuilder<?>> ext
         super( Configuration.getInstance(), DirectoryManager.getDirectoryPath( member.getOwningLibrary() ),
             member.getName() + ".html", DirectoryManager.getRelativePath( member.getOwningLibrary() ) );
         this.member = member;
-        configuration.setCurrentMember( member );
         this.prev = prev;
         this.next = next;
     }
@@ -148,9 +148,11 @@ public class AliasCodegenUtils {
             // create a ghost facet
             if (siblingFacet == null) {
                 siblingFacet = new TLFacet();
-                siblingFacet.setOwningEntity( sourceFacet.getOwningEntity() );
                 siblingFacet.setFacetType( siblingFacetType );
 
+                // Assign the owner after the facet type so that the ghost-facet does not publish events to its model
+                siblingFacet.setOwningEntity( sourceFacet.getOwningEntity() );
+
                 if (facetName != null) {
                     ((TLContextualFacet) siblingFacet).setName( facetName );
                 }
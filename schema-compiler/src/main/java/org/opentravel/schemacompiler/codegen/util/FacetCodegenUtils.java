@@ -684,15 +684,17 @@ public class FacetCodegenUtils {
             if (declaredFacet == null) {
                 TLContextualFacet ghostFacet = new TLContextualFacet();
 
+                ghostFacet.setFacetType( facetType );
+                ghostFacet.setName( inheritedFacet.getName() );
+                ghostFacet.setOwningEntity( facetOwner );
+
+                // Assign the library last so that the ghost-facet does not publish events to the owner's model
                 if (inheritedFacet.isLocalFacet()) {
                     ghostFacet.setOwningLibrary( facetOwner.getOwningLibrary() );
 
                 } else {
                     ghostFacet.setOwningLibrary( inheritedFacet.getOwningLibrary() );
                 }
-                ghostFacet.setFacetType( facetType );
-                ghostFacet.setName( inheritedFacet.getName() );
-                ghostFacet.setOwningEntity( facetOwner );
                 ghostFacets.add( ghostFacet );
             }
         }
@@ -749,12 +751,14 @@ public class FacetCodegenUtils {
             if (declaredFacet == null) {
                 TLActionFacet ghostFacet = new TLActionFacet();
 
-                ghostFacet.setOwningResource( resource );
                 ghostFacet.setName( inheritedFacet.getName() );
                 ghostFacet.setReferenceType( inheritedFacet.getReferenceType() );
                 ghostFacet.setReferenceRepeat( inheritedFacet.getReferenceRepeat() );
                 ghostFacet.setReferenceFacetName( inheritedFacet.getReferenceFacetName() );
                 ghostFacet.setBasePayload( inheritedFacet.getBasePayload() );
+
+                // Assign the owner last so that the ghost-facet does not publish events to the owner's model
+                ghostFacet.setOwningResource( resource );
                 ghostFacets.add( ghostFacet );
             }
         }
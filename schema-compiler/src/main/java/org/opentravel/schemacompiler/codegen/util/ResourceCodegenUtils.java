@@ -825,12 +825,14 @@ public class ResourceCodegenUtils {
             }
             boElement.setName( elementType.getLocalName() );
             boElement.setType( elementType );
-            boElement.setOwner( owner );
             boElement.setMandatory( (refType == TLReferenceType.REQUIRED) );
 
             if (actionFacet.getReferenceRepeat() > 1) {
                 boElement.setRepeat( actionFacet.getReferenceRepeat() );
             }
+
+            // Assign the owner last so that the ghost-element does not publish events to the owner's model
+            boElement.setOwner( owner );
         }
         return boElement;
     }
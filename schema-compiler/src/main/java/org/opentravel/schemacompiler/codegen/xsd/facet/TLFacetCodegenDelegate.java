@@ -702,13 +702,17 @@ public abstract class TLFacetCodegenDelegate extends FacetCodegenDelegate<TLFace
                 TLContextualFacet cFacet = new TLContextualFacet();
 
                 cFacet.setName( ((TLContextualFacet) sourceFacet).getName() );
+                cFacet.setFacetType( sourceFacet.getFacetType() );
+                cFacet.setOwningEntity( extendedOwner );
+
+                // Assign the library last so that the ghost-facet does not publish events to the owner's model
                 cFacet.setOwningLibrary( sourceFacet.getOwningLibrary() );
                 firstCandidate = cFacet;
             } else {
                 firstCandidate = new TLFacet();
+                firstCandidate.setFacetType( sourceFacet.getFacetType() );
+                firstCandidate.setOwningEntity( extendedOwner );
             }
-            firstCandidate.setFacetType( sourceFacet.getFacetType() );
-            firstCandidate.setOwningEntity( extendedOwner );
             return firstCandidate;
         }
 
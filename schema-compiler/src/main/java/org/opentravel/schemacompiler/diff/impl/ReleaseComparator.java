@@ -21,17 +21,31 @@ import org.opentravel.schemacompiler.diff.ModelCompareOptions;
 import org.opentravel.schemacompiler.diff.ReleaseChangeItem;
 import org.opentravel.schemacompiler.diff.ReleaseChangeSet;
 import org.opentravel.schemacompiler.diff.ReleaseChangeType;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.BuiltInLibrary;
 import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLNamespaceImport;
 import org.opentravel.schemacompiler.repository.Release;
 import org.opentravel.schemacompiler.repository.ReleaseManager;
+import org.opentravel.schemacompiler.security.LibraryCrcCalculator;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 import javax.xml.namespace.QName;
 
@@ -113,19 +127,179 @@ public class ReleaseComparator extends BaseComparator {
         }
 
         // Process all of the pending change sets that were identified during library
-        // comparisons.
-        for (ChangeSetItem item : pendingChangeSets) {
-            LibraryChangeSet libraryChangeSet = new LibraryComparator( getCompareOptions(), getNamespaceMappings() )
-                .compareLibraries( item.getOldVersion(), item.getNewVersion() );
+        // comparisons.  The comparisons are independent of one another, so they are performed
+        // in parallel and their results are added in the original order.
+        LibraryChangeSet[] libraryChangeSets = compareLibraries( pendingChangeSets );
+
+        for (int i = 0; i < libraryChangeSets.length; i++) {
+            LibraryChangeSet libraryChangeSet = libraryChangeSets[i];
 
-            if (!libraryChangeSet.getChangeItems().isEmpty()) {
-                changeItems.add( new ReleaseChangeItem( changeSet, item.getChangeType(), libraryChangeSet ) );
+            if ((libraryChangeSet != null) && !libraryChangeSet.getChangeItems().isEmpty()) {
+                changeItems.add(
+                    new ReleaseChangeItem( changeSet, pendingChangeSets.get( i ).getChangeType(), libraryChangeSet ) );
             }
         }
 
         return changeSet;
     }
 
+    /**
+     * Compares the old and new library versions of each pending change set. The comparisons only read from the models
+     * of each release, so they are performed in parallel. Libraries that were not up-versioned are skipped if their
+     * content, and the content of all libraries they are related to, is identical in both releases since their
+     * comparison cannot report any changes. The array that is returned contains the results in the same order as the
+     * list of pending change sets; a null entry indicates that the comparison was skipped.
+     * 
+     * @param pendingChangeSets the list of pending change sets to process
+     * @return LibraryChangeSet[]
+     */
+    private LibraryChangeSet[] compareLibraries(List<ChangeSetItem> pendingChangeSets) {
+        LibraryChangeSet[] libraryChangeSets = new LibraryChangeSet[pendingChangeSets.size()];
+        Map<TLModel,Map<TLLibrary,byte[]>> modelDigests = new IdentityHashMap<>();
+        boolean[] unchanged = new boolean[pendingChangeSets.size()];
+
+        for (int i = 0; i < unchanged.length; i++) {
+            ChangeSetItem item = pendingChangeSets.get( i );
+
+            if (item.getChangeType() == ReleaseChangeType.LIBRARY_CHANGED) {
+                byte[] oldDigest = getRelatedContentDigest( item.getOldVersion(), modelDigests );
+                byte[] newDigest = getRelatedContentDigest( item.getNewVersion(), modelDigests );
+
+                unchanged[i] = (oldDigest != null) && MessageDigest.isEqual( oldDigest, newDigest );
+            }
+        }
+
+        IntStream.range( 0, libraryChangeSets.length ).parallel().filter( i -> !unchanged[i] ).forEach( i -> {
+            ChangeSetItem item = pendingChangeSets.get( i );
+
+            libraryChangeSets[i] = new LibraryComparator( getCompareOptions(), getNamespaceMappings() )
+                .compareLibraries( item.getOldVersion(), item.getNewVersion() );
+        } );
+        return libraryChangeSets;
+    }
+
+    /**
+     * Returns a digest of the content of the given library and all of the libraries that are related to it within its
+     * owning model. Two libraries are related if one imports the namespace of the other or if they share the same base
+     * namespace; the relationship is transitive and applies in both directions, since the results of a comparison can
+     * depend on referenced entities as well as contextual facets that are contributed from other libraries. Null is
+     * returned if the digest cannot be determined (e.g. if a related library is a legacy schema).
+     * 
+     * @param library the library for which to return the digest
+     * @param modelDigests the digests that have already been calculated for each model
+     * @return byte[]
+     */
+    private byte[] getRelatedContentDigest(TLLibrary library, Map<TLModel,Map<TLLibrary,byte[]>> modelDigests) {
+        TLModel model = library.getOwningModel();
+
+        return (model == null) ? null
+            : modelDigests.computeIfAbsent( model, ReleaseComparator::buildRelatedContentDigests ).get( library );
+    }
+
+    /**
+     * Calculates the related-content digests for all of the user-defined libraries in the given model.
+     * 
+     * @param model the model for which to calculate digests
+     * @return Map&lt;TLLibrary,byte[]&gt;
+     */
+    private static Map<TLLibrary,byte[]> buildRelatedContentDigests(TLModel model) {
+        Map<TLLibrary,List<TLLibrary>> relatedLibraries = new IdentityHashMap<>();
+        Map<TLLibrary,byte[]> digests = new IdentityHashMap<>();
+        Set<TLLibrary> opaqueLibraries = Collections.newSetFromMap( new IdentityHashMap<>() );
+        Map<String,List<TLLibrary>> baseNamespaceLibraries = new HashMap<>();
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            relatedLibraries.put( library, new ArrayList<>() );
+            baseNamespaceLibraries.computeIfAbsent( library.getBaseNamespace(), ns -> new ArrayList<>() )
+                .add( library );
+        }
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            List<TLLibrary> related = new ArrayList<>( baseNamespaceLibraries.get( library.getBaseNamespace() ) );
+
+            for (TLNamespaceImport nsImport : library.getNamespaceImports()) {
+                for (AbstractLibrary importedLibrary : model.getLibrariesForNamespace( nsImport.getNamespace() )) {
+                    if (importedLibrary instanceof TLLibrary) {
+                        related.add( (TLLibrary) importedLibrary );
+
+                    } else if (!(importedLibrary instanceof BuiltInLibrary)) {
+                        opaqueLibraries.add( library );
+                    }
+                }
+            }
+            for (TLLibrary relatedLibrary : related) {
+                relatedLibraries.get( library ).add( relatedLibrary );
+                relatedLibraries.get( relatedLibrary ).add( library );
+            }
+        }
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            if (!digests.containsKey( library )) {
+                List<TLLibrary> group = findRelatedGroup( library, relatedLibraries );
+                byte[] groupDigest = calculateGroupDigest( group, opaqueLibraries );
+
+                for (TLLibrary groupMember : group) {
+                    digests.put( groupMember, groupDigest );
+                }
+            }
+        }
+        return digests;
+    }
+
+    /**
+     * Returns the group of all libraries that are directly or indirectly related to the given library.
+     * 
+     * @param library the library for which to return the related group
+     * @param relatedLibraries the libraries that are directly related to each library in the model
+     * @return List&lt;TLLibrary&gt;
+     */
+    private static List<TLLibrary> findRelatedGroup(TLLibrary library,
+        Map<TLLibrary,List<TLLibrary>> relatedLibraries) {
+        Set<TLLibrary> group = Collections.newSetFromMap( new IdentityHashMap<>() );
+        Deque<TLLibrary> pending = new ArrayDeque<>();
+
+        pending.add( library );
+        group.add( library );
+
+        while (!pending.isEmpty()) {
+            for (TLLibrary relatedLibrary : relatedLibraries.get( pending.remove() )) {
+                if (group.add( relatedLibrary )) {
+                    pending.add( relatedLibrary );
+                }
+            }
+        }
+        return new ArrayList<>( group );
+    }
+
+    /**
+     * Calculates a digest of the content of all libraries in the given group. Null is returned if any member of the
+     * group is opaque (i.e. it depends upon a library whose content is not included in the digest).
+     * 
+     * @param group the group of related libraries
+     * @param opaqueLibraries the set of libraries that depend upon content that cannot be digested
+     * @return byte[]
+     */
+    private static byte[] calculateGroupDigest(List<TLLibrary> group, Set<TLLibrary> opaqueLibraries) {
+        byte[] groupDigest = null;
+
+        if (group.stream().noneMatch( opaqueLibraries::contains )) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+
+                group.sort( Comparator.comparing( TLLibrary::getNamespace, Comparator.nullsFirst( String::compareTo ) )
+                    .thenComparing( TLLibrary::getName, Comparator.nullsFirst( String::compareTo ) ) );
+
+                for (TLLibrary groupMember : group) {
+                    digest.update( LibraryCrcCalculator.calculateDigest( groupMember ) );
+                }
+                groupDigest = digest.digest();
+
+            } catch (NoSuchAlgorithmException e) {
+                // Ignore - the comparison of the group's libraries will not be skipped
+            }
+        }
+        return groupDigest;
+    }
+
     /**
      * Identify libraries that were modified at the same version. As we identify matching libraries, remove the names
      * that were processed so they will not be considered in subsequent checks.
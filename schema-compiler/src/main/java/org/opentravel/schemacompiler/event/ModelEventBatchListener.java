@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.event;
+
+import java.util.List;
+
+/**
+ * Extension of the <code>ModelEventListener</code> interface for components that prefer to receive the events of a
+ * <code>TLModel</code> event batch in a single notification. Outside of an event batch, events are delivered one at a
+ * time using the <code>processModelEvent()</code> method.
+ *
+ * @param <E> the event type that this listener is designed to process
+ * @param <S> the source object type for the events to be processed by this listener
+ */
+public interface ModelEventBatchListener<E extends ModelEvent<S>, S> extends ModelEventListener<E,S> {
+
+    /**
+     * Called by the <code>TLModel</code> when an event batch is completed. The list contains all of the events from the
+     * batch that can be processed by this listener, in the order they were published. By default, each event is passed
+     * to the <code>processModelEvent()</code> method.
+     *
+     * @param events the list of events that were published during the batch
+     */
+    public default void processModelEvents(List<E> events) {
+        for (E event : events) {
+            processModelEvent( event );
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import org.opentravel.schemacompiler.model.TLContextualFacet;
 import org.opentravel.schemacompiler.model.TLExtension;
 import org.opentravel.schemacompiler.model.TLFacet;
 import org.opentravel.schemacompiler.model.TLMemberField;
+import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLModelElement;
 import org.opentravel.schemacompiler.model.TLParamGroup;
 import org.opentravel.schemacompiler.model.TLParameter;
@@ -48,7 +49,10 @@ import org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter;
 import org.opentravel.schemacompiler.visitor.ModelNavigator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Model integrity check listener, that updates all 'typeName' fields in referencing entities when the referred entity's
@@ -81,8 +85,8 @@ public class NameChangeIntegrityChecker
     }
 
     /**
-     * Scans the entire model for references to the given entity and refreshes the type-name assignment (typically a
-     * 'prefix:local-name' value) for each occurrance.
+     * Locates all references to the given entity and refreshes the type-name assignment (typically a 'prefix:local-name'
+     * value) for each occurrance.
      * 
      * @param modifiedEntity the modified entity whose references should be updated
      */
@@ -93,13 +97,11 @@ public class NameChangeIntegrityChecker
 
         symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
         symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
-        ModelNavigator.navigate( modifiedEntity.getOwningModel(),
-            new EntityNameChangeVisitor( affectedEntities, symbolResolver ) );
+        updateReferences( modifiedEntity.getOwningModel(), affectedEntities, symbolResolver );
     }
 
     /**
-     * Scans the entire model for references to the given member field and refreshes the name assignment for each
-     * occurrance.
+     * Locates all references to the given member field and refreshes the name assignment for each occurrance.
      * 
      * @param modifiedField the modified field whose references should be updated
      */
@@ -111,13 +113,11 @@ public class NameChangeIntegrityChecker
         affectedEntities.add( (TLModelElement) modifiedField );
         symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
         symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
-        ModelNavigator.navigate( localLibrary.getOwningModel(),
-            new EntityNameChangeVisitor( affectedEntities, symbolResolver ) );
+        updateReferences( localLibrary.getOwningModel(), affectedEntities, symbolResolver );
     }
 
     /**
-     * Scans the entire model for references to the given parameter group and refreshes the name assignment for each
-     * occurrance.
+     * Locates all references to the given parameter group and refreshes the name assignment for each occurrance.
      * 
      * @param modifiedParamGroup the modified parameter group whose references should be updated
      */
@@ -129,8 +129,30 @@ public class NameChangeIntegrityChecker
         affectedEntities.add( modifiedParamGroup );
         symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
         symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
-        ModelNavigator.navigate( localLibrary.getOwningModel(),
-            new EntityNameChangeVisitor( affectedEntities, symbolResolver ) );
+        updateReferences( localLibrary.getOwningModel(), affectedEntities, symbolResolver );
+    }
+
+    /**
+     * Uses the reverse-reference index of the model to locate the elements that refer to any of the affected entities,
+     * and refreshes the name assignments of each one.
+     * 
+     * @param model the model that owns the affected entities
+     * @param affectedEntities the entities whose names were modified
+     * @param symbolResolver the symbol resolver used to construct new entity names
+     */
+    private static void updateReferences(TLModel model, List<TLModelElement> affectedEntities,
+        SymbolResolver symbolResolver) {
+        if (model != null) {
+            EntityNameChangeVisitor visitor = new EntityNameChangeVisitor( affectedEntities, symbolResolver );
+            List<LibraryElement> referrers = new ArrayList<>();
+
+            for (TLModelElement affectedEntity : affectedEntities) {
+                if (affectedEntity instanceof LibraryElement) {
+                    referrers.add( (LibraryElement) affectedEntity );
+                }
+            }
+            model.getReferenceIndex().getReferrers( referrers ).forEach( visitor::visitReferrer );
+        }
     }
 
     /**
@@ -170,7 +192,7 @@ public class NameChangeIntegrityChecker
      */
     private static class EntityNameChangeVisitor extends ModelElementVisitorAdapter {
 
-        private List<ModelElement> modifiedEntities = new ArrayList<>();
+        private Set<ModelElement> modifiedEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
         private SymbolResolver symbolResolver;
 
         /**
@@ -187,6 +209,53 @@ public class NameChangeIntegrityChecker
             this.symbolResolver = symbolResolver;
         }
 
+        /**
+         * Refreshes the name assignments of the given referring element by invoking the appropriate visit method.
+         * 
+         * @param referrer the model element that refers to one or more of the modified entities
+         */
+        public void visitReferrer(LibraryElement referrer) {
+            if (referrer instanceof TLSimple) {
+                visitSimple( (TLSimple) referrer );
+
+            } else if (referrer instanceof TLValueWithAttributes) {
+                visitValueWithAttributes( (TLValueWithAttributes) referrer );
+
+            } else if (referrer instanceof TLExtension) {
+                visitExtension( (TLExtension) referrer );
+
+            } else if (referrer instanceof TLSimpleFacet) {
+                visitSimpleFacet( (TLSimpleFacet) referrer );
+
+            } else if (referrer instanceof TLContextualFacet) {
+                visitContextualFacet( (TLContextualFacet) referrer );
+
+            } else if (referrer instanceof TLAttribute) {
+                visitAttribute( (TLAttribute) referrer );
+
+            } else if (referrer instanceof TLProperty) {
+                visitElement( (TLProperty) referrer );
+
+            } else if (referrer instanceof TLResource) {
+                visitResource( (TLResource) referrer );
+
+            } else if (referrer instanceof TLResourceParentRef) {
+                visitResourceParentRef( (TLResourceParentRef) referrer );
+
+            } else if (referrer instanceof TLParamGroup) {
+                visitParamGroup( (TLParamGroup) referrer );
+
+            } else if (referrer instanceof TLParameter) {
+                visitParameter( (TLParameter) referrer );
+
+            } else if (referrer instanceof TLActionRequest) {
+                visitActionRequest( (TLActionRequest) referrer );
+
+            } else if (referrer instanceof TLActionResponse) {
+                visitActionResponse( (TLActionResponse) referrer );
+            }
+        }
+
         /**
          * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitSimple(org.opentravel.schemacompiler.model.TLSimple)
          */
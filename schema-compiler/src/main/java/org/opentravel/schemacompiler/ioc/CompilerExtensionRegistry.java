@@ -21,28 +21,46 @@ import org.opentravel.schemacompiler.extension.CompilerExtensionProvider;
 import org.opentravel.schemacompiler.util.SchemaCompilerRuntimeException;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.io.InputStreamResource;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides information about all of the OTA2 compiler extensions that are registered with the application <u>and</u>
  * available at run-time.
  * 
+ * <p>
+ * To keep start-up costs low, the extension providers are only discovered once, the validation, transformer, code
+ * generator and schema declaration beans of each application context are created on first use instead of when the
+ * context is loaded, and the application context for each extension is retained after it is first loaded so that
+ * switching back to a previously-active extension does not require its configuration files to be parsed again.
+ * 
  * @author S. Livezey
  */
 public class CompilerExtensionRegistry {
 
     public static final String APPLICATION_CONTEXT_LOCATION = "/ota2-context/applicationContext.xml";
 
+    private static final List<String> LAZY_INIT_CLASS_PREFIXES = Arrays.asList(
+        "org.opentravel.schemacompiler.validate.", "org.opentravel.schemacompiler.transform.",
+        "org.opentravel.schemacompiler.codegen.", SchemaDeclaration.class.getName() );
+
+    private static final Map<String,GenericApplicationContext> extensionContexts = new ConcurrentHashMap<>();
+
+    private static List<CompilerExtensionProvider> extensionProviders;
     private static String activeExtensionId;
-    private static CompilerExtensionProvider activeProvider;
+    private static volatile CompilerExtensionProvider activeProvider;
 
     /**
      * Private constructor to prevent instantiation.
@@ -81,7 +99,7 @@ public class CompilerExtensionRegistry {
         if ((extensionId != null) && !extensionId.equals( activeExtensionId )) {
             CompilerExtensionProvider provider = null;
 
-            for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
+            for (CompilerExtensionProvider p : getExtensionProviders()) {
                 if (p.isSupportedExtension( extensionId )) {
                     provider = p;
                 }
@@ -119,7 +137,7 @@ public class CompilerExtensionRegistry {
             // If all else fails, search all of the other providers for the requested
             // resource. This may be necessary if it was contributed as part of a general
             // extension that is not associated with the active extension ID.
-            for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
+            for (CompilerExtensionProvider p : getExtensionProviders()) {
                 if ((p != activeProvider) && ((is = p.getExtensionResource( resourcePath )) != null)) {
                     break;
                 }
@@ -129,26 +147,33 @@ public class CompilerExtensionRegistry {
     }
 
     /**
-     * Uses the given provider to load the Spring application context for the specified extension ID.
+     * Uses the given provider to load the Spring application context for the specified extension ID. If the context
+     * for the extension was loaded previously, the existing context is re-activated.
      * 
      * @param extensionId the extension ID whose application context will be loaded
      * @param provider the provider from which to load the application context
      */
     private static void loadApplicationContext(String extensionId, CompilerExtensionProvider provider) {
         try {
-            GenericApplicationContext context = new GenericApplicationContext();
-            XmlBeanDefinitionReader beanReader = new XmlBeanDefinitionReader( context );
+            GenericApplicationContext context = extensionContexts.get( extensionId );
 
-            beanReader.setBeanClassLoader( CompilerExtensionRegistry.class.getClassLoader() );
-            beanReader.setValidating( false );
-            loadConfigurationFile( beanReader, APPLICATION_CONTEXT_LOCATION );
+            if (context == null) {
+                XmlBeanDefinitionReader beanReader;
 
-            for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
-                p.loadGeneralCompilerExtensions( context );
-            }
-            provider.loadCompilerExtension( context, extensionId );
-            context.refresh();
+                context = new GenericApplicationContext();
+                beanReader = new XmlBeanDefinitionReader( context );
+                beanReader.setBeanClassLoader( CompilerExtensionRegistry.class.getClassLoader() );
+                beanReader.setValidating( false );
+                loadConfigurationFile( beanReader, APPLICATION_CONTEXT_LOCATION );
 
+                for (CompilerExtensionProvider p : getExtensionProviders()) {
+                    p.loadGeneralCompilerExtensions( context );
+                }
+                provider.loadCompilerExtension( context, extensionId );
+                context.addBeanFactoryPostProcessor( CompilerExtensionRegistry::enableLazyInitialization );
+                context.refresh();
+                extensionContexts.put( extensionId, context );
+            }
             SchemaCompilerApplicationContext.setActiveContext( context );
             activeExtensionId = extensionId;
 
@@ -157,6 +182,43 @@ public class CompilerExtensionRegistry {
         }
     }
 
+    /**
+     * Marks the validation, transformer, code generator and schema declaration beans of the given factory for lazy
+     * initialization so that those singletons are only created when they are first requested. All other beans (such
+     * as the context provider and any beans contributed by extensions) retain their configured initialization mode.
+     * 
+     * @param beanFactory the bean factory whose definitions are to be modified
+     */
+    private static void enableLazyInitialization(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition mergedDefinition = beanFactory.getMergedBeanDefinition( beanName );
+
+            if (isLazyInitCandidate( mergedDefinition.getBeanClassName() )) {
+                beanFactory.getBeanDefinition( beanName ).setLazyInit( true );
+            }
+        }
+    }
+
+    /**
+     * Returns true if beans of the given class should be initialized lazily.
+     * 
+     * @param beanClassName the class name of the bean definition (may be null)
+     * @return boolean
+     */
+    private static boolean isLazyInitCandidate(String beanClassName) {
+        boolean result = false;
+
+        if (beanClassName != null) {
+            for (String classPrefix : LAZY_INIT_CLASS_PREFIXES) {
+                if (beanClassName.startsWith( classPrefix )) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Loads the specified Spring configuration file using the bean definition reader provided.
      * 
@@ -182,13 +244,31 @@ public class CompilerExtensionRegistry {
     private static List<CompilerExtension> findCompilerExtensions() {
         List<CompilerExtension> extensionList = new ArrayList<>();
 
-        for (CompilerExtensionProvider provider : ServiceLoader.load( CompilerExtensionProvider.class )) {
+        for (CompilerExtensionProvider provider : getExtensionProviders()) {
             extensionList.addAll( provider.getCompilerExtensions() );
         }
         Collections.sort( extensionList );
         return extensionList;
     }
 
+    /**
+     * Returns the list of <code>CompilerExtensionProvider</code> implementations that are available in the current
+     * run-time environment. The providers are located using the Java SPI pattern the first time this method is called.
+     * 
+     * @return List&lt;CompilerExtensionProvider&gt;
+     */
+    private static synchronized List<CompilerExtensionProvider> getExtensionProviders() {
+        if (extensionProviders == null) {
+            List<CompilerExtensionProvider> providers = new ArrayList<>();
+
+            for (CompilerExtensionProvider provider : ServiceLoader.load( CompilerExtensionProvider.class )) {
+                providers.add( provider );
+            }
+            extensionProviders = Collections.unmodifiableList( providers );
+        }
+        return extensionProviders;
+    }
+
     /**
      * Initializes the contents of the registry with the valid extension locations that are available in the current
      * run-time environment.
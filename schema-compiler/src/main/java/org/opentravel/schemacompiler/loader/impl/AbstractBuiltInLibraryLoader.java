@@ -21,6 +21,9 @@ import org.opentravel.schemacompiler.ioc.SchemaDeclaration;
 import org.opentravel.schemacompiler.loader.BuiltInLibraryLoader;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryLoaderException;
+import org.opentravel.schemacompiler.loader.LibraryModuleInfo;
+import org.opentravel.schemacompiler.loader.LibraryModuleLoader;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -30,11 +33,66 @@ import java.net.URL;
  * Base class for <code>BuiltInLibraryLoader</code> components that obtain content from a file on the file system or
  * from the local classpath.
  * 
+ * <p>
+ * Because the content of a built-in library never changes, the parsed (JAXB) content of the library file is retained
+ * after it is first loaded. Each subsequent call to <code>loadBuiltInLibrary()</code> only needs to transform the
+ * shared content into new model entities for the requesting model, instead of re-reading and re-validating the file.
+ * The shared JAXB content is never modified by the loader transformers; callers must treat it as read-only.
+ * 
  * @author S. Livezey
  */
 public abstract class AbstractBuiltInLibraryLoader implements BuiltInLibraryLoader {
 
     private SchemaDeclaration libraryDeclaration;
+    private LibraryModuleInfo<?> sharedModuleInfo;
+
+    /**
+     * Callback used to parse the content of a built-in library file using the module loader provided.
+     *
+     * @param <T> the type of the JAXB artifact produced by the module loader
+     */
+    @FunctionalInterface
+    protected interface ModuleInfoLoader<T> {
+
+        /**
+         * Loads the module content from the given input source.
+         * 
+         * @param moduleLoader the module loader to use when parsing the library content
+         * @param inputSource the input source for the built-in library file
+         * @param findings the validation findings to which any parsing errors should be reported
+         * @return LibraryModuleInfo&lt;T&gt;
+         * @throws LibraryLoaderException thrown if a system-level exception occurs
+         */
+        public LibraryModuleInfo<T> load(LibraryModuleLoader<InputStream> moduleLoader,
+            LibraryInputSource<InputStream> inputSource, ValidationFindings findings) throws LibraryLoaderException;
+
+    }
+
+    /**
+     * Returns the parsed content of the built-in library file. The content is only parsed the first time this method
+     * is called; the same (read-only) module info is returned for all subsequent calls. If the file contains errors,
+     * this method will return null and nothing will be retained.
+     * 
+     * @param inputSource the input source for the built-in library file
+     * @param moduleInfoLoader the callback used to parse the library content
+     * @param <T> the type of the JAXB artifact produced by the module loader
+     * @return LibraryModuleInfo&lt;T&gt;
+     * @throws LibraryLoaderException thrown if a system-level exception occurs
+     */
+    @SuppressWarnings("unchecked")
+    protected synchronized <T> LibraryModuleInfo<T> getSharedModuleInfo(LibraryInputSource<InputStream> inputSource,
+        ModuleInfoLoader<T> moduleInfoLoader) throws LibraryLoaderException {
+        if (sharedModuleInfo == null) {
+            ValidationFindings findings = new ValidationFindings();
+            LibraryModuleInfo<T> moduleInfo =
+                moduleInfoLoader.load( new MultiVersionLibraryModuleLoader(), inputSource, findings );
+
+            if (!findings.hasFinding()) {
+                sharedModuleInfo = moduleInfo;
+            }
+        }
+        return (LibraryModuleInfo<T>) sharedModuleInfo;
+    }
 
     /**
      * Returns an input source for the schema location that has been specified for the built-in library file.
@@ -111,8 +169,9 @@ public abstract class AbstractBuiltInLibraryLoader implements BuiltInLibraryLoad
      * 
      * @param libraryDeclaration the declaration to assign
      */
-    public void setLibraryDeclaration(SchemaDeclaration libraryDeclaration) {
+    public synchronized void setLibraryDeclaration(SchemaDeclaration libraryDeclaration) {
         this.libraryDeclaration = libraryDeclaration;
+        this.sharedModuleInfo = null;
     }
 
 }
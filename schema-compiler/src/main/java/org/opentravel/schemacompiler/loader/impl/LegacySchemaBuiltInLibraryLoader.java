@@ -21,13 +21,11 @@ import org.opentravel.schemacompiler.ioc.SchemaDeclaration;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryLoaderException;
 import org.opentravel.schemacompiler.loader.LibraryModuleInfo;
-import org.opentravel.schemacompiler.loader.LibraryModuleLoader;
 import org.opentravel.schemacompiler.model.BuiltInLibrary;
 import org.opentravel.schemacompiler.model.XSDLibrary;
 import org.opentravel.schemacompiler.transform.ObjectTransformer;
 import org.opentravel.schemacompiler.transform.TransformerFactory;
 import org.opentravel.schemacompiler.transform.symbols.DefaultTransformerContext;
-import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.w3._2001.xmlschema.Schema;
 
 import java.io.InputStream;
@@ -50,13 +48,12 @@ public class LegacySchemaBuiltInLibraryLoader extends AbstractBuiltInLibraryLoad
         BuiltInLibrary library = null;
 
         try {
-            // First, load the schema from the specified classpath location
-            LibraryModuleLoader<InputStream> moduleLoader = new MultiVersionLibraryModuleLoader();
-            ValidationFindings findings = new ValidationFindings();
-            LibraryModuleInfo<Schema> schemaInfo = moduleLoader.loadSchema( inputSource, findings );
+            // First, obtain the parsed schema content (only loaded from the classpath on the first call)
+            LibraryModuleInfo<Schema> schemaInfo =
+                getSharedModuleInfo( inputSource, (loader, source, findings) -> loader.loadSchema( source, findings ) );
 
             // Next, transform the schema into an XSDLibrary
-            if (!findings.hasFinding()) {
+            if (schemaInfo != null) {
                 DefaultTransformerContext transformContext = new DefaultTransformerContext();
                 TransformerFactory<DefaultTransformerContext> transformerFactory = TransformerFactory
                     .getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, transformContext );
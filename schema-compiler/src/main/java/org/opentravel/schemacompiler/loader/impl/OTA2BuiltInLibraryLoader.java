@@ -20,13 +20,11 @@ import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryLoaderException;
 import org.opentravel.schemacompiler.loader.LibraryModuleInfo;
-import org.opentravel.schemacompiler.loader.LibraryModuleLoader;
 import org.opentravel.schemacompiler.model.BuiltInLibrary;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.transform.ObjectTransformer;
 import org.opentravel.schemacompiler.transform.TransformerFactory;
 import org.opentravel.schemacompiler.transform.symbols.DefaultTransformerContext;
-import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.InputStream;
 
@@ -48,13 +46,12 @@ public class OTA2BuiltInLibraryLoader extends AbstractBuiltInLibraryLoader {
         BuiltInLibrary library = null;
 
         try {
-            // First, load the schema from the specified classpath location
-            LibraryModuleLoader<InputStream> moduleLoader = new MultiVersionLibraryModuleLoader();
-            ValidationFindings findings = new ValidationFindings();
-            LibraryModuleInfo<Object> libraryInfo = moduleLoader.loadLibrary( inputSource, findings );
+            // First, obtain the parsed library content (only loaded from the classpath on the first call)
+            LibraryModuleInfo<Object> libraryInfo =
+                getSharedModuleInfo( inputSource, (loader, source, findings) -> loader.loadLibrary( source, findings ) );
 
-            // Next, transform the schema into an XSDLibrary
-            if (!findings.hasFinding()) {
+            // Next, transform the library content into a new set of model entities
+            if (libraryInfo != null) {
                 DefaultTransformerContext transformContext = new DefaultTransformerContext();
                 TransformerFactory<DefaultTransformerContext> transformFactory = TransformerFactory
                     .getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, transformContext );
@@ -22,11 +22,9 @@ import org.opentravel.schemacompiler.event.ModelEventType;
 import org.opentravel.schemacompiler.model.TLInclude.IncludeListManager;
 import org.opentravel.schemacompiler.model.TLNamespaceImport.NamespaceImportListManager;
 import org.opentravel.schemacompiler.transform.AnonymousEntityFilter;
-import org.opentravel.schemacompiler.util.ReferenceCountVisitor;
 import org.opentravel.schemacompiler.version.VersionScheme;
 import org.opentravel.schemacompiler.version.VersionSchemeException;
 import org.opentravel.schemacompiler.version.VersionSchemeFactory;
-import org.opentravel.schemacompiler.visitor.ModelNavigator;
 
 import java.net.URL;
 import java.util.ArrayList;
@@ -77,15 +75,7 @@ public abstract class AbstractLibrary extends TLModelElement {
      * @return int
      */
     public int getReferenceCount() {
-        int referenceCount = 0;
-
-        if (owningModel != null) {
-            ReferenceCountVisitor visitor = new ReferenceCountVisitor( this );
-
-            ModelNavigator.navigate( this.getOwningModel(), visitor );
-            referenceCount = visitor.getReferenceCount();
-        }
-        return referenceCount;
+        return (owningModel == null) ? 0 : owningModel.getReferenceIndex().getReferenceCount( this );
     }
 
     /**
@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.model;
 
 import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventBatchListener;
 import org.opentravel.schemacompiler.event.ModelEventBuilder;
 import org.opentravel.schemacompiler.event.ModelEventListener;
 import org.opentravel.schemacompiler.event.ModelEventType;
@@ -27,6 +28,8 @@ import org.opentravel.schemacompiler.ic.NameChangeIntegrityChecker;
 import org.opentravel.schemacompiler.loader.BuiltInLibraryFactory;
 import org.opentravel.schemacompiler.transform.AnonymousEntityFilter;
 import org.opentravel.schemacompiler.transform.util.ModelReferenceResolver;
+import org.opentravel.schemacompiler.util.LibraryVersionIndex;
+import org.opentravel.schemacompiler.util.ModelReferenceIndex;
 import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.Validatable;
 
@@ -39,6 +42,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Container that encapsulates all namespaces and libraries within a single semantic model. Every new model instance is
@@ -49,9 +53,14 @@ import java.util.Set;
 public class TLModel implements Validatable {
 
     private List<AbstractLibrary> libraryList = new ArrayList<>();
-    private List<ModelEventListener<?,?>> listeners = new ArrayList<>();
+    private List<ModelEventListener<?,?>> listeners = new CopyOnWriteArrayList<>();
     private boolean listenersEnabled = true;
     private int chameleonCounter;
+    private long modificationCount;
+    private ModelReferenceIndex referenceIndex;
+    private LibraryVersionIndex versionIndex;
+    private int eventBatchDepth;
+    private List<ModelEvent<?>> batchEvents;
 
     /**
      * Default constructor.
@@ -258,6 +267,13 @@ public class TLModel implements Validatable {
 
         setListenersEnabled( false );
         libraryList = new ArrayList<>();
+
+        if (referenceIndex != null) {
+            referenceIndex.invalidate();
+        }
+        if (versionIndex != null) {
+            versionIndex.invalidate();
+        }
         initModel();
         setListenersEnabled( listenerFlag );
     }
@@ -381,6 +397,33 @@ public class TLModel implements Validatable {
         return libraries;
     }
 
+    /**
+     * Returns the reverse-reference index for this model. The index is kept current as events are published by the
+     * model, so it can be used to locate the elements that refer to an entity without navigating the entire model.
+     * 
+     * @return ModelReferenceIndex
+     */
+    public ModelReferenceIndex getReferenceIndex() {
+        if (referenceIndex == null) {
+            referenceIndex = new ModelReferenceIndex( this );
+        }
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the index of user-defined library versions for this model. The index is kept current as events are
+     * published by the model, so it can be used to locate all versions of a library without scanning every library in
+     * the model.
+     * 
+     * @return LibraryVersionIndex
+     */
+    public LibraryVersionIndex getVersionIndex() {
+        if (versionIndex == null) {
+            versionIndex = new LibraryVersionIndex( this );
+        }
+        return versionIndex;
+    }
+
     /**
      * Registers the given listener for published events from this model.
      * 
@@ -398,11 +441,51 @@ public class TLModel implements Validatable {
      * @param listener the listener to remove
      */
     public void removeListener(ModelEventListener<?,?> listener) {
-        if (listeners.contains( listener )) {
-            listeners.remove( listener );
+        listeners.remove( listener );
+    }
+
+    /**
+     * Starts a batch of model events. Until the batch is ended, events published by the model are retained instead of
+     * being delivered to the registered listeners. Batches may be nested, in which case the events are delivered when
+     * the outermost batch is ended.
+     * 
+     * <p>
+     * NOTE: Listeners registered directly with individual model elements are not affected by event batches.
+     */
+    public void startEventBatch() {
+        if (eventBatchDepth++ == 0) {
+            batchEvents = new ArrayList<>();
         }
     }
 
+    /**
+     * Ends the current batch of model events. If this is the outermost batch, the events that were published during
+     * the batch are delivered to the registered listeners. Each <code>ModelEventBatchListener</code> receives all of
+     * its events in a single notification, while all other listeners receive the events one at a time.
+     * 
+     * @throws IllegalStateException thrown if an event batch is not currently active
+     */
+    public void endEventBatch() {
+        if (eventBatchDepth == 0) {
+            throw new IllegalStateException( "An event batch is not currently active." );
+        }
+        if (--eventBatchDepth == 0) {
+            List<ModelEvent<?>> events = batchEvents;
+
+            batchEvents = null;
+            deliverEvents( events );
+        }
+    }
+
+    /**
+     * Returns true if a batch of model events is currently active.
+     * 
+     * @return boolean
+     */
+    public boolean isEventBatchActive() {
+        return eventBatchDepth > 0;
+    }
+
     /**
      * Returns true if registered listeners are to be notified of model events.
      * 
@@ -421,6 +504,17 @@ public class TLModel implements Validatable {
         this.listenersEnabled = listenersEnabled;
     }
 
+    /**
+     * Returns a counter that is incremented each time a change event is published for this model or one of its
+     * elements. Components that cache information derived from the model can compare this value to determine whether
+     * their cached content is still current.
+     * 
+     * @return long
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Initializes the model by adding all of the available built-in libraries.
      */
@@ -442,12 +536,55 @@ public class TLModel implements Validatable {
      */
     @SuppressWarnings("unchecked")
     protected <E extends ModelEvent<?>> void publishEvent(E event) {
-        if ((event != null) && listenersEnabled) {
-            List<ModelEventListener<?,?>> tempListeners = new ArrayList<>( listeners );
+        if (event != null) {
+            modificationCount++;
+
+            if (referenceIndex != null) {
+                referenceIndex.processModelEvent( event );
+            }
+            if (versionIndex != null) {
+                versionIndex.processModelEvent( event );
+            }
+            if (!listenersEnabled) {
+                return;
+            }
+            if (batchEvents != null) {
+                batchEvents.add( event );
+
+            } else {
+                for (ModelEventListener<?,?> listener : listeners) {
+                    if (event.canBeProcessedBy( listener )) {
+                        ((ModelEventListener<E,?>) listener).processModelEvent( event );
+                    }
+                }
+            }
+        }
+    }
 
-            for (ModelEventListener<?,?> listener : tempListeners) {
+    /**
+     * Delivers the events of a completed event batch to all registered listeners that are capable of processing them.
+     * 
+     * @param events the list of events to deliver
+     */
+    @SuppressWarnings("unchecked")
+    private void deliverEvents(List<ModelEvent<?>> events) {
+        for (ModelEventListener<?,?> listener : listeners) {
+            List<ModelEvent<?>> listenerEvents = new ArrayList<>();
+
+            for (ModelEvent<?> event : events) {
                 if (event.canBeProcessedBy( listener )) {
-                    ((ModelEventListener<E,?>) listener).processModelEvent( event );
+                    listenerEvents.add( event );
+                }
+            }
+            if (listenerEvents.isEmpty()) {
+                continue;
+            }
+            if (listener instanceof ModelEventBatchListener) {
+                ((ModelEventBatchListener<ModelEvent<?>,?>) listener).processModelEvents( listenerEvents );
+
+            } else {
+                for (ModelEvent<?> event : listenerEvents) {
+                    ((ModelEventListener<ModelEvent<?>,?>) listener).processModelEvent( event );
                 }
             }
         }
@@ -22,10 +22,9 @@ import org.opentravel.schemacompiler.event.OwnershipEvent;
 import org.opentravel.schemacompiler.event.ValueChangeEvent;
 import org.opentravel.schemacompiler.util.ModelElementCloner;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 
 /**
  * Base class for all type library model elements.
@@ -34,14 +33,23 @@ import java.util.List;
  */
 public abstract class TLModelElement implements ModelElement {
 
-    private List<ModelElementListener> listeners = new ArrayList<>();
+    private static final ModelElementListener[] NO_LISTENERS = new ModelElementListener[0];
+
+    /**
+     * Listeners are held in an array that is replaced (never modified) when a listener is added or removed. Elements
+     * without listeners share a single empty array, and events can be published without copying the listener list.
+     */
+    private ModelElementListener[] listeners = NO_LISTENERS;
 
     /**
      * @see org.opentravel.schemacompiler.model.ModelElement#addListener(org.opentravel.schemacompiler.event.ModelElementListener)
      */
     public void addListener(ModelElementListener listener) {
-        if ((listener != null) && !listeners.contains( listener )) {
-            listeners.add( listener );
+        if ((listener != null) && !Arrays.asList( listeners ).contains( listener )) {
+            ModelElementListener[] newListeners = Arrays.copyOf( listeners, listeners.length + 1 );
+
+            newListeners[listeners.length] = listener;
+            listeners = newListeners;
         }
     }
 
@@ -49,8 +57,19 @@ public abstract class TLModelElement implements ModelElement {
      * @see org.opentravel.schemacompiler.model.ModelElement#removeListener(org.opentravel.schemacompiler.event.ModelElementListener)
      */
     public void removeListener(ModelElementListener listener) {
-        if (listener != null) {
-            listeners.remove( listener );
+        int index = (listener == null) ? -1 : Arrays.asList( listeners ).indexOf( listener );
+
+        if (index >= 0) {
+            if (listeners.length == 1) {
+                listeners = NO_LISTENERS;
+
+            } else {
+                ModelElementListener[] newListeners = new ModelElementListener[listeners.length - 1];
+
+                System.arraycopy( listeners, 0, newListeners, 0, index );
+                System.arraycopy( listeners, index + 1, newListeners, index, listeners.length - index - 1 );
+                listeners = newListeners;
+            }
         }
     }
 
@@ -58,7 +77,7 @@ public abstract class TLModelElement implements ModelElement {
      * @see org.opentravel.schemacompiler.model.ModelElement#getListeners()
      */
     public Collection<ModelElementListener> getListeners() {
-        return Collections.unmodifiableCollection( listeners );
+        return Collections.unmodifiableList( Arrays.asList( listeners ) );
     }
 
     /**
@@ -73,18 +92,16 @@ public abstract class TLModelElement implements ModelElement {
             owningModel.publishEvent( event );
         }
 
-        if ((owningModel == null) || owningModel.isListenersEnabled()) {
-            if (event instanceof ValueChangeEvent) {
-                List<ModelElementListener> tempListeners = new ArrayList<>( listeners );
+        if ((listeners.length > 0) && ((owningModel == null) || owningModel.isListenersEnabled())) {
+            ModelElementListener[] currentListeners = listeners;
 
-                for (ModelElementListener listener : tempListeners) {
+            if (event instanceof ValueChangeEvent) {
+                for (ModelElementListener listener : currentListeners) {
                     listener.processValueChangeEvent( (ValueChangeEvent<?,?>) event );
                 }
 
             } else if (event instanceof OwnershipEvent) {
-                List<ModelElementListener> tempListeners = new ArrayList<>( listeners );
-
-                for (ModelElementListener listener : tempListeners) {
+                for (ModelElementListener listener : currentListeners) {
                     listener.processOwnershipEvent( (OwnershipEvent<?,?>) event );
                 }
             }
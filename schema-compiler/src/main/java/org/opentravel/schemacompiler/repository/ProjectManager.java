@@ -1438,19 +1438,14 @@ public final class ProjectManager {
         // Publish each item's content to the repository and download a copy to the local cache
         Collection<ProjectItem> successfullyPublishedItems = new ArrayList<>();
         Map<AbstractLibrary,URL> originalLibraryUrls = new HashMap<>();
-        boolean allItemsSuccessful = true;
+        boolean allItemsSuccessful = false;
 
         try {
             for (ProjectItem item : items) {
                 // Store the original URL of each library, just in case we need to roll back later
                 originalLibraryUrls.put( item.getContent(), item.getContent().getLibraryUrl() );
-
-                allItemsSuccessful &= publishLibrary( item, repository );
-
-                if (!allItemsSuccessful) {
-                    break;
-                }
             }
+            allItemsSuccessful = publishLibraries( new ArrayList<>( items ), repository, successfullyPublishedItems );
 
         } finally {
             if (allItemsSuccessful) {
@@ -1491,87 +1486,168 @@ public final class ProjectManager {
     }
 
     /**
-     * Published the given unmanaged project item to the specified repository.
+     * Publishes the given unmanaged project items to the specified repository. When more than one item is provided,
+     * all of the items are sent to the repository in a single batch request. Each item that is successfully published
+     * and converted to a managed item is added to the 'publishedItems' collection so that the caller can roll it back
+     * if a later item fails. Items that were published to the repository but could not be converted are deleted from
+     * the repository before this method returns.
      * 
-     * @param item the repository item for the library to be published
-     * @param repository the repository to which the item will be published
+     * @param items the project items for the libraries to be published
+     * @param repository the repository to which the items will be published
+     * @param publishedItems the collection to which each successfully published project item will be added
+     * @return boolean
      * @throws RepositoryException thrown if an error occurs during publication
      */
-    private boolean publishLibrary(ProjectItem item, Repository repository) throws RepositoryException {
-        File contentFile = URLUtils.toFile( item.getContent().getLibraryUrl() );
-        boolean itemSuccessful = false;
-        File tempFile = null;
-        File libraryFile;
+    private boolean publishLibraries(List<ProjectItem> items, Repository repository,
+        Collection<ProjectItem> publishedItems) throws RepositoryException {
+        List<File> contentFiles = new ArrayList<>();
+        List<File> tempFiles = new ArrayList<>();
+        List<PublicationRequest> requests = new ArrayList<>();
+        List<RepositoryItem> repositoryItems = Collections.emptyList();
+        int completedCount = 0;
 
-        // Start by saving the current content of the library to a temporary location
-        // (TLLibrary only) NOTE: Saving to a temp file avoids the problem of stomping
-        // the original backup file we created during the preparation step above.
-        if (item.getContent() instanceof TLLibrary) {
-            try {
-                libraryFile = tempFile = File.createTempFile( "publishTemp", ".otm" );
+        try {
+            for (ProjectItem item : items) {
+                contentFiles.add( URLUtils.toFile( item.getContent().getLibraryUrl() ) );
+                requests.add( newPublicationRequest( item, tempFiles ) );
+            }
 
-                ((TLLibrary) item.getContent()).setLibraryUrl( URLUtils.toURL( tempFile ) );
-                new LibraryModelSaver().saveLibrary( (TLLibrary) item.getContent() );
+            // Publish the libraries to the repository
+            repositoryManager.resetDownloadCache();
 
-            } catch (LibrarySaveException | IOException e) {
-                throw new RepositoryException( "Error saving current state of library: " + item.getFilename() );
-            }
+            if (requests.size() == 1) {
+                PublicationRequest request = requests.get( 0 );
 
-        } else {
-            libraryFile = contentFile;
-        }
+                try (InputStream contentStream = new FileInputStream( request.getContentFile() )) {
+                    repositoryItems = Collections.singletonList( repository.publish( contentStream,
+                        request.getFilename(), request.getLibraryName(), request.getNamespace(),
+                        request.getVersionIdentifier(), request.getVersionScheme(), request.getInitialStatus() ) );
+                }
 
-        try (InputStream contentStream = new FileInputStream( libraryFile )) {
-            // Publish the library to the repository
-            TLLibraryStatus initialStatus = TLLibraryStatus.DRAFT;
-            String versionScheme = null;
+            } else {
+                repositoryItems = repository.publish( requests );
+            }
 
-            if (item.getContent() instanceof TLLibrary) {
-                TLLibrary library = (TLLibrary) item.getContent();
+            for (int i = 0; i < items.size(); i++) {
+                completePublication( items.get( i ), repositoryItems.get( i ), contentFiles.get( i ), repository );
+                publishedItems.add( items.get( i ) );
+                completedCount++;
+            }
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Unable to publish unmanaged project content.", e );
 
-                initialStatus = library.getStatus();
-                versionScheme = library.getVersionScheme();
+        } finally {
+            // Delete the temp files we created prior to publication
+            for (File tempFile : tempFiles) {
+                FileUtils.delete( tempFile );
             }
-            repositoryManager.resetDownloadCache();
-            RepositoryItem repositoryItem =
-                repository.publish( contentStream, getPublicationFilename( item.getContent() ), item.getLibraryName(),
-                    item.getNamespace(), item.getVersion(), versionScheme, initialStatus );
 
-            // Change the library URL to be the copy we just moved into the local repository
-            URL managedLibraryUrl = repositoryManager.getContentLocation( repositoryItem );
-            ProjectItemImpl managedItem = (ProjectItemImpl) item;
+            // If unsuccessful, we need to change the URL of each unpublished library back to its original value
+            for (int i = completedCount; i < contentFiles.size(); i++) {
+                ProjectItem item = items.get( i );
 
-            managedItem.getContent().setLibraryUrl( managedLibraryUrl );
-            managedItem.setState( RepositoryItemState.MANAGED_UNLOCKED );
-            managedItem.setRepository( repository );
+                if (item.getContent() instanceof TLLibrary) {
+                    ((TLLibrary) item.getContent()).setLibraryUrl( URLUtils.toURL( contentFiles.get( i ) ) );
+                }
+            }
 
-            // Save the changes to the project state
-            if (autoSaveProjects) {
-                saveAffectedProjects( item );
+            // Remove any items from the repository that were published but not converted to managed items
+            for (int i = completedCount; i < repositoryItems.size(); i++) {
+                deletePublishedItem( repositoryItems.get( i ), repository );
             }
+        }
+        return completedCount == items.size();
+    }
 
-            // Rename our original file to ".bak" since the 'real' content is now managed
-            // by the repository.
-            File backupFile = getBackupFile( contentFile );
+    /**
+     * Deletes an item from the repository whose publication could not be completed. Any errors are logged and
+     * ignored, since the deletion is only performed while recovering from an earlier error.
+     * 
+     * @param repositoryItem the repository item to be deleted
+     * @param repository the repository to which the item was published
+     */
+    private void deletePublishedItem(RepositoryItem repositoryItem, Repository repository) {
+        try {
+            repository.delete( repositoryItem );
 
-            FileUtils.delete( backupFile ); // delete the old backup, if one exists
-            FileUtils.renameTo( contentFile, backupFile );
+        } catch (Exception e) {
+            log.warn( "Error during publication rollback - unable to delete item from the repository: "
+                + repositoryItem.getFilename(), e );
+        }
+    }
 
-            itemSuccessful = true;
+    /**
+     * Constructs the publication request for the given unmanaged project item. The current content of each
+     * <code>TLLibrary</code> is first saved to a temporary location that is added to the list of temp files provided.
+     * NOTE: Saving to a temp file avoids the problem of stomping the original backup file we created during the
+     * preparation step.
+     * 
+     * @param item the project item for the library to be published
+     * @param tempFiles the list of temporary files to be deleted after publication
+     * @return PublicationRequest
+     * @throws RepositoryException thrown if the current content of the library cannot be saved
+     */
+    private PublicationRequest newPublicationRequest(ProjectItem item, List<File> tempFiles)
+        throws RepositoryException {
+        TLLibraryStatus initialStatus = TLLibraryStatus.DRAFT;
+        String versionScheme = null;
+        File libraryFile;
 
-        } catch (IOException e) {
-            throw new RepositoryException( "Unable to publish unmanaged project content: " + item.getFilename(), e );
+        if (item.getContent() instanceof TLLibrary) {
+            TLLibrary library = (TLLibrary) item.getContent();
 
-        } finally {
-            // Delete the temp file we created prior to publication
-            FileUtils.delete( tempFile );
+            try {
+                libraryFile = File.createTempFile( "publishTemp", ".otm" );
+                tempFiles.add( libraryFile );
 
-            // If unsuccessful, we need to change the library's URL back to its original value
-            if (!itemSuccessful && (item.getContent() instanceof TLLibrary)) {
-                ((TLLibrary) item.getContent()).setLibraryUrl( URLUtils.toURL( contentFile ) );
+                library.setLibraryUrl( URLUtils.toURL( libraryFile ) );
+                new LibraryModelSaver().saveLibrary( library );
+
+            } catch (LibrarySaveException | IOException e) {
+                throw new RepositoryException( "Error saving current state of library: " + item.getFilename() );
             }
+            initialStatus = library.getStatus();
+            versionScheme = library.getVersionScheme();
+
+        } else {
+            libraryFile = URLUtils.toFile( item.getContent().getLibraryUrl() );
         }
-        return itemSuccessful;
+        return new PublicationRequest( libraryFile, getPublicationFilename( item.getContent() ), item.getLibraryName(),
+            item.getNamespace(), item.getVersion(), versionScheme, initialStatus );
+    }
+
+    /**
+     * Updates the given project item to reference the managed copy of its content after it has been successfully
+     * published to the repository.
+     * 
+     * @param item the project item that was published
+     * @param repositoryItem the repository item that was created by the publication
+     * @param contentFile the original (unmanaged) content file of the project item
+     * @param repository the repository to which the item was published
+     * @throws RepositoryException thrown if the managed content location cannot be determined
+     */
+    private void completePublication(ProjectItem item, RepositoryItem repositoryItem, File contentFile,
+        Repository repository) throws RepositoryException {
+        // Change the library URL to be the copy we just moved into the local repository
+        URL managedLibraryUrl = repositoryManager.getContentLocation( repositoryItem );
+        ProjectItemImpl managedItem = (ProjectItemImpl) item;
+
+        managedItem.getContent().setLibraryUrl( managedLibraryUrl );
+        managedItem.setState( RepositoryItemState.MANAGED_UNLOCKED );
+        managedItem.setRepository( repository );
+
+        // Save the changes to the project state
+        if (autoSaveProjects) {
+            saveAffectedProjects( item );
+        }
+
+        // Rename our original file to ".bak" since the 'real' content is now managed
+        // by the repository.
+        File backupFile = getBackupFile( contentFile );
+
+        FileUtils.delete( backupFile ); // delete the old backup, if one exists
+        FileUtils.renameTo( contentFile, backupFile );
     }
 
     /**
@@ -1967,6 +2043,39 @@ public final class ProjectManager {
         repositoryManager.commit( item, remarks );
     }
 
+    /**
+     * Commits the content of the given work-in-process (WIP) <code>ProjectItems</code> to their owning repositories,
+     * but retains the local user's locks. The items owned by each repository are committed as a single batch.
+     * 
+     * @param items the repository items whose content is to be committed
+     * @param remarks remarks provided by the user to describe the nature of the commit
+     * @throws IllegalStateException thrown if the state of any project item is not <code>MANAGED_WIP</code>
+     * @throws RepositoryException thrown if an error occurs while accessing the remote repository
+     */
+    public void commit(Collection<ProjectItem> items, String remarks) throws RepositoryException {
+        for (ProjectItem item : items) {
+            if (item.getState() != RepositoryItemState.MANAGED_WIP) {
+                throw new RepositoryException( "Unable to commit - the item is not a work-in-process copy." );
+            }
+        }
+
+        // Automatically save the libraries to make sure their file system representations are in-synch
+        // with the copies we have in memory
+        if (autoSaveProjects) {
+            try {
+                for (ProjectItem item : items) {
+                    if (item.getContent() instanceof TLLibrary) {
+                        new LibraryModelSaver().saveLibrary( (TLLibrary) item.getContent() );
+                    }
+                }
+            } catch (LibrarySaveException e) {
+                throw new RepositoryException( "Error saving library before committing content to the repository.", e );
+            }
+        }
+        repositoryManager.resetDownloadCache();
+        repositoryManager.commit( new ArrayList<RepositoryItem>( items ), remarks );
+    }
+
     /**
      * Reverts the contents of the given work-in-process (WIP) <code>ProjectItem</code> to the content currently
      * published in the remote repository. The local user's lock on the file is retained (leaving the item in the
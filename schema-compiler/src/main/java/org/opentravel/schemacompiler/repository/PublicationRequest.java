@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository;
+
+import org.opentravel.schemacompiler.model.TLLibraryStatus;
+
+import java.io.File;
+
+/**
+ * Describes a single item to be published as part of a batch publication request. The content of each item is read
+ * directly from the file provided so that the items of a large batch do not need to be held in memory.
+ */
+public class PublicationRequest {
+
+    private File contentFile;
+    private String filename;
+    private String libraryName;
+    private String namespace;
+    private String versionIdentifier;
+    private String versionScheme;
+    private TLLibraryStatus initialStatus;
+
+    /**
+     * Full constructor.
+     * 
+     * @param contentFile the file that contains the unmanaged content to publish
+     * @param filename the filename under which the content is to be published
+     * @param libraryName the name of the unmanaged library to publish
+     * @param namespace the full namespace (including version-specific path information) with which the file content is
+     *        to be associated
+     * @param versionIdentifier the version identifier of the repository item
+     * @param versionScheme the version scheme of the item to be published (may be null)
+     * @param initialStatus the initial status of the item in the repository
+     */
+    public PublicationRequest(File contentFile, String filename, String libraryName, String namespace,
+        String versionIdentifier, String versionScheme, TLLibraryStatus initialStatus) {
+        this.contentFile = contentFile;
+        this.filename = filename;
+        this.libraryName = libraryName;
+        this.namespace = namespace;
+        this.versionIdentifier = versionIdentifier;
+        this.versionScheme = versionScheme;
+        this.initialStatus = initialStatus;
+    }
+
+    /**
+     * Returns the file that contains the unmanaged content to publish.
+     * 
+     * @return File
+     */
+    public File getContentFile() {
+        return contentFile;
+    }
+
+    /**
+     * Returns the filename under which the content is to be published.
+     * 
+     * @return String
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * Returns the name of the unmanaged library to publish.
+     * 
+     * @return String
+     */
+    public String getLibraryName() {
+        return libraryName;
+    }
+
+    /**
+     * Returns the full namespace with which the file content is to be associated.
+     * 
+     * @return String
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns the version identifier of the repository item.
+     * 
+     * @return String
+     */
+    public String getVersionIdentifier() {
+        return versionIdentifier;
+    }
+
+    /**
+     * Returns the version scheme of the item to be published (may be null).
+     * 
+     * @return String
+     */
+    public String getVersionScheme() {
+        return versionScheme;
+    }
+
+    /**
+     * Returns the initial status of the item in the repository.
+     * 
+     * @return TLLibraryStatus
+     */
+    public TLLibraryStatus getInitialStatus() {
+        return initialStatus;
+    }
+
+}
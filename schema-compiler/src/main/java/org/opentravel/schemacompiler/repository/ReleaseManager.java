@@ -31,6 +31,7 @@ import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLLibraryStatus;
 import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.repository.impl.ProjectFileUtils;
+import org.opentravel.schemacompiler.repository.impl.ReleaseContentFetcher;
 import org.opentravel.schemacompiler.repository.impl.ReleaseFileUtils;
 import org.opentravel.schemacompiler.repository.impl.ReleaseItemImpl;
 import org.opentravel.schemacompiler.repository.impl.ReleaseLibraryModuleLoader;
@@ -481,25 +482,45 @@ public class ReleaseManager {
                 "The remote repository for one or more libraries in this release is unavailable." );
         }
         LibraryModelLoader<InputStream> modelLoader = new LibraryModelLoader<>( model );
-        ReleaseLibraryModuleLoader moduleLoader = new ReleaseLibraryModuleLoader( this, modelLoader.getModuleLoader() );
+        ReleaseLibraryModuleLoader moduleLoader;
 
         model.clearModel();
         modelLoader.getNamespaceResolver().setModel( model );
-        modelLoader.setModuleLoader( moduleLoader );
         modelLoader.setResolveModelReferences( false );
 
-        // Only force-load the principal items; referenced items will be refreshed
-        for (ReleaseMember principalMember : release.getPrincipalMembers()) {
-            LibraryInputSource<InputStream> inputSource = repositoryManager
-                .getHistoricalContentSource( principalMember.getRepositoryItem(), principalMember.getEffectiveDate() );
+        try (ReleaseContentFetcher contentFetcher = new ReleaseContentFetcher( repositoryManager, getFetchMembers() )) {
+            moduleLoader = new ReleaseLibraryModuleLoader( this, contentFetcher, modelLoader.getModuleLoader() );
+            modelLoader.setModuleLoader( moduleLoader );
 
-            modelLoader.loadLibraryModel( inputSource );
+            // Only force-load the principal items; referenced items will be refreshed
+            for (ReleaseMember principalMember : release.getPrincipalMembers()) {
+                modelLoader.loadLibraryModel( contentFetcher.getInputSource( principalMember ) );
+            }
         }
         ModelReferenceResolver.resolveReferences( model );
         moduleLoader.updateReferencedItems();
         validateModel( findings );
     }
 
+    /**
+     * Returns the members of the release whose historical content should be retrieved in advance of a model load. This
+     * includes each principal member and each referenced member that has an effective date. The content is retrieved
+     * by a <code>ReleaseContentFetcher</code> so that remote libraries are downloaded concurrently, while the libraries
+     * are parsed and added to the model on the calling thread in the same order as a serial load.
+     * 
+     * @return List&lt;ReleaseMember&gt;
+     */
+    private List<ReleaseMember> getFetchMembers() {
+        List<ReleaseMember> fetchMembers = new ArrayList<>( release.getPrincipalMembers() );
+
+        for (ReleaseMember referencedMember : release.getReferencedMembers()) {
+            if (referencedMember.getEffectiveDate() != null) {
+                fetchMembers.add( referencedMember );
+            }
+        }
+        return fetchMembers;
+    }
+
     /**
      * Returns true if the current release is a repository-managed item.
      * 
@@ -20,8 +20,12 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryPermission;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.model.TLLibraryStatus;
 
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -418,6 +422,57 @@ public interface Repository {
      */
     public void commit(RepositoryItem item, String remarks) throws RepositoryException;
 
+    /**
+     * Publishes a batch of files for the first time to this repository. Implementations that support batch requests
+     * publish all of the items as a single unit of work, so that none of the items are published if the publication of
+     * any item fails.
+     * 
+     * <p>
+     * The default implementation publishes each item individually (and in order) using the single-item
+     * <code>publish()</code> method; it stops at the first failure, but items that were already published remain in
+     * the repository.
+     * 
+     * @param requests the list of items to be published
+     * @return List&lt;RepositoryItem&gt;
+     * @throws RepositoryException thrown if the publication of any file fails
+     */
+    public default List<RepositoryItem> publish(List<PublicationRequest> requests) throws RepositoryException {
+        List<RepositoryItem> publishedItems = new ArrayList<>();
+
+        for (PublicationRequest request : requests) {
+            try (InputStream contentStream = new FileInputStream( request.getContentFile() )) {
+                publishedItems.add( publish( contentStream, request.getFilename(), request.getLibraryName(),
+                    request.getNamespace(), request.getVersionIdentifier(), request.getVersionScheme(),
+                    request.getInitialStatus() ) );
+
+            } catch (IOException e) {
+                throw new RepositoryException( "Unable to read the content of file: " + request.getFilename(), e );
+            }
+        }
+        return publishedItems;
+    }
+
+    /**
+     * Commits the work-in-process content of each of the specified <code>RepositoryItems</code>. Implementations that
+     * support batch requests commit all of the items as a single unit of work, so that none of the items are committed
+     * if the commit of any item fails.
+     * 
+     * <p>
+     * The default implementation commits each item individually (and in order) using the single-item
+     * <code>commit()</code> method; it stops at the first failure, but items that were already committed are not
+     * rolled back.
+     * 
+     * @param items the repository items to commit
+     * @param remarks free-text remarks that describe the nature of the change being committed
+     * @throws RepositoryException thrown if the content of any item cannot be committed or is not yet locked by the
+     *         current user
+     */
+    public default void commit(Collection<RepositoryItem> items, String remarks) throws RepositoryException {
+        for (RepositoryItem item : items) {
+            commit( item, remarks );
+        }
+    }
+
     /**
      * Locks the specified repository item using the credentials for its owning repository.
      * 
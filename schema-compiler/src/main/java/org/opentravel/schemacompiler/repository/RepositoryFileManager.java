@@ -99,6 +99,7 @@ public abstract class RepositoryFileManager {
     private static Logger log = LogManager.getLogger( RepositoryFileManager.class );
 
     private static final ThreadLocal<Set<File>> changeSet = ThreadLocal.withInitial( HashSet::new );
+    private static final ThreadLocal<ChangeSetBatch> changeSetBatch = new ThreadLocal<>();
 
     private static javax.xml.validation.Schema repositoryValidationSchema;
     protected static ObjectFactory objectFactory = new ObjectFactory();
@@ -340,7 +341,9 @@ public abstract class RepositoryFileManager {
     }
 
     /**
-     * Returns a list meta-data records for all items published to the specified namespace.
+     * Returns a list meta-data records for all items published to the specified namespace. The folder listings and
+     * meta-data records are obtained from the repository's in-memory catalog; each record that is returned is a copy
+     * that may be modified by the caller.
      * 
      * @param baseNamespace the base namespace (no version identifier) to search for published items
      * @return List&lt;LibraryInfoType&gt;
@@ -351,20 +354,13 @@ public abstract class RepositoryFileManager {
 
         // First, compile the list of possible folders for the specified base namespace
         File baseFolder = getNamespaceFolder( baseNamespace, null );
-        List<File> namespaceFolders = new ArrayList<>();
+        List<File> namespaceFolders = new ArrayList<>( getMetadataCatalog().getSubfolders( baseFolder ) );
 
-        if (baseFolder.exists()) {
-            for (File folderMember : baseFolder.listFiles()) {
-                if (folderMember.isDirectory()) {
-                    namespaceFolders.add( folderMember );
-                }
-            }
-            namespaceFolders.add( baseFolder );
+        namespaceFolders.add( baseFolder );
 
-            for (File nsFolder : namespaceFolders) {
-                for (File folderMember : nsFolder.listFiles()) {
-                    loadIfMetadata( folderMember, baseNamespace, metadataList );
-                }
+        for (File nsFolder : namespaceFolders) {
+            for (File folderMember : getMetadataCatalog().getFiles( nsFolder )) {
+                loadIfMetadata( folderMember, baseNamespace, metadataList );
             }
         }
         return metadataList;
@@ -379,9 +375,9 @@ public abstract class RepositoryFileManager {
      * @param metadataList the list to which a new meta-data record will be added
      */
     private void loadIfMetadata(File folderMember, String baseNamespace, List<LibraryInfoType> metadataList) {
-        if (folderMember.isFile() && folderMember.getName().endsWith( METADATA_FILE_SUFFIX )) {
+        if (folderMember.getName().endsWith( METADATA_FILE_SUFFIX )) {
             try {
-                LibraryInfoType libraryMetadata = (LibraryInfoType) loadFile( folderMember );
+                LibraryInfoType libraryMetadata = loadCatalogMetadata( folderMember );
 
                 if (baseNamespace.equals( libraryMetadata.getBaseNamespace() )) {
                     metadataList.add( libraryMetadata );
@@ -392,6 +388,17 @@ public abstract class RepositoryFileManager {
         }
     }
 
+    /**
+     * Returns the library meta-data record from the given file using the repository's in-memory catalog.
+     * 
+     * @param metadataFile the meta-data file to load
+     * @return LibraryInfoType
+     * @throws RepositoryException thrown if the file cannot be loaded
+     */
+    private LibraryInfoType loadCatalogMetadata(File metadataFile) throws RepositoryException {
+        return getMetadataCatalog().getMetadata( metadataFile, f -> (LibraryInfoType) loadFile( f ) );
+    }
+
     /**
      * Saves the given library meta-data record to the repository.
      * 
@@ -583,15 +590,13 @@ public abstract class RepositoryFileManager {
         File nsFolder = getNamespaceFolder( baseNamespace, null );
         List<String> childPaths = new ArrayList<>();
 
-        if (nsFolder.exists()) {
-            for (File folderMember : nsFolder.listFiles()) {
-                if (folderMember.isDirectory() && !folderMember.getName().startsWith( "." )) {
-                    try {
-                        childPaths.add( getNamespaceUriPathSegment( folderMember ) );
+        for (File folderMember : getMetadataCatalog().getSubfolders( nsFolder )) {
+            if (!folderMember.getName().startsWith( "." )) {
+                try {
+                    childPaths.add( getNamespaceUriPathSegment( folderMember ) );
 
-                    } catch (IOException e) {
-                        // No error - skip this folder and move on
-                    }
+                } catch (IOException e) {
+                    // No error - skip this folder and move on
                 }
             }
         }
@@ -613,26 +618,13 @@ public abstract class RepositoryFileManager {
         File nsFolder = getNamespaceFolder( baseNamespace, null );
         List<String> childPaths = new ArrayList<>();
 
-        if (nsFolder.exists()) {
-            for (File folderMember : nsFolder.listFiles()) {
-                boolean skip = false;
-
-                // Skip folders that are not specific to namespace versions
-                if (!folderMember.isDirectory()) {
-                    skip = true;
-
-                } else if (!folderMember.getName().startsWith( "." )) {
-                    File nsidFile = new File( folderMember, NAMESPACE_ID_FILENAME );
-
-                    if (nsidFile.exists()) {
-                        skip = true;
-                    }
-                }
-                if (skip) {
-                    continue;
-                }
-                getChildVersionPaths( folderMember, childPaths );
+        for (File folderMember : getMetadataCatalog().getSubfolders( nsFolder )) {
+            // Skip folders that are not specific to namespace versions
+            if (!folderMember.getName().startsWith( "." ) && getMetadataCatalog().getFiles( folderMember )
+                .contains( new File( folderMember, NAMESPACE_ID_FILENAME ) )) {
+                continue;
             }
+            getChildVersionPaths( folderMember, childPaths );
         }
         return childPaths;
     }
@@ -645,10 +637,10 @@ public abstract class RepositoryFileManager {
      * @param childPaths the list of child version paths being collected
      */
     private void getChildVersionPaths(File nsFolder, List<String> childPaths) {
-        for (File versionMember : nsFolder.listFiles()) {
+        for (File versionMember : getMetadataCatalog().getFiles( nsFolder )) {
             if (versionMember.getName().endsWith( METADATA_FILE_SUFFIX )) {
                 try {
-                    LibraryInfoType libraryMetadata = (LibraryInfoType) loadFile( versionMember );
+                    LibraryInfoType libraryMetadata = loadCatalogMetadata( versionMember );
                     String baseNS = libraryMetadata.getBaseNamespace();
                     String versionNS = libraryMetadata.getNamespace();
 
@@ -773,6 +765,7 @@ public abstract class RepositoryFileManager {
             // Create any namespace folders that do not already exist
             if (!nsFolder.exists()) {
                 nsFolder.mkdirs();
+                getMetadataCatalog().invalidate( nsFolder );
             }
 
             if (nsidFile.exists()) {
@@ -803,6 +796,9 @@ public abstract class RepositoryFileManager {
 
         } catch (IOException e) {
             throw new RepositoryException( "Unable to create namespace identification file for URI: " + ns, e );
+
+        } finally {
+            getMetadataCatalog().invalidate( nsidFile );
         }
     }
 
@@ -880,6 +876,7 @@ public abstract class RepositoryFileManager {
                 if (!FileUtils.confirmDelete( nsidFile )) {
                     throw new RepositoryException( "Unable to remove namespace file: " + nsidFile.getAbsolutePath() );
                 }
+                getMetadataCatalog().invalidate( nsidFile );
                 namespaceIdCache.remove( nsidFolder.getAbsolutePath() );
 
                 if (!deleteParentFiles || nsidFolder.getAbsolutePath().equals( repositoryLocation.getAbsolutePath() )) {
@@ -976,6 +973,10 @@ public abstract class RepositoryFileManager {
      */
     public void startChangeSet() {
         Set<File> chgSet = RepositoryFileManager.changeSet.get();
+
+        if (isChangeSetBatchActive()) {
+            return; // Changes are accumulated until the batch is committed
+        }
         try {
             if (!chgSet.isEmpty()) {
                 log.warn( "Uncommitted change set from previous task - rolling back." );
@@ -1013,9 +1014,40 @@ public abstract class RepositoryFileManager {
             }
             log.debug( "Adding file to repository change set: " + file.getName() );
             RepositoryFileManager.changeSet.get().add( file );
+            getMetadataCatalog().invalidate( file );
         }
     }
 
+    /**
+     * Discards the in-memory catalog entries for a repository file or folder that was created, modified or deleted
+     * without using the save methods or change set of this file manager.
+     * 
+     * @param file the repository file or folder that was modified
+     */
+    public void invalidateMetadataCatalog(File file) {
+        if (file != null) {
+            getMetadataCatalog().invalidate( file );
+        }
+    }
+
+    /**
+     * Discards all entries from the in-memory catalog of this repository. This method should be called when the
+     * contents of the repository may have been modified by another process.
+     */
+    protected void clearMetadataCatalog() {
+        getMetadataCatalog().clear();
+    }
+
+    /**
+     * Returns the in-memory catalog of folder listings and library meta-data records that is shared by all file
+     * managers for this repository's location.
+     * 
+     * @return RepositoryMetadataCatalog
+     */
+    private RepositoryMetadataCatalog getMetadataCatalog() {
+        return RepositoryMetadataCatalog.getCatalog( repositoryLocation );
+    }
+
     /**
      * Commits the contents (if any) of the current change set.
      * 
@@ -1024,11 +1056,19 @@ public abstract class RepositoryFileManager {
     public void commitChangeSet() throws RepositoryException {
         Set<File> chgSet = RepositoryFileManager.changeSet.get();
 
+        if (isChangeSetBatchActive()) {
+            return; // Commit is deferred until the end of the batch
+        }
         if (!chgSet.isEmpty()) {
             if (log.isDebugEnabled()) {
                 log.debug( "Committing repository change set: " + Thread.currentThread().getName() );
             }
-            commitChangeSet( chgSet );
+            try {
+                commitChangeSet( chgSet );
+
+            } finally {
+                getMetadataCatalog().invalidate( chgSet );
+            }
         }
         chgSet.clear();
 
@@ -1052,12 +1092,22 @@ public abstract class RepositoryFileManager {
      */
     public void rollbackChangeSet() throws RepositoryException {
         Set<File> chgSet = RepositoryFileManager.changeSet.get();
+        ChangeSetBatch batch = changeSetBatch.get();
 
+        if (batch != null) {
+            batch.rollbackRequired = true; // Rollback is deferred until the end of the batch
+            return;
+        }
         if (!chgSet.isEmpty()) {
             if (log.isDebugEnabled()) {
                 log.debug( "Rolling back repository change set: " + Thread.currentThread().getName() );
             }
-            rollbackChangeSet( chgSet );
+            try {
+                rollbackChangeSet( chgSet );
+
+            } finally {
+                getMetadataCatalog().invalidate( chgSet );
+            }
         }
         chgSet.clear();
 
@@ -1074,6 +1124,69 @@ public abstract class RepositoryFileManager {
      */
     protected abstract void rollbackChangeSet(Set<File> changeSet) throws RepositoryException;
 
+    /**
+     * Returns true if the given file is a member of the current thread's change set.
+     * 
+     * @param file the file to check
+     * @return boolean
+     */
+    protected boolean isInChangeSet(File file) {
+        return RepositoryFileManager.changeSet.get().contains( file );
+    }
+
+    /**
+     * Begins a batch of change sets for the current thread. Until the batch is committed or rolled back, calls to
+     * <code>startChangeSet()</code> and <code>commitChangeSet()</code> have no effect, so the files modified by all of
+     * the repository operations in the batch are accumulated in a single change set. A call to
+     * <code>rollbackChangeSet()</code> during the batch causes the entire batch to be rolled back when it completes.
+     */
+    public void startChangeSetBatch() {
+        changeSetBatch.remove();
+        startChangeSet();
+        changeSetBatch.set( new ChangeSetBatch() );
+
+        if (log.isDebugEnabled()) {
+            log.debug( "Change set batch started for thread: " + Thread.currentThread().getName() );
+        }
+    }
+
+    /**
+     * Returns true if a batch of change sets is currently active for the current thread.
+     * 
+     * @return boolean
+     */
+    public boolean isChangeSetBatchActive() {
+        return changeSetBatch.get() != null;
+    }
+
+    /**
+     * Commits the accumulated contents of the current batch as a single change set. If any of the operations in the
+     * batch requested a rollback, the entire batch is rolled back instead and an exception is thrown.
+     * 
+     * @throws RepositoryException thrown if the batch cannot be committed for any reason
+     */
+    public void commitChangeSetBatch() throws RepositoryException {
+        ChangeSetBatch batch = changeSetBatch.get();
+
+        changeSetBatch.remove();
+
+        if ((batch != null) && batch.rollbackRequired) {
+            rollbackChangeSet();
+            throw new RepositoryException( "One or more operations in the batch failed - all changes rolled back." );
+        }
+        commitChangeSet();
+    }
+
+    /**
+     * Rolls back the accumulated contents of the current batch.
+     * 
+     * @throws RepositoryException thrown if the batch cannot be rolled back for any reason
+     */
+    public void rollbackChangeSetBatch() throws RepositoryException {
+        changeSetBatch.remove();
+        rollbackChangeSet();
+    }
+
     /**
      * Returns the given URI path component as a legal folder name for the OTA2.0 repository.
      * 
@@ -1169,6 +1282,9 @@ public abstract class RepositoryFileManager {
 
         } catch (JAXBException e) {
             throw new RepositoryException( "Unknown error while repository file: " + file.getName(), e );
+
+        } finally {
+            getMetadataCatalog().invalidate( file );
         }
     }
 
@@ -1194,6 +1310,9 @@ public abstract class RepositoryFileManager {
 
         } catch (IOException e) {
             throw new RepositoryException( "Error saving file: " + file.getName(), e );
+
+        } finally {
+            getMetadataCatalog().invalidate( file );
         }
     }
 
@@ -1282,4 +1401,13 @@ public abstract class RepositoryFileManager {
         }
     }
 
+    /**
+     * Tracks the state of a batch of change sets for a single thread.
+     */
+    private static class ChangeSetBatch {
+
+        private boolean rollbackRequired = false;
+
+    }
+
 }
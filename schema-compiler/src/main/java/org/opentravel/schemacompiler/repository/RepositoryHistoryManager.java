@@ -20,27 +20,49 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryItemType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.ObjectFactory;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
+import org.opentravel.schemacompiler.repository.impl.HistoryDeltaCodec;
 import org.opentravel.schemacompiler.util.FileUtils;
 import org.opentravel.schemacompiler.xml.XMLGregorianCalendarConverter;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Maintains a persistent history of all commits to managed <code>RepositoryItem</code>s within an OTM repository.
  * 
+ * <p>
+ * Historical content is stored as a series of periodic full snapshots, with the commits in between stored as
+ * compressed deltas against the nearest preceding snapshot. Deltas are reconstructed on demand (and cached) when
+ * historical content is requested. Repositories whose history folders contain only full copies (i.e. those created
+ * prior to the introduction of delta storage) remain fully readable, and can be compacted using the
+ * <code>compactHistory()</code> method.
+ * 
  * @author S. Livezey
  */
 public class RepositoryHistoryManager {
 
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+
+    private static final String DELTA_FILE_SUFFIX = ".delta";
+    private static final double MAX_DELTA_RATIO = 0.5;
+    private static final int MAX_RECONSTRUCTED_ITEMS = 100;
+
     private static ObjectFactory objFactory = new ObjectFactory();
+    private static Map<String,File> reconstructedContent = new LinkedHashMap<>( 16, 0.75f, true );
+    private static File reconstructionFolder;
 
     private RepositoryManager manager;
+    private int snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
 
     /**
      * Constructor that specifies the <code>RepositoryManager</code> for which the history will be managed.
@@ -63,7 +85,6 @@ public class RepositoryHistoryManager {
     protected void addToHistory(RepositoryItem item, Date effectiveOn, String remarks) throws RepositoryException {
         LibraryHistoryItemType newCommit = new LibraryHistoryItemType();
         File historyFile = getHistoryFile( item );
-        File hContentFile;
         LibraryHistoryType history = loadHistoryFile( historyFile );
         String userId = manager.getFileManager().getCurrentUserId();
         int commitNumber = 0;
@@ -85,7 +106,9 @@ public class RepositoryHistoryManager {
             }
             commitNumber++;
         }
-        hContentFile = getHistoricalContentFile( item, commitNumber );
+        File contentFile = manager.getFileManager().getLibraryContentLocation( item.getBaseNamespace(),
+            item.getFilename(), item.getVersion() );
+        File hContentFile = saveHistoricalContent( item, commitNumber, readContent( contentFile ) );
 
         newCommit.setCommitNumber( commitNumber );
         newCommit.setUser( (userId == null) ? "Unknown" : userId );
@@ -96,26 +119,6 @@ public class RepositoryHistoryManager {
         history.getLibraryHistoryItem().add( 0, newCommit );
         manager.getFileManager().saveFile( historyFile, objFactory.createLibraryHistory( history ), true );
         manager.getFileManager().addToChangeSet( historyFile );
-
-        // Copy the contents of the repository item's library (i.e. the .otm file) to a
-        // new historical data file
-        File contentFile = manager.getFileManager().getLibraryContentLocation( item.getBaseNamespace(),
-            item.getFilename(), item.getVersion() );
-
-        try (OutputStream contentOut = new FileOutputStream( hContentFile )) {
-            try (InputStream contentIn = new FileInputStream( contentFile )) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-
-                while ((bytesRead = contentIn.read( buffer, 0, buffer.length )) >= 0) {
-                    contentOut.write( buffer, 0, bytesRead );
-                }
-            }
-
-        } catch (IOException e) {
-            throw new RepositoryException( "Error saving historical content file.", e );
-        }
-        manager.getFileManager().addToChangeSet( hContentFile );
     }
 
     /**
@@ -156,7 +159,8 @@ public class RepositoryHistoryManager {
 
     /**
      * Returns a file location from which the repository item's content can be retrieved as it existed for the specified
-     * commit number.
+     * commit number. If the commit was stored as a delta, the content is reconstructed from its base snapshot and the
+     * location of the reconstructed file is returned.
      * 
      * @param item the repository item for which to return historical content
      * @param commitNumber the commit number for which to return the item's historical content
@@ -170,8 +174,13 @@ public class RepositoryHistoryManager {
         File hContentFile = getHistoricalContentFile( item, commitNumber );
 
         if (!hContentFile.exists()) {
-            throw new RepositoryException(
-                "Error retrieving historical content for " + item.getFilename() + "/" + commitNumber );
+            File deltaFile = getHistoricalDeltaFile( item, commitNumber );
+
+            if (!deltaFile.exists()) {
+                throw new RepositoryException(
+                    "Error retrieving historical content for " + item.getFilename() + "/" + commitNumber );
+            }
+            hContentFile = getReconstructedContent( item, commitNumber, deltaFile );
         }
         return hContentFile;
     }
@@ -211,6 +220,284 @@ public class RepositoryHistoryManager {
         return getHistoricalContent( item, commitNumber );
     }
 
+    /**
+     * Rewrites the historical content of the given repository item so that it is stored as periodic full snapshots
+     * and compressed deltas. This method is used to migrate history folders that were created prior to the
+     * introduction of delta storage; items whose history is already compacted are rewritten in the same format. The
+     * caller is responsible for starting and committing (or rolling back) the file manager's change set.
+     * 
+     * @param item the repository item whose history should be compacted
+     * @return long[] a two-element array containing the total size (in bytes) of the item's historical content files
+     *         before and after compaction
+     * @throws RepositoryException thrown if the item's history cannot be compacted
+     */
+    public long[] compactHistory(RepositoryItem item) throws RepositoryException {
+        File historyFile = getHistoryFile( item );
+        LibraryHistoryType history = loadHistoryFile( historyFile );
+        long[] footprint = new long[2];
+
+        if (history != null) {
+            List<LibraryHistoryItemType> commitItems = new ArrayList<>( history.getLibraryHistoryItem() );
+            Map<Integer,byte[]> commitContent = new HashMap<>();
+            File historyFolder = historyFile.getParentFile();
+
+            // Reconstruct the content of every commit before any of the existing files are modified
+            commitItems.sort( Comparator.comparingInt( LibraryHistoryItemType::getCommitNumber ) );
+
+            for (LibraryHistoryItemType commitItem : commitItems) {
+                int commitNumber = commitItem.getCommitNumber();
+
+                commitContent.put( commitNumber, readContent( getHistoricalContent( item, commitNumber ) ) );
+                footprint[0] += new File( historyFolder, commitItem.getFilename() ).length();
+            }
+
+            // Delete the existing content files and re-save each commit in ascending order
+            for (LibraryHistoryItemType commitItem : commitItems) {
+                File hContentFile = new File( historyFolder, commitItem.getFilename() );
+
+                if (hContentFile.exists()) {
+                    manager.getFileManager().addToChangeSet( hContentFile );
+                    FileUtils.delete( hContentFile );
+                }
+            }
+            for (LibraryHistoryItemType commitItem : commitItems) {
+                int commitNumber = commitItem.getCommitNumber();
+                File hContentFile = saveHistoricalContent( item, commitNumber, commitContent.get( commitNumber ) );
+
+                commitItem.setFilename( hContentFile.getName() );
+                footprint[1] += hContentFile.length();
+            }
+            manager.getFileManager().saveFile( historyFile, objFactory.createLibraryHistory( history ), true );
+            manager.getFileManager().addToChangeSet( historyFile );
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns the number of commits that may be stored as deltas between successive full snapshots of an item's
+     * historical content.
+     * 
+     * @return int
+     */
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    /**
+     * Assigns the number of commits that may be stored as deltas between successive full snapshots of an item's
+     * historical content.
+     * 
+     * @param snapshotInterval the field value to assign
+     */
+    public void setSnapshotInterval(int snapshotInterval) {
+        this.snapshotInterval = Math.max( snapshotInterval, 1 );
+    }
+
+    /**
+     * Saves the given content as the historical content of the specified commit. The content is stored as a delta
+     * against the nearest preceding snapshot if one exists within the snapshot interval and the resulting delta is
+     * sufficiently small; otherwise, a full snapshot is saved.
+     * 
+     * @param item the repository item whose historical content is to be saved
+     * @param commitNumber the commit number of the historical content
+     * @param content the library content as it existed at the time of the commit
+     * @return File
+     * @throws RepositoryException thrown if the historical content cannot be saved
+     */
+    private File saveHistoricalContent(RepositoryItem item, int commitNumber, byte[] content)
+        throws RepositoryException {
+        int baseCommit = findSnapshotCommit( item, commitNumber );
+        File hContentFile = getHistoricalContentFile( item, commitNumber );
+        byte[] hContent = content;
+
+        try {
+            if ((baseCommit >= 0) && ((commitNumber - baseCommit) < snapshotInterval)) {
+                byte[] baseContent = readContent( getHistoricalContentFile( item, baseCommit ) );
+                byte[] delta = HistoryDeltaCodec.encode( baseContent, content );
+
+                if (delta.length <= (content.length * MAX_DELTA_RATIO)) {
+                    hContentFile = getHistoricalDeltaFile( item, commitNumber );
+                    hContent = delta;
+                }
+            }
+            hContentFile.getParentFile().mkdirs();
+            Files.write( hContentFile.toPath(), hContent );
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Error saving historical content file.", e );
+        }
+        manager.getFileManager().addToChangeSet( hContentFile );
+        return hContentFile;
+    }
+
+    /**
+     * Returns the location of a file that contains the content reconstructed from the given delta file. Reconstructed
+     * content is cached in a temporary folder, so subsequent requests for the same commit do not incur the cost of
+     * re-applying the delta. The cache holds a limited number of items; the files of the least-recently used items
+     * are deleted when that limit is exceeded.
+     * 
+     * @param item the repository item for which to reconstruct historical content
+     * @param commitNumber the commit number of the content to reconstruct
+     * @param deltaFile the delta file for the specified commit
+     * @return File
+     * @throws RepositoryException thrown if the historical content cannot be reconstructed
+     */
+    private File getReconstructedContent(RepositoryItem item, int commitNumber, File deltaFile)
+        throws RepositoryException {
+        String cacheKey = deltaFile.getAbsolutePath() + "|" + deltaFile.lastModified() + "|" + deltaFile.length();
+        File cacheFile = getCachedContent( cacheKey );
+
+        if (cacheFile != null) {
+            return cacheFile;
+        }
+        try {
+            int baseCommit = findSnapshotCommit( item, commitNumber );
+
+            if (baseCommit < 0) {
+                throw new RepositoryException( "Unable to locate the base snapshot for historical content "
+                    + item.getFilename() + "/" + commitNumber );
+            }
+            byte[] content = HistoryDeltaCodec.decode( readContent( getHistoricalContentFile( item, baseCommit ) ),
+                readContent( deltaFile ) );
+            File tempFile;
+
+            cacheFile = new File( createCacheFolder(), item.getFilename() );
+            tempFile = File.createTempFile( "content", ".tmp", cacheFile.getParentFile() );
+            Files.write( tempFile.toPath(), content );
+            Files.move( tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE );
+            return putCachedContent( cacheKey, cacheFile );
+
+        } catch (IOException e) {
+            throw new RepositoryException(
+                "Error reconstructing historical content for " + item.getFilename() + "/" + commitNumber, e );
+        }
+    }
+
+    /**
+     * Returns the commit number of the nearest full snapshot that precedes the specified commit, or -1 if no such
+     * snapshot exists.
+     * 
+     * @param item the repository item whose snapshots are to be searched
+     * @param commitNumber the commit number for which to locate the preceding snapshot
+     * @return int
+     * @throws RepositoryException thrown if the item's file locations cannot be identified
+     */
+    private int findSnapshotCommit(RepositoryItem item, int commitNumber) throws RepositoryException {
+        int snapshotCommit = -1;
+
+        for (int i = commitNumber - 1; (snapshotCommit < 0) && (i >= 0); i--) {
+            if (getHistoricalContentFile( item, i ).exists()) {
+                snapshotCommit = i;
+            }
+        }
+        return snapshotCommit;
+    }
+
+    /**
+     * Deletes all of the reconstructed historical content that is currently cached by this JVM. Long-running hosts
+     * (such as the repository web service) should call this method when they are shut down.
+     */
+    public static synchronized void clearReconstructedContent() {
+        for (File cacheFile : reconstructedContent.values()) {
+            deleteCachedContent( cacheFile );
+        }
+        reconstructedContent.clear();
+
+        if (reconstructionFolder != null) {
+            FileUtils.delete( reconstructionFolder );
+            reconstructionFolder = null;
+        }
+    }
+
+    /**
+     * Returns the cached file for the given key, or null if the content has not been reconstructed or its file no
+     * longer exists.
+     * 
+     * @param cacheKey the cache key of the reconstructed content
+     * @return File
+     */
+    private static synchronized File getCachedContent(String cacheKey) {
+        File cacheFile = reconstructedContent.get( cacheKey );
+
+        if ((cacheFile != null) && !cacheFile.exists()) {
+            reconstructedContent.remove( cacheKey );
+            cacheFile = null;
+        }
+        return cacheFile;
+    }
+
+    /**
+     * Adds the given file to the cache of reconstructed content and returns the file that should be used for the key.
+     * If another thread has already reconstructed the same content, the existing file is returned and the new one is
+     * deleted. When the cache exceeds its maximum size, the least-recently used entries are removed and their files
+     * are deleted.
+     * 
+     * @param cacheKey the cache key of the reconstructed content
+     * @param cacheFile the file that contains the reconstructed content
+     * @return File
+     */
+    private static synchronized File putCachedContent(String cacheKey, File cacheFile) {
+        File existingFile = getCachedContent( cacheKey );
+        File resultFile = cacheFile;
+
+        if (existingFile != null) {
+            deleteCachedContent( cacheFile );
+            resultFile = existingFile;
+
+        } else {
+            Iterator<File> iterator;
+
+            reconstructedContent.put( cacheKey, cacheFile );
+            iterator = reconstructedContent.values().iterator();
+
+            while (reconstructedContent.size() > MAX_RECONSTRUCTED_ITEMS) {
+                deleteCachedContent( iterator.next() );
+                iterator.remove();
+            }
+        }
+        return resultFile;
+    }
+
+    /**
+     * Deletes a file of reconstructed content along with the folder that contains it.
+     * 
+     * @param cacheFile the cached file to delete
+     */
+    private static void deleteCachedContent(File cacheFile) {
+        FileUtils.delete( cacheFile );
+        FileUtils.delete( cacheFile.getParentFile() );
+    }
+
+    /**
+     * Creates a new, uniquely-named folder for an item of reconstructed content.
+     * 
+     * @return File
+     * @throws IOException thrown if the folder cannot be created
+     */
+    private static synchronized File createCacheFolder() throws IOException {
+        if ((reconstructionFolder == null) || !reconstructionFolder.exists()) {
+            reconstructionFolder = Files.createTempDirectory( "ota2-history" ).toFile();
+        }
+        return Files.createTempDirectory( reconstructionFolder.toPath(), "content" ).toFile();
+    }
+
+    /**
+     * Returns the full content of the specified file.
+     * 
+     * @param file the file whose content is to be returned
+     * @return byte[]
+     * @throws RepositoryException thrown if the file's content cannot be read
+     */
+    private byte[] readContent(File file) throws RepositoryException {
+        try {
+            return Files.readAllBytes( file.toPath() );
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Error reading content file: " + file.getName(), e );
+        }
+    }
+
     /**
      * Loads the contents of the library history file. If the history file does not yet exist, this method will return a
      * null result without error.
@@ -270,4 +557,18 @@ public class RepositoryHistoryManager {
         return new File( getHistoryFolder( metadataFile ), filename );
     }
 
+    /**
+     * Returns the historical delta file for the given repository item at the specified commit number.
+     * 
+     * @param item the repository item for which to return the historical delta filename
+     * @param commitNumber the commit number at which to return the item's content
+     * @return File
+     * @throws RepositoryException thrown if the item's file location cannot be identified
+     */
+    private File getHistoricalDeltaFile(RepositoryItem item, int commitNumber) throws RepositoryException {
+        File contentFile = getHistoricalContentFile( item, commitNumber );
+
+        return new File( contentFile.getParentFile(), contentFile.getName() + DELTA_FILE_SUFFIX );
+    }
+
 }
@@ -59,10 +59,12 @@ import java.net.URL;
 import java.net.UnknownHostException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -104,6 +106,7 @@ public class RepositoryManager implements Repository {
     private List<RemoteRepositoryClient> remoteRepositories = new ArrayList<>();
     private List<String> rootNamespaces;
     private List<RepositoryListener> listeners = new ArrayList<>();
+    private ThreadLocal<List<ListenerNotification>> batchNotifications = new ThreadLocal<>();
 
     /**
      * Constructor that specifies the root location of the repository to manage.
@@ -1253,6 +1256,29 @@ public class RepositoryManager implements Repository {
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.repository.Repository#publish(java.util.List)
+     */
+    @Override
+    public List<RepositoryItem> publish(List<PublicationRequest> requests) throws RepositoryException {
+        return executeBatch( () -> {
+            List<RepositoryItem> publishedItems = new ArrayList<>();
+
+            for (PublicationRequest request : requests) {
+                try {
+                    publishedItems.add( publish( new FileInputStream( request.getContentFile() ),
+                        request.getFilename(), request.getLibraryName(), request.getNamespace(),
+                        request.getVersionIdentifier(), request.getVersionScheme(), request.getInitialStatus() ) );
+
+                } catch (IOException e) {
+                    throw new RepositoryException( "Unable to read content for publication: " + request.getFilename(),
+                        e );
+                }
+            }
+            return publishedItems;
+        } );
+    }
+
     /**
      * Verifies that a repository item matching the given criteria does not yet exist. If an existing match is found, an
      * exception will be thrown.
@@ -1312,6 +1338,34 @@ public class RepositoryManager implements Repository {
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.repository.Repository#commit(java.util.Collection, java.lang.String)
+     */
+    @Override
+    public void commit(Collection<RepositoryItem> items, String remarks) throws RepositoryException {
+        Map<Repository,List<RepositoryItem>> itemsByRepository = new LinkedHashMap<>();
+
+        for (RepositoryItem item : items) {
+            itemsByRepository.computeIfAbsent( item.getRepository(), r -> new ArrayList<>() ).add( item );
+        }
+
+        for (Map.Entry<Repository,List<RepositoryItem>> entry : itemsByRepository.entrySet()) {
+            List<RepositoryItem> repositoryItems = entry.getValue();
+
+            if (entry.getKey() == this) {
+                executeBatch( () -> {
+                    for (RepositoryItem item : repositoryItems) {
+                        commit( item, remarks );
+                    }
+                    return null;
+                } );
+
+            } else {
+                entry.getKey().commit( repositoryItems, remarks );
+            }
+        }
+    }
+
     /**
      * Commits the content of the specified <code>RepositoryItem</code> by updating its repository contents to match the
      * data obtained from the input stream for the work-in-process content provided.
@@ -2249,17 +2303,17 @@ public class RepositoryManager implements Repository {
     private void commitOrRollback(boolean success, ListenerNotification notification) throws RepositoryException {
         // Commit or roll back the changes based on the result of the operation
         if (success) {
+            List<ListenerNotification> pendingNotifications = batchNotifications.get();
+
             fileManager.commitChangeSet();
 
-            // Notify listeners
+            // Notify listeners (deferred until the end of the batch, if one is active)
             if (notification != null) {
-                for (RepositoryListener listener : listeners) {
-                    try {
-                        notification.notifyListener( listener );
+                if (pendingNotifications != null) {
+                    pendingNotifications.add( notification );
 
-                    } catch (Exception e) {
-                        log.warn( LISTENER_INVOCATION_ERROR, e );
-                    }
+                } else {
+                    notifyListeners( notification );
                 }
             }
 
@@ -2272,6 +2326,86 @@ public class RepositoryManager implements Repository {
         }
     }
 
+    /**
+     * Publishes the given notification to all registered listeners.
+     * 
+     * @param notification the listener notification to publish
+     */
+    private void notifyListeners(ListenerNotification notification) {
+        for (RepositoryListener listener : listeners) {
+            try {
+                notification.notifyListener( listener );
+
+            } catch (Exception e) {
+                log.warn( LISTENER_INVOCATION_ERROR, e );
+            }
+        }
+    }
+
+    /**
+     * Executes the given operation as a single batch. All of the repository modifications performed by the operation
+     * on the current thread are accumulated in a single change set that is committed (or rolled back) when the
+     * operation completes, and listener notifications are deferred until the batch has been committed. If a batch is
+     * already active for the current thread, the operation simply becomes part of the existing batch.
+     * 
+     * @param <T> the type of the result returned by the operation
+     * @param operation the batch operation to execute
+     * @return T
+     * @throws RepositoryException thrown if the operation fails or the batch cannot be committed
+     */
+    public <T> T executeBatch(BatchOperation<T> operation) throws RepositoryException {
+        if (batchNotifications.get() != null) {
+            return operation.execute();
+        }
+        List<ListenerNotification> notifications = new ArrayList<>();
+        T result;
+
+        batchNotifications.set( notifications );
+        fileManager.startChangeSetBatch();
+
+        try {
+            result = operation.execute();
+            fileManager.commitChangeSetBatch();
+
+        } catch (RepositoryException | RuntimeException e) {
+            if (fileManager.isChangeSetBatchActive()) {
+                try {
+                    fileManager.rollbackChangeSetBatch();
+
+                } catch (Exception e2) {
+                    log.error( ROLLBACK_ERROR, e2 );
+                }
+            }
+            throw e;
+
+        } finally {
+            batchNotifications.remove();
+        }
+
+        for (ListenerNotification notification : notifications) {
+            notifyListeners( notification );
+        }
+        return result;
+    }
+
+    /**
+     * Operation that can be executed as a single batch of repository modifications.
+     * 
+     * @param <T> the type of the result returned by the operation
+     */
+    @FunctionalInterface
+    public interface BatchOperation<T> {
+
+        /**
+         * Performs the repository modifications of the batch.
+         * 
+         * @return T
+         * @throws RepositoryException thrown if any of the repository modifications fail
+         */
+        public T execute() throws RepositoryException;
+
+    }
+
     /**
      * Allows listener actions to be parameterized in method calls.
      */
@@ -0,0 +1,262 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository;
+
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+/**
+ * In-memory catalog of the folder listings and library meta-data records of a single repository. Entries are loaded on
+ * first access and retained until they are invalidated or found to be out of date. A single catalog is shared by all of
+ * the file managers for the same repository location, and the file manager invalidates the entries of each file and
+ * folder that it creates, modifies or deletes (including all of the files of a change set when it is committed or
+ * rolled back). Changes made by other processes are detected by validating each folder listing against the
+ * last-modified timestamp of its folder, and each meta-data record against the timestamp and length of its file.
+ *
+ * <p>
+ * The folder listings returned by the catalog are immutable, and each meta-data record that is returned is a copy of
+ * the cached record that may be modified by the caller.
+ */
+class RepositoryMetadataCatalog {
+
+    private static Map<File,RepositoryMetadataCatalog> repositoryCatalogs = new ConcurrentHashMap<>();
+
+    private Map<File,FolderEntry> folders = new ConcurrentHashMap<>();
+    private Map<File,MetadataEntry> metadataRecords = new ConcurrentHashMap<>();
+
+    /**
+     * Loader used to read a meta-data record from the file system when it is not present in the catalog.
+     */
+    @FunctionalInterface
+    interface MetadataLoader {
+
+        /**
+         * Loads the library meta-data record from the given file.
+         *
+         * @param metadataFile the meta-data file to load
+         * @return LibraryInfoType
+         * @throws RepositoryException thrown if the file cannot be loaded
+         */
+        public LibraryInfoType loadMetadata(File metadataFile) throws RepositoryException;
+
+    }
+
+    /**
+     * Returns the catalog that is shared by all file managers for the specified repository location.
+     *
+     * @param repositoryLocation the root folder of the repository
+     * @return RepositoryMetadataCatalog
+     */
+    public static RepositoryMetadataCatalog getCatalog(File repositoryLocation) {
+        return repositoryCatalogs.computeIfAbsent( repositoryLocation.getAbsoluteFile(),
+            l -> new RepositoryMetadataCatalog() );
+    }
+
+    /**
+     * Returns the list of sub-folders of the given folder. If the folder does not exist, an empty list will be
+     * returned.
+     *
+     * @param folder the folder whose sub-folders are to be returned
+     * @return List&lt;File&gt;
+     */
+    public List<File> getSubfolders(File folder) {
+        return getFolderEntry( folder ).subfolders;
+    }
+
+    /**
+     * Returns the list of files (excluding sub-folders) in the given folder. If the folder does not exist, an empty
+     * list will be returned.
+     *
+     * @param folder the folder whose files are to be returned
+     * @return List&lt;File&gt;
+     */
+    public List<File> getFiles(File folder) {
+        return getFolderEntry( folder ).files;
+    }
+
+    /**
+     * Returns a copy of the library meta-data record from the specified file, using the loader provided if the record
+     * is not already cached or if the file has been modified since it was cached.
+     *
+     * @param metadataFile the meta-data file whose record is to be returned
+     * @param loader the loader to use if the record must be read from the file system
+     * @return LibraryInfoType
+     * @throws RepositoryException thrown if the file cannot be loaded
+     */
+    public LibraryInfoType getMetadata(File metadataFile, MetadataLoader loader) throws RepositoryException {
+        long lastModified = metadataFile.lastModified();
+        long length = metadataFile.length();
+        MetadataEntry entry = metadataRecords.get( metadataFile );
+
+        if ((entry == null) || (entry.lastModified != lastModified) || (entry.length != length)) {
+            entry = new MetadataEntry( lastModified, length, loader.loadMetadata( metadataFile ) );
+            metadataRecords.put( metadataFile, entry );
+        }
+        return copyOf( entry.metadata );
+    }
+
+    /**
+     * Discards the catalog entries for each of the given files and all of the folders that contain them.
+     *
+     * @param files the files whose entries are to be discarded
+     */
+    public void invalidate(Collection<File> files) {
+        for (File file : files) {
+            invalidate( file );
+        }
+    }
+
+    /**
+     * Discards the catalog entries for the given file and all of the folders that contain it. The listings of every
+     * ancestor folder are discarded since any number of them may have been created along with the file.
+     *
+     * @param file the file whose entries are to be discarded
+     */
+    public void invalidate(File file) {
+        metadataRecords.remove( file );
+
+        for (File folder = file; folder != null; folder = folder.getParentFile()) {
+            folders.remove( folder );
+        }
+    }
+
+    /**
+     * Discards all entries from the catalog.
+     */
+    public void clear() {
+        folders.clear();
+        metadataRecords.clear();
+    }
+
+    /**
+     * Returns the catalog entry for the given folder, refreshing it if the folder has been modified since the entry was
+     * cached. The listings of folders that do not exist are not cached.
+     *
+     * @param folder the folder whose catalog entry is to be returned
+     * @return FolderEntry
+     */
+    private FolderEntry getFolderEntry(File folder) {
+        long lastModified = folder.lastModified();
+        FolderEntry entry = folders.get( folder );
+
+        if ((entry == null) || (entry.lastModified != lastModified)) {
+            entry = new FolderEntry( lastModified, folder.listFiles() );
+
+            if (lastModified != 0L) {
+                folders.put( folder, entry );
+
+            } else {
+                folders.remove( folder );
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Returns a copy of the given meta-data record.
+     *
+     * @param metadata the meta-data record to copy
+     * @return LibraryInfoType
+     */
+    private static LibraryInfoType copyOf(LibraryInfoType metadata) {
+        LibraryInfoType copy = new LibraryInfoType();
+        XMLGregorianCalendar lastUpdated = metadata.getLastUpdated();
+
+        copy.setNamespace( metadata.getNamespace() );
+        copy.setBaseNamespace( metadata.getBaseNamespace() );
+        copy.setFilename( metadata.getFilename() );
+        copy.setLibraryName( metadata.getLibraryName() );
+        copy.setVersion( metadata.getVersion() );
+        copy.setVersionScheme( metadata.getVersionScheme() );
+        copy.setStatus( metadata.getStatus() );
+        copy.setState( metadata.getState() );
+        copy.setLockedBy( metadata.getLockedBy() );
+        copy.setLastUpdated( (lastUpdated == null) ? null : (XMLGregorianCalendar) lastUpdated.clone() );
+        copy.setOwningRepository( metadata.getOwningRepository() );
+        return copy;
+    }
+
+    /**
+     * Catalog entry for the contents of a single folder.
+     */
+    private static class FolderEntry {
+
+        private long lastModified;
+        private List<File> subfolders;
+        private List<File> files;
+
+        /**
+         * Constructor that assigns the timestamp and members of the folder.
+         *
+         * @param lastModified the last-modified timestamp of the folder
+         * @param folderMembers the members of the folder (may be null if the folder does not exist)
+         */
+        public FolderEntry(long lastModified, File[] folderMembers) {
+            List<File> subfolderList = new ArrayList<>();
+            List<File> fileList = new ArrayList<>();
+
+            if (folderMembers != null) {
+                for (File folderMember : folderMembers) {
+                    if (folderMember.isDirectory()) {
+                        subfolderList.add( folderMember );
+
+                    } else {
+                        fileList.add( folderMember );
+                    }
+                }
+            }
+            this.lastModified = lastModified;
+            this.subfolders = Collections.unmodifiableList( subfolderList );
+            this.files = Collections.unmodifiableList( fileList );
+        }
+
+    }
+
+    /**
+     * Catalog entry for a single library meta-data record.
+     */
+    private static class MetadataEntry {
+
+        private long lastModified;
+        private long length;
+        private LibraryInfoType metadata;
+
+        /**
+         * Constructor that assigns the timestamp, length and content of the meta-data file.
+         *
+         * @param lastModified the last-modified timestamp of the file
+         * @param length the length of the file
+         * @param metadata the meta-data record that was loaded from the file
+         */
+        public MetadataEntry(long lastModified, long length, LibraryInfoType metadata) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.metadata = metadata;
+        }
+
+    }
+
+}
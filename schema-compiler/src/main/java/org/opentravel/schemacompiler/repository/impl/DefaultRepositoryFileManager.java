@@ -61,7 +61,8 @@ public class DefaultRepositoryFileManager extends RepositoryFileManager {
 
     /**
      * Prior to a file being added to the change set, this method creates a backup of that file on the local file
-     * system.
+     * system. Files that are already members of the change set are not backed up a second time, since doing so would
+     * overwrite the original content with intermediate changes.
      * 
      * @see org.opentravel.schemacompiler.repository.RepositoryFileManager#addToChangeSet(java.io.File)
      */
@@ -69,7 +70,7 @@ public class DefaultRepositoryFileManager extends RepositoryFileManager {
     public void addToChangeSet(File file) throws RepositoryException {
         File backupFile = getBackupFile( file );
         try {
-            if (file.exists()) {
+            if (file.exists() && !isInChangeSet( file )) {
                 createBackupFile( file, backupFile );
 
                 if (log.isDebugEnabled()) {
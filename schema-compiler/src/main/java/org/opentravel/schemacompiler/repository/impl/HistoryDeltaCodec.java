@@ -0,0 +1,288 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes compressed binary deltas between two versions of a library's content. Deltas are computed by
+ * indexing fixed-size blocks of the base content and scanning the target content with a rolling hash; matching regions
+ * are encoded as copy instructions and all remaining bytes are encoded as literal inserts. The resulting instruction
+ * stream is GZIP-compressed.
+ */
+public final class HistoryDeltaCodec {
+
+    private static final int MAGIC_NUMBER = 0x4F544D44; // "OTMD"
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_POWER = computeHashPower();
+
+    private static final byte OP_END = 0;
+    private static final byte OP_COPY = 1;
+    private static final byte OP_INSERT = 2;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HistoryDeltaCodec() {}
+
+    /**
+     * Returns a compressed delta that can be used to reconstruct the target content from the base content.
+     *
+     * @param base the base content from which the delta is computed
+     * @param target the target content to be encoded
+     * @return byte[]
+     * @throws IOException thrown if the delta cannot be encoded
+     */
+    public static byte[] encode(byte[] base, byte[] target) throws IOException {
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream( new GZIPOutputStream( bytesOut ) )) {
+            Map<Integer,Integer> blockIndex = buildBlockIndex( base );
+            int literalStart = 0;
+            int pos = 0;
+            int hash = (target.length >= BLOCK_SIZE) ? hash( target, 0 ) : 0;
+
+            out.writeInt( MAGIC_NUMBER );
+            out.writeInt( base.length );
+            out.writeInt( target.length );
+            out.writeLong( checksum( target ) );
+
+            while ((pos + BLOCK_SIZE) <= target.length) {
+                Integer candidate = blockIndex.get( hash );
+
+                if ((candidate != null) && regionMatches( base, candidate, target, pos, BLOCK_SIZE )) {
+                    int matchOffset = candidate;
+                    int matchLength = BLOCK_SIZE;
+
+                    // Extend the match forward as far as possible
+                    while (((matchOffset + matchLength) < base.length) && ((pos + matchLength) < target.length)
+                        && (base[matchOffset + matchLength] == target[pos + matchLength])) {
+                        matchLength++;
+                    }
+
+                    // Extend the match backward into any pending literal bytes
+                    while ((pos > literalStart) && (matchOffset > 0)
+                        && (base[matchOffset - 1] == target[pos - 1])) {
+                        matchOffset--;
+                        matchLength++;
+                        pos--;
+                    }
+                    writeInsert( out, target, literalStart, pos );
+                    writeCopy( out, matchOffset, matchLength );
+                    pos += matchLength;
+                    literalStart = pos;
+
+                    if ((pos + BLOCK_SIZE) <= target.length) {
+                        hash = hash( target, pos );
+                    }
+
+                } else {
+                    if ((pos + BLOCK_SIZE) < target.length) {
+                        hash = roll( hash, target[pos], target[pos + BLOCK_SIZE] );
+                    }
+                    pos++;
+                }
+            }
+            writeInsert( out, target, literalStart, target.length );
+            out.writeByte( OP_END );
+        }
+        return bytesOut.toByteArray();
+    }
+
+    /**
+     * Reconstructs the target content by applying the given delta to the base content.
+     *
+     * @param base the base content from which the delta was computed
+     * @param delta the compressed delta to apply
+     * @return byte[]
+     * @throws IOException thrown if the delta is invalid or does not apply to the base content provided
+     */
+    public static byte[] decode(byte[] base, byte[] delta) throws IOException {
+        try (DataInputStream in = new DataInputStream( new GZIPInputStream( new ByteArrayInputStream( delta ) ) )) {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IOException( "Invalid content delta format." );
+            }
+            if (in.readInt() != base.length) {
+                throw new IOException( "The content delta does not apply to the base content provided." );
+            }
+            byte[] target = new byte[in.readInt()];
+            long expectedChecksum = in.readLong();
+            int pos = 0;
+            byte opCode;
+
+            while ((opCode = in.readByte()) != OP_END) {
+                if (opCode == OP_COPY) {
+                    int offset = in.readInt();
+                    int length = in.readInt();
+
+                    System.arraycopy( base, offset, target, pos, length );
+                    pos += length;
+
+                } else if (opCode == OP_INSERT) {
+                    int length = in.readInt();
+
+                    in.readFully( target, pos, length );
+                    pos += length;
+
+                } else {
+                    throw new IOException( "Invalid instruction in content delta: " + opCode );
+                }
+            }
+
+            if ((pos != target.length) || (checksum( target ) != expectedChecksum)) {
+                throw new IOException( "Reconstructed content does not match the original checksum." );
+            }
+            return target;
+
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException( "The content delta is corrupt.", e );
+        }
+    }
+
+    /**
+     * Builds an index that maps the hash of each fixed-size block in the base content to the offset of the first block
+     * with that hash.
+     *
+     * @param base the base content to index
+     * @return Map&lt;Integer,Integer&gt;
+     */
+    private static Map<Integer,Integer> buildBlockIndex(byte[] base) {
+        Map<Integer,Integer> blockIndex = new HashMap<>();
+
+        for (int offset = 0; (offset + BLOCK_SIZE) <= base.length; offset += BLOCK_SIZE) {
+            blockIndex.putIfAbsent( hash( base, offset ), offset );
+        }
+        return blockIndex;
+    }
+
+    /**
+     * Writes an insert instruction for the specified range of target bytes (if the range is not empty).
+     *
+     * @param out the output stream to which the instruction should be written
+     * @param target the target content
+     * @param start the start index of the literal range (inclusive)
+     * @param end the end index of the literal range (exclusive)
+     * @throws IOException thrown if the instruction cannot be written
+     */
+    private static void writeInsert(DataOutputStream out, byte[] target, int start, int end) throws IOException {
+        if (end > start) {
+            out.writeByte( OP_INSERT );
+            out.writeInt( end - start );
+            out.write( target, start, end - start );
+        }
+    }
+
+    /**
+     * Writes a copy instruction for the specified range of base bytes.
+     *
+     * @param out the output stream to which the instruction should be written
+     * @param offset the offset of the range within the base content
+     * @param length the number of bytes to copy
+     * @throws IOException thrown if the instruction cannot be written
+     */
+    private static void writeCopy(DataOutputStream out, int offset, int length) throws IOException {
+        out.writeByte( OP_COPY );
+        out.writeInt( offset );
+        out.writeInt( length );
+    }
+
+    /**
+     * Returns true if the specified regions of the two byte arrays are identical.
+     *
+     * @param a the first byte array
+     * @param aOffset the offset of the region within the first array
+     * @param b the second byte array
+     * @param bOffset the offset of the region within the second array
+     * @param length the length of the regions to compare
+     * @return boolean
+     */
+    private static boolean regionMatches(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the hash of the block that begins at the specified offset.
+     *
+     * @param data the data that contains the block
+     * @param offset the offset of the block
+     * @return int
+     */
+    private static int hash(byte[] data, int offset) {
+        int h = 0;
+
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            h = (h * HASH_MULTIPLIER) + data[offset + i];
+        }
+        return h;
+    }
+
+    /**
+     * Rolls the given block hash forward by one byte.
+     *
+     * @param h the hash of the current block
+     * @param outgoing the first byte of the current block
+     * @param incoming the byte immediately following the current block
+     * @return int
+     */
+    private static int roll(int h, byte outgoing, byte incoming) {
+        return ((h - (outgoing * HASH_POWER)) * HASH_MULTIPLIER) + incoming;
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the given content.
+     *
+     * @param content the content for which to compute a checksum
+     * @return long
+     */
+    private static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+
+        crc.update( content, 0, content.length );
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the multiplier raised to the power of (block size - 1), which is used to remove the outgoing byte when
+     * rolling the hash.
+     *
+     * @return int
+     */
+    private static int computeHashPower() {
+        int power = 1;
+
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            power *= HASH_MULTIPLIER;
+        }
+        return power;
+    }
+
+}
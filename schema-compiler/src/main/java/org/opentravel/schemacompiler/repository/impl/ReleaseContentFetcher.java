@@ -0,0 +1,227 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import org.opentravel.schemacompiler.loader.LibraryInputSource;
+import org.opentravel.schemacompiler.repository.ReleaseMember;
+import org.opentravel.schemacompiler.repository.RemoteRepository;
+import org.opentravel.schemacompiler.repository.Repository;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+import org.opentravel.schemacompiler.util.URLUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retrieves the historical content of release members in advance of a release model load.
+ *
+ * <p>
+ * Any work that reads from or writes to the local repository (including the local copies of remote items that are
+ * cached by the repository manager) is performed on the thread that creates the fetcher, so the repository manager is
+ * never accessed concurrently. The work that is private to each member is performed by a bounded pool of background
+ * threads: the commit history lookup for members of a remote repository that have an effective date, and the download
+ * of any remote content. The input source of each member is then obtained from <code>getInputSource()</code>, which
+ * waits for the member's content only if it has not yet been retrieved. Errors that occur while resolving or
+ * downloading the content of a member are reported when that member's input source is requested.
+ */
+public class ReleaseContentFetcher implements AutoCloseable {
+
+    private static final int MAX_FETCH_THREADS = 8;
+
+    private final RepositoryManager repositoryManager;
+    private final Map<ReleaseMember,Future<LibraryInputSource<InputStream>>> fetchedSources =
+        new IdentityHashMap<>();
+    private ExecutorService executor;
+
+    /**
+     * Constructor that resolves the content sources of the given release members and starts the retrieval of any
+     * remote content.
+     *
+     * @param repositoryManager the repository manager from which to obtain historical content
+     * @param members the release members whose content is to be retrieved
+     */
+    public ReleaseContentFetcher(RepositoryManager repositoryManager, Collection<ReleaseMember> members) {
+        List<ReleaseMember> remoteMembers = new ArrayList<>();
+        Map<ReleaseMember,Callable<LibraryInputSource<InputStream>>> remoteTasks = new IdentityHashMap<>();
+
+        this.repositoryManager = repositoryManager;
+
+        for (ReleaseMember member : members) {
+            RemoteRepository remoteRepository = getRemoteHistoryRepository( member );
+
+            if (remoteRepository != null) {
+                remoteMembers.add( member );
+                remoteTasks.put( member, () -> downloadContent( remoteRepository
+                    .getHistoricalContentSource( member.getRepositoryItem(), member.getEffectiveDate() ) ) );
+
+            } else {
+                CompletableFuture<LibraryInputSource<InputStream>> resolvedSource = new CompletableFuture<>();
+
+                try {
+                    LibraryInputSource<InputStream> inputSource = getHistoricalContentSource( member );
+
+                    if ((inputSource != null) && !URLUtils.isFileURL( inputSource.getLibraryURL() )) {
+                        remoteMembers.add( member );
+                        remoteTasks.put( member, () -> downloadContent( inputSource ) );
+
+                    } else {
+                        resolvedSource.complete( inputSource );
+                    }
+
+                } catch (RepositoryException | RuntimeException e) {
+                    resolvedSource.completeExceptionally( e );
+                }
+                fetchedSources.put( member, resolvedSource );
+            }
+        }
+
+        if (!remoteMembers.isEmpty()) {
+            AtomicInteger threadCounter = new AtomicInteger();
+
+            executor = Executors.newFixedThreadPool( Math.min( remoteMembers.size(), MAX_FETCH_THREADS ), r -> {
+                Thread t = new Thread( r, "Release Content Fetch-" + threadCounter.incrementAndGet() );
+
+                t.setDaemon( true );
+                return t;
+            } );
+
+            for (ReleaseMember member : remoteMembers) {
+                fetchedSources.put( member, executor.submit( remoteTasks.get( member ) ) );
+            }
+        }
+    }
+
+    /**
+     * Returns the input source for the given release member. If the member's content was retrieved by this fetcher,
+     * the fetched input source is returned; otherwise, the input source is obtained from the repository manager.
+     *
+     * @param member the release member for which to return an input source
+     * @return LibraryInputSource&lt;InputStream&gt;
+     * @throws RepositoryException thrown if the content of the member cannot be retrieved
+     */
+    public LibraryInputSource<InputStream> getInputSource(ReleaseMember member) throws RepositoryException {
+        Future<LibraryInputSource<InputStream>> fetchedSource = fetchedSources.get( member );
+
+        if (fetchedSource == null) {
+            return getHistoricalContentSource( member );
+        }
+        try {
+            return fetchedSource.get();
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RepositoryException) {
+                throw (RepositoryException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RepositoryException( "Error retrieving historical content for release member.", cause );
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RepositoryException( "Interrupted while retrieving historical content.", e );
+        }
+    }
+
+    /**
+     * Discards any downloads that have not started. Downloads that are already in progress are allowed to complete.
+     *
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+        for (Future<LibraryInputSource<InputStream>> fetchedSource : fetchedSources.values()) {
+            fetchedSource.cancel( false );
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Obtains the historical content source for the given release member from the repository manager.
+     *
+     * @param member the release member whose content source is to be returned
+     * @return LibraryInputSource&lt;InputStream&gt;
+     * @throws RepositoryException thrown if the content source cannot be obtained from the repository
+     */
+    private LibraryInputSource<InputStream> getHistoricalContentSource(ReleaseMember member)
+        throws RepositoryException {
+        return repositoryManager.getHistoricalContentSource( member.getRepositoryItem(), member.getEffectiveDate() );
+    }
+
+    /**
+     * Returns the remote repository from which the historical content of the given member can be obtained without
+     * accessing the local repository, or null if the member's content must be resolved by the repository manager. This
+     * is the case for members of a remote repository that have an effective date; the content of an undated remote
+     * member is downloaded to the local repository's cache by the repository manager.
+     *
+     * @param member the release member for which to return the remote repository
+     * @return RemoteRepository
+     */
+    private RemoteRepository getRemoteHistoryRepository(ReleaseMember member) {
+        RepositoryItem item = member.getRepositoryItem();
+        Repository repository = (item == null) ? null : item.getRepository();
+        RemoteRepository remoteRepository = null;
+
+        if ((member.getEffectiveDate() != null) && (repository instanceof RemoteRepository)
+            && (repository != repositoryManager)) {
+            remoteRepository = (RemoteRepository) repository;
+        }
+        return remoteRepository;
+    }
+
+    /**
+     * Downloads the remote content of the given input source by reading it once; the input source retains the
+     * downloaded content for subsequent reads.
+     *
+     * @param inputSource the input source whose content is to be downloaded
+     * @return LibraryInputSource&lt;InputStream&gt;
+     * @throws RepositoryException thrown if the content cannot be downloaded
+     */
+    private static LibraryInputSource<InputStream> downloadContent(LibraryInputSource<InputStream> inputSource)
+        throws RepositoryException {
+        try (InputStream content = inputSource.getLibraryContent()) {
+            if (content == null) {
+                throw new RepositoryException(
+                    "Unable to download historical content: " + inputSource.getLibraryURL().toExternalForm() );
+            }
+
+        } catch (IOException e) {
+            throw new RepositoryException(
+                "Error downloading historical content: " + inputSource.getLibraryURL().toExternalForm(), e );
+        }
+        return inputSource;
+    }
+
+}
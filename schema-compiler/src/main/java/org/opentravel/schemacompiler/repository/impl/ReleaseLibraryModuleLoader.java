@@ -55,6 +55,7 @@ public class ReleaseLibraryModuleLoader implements LibraryModuleLoader<InputStre
     private static final Logger log = LogManager.getLogger( ReleaseLibraryModuleLoader.class );
 
     private ReleaseManager releaseManager;
+    private ReleaseContentFetcher contentFetcher;
     private LibraryModuleLoader<InputStream> delegate;
     private List<ReleaseMember> referencedMembers = new ArrayList<>();
     private Set<String> referenceUrls = new HashSet<>();
@@ -66,7 +67,21 @@ public class ReleaseLibraryModuleLoader implements LibraryModuleLoader<InputStre
      * @param delegateLoader the underlying delegate module loader that will perform most tasks
      */
     public ReleaseLibraryModuleLoader(ReleaseManager releaseManager, LibraryModuleLoader<InputStream> delegateLoader) {
+        this( releaseManager, null, delegateLoader );
+    }
+
+    /**
+     * Constructor that specifies the OTM release, the fetcher that has retrieved the content of the release members in
+     * advance, and the module loader delegate.
+     * 
+     * @param releaseManager the release manage that will provide the effective dates for loaded libraries
+     * @param contentFetcher the fetcher from which to obtain release member content (may be null)
+     * @param delegateLoader the underlying delegate module loader that will perform most tasks
+     */
+    public ReleaseLibraryModuleLoader(ReleaseManager releaseManager, ReleaseContentFetcher contentFetcher,
+        LibraryModuleLoader<InputStream> delegateLoader) {
         this.releaseManager = releaseManager;
+        this.contentFetcher = contentFetcher;
         this.delegate = delegateLoader;
     }
 
@@ -128,7 +143,8 @@ public class ReleaseLibraryModuleLoader implements LibraryModuleLoader<InputStre
                 // Only need a date-effective input source if we have an effective date specified
                 // by the release
                 if (member.getEffectiveDate() != null) {
-                    inputSource = releaseManager.getInputSource( member );
+                    inputSource = (contentFetcher != null) ? contentFetcher.getInputSource( member )
+                        : releaseManager.getInputSource( member );
                 }
 
                 if ((principalMember == null) && !referenceUrls.contains( libraryUrl.toExternalForm() )) {
@@ -27,6 +27,7 @@ import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryItemType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
@@ -46,6 +47,7 @@ import org.opentravel.schemacompiler.model.NamedEntity;
 import org.opentravel.schemacompiler.model.TLLibraryStatus;
 import org.opentravel.schemacompiler.repository.EntitySearchResult;
 import org.opentravel.schemacompiler.repository.LibrarySearchResult;
+import org.opentravel.schemacompiler.repository.PublicationRequest;
 import org.opentravel.schemacompiler.repository.RemoteRepository;
 import org.opentravel.schemacompiler.repository.RepositoryException;
 import org.opentravel.schemacompiler.repository.RepositoryFileManager;
@@ -81,6 +83,7 @@ import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -125,9 +128,11 @@ public class RemoteRepositoryClient implements RemoteRepository {
     private static final String CREATE_NAMESPACE_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/create-namespace";
     private static final String DELETE_NAMESPACE_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/delete-namespace";
     private static final String PUBLISH_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/publish";
+    private static final String PUBLISH_BATCH_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/publish-batch";
     private static final String LOCK_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/lock";
     private static final String UNLOCK_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/unlock";
     private static final String COMMIT_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/commit";
+    private static final String COMMIT_BATCH_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/commit-batch";
     private static final String PROMOTE_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/promote";
     private static final String DEMOTE_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/demote";
     private static final String UPDATE_STATUS_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/update-status";
@@ -717,9 +722,21 @@ public class RemoteRepositoryClient implements RemoteRepository {
     /**
      * @see org.opentravel.schemacompiler.repository.Repository#getHistory(org.opentravel.schemacompiler.repository.RepositoryItem)
      */
-    @SuppressWarnings("unchecked")
     @Override
     public RepositoryItemHistory getHistory(RepositoryItem item) throws RepositoryException {
+        return RepositoryUtils.createItemHistory( getLibraryHistory( item ), manager );
+    }
+
+    /**
+     * Retrieves the commit history of the given item from the remote repository. Unlike <code>getHistory()</code>,
+     * this method does not access the local repository manager, so it may be called from any thread.
+     * 
+     * @param item the repository item whose commit history is to be retrieved
+     * @return LibraryHistoryType
+     * @throws RepositoryException thrown if the remote repository is unavailable or returns an invalid response
+     */
+    @SuppressWarnings("unchecked")
+    private LibraryHistoryType getLibraryHistory(RepositoryItem item) throws RepositoryException {
         try {
             HttpPost request = newPostRequest( REPOSITORY_ITEM_HISTORY_ENDPOINT );
             Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
@@ -733,7 +750,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
             JAXBElement<LibraryHistoryType> jaxbElement =
                 (JAXBElement<LibraryHistoryType>) unmarshaller.unmarshal( response.getEntity().getContent() );
 
-            return RepositoryUtils.createItemHistory( jaxbElement.getValue(), manager );
+            return jaxbElement.getValue();
 
         } catch (JAXBException e) {
             throw new RepositoryException( METADATA_UNREADABLE, e );
@@ -1004,21 +1021,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
         try (InputStream contentStream = unmanagedContent) {
             // Build a repository item to represent the content that we are attempting to publish
             String targetNS = RepositoryNamespaceUtils.normalizeUri( namespace );
-            RepositoryItemImpl item = new RepositoryItemImpl();
-            String baseNamespace = targetNS;
-
-            if (versionScheme != null) {
-                VersionScheme vScheme = VersionSchemeFactory.getInstance().getVersionScheme( versionScheme );
-                baseNamespace = vScheme.getBaseNamespace( targetNS );
-            }
-
-            item.setRepository( this );
-            item.setNamespace( targetNS );
-            item.setBaseNamespace( baseNamespace );
-            item.setFilename( filename );
-            item.setVersion( versionIdentifier );
-            item.setStatus( initialStatus );
-            item.setState( RepositoryItemState.MANAGED_UNLOCKED );
+            RepositoryItemImpl item =
+                newPublishedItem( filename, libraryName, targetNS, versionIdentifier, versionScheme, initialStatus );
 
             // Invoke the remote web service call to perform the publication
             HttpPost postRequest = newPostRequest( PUBLISH_ENDPOINT );
@@ -1048,6 +1052,131 @@ public class RemoteRepositoryClient implements RemoteRepository {
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.repository.Repository#publish(java.util.List)
+     */
+    @Override
+    public List<RepositoryItem> publish(List<PublicationRequest> requests) throws RepositoryException {
+        try {
+            LibraryInfoListType itemList = new LibraryInfoListType();
+            MultipartEntityBuilder mpEntity = MultipartEntityBuilder.create();
+
+            // Build the item manifest and stream the content of each item directly from its file
+            for (PublicationRequest request : requests) {
+                RepositoryItemImpl item = newPublishedItem( request.getFilename(), request.getLibraryName(),
+                    RepositoryNamespaceUtils.normalizeUri( request.getNamespace() ), request.getVersionIdentifier(),
+                    request.getVersionScheme(), request.getInitialStatus() );
+
+                itemList.getLibraryInfo().add( RepositoryUtils.createItemMetadata( item ) );
+                mpEntity.addBinaryBody( FILE_CONTENT, request.getContentFile(), ContentType.DEFAULT_BINARY,
+                    request.getFilename() );
+            }
+            mpEntity.addTextBody( "items", marshalItemList( itemList ), ContentType.TEXT_XML );
+
+            // Invoke the remote web service call to perform the publication
+            HttpPost postRequest = newPostRequest( PUBLISH_BATCH_ENDPOINT );
+
+            postRequest.setEntity( mpEntity.build() );
+
+            log.info( "Sending batch publish request to HTTP endpoint: " + endpointUrl );
+            HttpResponse response = remoteUtils.executeWithAuthentication( postRequest );
+
+            log.info( "Batch publish response received - Status OK" );
+            return getPublishedItems( response, requests.size() );
+
+        } catch (VersionSchemeException e) {
+            throw new RepositoryException( e.getMessage(), e );
+
+        } catch (JAXBException e) {
+            throw new RepositoryException( METADATA_UNREADABLE, e );
+
+        } catch (IOException e) {
+            throw new RepositoryException( REPOSITORY_UNAVAILABLE, e );
+        }
+    }
+
+    /**
+     * Returns the repository items that were created by a batch publication, using the item metadata returned by the
+     * remote repository in the same order as the publication requests.
+     * 
+     * @param response the HTTP response of the batch publication request
+     * @param requestCount the number of items included in the batch publication request
+     * @return List&lt;RepositoryItem&gt;
+     * @throws RepositoryException thrown if the response cannot be read or does not describe each published item
+     * @throws IOException thrown if the content of the response cannot be accessed
+     */
+    @SuppressWarnings("unchecked")
+    private List<RepositoryItem> getPublishedItems(HttpResponse response, int requestCount)
+        throws RepositoryException, IOException {
+        try {
+            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
+            JAXBElement<LibraryInfoListType> jaxbElement =
+                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+            List<LibraryInfoType> itemMetadataList = jaxbElement.getValue().getLibraryInfo();
+            List<RepositoryItem> publishedItems = new ArrayList<>();
+
+            if (itemMetadataList.size() != requestCount) {
+                throw new RepositoryException( "The repository response does not describe each published item." );
+            }
+            for (LibraryInfoType itemMetadata : itemMetadataList) {
+                publishedItems.add( newRepositoryItem( itemMetadata ) );
+            }
+            return publishedItems;
+
+        } catch (JAXBException e) {
+            throw new RepositoryException( SERVICE_RESPONSE_UNREADABLE, e );
+        }
+    }
+
+    /**
+     * Constructs a repository item to represent content that is being published to this repository.
+     * 
+     * @param filename the filename of the content being published
+     * @param libraryName the name of the library being published (may be null)
+     * @param targetNS the normalized namespace of the content being published
+     * @param versionIdentifier the version identifier of the repository item
+     * @param versionScheme the version scheme of the item being published (may be null)
+     * @param initialStatus the initial status of the item in the repository
+     * @return RepositoryItemImpl
+     * @throws VersionSchemeException thrown if the version scheme is not recognized
+     */
+    private RepositoryItemImpl newPublishedItem(String filename, String libraryName, String targetNS,
+        String versionIdentifier, String versionScheme, TLLibraryStatus initialStatus) throws VersionSchemeException {
+        RepositoryItemImpl item = new RepositoryItemImpl();
+        String baseNamespace = targetNS;
+
+        if (versionScheme != null) {
+            VersionScheme vScheme = VersionSchemeFactory.getInstance().getVersionScheme( versionScheme );
+            baseNamespace = vScheme.getBaseNamespace( targetNS );
+        }
+
+        item.setRepository( this );
+        item.setNamespace( targetNS );
+        item.setBaseNamespace( baseNamespace );
+        item.setFilename( filename );
+        item.setLibraryName( libraryName );
+        item.setVersion( versionIdentifier );
+        item.setVersionScheme( versionScheme );
+        item.setStatus( initialStatus );
+        item.setState( RepositoryItemState.MANAGED_UNLOCKED );
+        return item;
+    }
+
+    /**
+     * Returns the XML representation of the given item list.
+     * 
+     * @param itemList the item list to marshal
+     * @return String
+     * @throws JAXBException thrown if the item list cannot be marshalled
+     */
+    private String marshalItemList(LibraryInfoListType itemList) throws JAXBException {
+        Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
+        StringWriter xmlWriter = new StringWriter();
+
+        marshaller.marshal( objectFactory.createLibraryInfoList( itemList ), xmlWriter );
+        return xmlWriter.toString();
+    }
+
     /**
      * @see org.opentravel.schemacompiler.repository.Repository#commit(org.opentravel.schemacompiler.repository.RepositoryItem)
      * @deprecated use {@link #commit(RepositoryItem, String)} instead
@@ -1112,6 +1241,56 @@ public class RemoteRepositoryClient implements RemoteRepository {
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.repository.Repository#commit(java.util.Collection, java.lang.String)
+     */
+    @Override
+    public void commit(Collection<RepositoryItem> items, String remarks) throws RepositoryException {
+        try {
+            LibraryInfoListType itemList = new LibraryInfoListType();
+            MultipartEntityBuilder mpEntity = MultipartEntityBuilder.create();
+
+            // Build the item manifest and stream the WIP content of each item directly from its file
+            for (RepositoryItem item : items) {
+                validateRepositoryItem( item );
+                File wipFile = manager.getFileManager().getLibraryWipContentLocation( item.getBaseNamespace(),
+                    item.getFilename() );
+
+                if (!wipFile.exists()) {
+                    throw new RepositoryException( "The work-in-process file does not exist: " + item.getFilename() );
+                }
+                itemList.getLibraryInfo().add( RepositoryUtils.createItemMetadata( item ) );
+                mpEntity.addBinaryBody( FILE_CONTENT, wipFile, ContentType.DEFAULT_BINARY, item.getFilename() );
+            }
+            mpEntity.addTextBody( "items", marshalItemList( itemList ), ContentType.TEXT_XML );
+
+            if (remarks != null) {
+                mpEntity.addTextBody( "remarks", remarks, ContentType.TEXT_PLAIN );
+            }
+
+            // Send the web service request and check the response
+            HttpPost request = newPostRequest( COMMIT_BATCH_ENDPOINT );
+
+            request.setEntity( mpEntity.build() );
+
+            log.info( "Sending batch commit request to HTTP endpoint: " + endpointUrl );
+            remoteUtils.executeWithAuthentication( request );
+
+            log.info( "Batch commit response received - Status OK" );
+
+            // Update the local cache with the content we just sent to the remote web service
+            for (RepositoryItem item : items) {
+                downloadContent( item, true );
+            }
+
+        } catch (JAXBException e) {
+            throw new RepositoryException( METADATA_UNREADABLE, e );
+
+        } catch (IOException e) {
+            throw new RepositoryException( REPOSITORY_UNAVAILABLE, e );
+        }
+    }
+
     /**
      * @see org.opentravel.schemacompiler.repository.Repository#lock(org.opentravel.schemacompiler.repository.RepositoryItem)
      */
@@ -1415,6 +1594,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             FileUtils.delete( itemMetadata );
             FileUtils.delete( itemContent );
+            manager.getFileManager().invalidateMetadataCatalog( itemMetadata );
+            manager.getFileManager().invalidateMetadataCatalog( itemContent );
 
         } catch (JAXBException e) {
             throw new RepositoryException( METADATA_UNREADABLE, e );
@@ -1645,7 +1826,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
         throws RepositoryException {
         try {
             StringBuilder contentUrl = new StringBuilder( endpointUrl ).append( HISTORICAL_CONTENT_ENDPOINT );
-            RepositoryItemHistory history = getHistory( item );
+            LibraryHistoryType history = getLibraryHistory( item );
             LibraryStreamInputSource contentSource;
             String charSet = StandardCharsets.UTF_8.name();
 
@@ -1655,7 +1836,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             effectiveDate = DateUtils.truncate( effectiveDate, Calendar.SECOND );
 
-            for (RepositoryItemCommit commit : history.getCommitHistory()) {
+            for (LibraryHistoryItemType historyItem : history.getLibraryHistoryItem()) {
+                RepositoryItemCommit commit = new RepositoryItemCommit( historyItem );
                 Date commitDate = DateUtils.truncate( commit.getEffectiveOn(), Calendar.SECOND );
 
                 if ((effectiveDate == null) || !commitDate.after( effectiveDate )) {
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+import org.opentravel.schemacompiler.repository.RepositoryHistoryManager;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+
+import java.io.File;
+
+/**
+ * Migrates the history folders of a local OTM repository from full per-commit copies to the snapshot-and-delta
+ * storage format used by the <code>RepositoryHistoryManager</code>. Each item's history is compacted within its own
+ * change set, so a failure for one item does not affect the history of any other item.
+ */
+public class RepositoryHistoryMigrator {
+
+    private static Logger log = LogManager.getLogger( RepositoryHistoryMigrator.class );
+
+    private RepositoryManager manager;
+    private int itemCount;
+    private int failureCount;
+    private long originalBytes;
+    private long compactedBytes;
+
+    /**
+     * Constructor that specifies the repository manager whose history is to be migrated.
+     * 
+     * @param manager the repository manager for the local repository
+     */
+    public RepositoryHistoryMigrator(RepositoryManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Compacts the history of every item in the local repository.
+     * 
+     * @throws RepositoryException thrown if the contents of the repository cannot be enumerated
+     */
+    public void migrate() throws RepositoryException {
+        RepositoryFileManager fileManager = manager.getFileManager();
+        RepositoryHistoryManager historyManager = manager.getHistoryManager();
+
+        for (String baseNamespace : manager.listBaseNamespaces()) {
+            for (LibraryInfoType itemMetadata : fileManager.loadLibraryMetadataRecords( baseNamespace )) {
+                RepositoryItem item = RepositoryUtils.createRepositoryItem( manager, itemMetadata );
+                boolean success = false;
+
+                try {
+                    fileManager.startChangeSet();
+                    long[] footprint = historyManager.compactHistory( item );
+
+                    originalBytes += footprint[0];
+                    compactedBytes += footprint[1];
+                    itemCount++;
+                    success = true;
+
+                } catch (RepositoryException | RuntimeException e) {
+                    log.error( "Error migrating history for " + item.getFilename(), e );
+                    failureCount++;
+
+                } finally {
+                    if (success) {
+                        fileManager.commitChangeSet();
+
+                    } else {
+                        fileManager.rollbackChangeSet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items whose history was successfully migrated.
+     * 
+     * @return int
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns the number of items whose history could not be migrated.
+     * 
+     * @return int
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the total size (in bytes) of the migrated historical content prior to compaction.
+     * 
+     * @return long
+     */
+    public long getOriginalBytes() {
+        return originalBytes;
+    }
+
+    /**
+     * Returns the total size (in bytes) of the migrated historical content after compaction.
+     * 
+     * @return long
+     */
+    public long getCompactedBytes() {
+        return compactedBytes;
+    }
+
+    /**
+     * Migrates the history of the local repository at the location specified by the first command-line argument.
+     * 
+     * @param args the command-line arguments
+     * @throws RepositoryException thrown if the repository cannot be migrated
+     */
+    public static void main(String[] args) throws RepositoryException {
+        if (args.length != 1) {
+            log.error( "Usage: RepositoryHistoryMigrator <repository-location>" );
+            return;
+        }
+        RepositoryHistoryMigrator migrator =
+            new RepositoryHistoryMigrator( new RepositoryManager( new File( args[0] ) ) );
+
+        migrator.migrate();
+        log.info( String.format( "Migrated %d items (%d failures): %,d bytes -> %,d bytes", migrator.getItemCount(),
+            migrator.getFailureCount(), migrator.getOriginalBytes(), migrator.getCompactedBytes() ) );
+    }
+
+}
@@ -34,7 +34,12 @@ import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.opentravel.schemacompiler.validate.save.TLModelSaveValidator;
 
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Orchestrates the saving of <code>TLModel</code> and <code>TLLibrary</code> objects back to their original URL
@@ -81,15 +86,22 @@ public final class LibraryModelSaver {
             new TL2JaxbLibrarySymbolResolver( SymbolTableFactory.newSymbolTableFromModel( model ) );
         ValidationFindings findings = new ValidationFindings();
 
+        List<PendingSave<Object>> pendingSaves = new ArrayList<>();
+
         context.setSymbolResolver( symbolResolver );
 
         for (TLLibrary library : model.getUserDefinedLibraries()) {
             if ((library != null) && !library.isReadOnly()) {
                 symbolResolver.setPrefixResolver( new LibraryPrefixResolver( library ) );
                 symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( library ) );
-                findings.addAll( saveLibrary( library, context ) );
+                pendingSaves.add( prepareLibrary( library, context ) );
             }
         }
+        saveLibraryContent( pendingSaves );
+
+        for (PendingSave<Object> pendingSave : pendingSaves) {
+            findings.addAll( pendingSave.findings );
+        }
         return findings;
     }
 
@@ -103,12 +115,25 @@ public final class LibraryModelSaver {
      */
     public ValidationFindings saveLibraries(List<TLLibrary> libraryList) throws LibrarySaveException {
         ValidationFindings findings = new ValidationFindings();
+        List<PendingSave<Object>> pendingSaves = new ArrayList<>();
 
         for (TLLibrary library : libraryList) {
             if ((library != null) && !library.isReadOnly()) {
-                findings.addAll( saveLibrary( library ) );
+                SymbolResolverTransformerContext context = new SymbolResolverTransformerContext();
+                SymbolResolver symbolResolver = new TL2JaxbLibrarySymbolResolver(
+                    SymbolTableFactory.newSymbolTableFromModel( library.getOwningModel() ) );
+
+                context.setSymbolResolver( symbolResolver );
+                symbolResolver.setPrefixResolver( new LibraryPrefixResolver( library ) );
+                symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( library ) );
+                pendingSaves.add( prepareLibrary( library, context ) );
             }
         }
+        saveLibraryContent( pendingSaves );
+
+        for (PendingSave<Object> pendingSave : pendingSaves) {
+            findings.addAll( pendingSave.findings );
+        }
         return findings;
     }
 
@@ -134,18 +159,23 @@ public final class LibraryModelSaver {
         }
         symbolResolver.setPrefixResolver( new LibraryPrefixResolver( library ) );
         symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( library ) );
-        findings.addAll( saveLibrary( library, context ) );
+        PendingSave<Object> pendingSave = prepareLibrary( library, context );
+
+        saveLibraryContent( Collections.singletonList( pendingSave ) );
+        findings.addAll( pendingSave.findings );
         return findings;
     }
 
     /**
-     * Saves the given library to its original URL location.
+     * Transforms the given library to its JAXB representation and validates the library's content in preparation for
+     * saving. Since this step navigates the shared model, it is always performed on the calling thread.
      * 
      * @param library the library instance to save
      * @param transformContext the transformation context to utilize during save processing
+     * @return PendingSave&lt;T&gt;
      * @throws LibrarySaveException thrown if a problem occurs during the save operation
      */
-    private <T> ValidationFindings saveLibrary(TLLibrary library, SymbolResolverTransformerContext transformContext)
+    private <T> PendingSave<T> prepareLibrary(TLLibrary library, SymbolResolverTransformerContext transformContext)
         throws LibrarySaveException {
         // Do some preliminary validation checks before proceeding
         if (library == null) {
@@ -157,7 +187,7 @@ public final class LibraryModelSaver {
                 "Unable to save to the requested URL: " + library.getLibraryUrl().toExternalForm() );
         }
 
-        // Transform the library to JAXB and use the handler to save the file
+        // Transform the library to JAXB
         LibrarySaveHandler<T> handler = getSaveHandler();
         TransformerFactory<SymbolResolverTransformerContext> factory = TransformerFactory
             .getInstance( SchemaCompilerApplicationContext.SAVER_TRANSFORMER_FACTORY, transformContext );
@@ -183,14 +213,46 @@ public final class LibraryModelSaver {
             // a 'crcValue' property.
         }
 
-        // Check for validation and JAXB problems before we save
-        ValidationFindings findings = TLModelSaveValidator.validateModelElement( library );
-        findings.addAll( handler.validateLibraryContent( jaxbLibrary ) );
+        // Check for validation problems before we save
+        return new PendingSave<>( library.getLibraryUrl(), jaxbLibrary,
+            TLModelSaveValidator.validateModelElement( library ) );
+    }
+
+    /**
+     * Checks the given JAXB libraries for marshalling problems and uses the handler to save each one. These steps only
+     * access the JAXB content of each library, so they are performed in parallel when the save handler is thread-safe
+     * and more than one library is to be saved. As with serial processing, no further libraries are saved once an
+     * error has occurred (although saves that were already in progress on other threads are allowed to complete).
+     * 
+     * @param pendingSaves the list of prepared libraries to be saved
+     * @throws LibrarySaveException thrown if a problem occurs while saving any of the libraries
+     */
+    private <T> void saveLibraryContent(List<PendingSave<T>> pendingSaves) throws LibrarySaveException {
+        LibrarySaveHandler<T> handler = getSaveHandler();
+        AtomicReference<LibrarySaveException> saveError = new AtomicReference<>();
+        Consumer<PendingSave<T>> saveAction = pendingSave -> {
+            if (saveError.get() != null) {
+                return;
+            }
+            try {
+                pendingSave.findings.addAll( handler.validateLibraryContent( pendingSave.jaxbLibrary ) );
+                handler.saveLibraryContent( pendingSave.libraryUrl, pendingSave.jaxbLibrary );
+
+            } catch (LibrarySaveException e) {
+                saveError.compareAndSet( null, e );
+            }
+        };
 
-        // Now attempt to save the file
-        handler.saveLibraryContent( library.getLibraryUrl(), jaxbLibrary );
+        if (handler.isThreadSafe() && (pendingSaves.size() > 1)) {
+            pendingSaves.parallelStream().forEach( saveAction );
 
-        return findings;
+        } else {
+            pendingSaves.forEach( saveAction );
+        }
+
+        if (saveError.get() != null) {
+            throw saveError.get();
+        }
     }
 
     /**
@@ -208,4 +270,30 @@ public final class LibraryModelSaver {
         return crcValue;
     }
 
+    /**
+     * Holds the JAXB content and validation findings of a library that has been prepared for saving.
+     *
+     * @param <T> the type of the JAXB library to be saved
+     */
+    private static class PendingSave<T> {
+
+        private URL libraryUrl;
+        private T jaxbLibrary;
+        private ValidationFindings findings;
+
+        /**
+         * Full constructor.
+         * 
+         * @param libraryUrl the URL location where the library is to be saved
+         * @param jaxbLibrary the JAXB content of the library
+         * @param findings the validation findings of the library
+         */
+        public PendingSave(URL libraryUrl, T jaxbLibrary, ValidationFindings findings) {
+            this.libraryUrl = libraryUrl;
+            this.jaxbLibrary = jaxbLibrary;
+            this.findings = findings;
+        }
+
+    }
+
 }
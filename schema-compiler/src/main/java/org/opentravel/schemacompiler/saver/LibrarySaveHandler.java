@@ -81,4 +81,14 @@ public interface LibrarySaveHandler<T> {
      */
     public void setCreateBackupFile(boolean createBackupFile);
 
+    /**
+     * Returns true if the 'validateLibraryContent()' and 'saveLibraryContent()' methods of this handler may be invoked
+     * concurrently from multiple threads. By default, handlers are assumed not to be thread-safe.
+     * 
+     * @return boolean
+     */
+    public default boolean isThreadSafe() {
+        return false;
+    }
+
 }
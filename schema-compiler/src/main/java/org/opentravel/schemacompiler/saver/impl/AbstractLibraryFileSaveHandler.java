@@ -35,12 +35,19 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
@@ -63,6 +70,7 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
     private static final Map<String,String> preferredPrefixMappings;
     private static final String[] schemaDeclarations =
         new String[] {XMLConstants.W3C_XML_SCHEMA_NS_URI, XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI};
+    private static final int MAX_SYMBOLIC_LINKS = 40;
 
     private boolean createBackupFile = true;
 
@@ -82,9 +90,8 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
         ValidationFindings findings = new ValidationFindings();
         try {
             JAXBElement<T> documentElement = createLibraryElement( library );
-            Marshaller marshaller = getJaxbContext().createMarshaller();
+            Marshaller marshaller = getValidationMarshaller();
 
-            marshaller.setSchema( getValidationSchema() );
             marshaller.marshal( documentElement, new DefaultHandler() ); // effectively marshalls to dev/null output
 
         } catch (JAXBException e) {
@@ -95,35 +102,49 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
     }
 
     /**
+     * Saves the library content to a temporary file in the same folder as the library, and then moves the temporary
+     * file into place. Since the original file is never modified until the new content has been written completely, an
+     * interrupted save cannot leave a partially-written library file on the file system. If the library file is a
+     * symbolic link, the file it refers to is replaced instead of the link itself, and the permissions of the original
+     * file are applied to the new content before it is moved into place.
+     * 
      * @see org.opentravel.schemacompiler.saver.LibrarySaveHandler#saveLibraryContent(java.net.URL, java.lang.Object)
      */
     @Override
     public void saveLibraryContent(URL libraryUrl, T library) throws LibrarySaveException {
         File libraryFile = getFileForURL( libraryUrl );
-        File backupFile = createBackupFile ? createBackupFile( libraryFile ) : null;
+        File tempFile = null;
         boolean success = false;
 
-        try (OutputStream out = new FileOutputStream( libraryFile )) {
+        try {
             JAXBElement<T> documentElement = createLibraryElement( library );
-            Marshaller marshaller = getJaxbContext().createMarshaller();
+            Marshaller marshaller = getSaveMarshaller();
             Document domDocument = XMLPrettyPrinter.newDocument();
 
             // Marshall the JAXB content
-            marshaller.setProperty( Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE );
-            marshaller.setProperty( "com.sun.xml.bind.namespacePrefixMapper", new LibrarySaveNamespacePrefixMapper() );
-            marshaller.setProperty( "jaxb.schemaLocation", getLibrarySchemaLocation() );
             marshaller.marshal( documentElement, domDocument ); // no schema validation during file-save marshalling
 
-            // Format the XML before saving it to a file
-            new XMLPrettyPrinter( new LibraryLineBreakProcessor() ).formatDocument( domDocument, out );
+            // Format the XML and write it to a temporary file before replacing the original
+            File targetFile = getTargetFile( libraryFile );
+            tempFile = createTempFile( targetFile );
+
+            try (OutputStream out = new FileOutputStream( tempFile )) {
+                new XMLPrettyPrinter( new LibraryLineBreakProcessor() ).formatDocument( domDocument, out );
+            }
+            copyFilePermissions( targetFile, tempFile );
+
+            if (createBackupFile) {
+                createBackupFile( libraryFile );
+            }
+            replaceFile( tempFile, targetFile );
             success = true;
 
         } catch (IllegalArgumentException | JAXBException | IOException e) {
             throw new LibrarySaveException( e );
 
         } finally {
-            if (!success && (backupFile != null)) {
-                restoreBackupFile( backupFile, libraryFile );
+            if (!success && (tempFile != null)) {
+                FileUtils.delete( tempFile );
             }
         }
     }
@@ -144,6 +165,17 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
         this.createBackupFile = createBackupFile;
     }
 
+    /**
+     * Library file save handlers create new marshallers from the shared (thread-safe) <code>JAXBContext</code> for
+     * each validation and save request.
+     * 
+     * @see org.opentravel.schemacompiler.saver.LibrarySaveHandler#isThreadSafe()
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     /**
      * Returns the target namespace of the library file.
      * 
@@ -181,14 +213,16 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
     protected abstract String getLibrarySchemaLocation();
 
     /**
-     * If the indicated 'libraryFile' already exists, the existing file will be renamed with a ".bak" extension. If a
-     * backup file already exists, it will be deleted. If a backup file is created by this method, it will be returned
-     * to the caller. If no backup is required, null will be returned.
+     * If the indicated 'libraryFile' already exists, its content will be copied to a file with a ".bak" extension. If a
+     * backup file already exists, it will be replaced. The original library file is not modified by this method. If a
+     * backup file is created by this method, it will be returned to the caller. If no backup is required, null will be
+     * returned.
      * 
      * @param libraryFile the handle for the library file to backup
      * @return File
+     * @throws IOException thrown if the backup file cannot be created
      */
-    protected File createBackupFile(File libraryFile) {
+    protected File createBackupFile(File libraryFile) throws IOException {
         File backupFile = null;
 
         if (libraryFile.exists()) {
@@ -199,15 +233,125 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
                 filename = filename.substring( 0, dotIdx );
             }
             backupFile = new File( libraryFile.getParentFile(), filename + ".bak" );
-            FileUtils.delete( backupFile );
-            FileUtils.renameTo( libraryFile, backupFile );
+            Files.copy( libraryFile.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        }
+        return backupFile;
+    }
 
-            if (libraryFile.exists()) {
-                // Something went wrong - attempt to backup failed for some reason
-                backupFile = null;
+    /**
+     * Returns the file whose content should be replaced when saving the given library file. If the library file is a
+     * symbolic link, the file that it refers to is returned (even if that file does not yet exist); otherwise, the
+     * library file itself is returned.
+     * 
+     * @param libraryFile the library file to be saved
+     * @return File
+     * @throws IOException thrown if the symbolic link(s) cannot be resolved
+     */
+    private File getTargetFile(File libraryFile) throws IOException {
+        Path targetPath = libraryFile.getAbsoluteFile().toPath();
+        int linkCount = 0;
+
+        while (Files.isSymbolicLink( targetPath )) {
+            if (linkCount++ >= MAX_SYMBOLIC_LINKS) {
+                throw new IOException( "Too many levels of symbolic links: " + libraryFile.getAbsolutePath() );
             }
+            targetPath = targetPath.resolveSibling( Files.readSymbolicLink( targetPath ) );
         }
-        return backupFile;
+        return targetPath.toFile();
+    }
+
+    /**
+     * Creates a new temporary file in the same folder as the given library file. Unlike the files created by
+     * <code>File.createTempFile()</code>, the new file receives the default permissions of the file system so that
+     * newly-created libraries are not restricted to the current user.
+     * 
+     * @param libraryFile the library file for which to create a temporary file
+     * @return File
+     * @throws IOException thrown if the temporary file cannot be created
+     */
+    private File createTempFile(File libraryFile) throws IOException {
+        File folder = libraryFile.getAbsoluteFile().getParentFile();
+
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        return Files.createFile(
+            new File( folder, "." + libraryFile.getName() + "." + UUID.randomUUID() + ".tmp" ).toPath() ).toFile();
+    }
+
+    /**
+     * Applies the POSIX permissions and group of the original library file to the new file that will replace it. If
+     * the original file does not exist or the file system does not support POSIX attributes, this method will return
+     * without action.
+     * 
+     * @param originalFile the library file that will be replaced
+     * @param newFile the new file that will replace the original
+     * @throws IOException thrown if the permissions of the original file cannot be read or applied
+     */
+    private void copyFilePermissions(File originalFile, File newFile) throws IOException {
+        PosixFileAttributeView originalView =
+            Files.getFileAttributeView( originalFile.toPath(), PosixFileAttributeView.class );
+        PosixFileAttributeView newView = Files.getFileAttributeView( newFile.toPath(), PosixFileAttributeView.class );
+
+        if (originalFile.exists() && (originalView != null) && (newView != null)) {
+            PosixFileAttributes originalAttributes = originalView.readAttributes();
+
+            newView.setPermissions( originalAttributes.permissions() );
+
+            try {
+                newView.setGroup( originalAttributes.group() );
+
+            } catch (IOException e) {
+                // Ignore - the current user may not be a member of the original file's group
+            }
+        }
+    }
+
+    /**
+     * Replaces the target file with the source file using an atomic move if the file system supports it.
+     * 
+     * @param sourceFile the completed file that will replace the target
+     * @param targetFile the file to be replaced
+     * @throws IOException thrown if the file cannot be moved
+     */
+    private void replaceFile(File sourceFile, File targetFile) throws IOException {
+        try {
+            Files.move( sourceFile.toPath(), targetFile.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING );
+
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move( sourceFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+
+    /**
+     * Returns a new marshaller for library schema validation. Marshallers are not thread-safe, so a new instance is
+     * created for each request from the <code>JAXBContext</code> that is cached by the handler.
+     * 
+     * @return Marshaller
+     * @throws JAXBException thrown if the marshaller cannot be created
+     */
+    private Marshaller getValidationMarshaller() throws JAXBException {
+        Marshaller marshaller = getJaxbContext().createMarshaller();
+
+        marshaller.setSchema( getValidationSchema() );
+        return marshaller;
+    }
+
+    /**
+     * Returns a new marshaller for saving library files. Marshallers are not thread-safe, so a new instance is created
+     * for each request from the <code>JAXBContext</code> that is cached by the handler.
+     * 
+     * @return Marshaller
+     * @throws JAXBException thrown if the marshaller cannot be created
+     */
+    private Marshaller getSaveMarshaller() throws JAXBException {
+        Marshaller marshaller = getJaxbContext().createMarshaller();
+
+        marshaller.setProperty( Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE );
+        marshaller.setProperty( "com.sun.xml.bind.namespacePrefixMapper", new LibrarySaveNamespacePrefixMapper() );
+        marshaller.setProperty( "jaxb.schemaLocation", getLibrarySchemaLocation() );
+        return marshaller;
     }
 
     /**
@@ -81,6 +81,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.zip.CRC32;
 
 /**
@@ -198,6 +200,26 @@ public class LibraryCrcCalculator {
         return crcCalculator.getValue();
     }
 
+    /**
+     * Calculates a SHA-256 digest using the same library content as the CRC calculation. Unlike the CRC, the digest is
+     * suitable for determining whether two libraries have identical content.
+     * 
+     * @param library the library for which to calculate the digest
+     * @return byte[]
+     */
+    public static byte[] calculateDigest(TLLibrary library) {
+        CrcVisitor visitor = new CrcVisitor();
+
+        ModelNavigator.navigate( library, visitor );
+
+        try {
+            return MessageDigest.getInstance( "SHA-256" ).digest( visitor.getCrcData() );
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException( "SHA-256 digest algorithm not supported.", e );
+        }
+    }
+
     /**
      * Visitor implementation that compiles a concatenated string value that represents the contents of the library for
      * use with the CRC calculation.
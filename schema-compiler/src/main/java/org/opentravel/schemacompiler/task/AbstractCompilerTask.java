@@ -22,6 +22,8 @@ import org.opentravel.schemacompiler.codegen.CodeGenerationFilenameBuilder;
 import org.opentravel.schemacompiler.codegen.CodeGenerationFilter;
 import org.opentravel.schemacompiler.codegen.CodeGenerator;
 import org.opentravel.schemacompiler.codegen.CodeGeneratorFactory;
+import org.opentravel.schemacompiler.codegen.example.AbstractExampleCodeGenerator;
+import org.opentravel.schemacompiler.codegen.example.ExampleGenerationCache;
 import org.opentravel.schemacompiler.codegen.impl.LibraryFilenameBuilder;
 import org.opentravel.schemacompiler.codegen.util.ResourceCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.XsdCodegenUtils;
@@ -56,10 +58,10 @@ import org.opentravel.schemacompiler.repository.RepositoryItemType;
 import org.opentravel.schemacompiler.repository.RepositoryManager;
 import org.opentravel.schemacompiler.repository.ServiceAssembly;
 import org.opentravel.schemacompiler.repository.ServiceAssemblyManager;
+import org.opentravel.schemacompiler.task.CompilerMetrics.PhaseTimer;
 import org.opentravel.schemacompiler.util.SchemaCompilerException;
 import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.FindingType;
-import org.opentravel.schemacompiler.validate.ValidationException;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.opentravel.schemacompiler.validate.ValidatorFactory;
 import org.opentravel.schemacompiler.validate.impl.TLModelValidator;
@@ -70,6 +72,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -95,6 +99,8 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     private String catalogLocation;
     private String outputFolder;
     protected String projectFilename;
+    private ExampleGenerationCache exampleGenerationCache;
+    private CompilerMetrics compilerMetrics = CompilerMetrics.disabled();
 
     /**
      * Default constructor.
@@ -240,17 +246,19 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
         ValidationFindings findings = new ValidationFindings();
         TLModel model;
 
-        switch (modelType) {
-            case PROVIDER:
-                model = assemblyManager.loadProviderModel( assembly, findings );
-                break;
-            case CONSUMER:
-                model = assemblyManager.loadConsumerModel( assembly, findings );
-                break;
-            case IMPLEMENTATION:
-            default:
-                model = assemblyManager.loadImplementationModel( assembly, findings );
-                break;
+        try (PhaseTimer timer = compilerMetrics.startPhase( CompilerMetrics.PHASE_LOADING )) {
+            switch (modelType) {
+                case PROVIDER:
+                    model = assemblyManager.loadProviderModel( assembly, findings );
+                    break;
+                case CONSUMER:
+                    model = assemblyManager.loadConsumerModel( assembly, findings );
+                    break;
+                case IMPLEMENTATION:
+                default:
+                    model = assemblyManager.loadImplementationModel( assembly, findings );
+                    break;
+            }
         }
 
         if (!findings.hasFinding( FindingType.ERROR )) {
@@ -282,10 +290,20 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
      */
     public ValidationFindings compileOutput(Collection<TLLibrary> userDefinedLibraries,
         Collection<XSDLibrary> legacySchemas) throws SchemaCompilerException {
-        ValidationFindings findings = validateLibraries( userDefinedLibraries );
+        ValidationFindings findings;
+
+        try (PhaseTimer timer = compilerMetrics.startPhase( CompilerMetrics.PHASE_VALIDATION )) {
+            findings = validateLibraries( userDefinedLibraries );
+        }
 
         if (!findings.hasFinding( FindingType.ERROR )) {
-            generateOutput( userDefinedLibraries, legacySchemas );
+            try (PhaseTimer timer = compilerMetrics.startPhase( getMetricsPhase() )) {
+                setExampleGenerationCache( new ExampleGenerationCache() );
+                generateOutput( userDefinedLibraries, legacySchemas );
+
+            } finally {
+                setExampleGenerationCache( null );
+            }
         }
         return findings;
     }
@@ -318,9 +336,13 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     private ValidationFindings compileProject(URL projectUrl) throws SchemaCompilerException {
         ValidationFindings findings = new ValidationFindings();
         ProjectManager projectManager = new ProjectManager( false );
-        Project project = projectManager.loadProject( URLUtils.toFile( projectUrl ), findings );
         Collection<TLLibrary> userDefinedLibraries = new ArrayList<>();
         Collection<XSDLibrary> legacySchemas = new ArrayList<>();
+        Project project;
+
+        try (PhaseTimer timer = compilerMetrics.startPhase( CompilerMetrics.PHASE_LOADING )) {
+            project = projectManager.loadProject( URLUtils.toFile( projectUrl ), findings );
+        }
 
         for (ProjectItem item : project.getProjectItems()) {
             AbstractLibrary itemContent = item.getContent();
@@ -359,8 +381,10 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
             modelLoader.setNamespaceResolver(
                 new CatalogLibraryNamespaceResolver( TaskUtils.getPathFromOptionValue( catalogLoc ) ) );
         }
-        findings = modelLoader.loadLibraryModel( libraryInput );
-        model = modelLoader.getLibraryModel();
+        try (PhaseTimer timer = compilerMetrics.startPhase( CompilerMetrics.PHASE_LOADING )) {
+            findings = modelLoader.loadLibraryModel( libraryInput );
+            model = modelLoader.getLibraryModel();
+        }
         primaryLibraries.add( model.getLibrary( libraryUrl ) );
         compileOutput( model );
         return findings;
@@ -377,7 +401,9 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
         ReleaseManager releaseManager = new ReleaseManager( repositoryManager );
         ValidationFindings findings = new ValidationFindings();
 
-        releaseManager.loadRelease( URLUtils.toFile( releaseUrl ), findings );
+        try (PhaseTimer timer = compilerMetrics.startPhase( CompilerMetrics.PHASE_LOADING )) {
+            releaseManager.loadRelease( URLUtils.toFile( releaseUrl ), findings );
+        }
 
         if (!findings.hasFinding( FindingType.ERROR )) {
             findings.addAll( compileOutput( releaseManager ) );
@@ -395,7 +421,11 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     private ValidationFindings compileAssembly(URL assemblyUrl) throws SchemaCompilerException {
         ServiceAssemblyManager assemblyManager = new ServiceAssemblyManager( repositoryManager );
         ValidationFindings findings = new ValidationFindings();
-        ServiceAssembly assembly = assemblyManager.loadAssembly( URLUtils.toFile( assemblyUrl ), findings );
+        ServiceAssembly assembly;
+
+        try (PhaseTimer timer = compilerMetrics.startPhase( CompilerMetrics.PHASE_LOADING )) {
+            assembly = assemblyManager.loadAssembly( URLUtils.toFile( assemblyUrl ), findings );
+        }
 
         if (!findings.hasFinding( FindingType.ERROR )) {
             findings.addAll( compileOutput( assembly ) );
@@ -416,8 +446,10 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
             ValidationFindings findings = new ValidationFindings();
 
             for (TLLibrary library : userDefinedLibraries) {
-                findings.addAll( TLModelValidator.validateModelElement( library,
-                    (validationRuleSetId != null) ? validationRuleSetId : ValidatorFactory.COMPILE_RULE_SET_ID ) );
+                try (PhaseTimer timer = compilerMetrics.startLibrary( library )) {
+                    findings.addAll( TLModelValidator.validateModelElement( library,
+                        (validationRuleSetId != null) ? validationRuleSetId : ValidatorFactory.COMPILE_RULE_SET_ID ) );
+                }
             }
             return findings;
 
@@ -437,6 +469,16 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     protected abstract void generateOutput(Collection<TLLibrary> userDefinedLibraries,
         Collection<XSDLibrary> legacySchemas) throws SchemaCompilerException;
 
+    /**
+     * Returns the name of the compiler phase under which the output generated by this task should be measured. By
+     * default, this method returns null, indicating that the output of the task is not measured as a distinct phase.
+     * 
+     * @return String
+     */
+    protected String getMetricsPhase() {
+        return null;
+    }
+
     /**
      * Factory method that returns a new code generator instance using the information provided.
      * 
@@ -526,6 +568,44 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
         setOutputFolder( taskOptions.getOutputFolder() );
     }
 
+    /**
+     * Returns the cache of example validation and navigation results for the current compilation pass (may be null).
+     * 
+     * @return ExampleGenerationCache
+     */
+    protected ExampleGenerationCache getExampleGenerationCache() {
+        return exampleGenerationCache;
+    }
+
+    /**
+     * Assigns the cache of example validation and navigation results for the current compilation pass.
+     * 
+     * @param exampleGenerationCache the example generation cache to assign
+     */
+    protected void setExampleGenerationCache(ExampleGenerationCache exampleGenerationCache) {
+        this.exampleGenerationCache = exampleGenerationCache;
+    }
+
+    /**
+     * Returns the metrics instance used to record the resources consumed by each phase of the compilation. If metrics
+     * have not been assigned, a disabled instance is returned.
+     * 
+     * @return CompilerMetrics
+     */
+    public CompilerMetrics getCompilerMetrics() {
+        return compilerMetrics;
+    }
+
+    /**
+     * Assigns the metrics instance used to record the resources consumed by each phase of the compilation. If a null
+     * value is specified, metrics will not be recorded.
+     * 
+     * @param compilerMetrics the compiler metrics instance to assign
+     */
+    public void setCompilerMetrics(CompilerMetrics compilerMetrics) {
+        this.compilerMetrics = (compilerMetrics == null) ? CompilerMetrics.disabled() : compilerMetrics;
+    }
+
     /**
      * After processing by one of the 'compileOutput()' methods, this method will return the list of all files that were
      * produced by the code generation performed by this task.
@@ -580,37 +660,142 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     protected void generateExampleArtifacts(Collection<TLLibrary> userDefinedLibraries, CodeGenerationContext context,
         CodeGenerationFilenameBuilder<AbstractLibrary> filenameBuilder, CodeGenerationFilter filter,
         String targetFormat) throws SchemaCompilerException {
-        CodeGenerator<TLModelElement> exampleGenerator = getExampleGenerator( targetFormat, filenameBuilder );
+        Map<String,CodeGenerationFilter> formatFilters = new LinkedHashMap<>();
+
+        formatFilters.put( targetFormat, filter );
+        generateExampleArtifacts( userDefinedLibraries, context, filenameBuilder, formatFilters );
+    }
+
+    /**
+     * Generates example files in one or more output formats for all elements of the given library. All of the formats
+     * are produced in a single pass, so each example entity is validated and navigated once for all of the formats in
+     * which it is generated.
+     * 
+     * @param userDefinedLibraries the list of user-defined libraries for which to generate example files
+     * @param context the code generation context to use for code generation
+     * @param filenameBuilder the filename builder to use for schema location filename construction
+     * @param formatFilters the filters used to identify the artifacts that require examples, keyed by the target output
+     *        format of the generated example files (e.g. "XML" or "JSON")
+     * @throws SchemaCompilerException thrown if an error occurs during artifact generation
+     */
+    protected void generateExampleArtifacts(Collection<TLLibrary> userDefinedLibraries, CodeGenerationContext context,
+        CodeGenerationFilenameBuilder<AbstractLibrary> filenameBuilder, Map<String,CodeGenerationFilter> formatFilters)
+        throws SchemaCompilerException {
+        ExampleGenerationCache generationCache =
+            (exampleGenerationCache != null) ? exampleGenerationCache : new ExampleGenerationCache();
+        Map<CodeGenerator<TLModelElement>,CodeGenerationFilter> exampleGenerators = new LinkedHashMap<>();
         CodeGenerationContext exampleContext = context.getCopy();
 
-        // Generate examples for all model entities that are not excluded by the filter
-        for (TLLibrary library : userDefinedLibraries) {
-            if (processLibrary( library, filter )) {
+        for (Entry<String,CodeGenerationFilter> entry : formatFilters.entrySet()) {
+            CodeGenerator<TLModelElement> exampleGenerator = getExampleGenerator( entry.getKey(), filenameBuilder );
+
+            if (exampleGenerator instanceof AbstractExampleCodeGenerator) {
+                ((AbstractExampleCodeGenerator) exampleGenerator).setGenerationCache( generationCache );
+            }
+            exampleGenerators.put( exampleGenerator, entry.getValue() );
+        }
+
+        // Generate examples for all model entities that are not excluded by the filters
+        try (PhaseTimer phaseTimer = compilerMetrics.startPhase( CompilerMetrics.PHASE_EXAMPLES )) {
+            for (TLLibrary library : userDefinedLibraries) {
+                try (PhaseTimer libraryTimer = compilerMetrics.startLibrary( library )) {
+                    generateLibraryExamples( library, context, exampleContext, exampleGenerators );
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates example files for all members of the given library that are not excluded by the filters of the example
+     * generators provided.
+     * 
+     * @param library the user-defined library for which to generate example files
+     * @param context the code generation context to use for code generation
+     * @param exampleContext the code generation context to be passed to each example generator
+     * @param exampleGenerators the example generators and the filters associated with each
+     * @throws SchemaCompilerException thrown if an error occurs during artifact generation
+     */
+    private void generateLibraryExamples(TLLibrary library, CodeGenerationContext context,
+        CodeGenerationContext exampleContext, Map<CodeGenerator<TLModelElement>,CodeGenerationFilter> exampleGenerators)
+        throws SchemaCompilerException {
+        for (LibraryMember member : library.getNamedMembers()) {
+            if (member instanceof TLDocumentationPatch) {
                 continue;
             }
+            Map<TLModelElement,List<CodeGenerator<TLModelElement>>> exampleTargets =
+                getExampleTargets( library, member, exampleGenerators );
 
-            // Generate example files for each member of the library
-            for (LibraryMember member : library.getNamedMembers()) {
-                if (processEntity( member, filter ) || (member instanceof TLDocumentationPatch)) {
-                    continue;
+            if (exampleTargets.isEmpty()) {
+                continue;
+            }
+            exampleContext.setValue( CodeGenerationContext.CK_OUTPUT_FOLDER,
+                getExampleOutputFolder( member, context ) );
+            exampleContext.setValue( CodeGenerationContext.CK_EXAMPLE_SCHEMA_RELATIVE_PATH,
+                getSchemaRelativeFolderPath( member, exampleContext ) );
+
+            // Generate all formats of each example entity in succession so that the navigation
+            // of the entity can be shared by each of the example generators
+            for (Entry<TLModelElement,List<CodeGenerator<TLModelElement>>> entry : exampleTargets.entrySet()) {
+                for (CodeGenerator<TLModelElement> exampleGenerator : entry.getValue()) {
+                    addGeneratedFiles( exampleGenerator.generateOutput( entry.getKey(), exampleContext ) );
                 }
+            }
+        }
+    }
+
+    /**
+     * Returns the entities for which examples should be generated for the given library member, along with the example
+     * generators that should produce output for each entity.
+     * 
+     * @param library the library that owns the member
+     * @param member the library member for which to return example targets
+     * @param exampleGenerators the example generators and the filters associated with each
+     * @return Map&lt;TLModelElement,List&lt;CodeGenerator&lt;TLModelElement&gt;&gt;&gt;
+     */
+    private Map<TLModelElement,List<CodeGenerator<TLModelElement>>> getExampleTargets(TLLibrary library,
+        LibraryMember member, Map<CodeGenerator<TLModelElement>,CodeGenerationFilter> exampleGenerators) {
+        Map<TLModelElement,List<CodeGenerator<TLModelElement>>> exampleTargets = new IdentityHashMap<>();
+        List<TLModelElement> targetOrder = new ArrayList<>();
 
-                exampleContext.setValue( CodeGenerationContext.CK_OUTPUT_FOLDER,
-                    getExampleOutputFolder( member, context ) );
-                exampleContext.setValue( CodeGenerationContext.CK_EXAMPLE_SCHEMA_RELATIVE_PATH,
-                    getSchemaRelativeFolderPath( member, exampleContext ) );
+        for (Entry<CodeGenerator<TLModelElement>,CodeGenerationFilter> entry : exampleGenerators.entrySet()) {
+            CodeGenerationFilter filter = entry.getValue();
+
+            if (processLibrary( library, filter ) || processEntity( member, filter )) {
+                continue;
+            }
+            List<TLModelElement> targets;
 
-                if (member instanceof TLService) {
-                    generateServiceArtifacts( (TLService) member, exampleGenerator, exampleContext );
+            if (member instanceof TLService) {
+                targets = getServiceExampleTargets( (TLService) member );
 
-                } else if (member instanceof TLResource) {
-                    generateResourceArtifacts( (TLResource) member, filter, exampleGenerator, exampleContext );
+            } else if (member instanceof TLResource) {
+                targets = getResourceExampleTargets( (TLResource) member, filter );
 
-                } else {
-                    addGeneratedFiles( exampleGenerator.generateOutput( (TLModelElement) member, exampleContext ) );
+            } else {
+                targets = Collections.singletonList( (TLModelElement) member );
+            }
+
+            for (TLModelElement target : targets) {
+                List<CodeGenerator<TLModelElement>> targetGenerators = exampleTargets.get( target );
+
+                if (targetGenerators == null) {
+                    targetGenerators = new ArrayList<>();
+                    exampleTargets.put( target, targetGenerators );
+                    targetOrder.add( target );
+                }
+                if (!targetGenerators.contains( entry.getKey() )) {
+                    targetGenerators.add( entry.getKey() );
                 }
             }
         }
+
+        // Return the targets in the order they were first encountered
+        Map<TLModelElement,List<CodeGenerator<TLModelElement>>> orderedTargets = new LinkedHashMap<>();
+
+        for (TLModelElement target : targetOrder) {
+            orderedTargets.put( target, exampleTargets.get( target ) );
+        }
+        return orderedTargets;
     }
 
     /**
@@ -636,42 +821,38 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     }
 
     /**
-     * Generates code output artifacts for the given service.
+     * Returns the operation messages of the given service for which examples should be generated.
      * 
-     * @param service the service for which to generate output
-     * @param exampleGenerator the example generator to use during code generation
-     * @param exampleContext the example context to use during code generation
-     * @throws ValidationException thrown if one or more validation errors are detected
-     * @throws CodeGenerationException thrown if an error occurs while generating output
+     * @param service the service for which to return example targets
+     * @return List&lt;TLModelElement&gt;
      */
-    private void generateServiceArtifacts(TLService service, CodeGenerator<TLModelElement> exampleGenerator,
-        CodeGenerationContext exampleContext) throws ValidationException, CodeGenerationException {
+    private List<TLModelElement> getServiceExampleTargets(TLService service) {
+        List<TLModelElement> targets = new ArrayList<>();
+
         for (TLOperation operation : service.getOperations()) {
             if (operation.getRequest().declaresContent()) {
-                addGeneratedFiles( exampleGenerator.generateOutput( operation.getRequest(), exampleContext ) );
+                targets.add( operation.getRequest() );
             }
             if (operation.getResponse().declaresContent()) {
-                addGeneratedFiles( exampleGenerator.generateOutput( operation.getResponse(), exampleContext ) );
+                targets.add( operation.getResponse() );
             }
             if (operation.getNotification().declaresContent()) {
-                addGeneratedFiles( exampleGenerator.generateOutput( operation.getNotification(), exampleContext ) );
+                targets.add( operation.getNotification() );
             }
         }
+        return targets;
     }
 
     /**
-     * Generates code output artifacts for the given resource.
+     * Returns the request and response payload types of the given resource for which examples should be generated.
      * 
-     * @param resource the resource for which to generate output artifacts.
+     * @param resource the resource for which to return example targets
      * @param filter the filter to use during code generation
-     * @param exampleGenerator the example generator to use during code generation
-     * @param exampleContext the example context to use during code generation
-     * @throws ValidationException thrown if one or more validation errors are detected
-     * @throws CodeGenerationException thrown if an error occurs while generating output
-     */
-    private void generateResourceArtifacts(TLResource resource, CodeGenerationFilter filter,
-        CodeGenerator<TLModelElement> exampleGenerator, CodeGenerationContext exampleContext)
-        throws ValidationException, CodeGenerationException {
+     * @return List&lt;TLModelElement&gt;
+     */
+    private List<TLModelElement> getResourceExampleTargets(TLResource resource, CodeGenerationFilter filter) {
+        List<TLModelElement> targets = new ArrayList<>();
+
         for (TLAction action : ResourceCodegenUtils.getInheritedActions( resource )) {
             TLActionRequest request = ResourceCodegenUtils.getDeclaredOrInheritedRequest( action );
 
@@ -679,8 +860,7 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
                 NamedEntity payloadType = ResourceCodegenUtils.getPayloadType( request.getPayloadType() );
 
                 if ((payloadType != null) && ((filter == null) || filter.processEntity( payloadType ))) {
-                    addGeneratedFiles(
-                        exampleGenerator.generateOutput( (TLModelElement) payloadType, exampleContext ) );
+                    targets.add( (TLModelElement) payloadType );
                 }
             }
 
@@ -688,11 +868,11 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
                 NamedEntity payloadType = ResourceCodegenUtils.getPayloadType( response.getPayloadType() );
 
                 if ((payloadType != null) && ((filter == null) || filter.processEntity( payloadType ))) {
-                    addGeneratedFiles(
-                        exampleGenerator.generateOutput( (TLModelElement) payloadType, exampleContext ) );
+                    targets.add( (TLModelElement) payloadType );
                 }
             }
         }
+        return targets;
     }
 
     /**
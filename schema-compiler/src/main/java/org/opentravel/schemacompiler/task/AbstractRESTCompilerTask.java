@@ -40,7 +40,9 @@ import org.opentravel.schemacompiler.util.SchemaCompilerException;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Abstract compiler task for REST APIs that provides common methods for both Swagger and OpenAPI compilation.
@@ -107,14 +109,14 @@ public abstract class AbstractRESTCompilerTask extends AbstractSchemaCompilerTas
                     // created for the operation
                     // messages (not the contents of the trimmed schemas)
                     if (isGenerateExamples()) {
+                        Map<String,CodeGenerationFilter> exampleFilters = new LinkedHashMap<>();
+
+                        exampleFilters.put( CodeGeneratorFactory.XML_TARGET_FORMAT,
+                            createExampleFilter( resource, TLMimeType.TEXT_XML, TLMimeType.APPLICATION_XML ) );
+                        exampleFilters.put( CodeGeneratorFactory.JSON_TARGET_FORMAT,
+                            createExampleFilter( resource, TLMimeType.TEXT_JSON, TLMimeType.APPLICATION_JSON ) );
                         generateExampleArtifacts( userDefinedLibraries, resourceContext,
-                            new LibraryTrimmedFilenameBuilder( null ),
-                            createExampleFilter( resource, TLMimeType.TEXT_XML, TLMimeType.APPLICATION_XML ),
-                            CodeGeneratorFactory.XML_TARGET_FORMAT );
-                        generateExampleArtifacts( userDefinedLibraries, resourceContext,
-                            new LibraryTrimmedFilenameBuilder( null ),
-                            createExampleFilter( resource, TLMimeType.TEXT_JSON, TLMimeType.APPLICATION_JSON ),
-                            CodeGeneratorFactory.JSON_TARGET_FORMAT );
+                            new LibraryTrimmedFilenameBuilder( null ), exampleFilters );
                     }
                 }
 
@@ -39,6 +39,7 @@ import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.XSDLibrary;
 import org.opentravel.schemacompiler.repository.RepositoryManager;
+import org.opentravel.schemacompiler.task.CompilerMetrics.PhaseTimer;
 import org.opentravel.schemacompiler.util.SchemaCompilerException;
 import org.opentravel.schemacompiler.validate.ValidationException;
 import org.springframework.context.ApplicationContext;
@@ -102,7 +103,9 @@ public abstract class AbstractSchemaCompilerTask extends AbstractCompilerTask im
         ImportSchemaLocations importLocations = analyzeImportDependencies( model, context, filenameBuilder, filter );
 
         for (TLLibrary library : userDefinedLibraries) {
-            generateXsdForLibrary( library, model, context, filter, filenameBuilder, importLocations );
+            try (PhaseTimer timer = getCompilerMetrics().startLibrary( library )) {
+                generateXsdForLibrary( library, model, context, filter, filenameBuilder, importLocations );
+            }
         }
 
         // If a filter was not passed to this method create one that will identify the legacy
@@ -380,7 +383,9 @@ public abstract class AbstractSchemaCompilerTask extends AbstractCompilerTask im
         }
 
         for (TLLibrary library : userDefinedLibraries) {
-            generateJsonForLibrary( library, model, context, filter, filenameBuilder );
+            try (PhaseTimer timer = getCompilerMetrics().startLibrary( library )) {
+                generateJsonForLibrary( library, model, context, filter, filenameBuilder );
+            }
         }
 
         // Generate output for all built-in libraries
@@ -20,6 +20,7 @@ import org.opentravel.schemacompiler.codegen.CodeGenerationContext;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.XSDLibrary;
 import org.opentravel.schemacompiler.repository.RepositoryManager;
+import org.opentravel.schemacompiler.task.CompilerMetrics.PhaseTimer;
 import org.opentravel.schemacompiler.util.SchemaCompilerException;
 
 import java.io.File;
@@ -75,72 +76,61 @@ public class CompileAllCompilerTask extends AbstractCompilerTask implements Comp
         CodeGenerationContext compileAllContext = createContext();
 
         if (compileSchemas) {
-            XmlSchemaCompilerTask schemaTask = new XmlSchemaCompilerTask( projectFilename, repositoryManager );
-
-            schemaTask.applyTaskOptions( this );
-            schemaTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            schemaTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "schemas" ) );
-            schemaTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( schemaTask.getGeneratedFiles() );
+            generateSubtaskOutput( new XmlSchemaCompilerTask( projectFilename, repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "schemas" ), userDefinedLibraries, legacySchemas );
         }
         if (compileJson) {
-            JsonSchemaCompilerTask jsonSchemaTask = new JsonSchemaCompilerTask( projectFilename, repositoryManager );
-
-            jsonSchemaTask.applyTaskOptions( this );
-            jsonSchemaTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            jsonSchemaTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "json" ) );
-            jsonSchemaTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( jsonSchemaTask.getGeneratedFiles() );
+            generateSubtaskOutput( new JsonSchemaCompilerTask( projectFilename, repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "json" ), userDefinedLibraries, legacySchemas );
         }
         if (compileServices) {
             if (projectFilename != null) {
-                ServiceProjectCompilerTask serviceTask =
-                    new ServiceProjectCompilerTask( projectFilename, repositoryManager );
-
-                serviceTask.applyTaskOptions( this );
-                serviceTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-                serviceTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "services" ) );
-                serviceTask.generateOutput( userDefinedLibraries, legacySchemas );
-                addGeneratedFiles( serviceTask.getGeneratedFiles() );
+                generateSubtaskOutput( new ServiceProjectCompilerTask( projectFilename, repositoryManager ),
+                    getSubtaskOutputFolder( compileAllContext, "services" ), userDefinedLibraries, legacySchemas );
 
             } else { // non-project service compilation
-                ServiceCompilerTask serviceTask = new ServiceCompilerTask( repositoryManager );
-
-                serviceTask.applyTaskOptions( this );
-                serviceTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-                serviceTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "services" ) );
-                serviceTask.generateOutput( userDefinedLibraries, legacySchemas );
-                addGeneratedFiles( serviceTask.getGeneratedFiles() );
+                generateSubtaskOutput( new ServiceCompilerTask( repositoryManager ),
+                    getSubtaskOutputFolder( compileAllContext, "services" ), userDefinedLibraries, legacySchemas );
             }
         }
         if (compileSwagger) {
-            SwaggerCompilerTask swaggerTask = new SwaggerCompilerTask( repositoryManager );
-
-            swaggerTask.applyTaskOptions( this );
-            swaggerTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            swaggerTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "swagger" ) );
-            swaggerTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( swaggerTask.getGeneratedFiles() );
+            generateSubtaskOutput( new SwaggerCompilerTask( repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "swagger" ), userDefinedLibraries, legacySchemas );
         }
         if (compileOpenApi) {
-            OpenApiCompilerTask openapiTask = new OpenApiCompilerTask( repositoryManager );
-
-            openapiTask.applyTaskOptions( this );
-            openapiTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            openapiTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "openapi" ) );
-            openapiTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( openapiTask.getGeneratedFiles() );
+            generateSubtaskOutput( new OpenApiCompilerTask( repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "openapi" ), userDefinedLibraries, legacySchemas );
         }
 
         if (compileHtml) {
-            DocumentationCompileTask docTask = new DocumentationCompileTask( repositoryManager );
+            generateSubtaskOutput( new DocumentationCompileTask( repositoryManager ),
+                getOutputFolder() + "/documentation", userDefinedLibraries, legacySchemas );
+        }
+    }
 
-            docTask.applyTaskOptions( this );
-            docTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            docTask.setOutputFolder( getOutputFolder() + "/documentation" );
-            docTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( docTask.getGeneratedFiles() );
+    /**
+     * Configures the given sub-task using the options of this task and generates its output. The resources consumed by
+     * the sub-task are recorded in the compiler metrics under the sub-task's own phase.
+     * 
+     * @param subtask the sub-task whose output is to be generated
+     * @param subtaskOutputFolder the location where all output should be created for the sub-task
+     * @param userDefinedLibraries the list of user-defined libraries for which to generate output
+     * @param legacySchemas the list of legacy schemas (xsd files) for which to generate output
+     * @throws SchemaCompilerException thrown if an error occurs during output generation
+     */
+    private void generateSubtaskOutput(AbstractCompilerTask subtask, String subtaskOutputFolder,
+        Collection<TLLibrary> userDefinedLibraries, Collection<XSDLibrary> legacySchemas)
+        throws SchemaCompilerException {
+        subtask.applyTaskOptions( this );
+        subtask.setExampleGenerationCache( getExampleGenerationCache() );
+        subtask.setCompilerMetrics( getCompilerMetrics() );
+        subtask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
+        subtask.setOutputFolder( subtaskOutputFolder );
+
+        try (PhaseTimer timer = getCompilerMetrics().startPhase( subtask.getMetricsPhase() )) {
+            subtask.generateOutput( userDefinedLibraries, legacySchemas );
         }
+        addGeneratedFiles( subtask.getGeneratedFiles() );
     }
 
     /**
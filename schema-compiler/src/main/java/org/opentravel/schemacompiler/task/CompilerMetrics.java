@@ -0,0 +1,422 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.task;
+
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the wall time, CPU time, and allocated bytes of each phase of a compilation, as well as the portion of each
+ * phase that was spent on individual libraries.
+ *
+ * <p>
+ * Phases may be nested (e.g. the generation of examples occurs within the XSD, WSDL, JSON schema, and REST API phases),
+ * in which case the metrics of the enclosing phase include those of the nested phase. Only the outermost phases
+ * contribute to the overall totals for the compilation. Per-library metrics are attributed to the innermost phase that
+ * is active when the library is processed.
+ *
+ * <p>
+ * CPU time and allocated bytes are measured for the thread that performs the compilation; work that is delegated to
+ * other threads contributes to the wall time only. A metrics instance should be used by a single compilation thread
+ * at a time, although its accumulated results may be read from any thread. When metrics are disabled, all timers are
+ * shared no-op instances so the instrumentation imposes no measurable overhead on the compiler.
+ */
+public class CompilerMetrics {
+
+    public static final String PHASE_LOADING = "loading";
+    public static final String PHASE_VALIDATION = "validation";
+    public static final String PHASE_XSD = "xsd";
+    public static final String PHASE_WSDL = "wsdl";
+    public static final String PHASE_JSON_SCHEMA = "json-schema";
+    public static final String PHASE_SWAGGER = "swagger";
+    public static final String PHASE_OPENAPI = "openapi";
+    public static final String PHASE_EXAMPLES = "examples";
+    public static final String PHASE_DOCUMENTATION = "documentation";
+    public static final String TOTAL = "total";
+
+    private static final CompilerMetrics DISABLED = new CompilerMetrics( false );
+    private static final PhaseTimer NO_OP_TIMER = () -> {};
+
+    private static Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private final boolean enabled;
+    private ThreadMXBean threadBean;
+    private boolean cpuTimeSupported;
+    private boolean allocationSupported;
+    private Deque<PhaseFrame> activePhases = new ArrayDeque<>();
+    private Map<String,CompilerPhaseMetrics> phaseMetrics = new LinkedHashMap<>();
+    private Map<String,Map<String,CompilerPhaseMetrics>> libraryMetrics = new LinkedHashMap<>();
+    private CompilerPhaseMetrics totalMetrics = new CompilerPhaseMetrics( TOTAL );
+
+    /**
+     * Default constructor that creates an enabled metrics instance.
+     */
+    public CompilerMetrics() {
+        this( true );
+    }
+
+    /**
+     * Constructor that specifies whether metrics should be recorded.
+     *
+     * @param enabled flag indicating whether metrics should be recorded
+     */
+    private CompilerMetrics(boolean enabled) {
+        this.enabled = enabled;
+
+        if (enabled) {
+            threadBean = ManagementFactory.getThreadMXBean();
+            cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported() && threadBean.isThreadCpuTimeEnabled();
+            allocationSupported = (threadBean instanceof com.sun.management.ThreadMXBean)
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemoryEnabled();
+        }
+    }
+
+    /**
+     * Returns the shared metrics instance that does not record any measurements.
+     *
+     * @return CompilerMetrics
+     */
+    public static CompilerMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns true if this instance records metrics for the compiler phases.
+     *
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns true if the CPU time of each phase is measured by this instance.
+     *
+     * @return boolean
+     */
+    public boolean isCpuTimeSupported() {
+        return cpuTimeSupported;
+    }
+
+    /**
+     * Returns true if the bytes allocated by each phase are measured by this instance.
+     *
+     * @return boolean
+     */
+    public boolean isAllocationSupported() {
+        return allocationSupported;
+    }
+
+    /**
+     * Starts the measurement of the specified compiler phase. The measurement is completed when the timer that is
+     * returned is closed. If metrics are disabled or the phase is null, a no-op timer is returned.
+     *
+     * @param phase the name of the compiler phase to measure
+     * @return PhaseTimer
+     */
+    public PhaseTimer startPhase(String phase) {
+        if (!enabled || (phase == null)) {
+            return NO_OP_TIMER;
+        }
+        PhaseFrame frame = new PhaseFrame( phase );
+        boolean outermost;
+
+        synchronized (this) {
+            outermost = activePhases.isEmpty();
+            activePhases.push( frame );
+        }
+        return new MeasuredTimer( frame, null, outermost );
+    }
+
+    /**
+     * Starts the measurement of the given library within the innermost active compiler phase. The measurement is
+     * completed when the timer that is returned is closed. A no-op timer is returned if metrics are disabled, if no
+     * phase is active, or if a library measurement is already in progress for the active phase.
+     *
+     * @param library the library whose processing is to be measured
+     * @return PhaseTimer
+     */
+    public PhaseTimer startLibrary(AbstractLibrary library) {
+        if (!enabled || (library == null)) {
+            return NO_OP_TIMER;
+        }
+        PhaseFrame frame;
+
+        synchronized (this) {
+            frame = activePhases.peek();
+
+            if ((frame == null) || frame.libraryActive) {
+                return NO_OP_TIMER;
+            }
+            frame.libraryActive = true;
+        }
+        return new MeasuredTimer( frame, library, false );
+    }
+
+    /**
+     * Returns the accumulated metrics for each phase in the order the phases were first executed.
+     *
+     * @return List&lt;CompilerPhaseMetrics&gt;
+     */
+    public synchronized List<CompilerPhaseMetrics> getPhaseMetrics() {
+        List<CompilerPhaseMetrics> metrics = new ArrayList<>();
+
+        phaseMetrics.values().forEach( m -> metrics.add( m.copy() ) );
+        return metrics;
+    }
+
+    /**
+     * Returns the accumulated metrics for each library and phase in the order the libraries were first processed.
+     *
+     * @return List&lt;CompilerPhaseMetrics&gt;
+     */
+    public synchronized List<CompilerPhaseMetrics> getLibraryMetrics() {
+        List<CompilerPhaseMetrics> metrics = new ArrayList<>();
+
+        libraryMetrics.values().forEach( lm -> lm.values().forEach( m -> metrics.add( m.copy() ) ) );
+        return metrics;
+    }
+
+    /**
+     * Returns the accumulated totals of all outermost phases.
+     *
+     * @return CompilerPhaseMetrics
+     */
+    public synchronized CompilerPhaseMetrics getTotalMetrics() {
+        return totalMetrics.copy();
+    }
+
+    /**
+     * Discards all of the metrics that have been recorded by this instance.
+     */
+    public synchronized void reset() {
+        phaseMetrics.clear();
+        libraryMetrics.clear();
+        totalMetrics = new CompilerPhaseMetrics( TOTAL );
+    }
+
+    /**
+     * Returns a JSON representation of the metrics that have been recorded by this instance.
+     *
+     * @return JsonObject
+     */
+    public synchronized JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        JsonArray phases = new JsonArray();
+        JsonArray libraries = new JsonArray();
+
+        for (CompilerPhaseMetrics metrics : phaseMetrics.values()) {
+            phases.add( metrics.toJson() );
+        }
+        for (Map<String,CompilerPhaseMetrics> libraryPhases : libraryMetrics.values()) {
+            JsonObject libraryJson = new JsonObject();
+            JsonArray libraryPhasesJson = new JsonArray();
+            CompilerPhaseMetrics firstPhase = libraryPhases.values().iterator().next();
+
+            for (CompilerPhaseMetrics metrics : libraryPhases.values()) {
+                libraryPhasesJson.add( metrics.toJson() );
+            }
+            libraryJson.addProperty( "name", firstPhase.getLibraryName() );
+            libraryJson.addProperty( "namespace", firstPhase.getLibraryNamespace() );
+            libraryJson.add( "phases", libraryPhasesJson );
+            libraries.add( libraryJson );
+        }
+        json.addProperty( "cpuTimeSupported", cpuTimeSupported );
+        json.addProperty( "allocationSupported", allocationSupported );
+        json.add( TOTAL, totalMetrics.toJson() );
+        json.add( "phases", phases );
+        json.add( "libraries", libraries );
+        return json;
+    }
+
+    /**
+     * Returns the formatted JSON report of the metrics that have been recorded by this instance.
+     *
+     * @return String
+     */
+    public String toReport() {
+        return gson.toJson( toJson() );
+    }
+
+    /**
+     * Writes the JSON report of the metrics that have been recorded by this instance to the specified file.
+     *
+     * @param reportFile the file to which the report should be written
+     * @throws IOException thrown if the report cannot be written
+     */
+    public void writeReport(File reportFile) throws IOException {
+        File reportFolder = reportFile.getAbsoluteFile().getParentFile();
+
+        if ((reportFolder != null) && !reportFolder.exists()) {
+            reportFolder.mkdirs();
+        }
+        try (Writer writer = Files.newBufferedWriter( reportFile.toPath(), StandardCharsets.UTF_8 )) {
+            writer.write( toReport() );
+        }
+    }
+
+    /**
+     * Records the results of a completed measurement.
+     *
+     * @param timer the timer whose measurement has completed
+     * @param wallTime the elapsed wall time (in nanoseconds) of the measurement
+     * @param cpuTime the CPU time (in nanoseconds) consumed during the measurement
+     * @param allocated the number of bytes allocated during the measurement
+     */
+    private synchronized void recordMeasurement(MeasuredTimer timer, long wallTime, long cpuTime, long allocated) {
+        PhaseFrame frame = timer.frame;
+
+        if (timer.library == null) {
+            activePhases.removeFirstOccurrence( frame );
+            phaseMetrics.computeIfAbsent( frame.phase, CompilerPhaseMetrics::new ).add( wallTime, cpuTime,
+                allocated );
+
+            if (timer.outermost) {
+                totalMetrics.add( wallTime, cpuTime, allocated );
+            }
+
+        } else {
+            AbstractLibrary library = timer.library;
+            String libraryKey = library.getNamespace() + ":" + library.getName();
+
+            frame.libraryActive = false;
+            libraryMetrics.computeIfAbsent( libraryKey, k -> new LinkedHashMap<>() )
+                .computeIfAbsent( frame.phase,
+                    p -> new CompilerPhaseMetrics( p, library.getName(), library.getNamespace() ) )
+                .add( wallTime, cpuTime, allocated );
+        }
+    }
+
+    /**
+     * Returns the CPU time of the current thread in nanoseconds (zero if not supported).
+     *
+     * @return long
+     */
+    private long currentCpuTime() {
+        return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : 0L;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread (zero if not supported).
+     *
+     * @return long
+     */
+    private long currentAllocatedBytes() {
+        return allocationSupported ? ((com.sun.management.ThreadMXBean) threadBean).getCurrentThreadAllocatedBytes()
+            : 0L;
+    }
+
+    /**
+     * Handle for an in-progress measurement that is completed when the timer is closed.
+     */
+    public interface PhaseTimer extends AutoCloseable {
+
+        /**
+         * Completes the measurement and records its results.
+         *
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close();
+
+    }
+
+    /**
+     * Timer that measures the resources consumed by a phase or library.
+     */
+    private class MeasuredTimer implements PhaseTimer {
+
+        private PhaseFrame frame;
+        private AbstractLibrary library;
+        private boolean outermost;
+        private boolean closed;
+        private long startWallTime;
+        private long startCpuTime;
+        private long startAllocatedBytes;
+
+        /**
+         * Constructor that starts the measurement.
+         *
+         * @param frame the phase frame to which the measurement applies
+         * @param library the library being measured (null for phase-level measurements)
+         * @param outermost flag indicating whether the measurement is for an outermost phase
+         */
+        public MeasuredTimer(PhaseFrame frame, AbstractLibrary library, boolean outermost) {
+            this.frame = frame;
+            this.library = library;
+            this.outermost = outermost;
+            this.startAllocatedBytes = currentAllocatedBytes();
+            this.startCpuTime = currentCpuTime();
+            this.startWallTime = System.nanoTime();
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.task.CompilerMetrics.PhaseTimer#close()
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                long wallTime = System.nanoTime() - startWallTime;
+                long cpuTime = currentCpuTime() - startCpuTime;
+                long allocated = currentAllocatedBytes() - startAllocatedBytes;
+
+                closed = true;
+                recordMeasurement( this, wallTime, cpuTime, allocated );
+            }
+        }
+
+    }
+
+    /**
+     * Represents a phase that is currently active on the stack of nested phases.
+     */
+    private static class PhaseFrame {
+
+        private String phase;
+        private boolean libraryActive;
+
+        /**
+         * Constructor that specifies the name of the active phase.
+         *
+         * @param phase the name of the compiler phase
+         */
+        public PhaseFrame(String phase) {
+            this.phase = phase;
+        }
+
+    }
+
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.task;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Accumulated wall time, CPU time, and allocated bytes for a single compiler phase. If the metrics were recorded for a
+ * specific library, the name and namespace of that library are also provided.
+ */
+public class CompilerPhaseMetrics {
+
+    private String phase;
+    private String libraryName;
+    private String libraryNamespace;
+    private int invocationCount;
+    private long wallTimeNanos;
+    private long cpuTimeNanos;
+    private long allocatedBytes;
+
+    /**
+     * Constructor that specifies the phase for which metrics are being accumulated.
+     *
+     * @param phase the name of the compiler phase
+     */
+    public CompilerPhaseMetrics(String phase) {
+        this( phase, null, null );
+    }
+
+    /**
+     * Constructor that specifies the phase and the library for which metrics are being accumulated.
+     *
+     * @param phase the name of the compiler phase
+     * @param libraryName the name of the library (may be null)
+     * @param libraryNamespace the namespace of the library (may be null)
+     */
+    public CompilerPhaseMetrics(String phase, String libraryName, String libraryNamespace) {
+        this.phase = phase;
+        this.libraryName = libraryName;
+        this.libraryNamespace = libraryNamespace;
+    }
+
+    /**
+     * Adds the results of a single measurement to the accumulated values of this phase.
+     *
+     * @param wallTime the elapsed wall time (in nanoseconds) of the measurement
+     * @param cpuTime the CPU time (in nanoseconds) consumed by the measuring thread
+     * @param allocated the number of bytes allocated by the measuring thread
+     */
+    void add(long wallTime, long cpuTime, long allocated) {
+        invocationCount++;
+        wallTimeNanos += wallTime;
+        cpuTimeNanos += cpuTime;
+        allocatedBytes += allocated;
+    }
+
+    /**
+     * Returns a copy of this metrics instance.
+     *
+     * @return CompilerPhaseMetrics
+     */
+    CompilerPhaseMetrics copy() {
+        CompilerPhaseMetrics copy = new CompilerPhaseMetrics( phase, libraryName, libraryNamespace );
+
+        copy.invocationCount = invocationCount;
+        copy.wallTimeNanos = wallTimeNanos;
+        copy.cpuTimeNanos = cpuTimeNanos;
+        copy.allocatedBytes = allocatedBytes;
+        return copy;
+    }
+
+    /**
+     * Returns the name of the compiler phase.
+     *
+     * @return String
+     */
+    public String getPhase() {
+        return phase;
+    }
+
+    /**
+     * Returns the name of the library for which the metrics were recorded (null for phase-level metrics).
+     *
+     * @return String
+     */
+    public String getLibraryName() {
+        return libraryName;
+    }
+
+    /**
+     * Returns the namespace of the library for which the metrics were recorded (null for phase-level metrics).
+     *
+     * @return String
+     */
+    public String getLibraryNamespace() {
+        return libraryNamespace;
+    }
+
+    /**
+     * Returns the number of times the phase was executed.
+     *
+     * @return int
+     */
+    public int getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * Returns the total elapsed wall time of the phase in nanoseconds.
+     *
+     * @return long
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * Returns the total CPU time of the phase in nanoseconds (zero if CPU time measurement is not supported by the
+     * JVM).
+     *
+     * @return long
+     */
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    /**
+     * Returns the total number of bytes allocated during the phase (zero if allocation measurement is not supported by
+     * the JVM).
+     *
+     * @return long
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the total elapsed wall time of the phase in milliseconds.
+     *
+     * @return double
+     */
+    public double getWallTimeMillis() {
+        return toMillis( wallTimeNanos );
+    }
+
+    /**
+     * Returns the total CPU time of the phase in milliseconds.
+     *
+     * @return double
+     */
+    public double getCpuTimeMillis() {
+        return toMillis( cpuTimeNanos );
+    }
+
+    /**
+     * Returns a JSON representation of these metrics.
+     *
+     * @return JsonObject
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+
+        json.addProperty( "phase", phase );
+        json.addProperty( "count", invocationCount );
+        json.addProperty( "wallTimeMillis", getWallTimeMillis() );
+        json.addProperty( "cpuTimeMillis", getCpuTimeMillis() );
+        json.addProperty( "allocatedBytes", allocatedBytes );
+        return json;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format( "%s: count=%d, wall=%.3fms, cpu=%.3fms, allocated=%d bytes", phase, invocationCount,
+            getWallTimeMillis(), getCpuTimeMillis(), allocatedBytes );
+    }
+
+    /**
+     * Converts the given nanosecond value to milliseconds, rounded to the nearest microsecond.
+     *
+     * @param nanos the nanosecond value to convert
+     * @return double
+     */
+    private static double toMillis(long nanos) {
+        return Math.round( nanos / 1000.0 ) / 1000.0;
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.task;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Implementation of the <code>CompilerStatsMBean</code> that retains the metrics of the compilations performed by a
+ * long-running host process. Hosts that collect <code>CompilerMetrics</code> should pass them to the
+ * <code>recordCompilation()</code> method of the default instance after each compilation completes.
+ */
+public class CompilerStats extends StandardMBean implements CompilerStatsMBean {
+
+    public static final String MBEAN_NAME = "org.opentravel.jmx:type=OTMCompilerStats";
+
+    private static final Logger log = LogManager.getLogger( CompilerStats.class );
+
+    private static CompilerStats instance = new CompilerStats();
+
+    private long compilationCount;
+    private CompilerPhaseMetrics lastTotals;
+    private String[] lastPhaseSummary = new String[0];
+    private String lastReport;
+    private long totalWallTimeNanos;
+    private long totalAllocatedBytes;
+
+    /**
+     * Default constructor.
+     */
+    public CompilerStats() {
+        super( CompilerStatsMBean.class, true );
+    }
+
+    /**
+     * Returns the default MBean instance for the JVM.
+     * 
+     * @return CompilerStats
+     */
+    public static CompilerStats getInstance() {
+        return instance;
+    }
+
+    /**
+     * Registers the default instance with the platform MBean server so that the compilations performed by a
+     * long-running host process can be monitored using JMX. If the MBean is already registered, this method has no
+     * effect. Registration errors are logged and otherwise ignored, since they should not interrupt a compilation.
+     */
+    public static synchronized void register() {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName( MBEAN_NAME );
+
+            if (!mbs.isRegistered( name )) {
+                mbs.registerMBean( instance, name );
+            }
+
+        } catch (Exception e) {
+            log.warn( "Error registering CompilerStats MBean.", e );
+        }
+    }
+
+    /**
+     * Records the metrics of a completed compilation. Metrics instances that are not enabled are ignored.
+     * 
+     * @param metrics the metrics of the compilation
+     */
+    public synchronized void recordCompilation(CompilerMetrics metrics) {
+        if ((metrics != null) && metrics.isEnabled()) {
+            List<CompilerPhaseMetrics> phaseMetrics = metrics.getPhaseMetrics();
+            String[] phaseSummary = new String[phaseMetrics.size()];
+
+            for (int i = 0; i < phaseSummary.length; i++) {
+                phaseSummary[i] = phaseMetrics.get( i ).toString();
+            }
+            lastTotals = metrics.getTotalMetrics();
+            lastPhaseSummary = phaseSummary;
+            lastReport = metrics.toReport();
+            totalWallTimeNanos += lastTotals.getWallTimeNanos();
+            totalAllocatedBytes += lastTotals.getAllocatedBytes();
+            compilationCount++;
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getCompilationCount()
+     */
+    @Override
+    public synchronized long getCompilationCount() {
+        return compilationCount;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getLastWallTimeMillis()
+     */
+    @Override
+    public synchronized double getLastWallTimeMillis() {
+        return (lastTotals == null) ? 0.0 : lastTotals.getWallTimeMillis();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getLastCpuTimeMillis()
+     */
+    @Override
+    public synchronized double getLastCpuTimeMillis() {
+        return (lastTotals == null) ? 0.0 : lastTotals.getCpuTimeMillis();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getLastAllocatedBytes()
+     */
+    @Override
+    public synchronized long getLastAllocatedBytes() {
+        return (lastTotals == null) ? 0L : lastTotals.getAllocatedBytes();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getLastPhaseSummary()
+     */
+    @Override
+    public synchronized String[] getLastPhaseSummary() {
+        return lastPhaseSummary.clone();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getLastReport()
+     */
+    @Override
+    public synchronized String getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getTotalWallTimeMillis()
+     */
+    @Override
+    public synchronized double getTotalWallTimeMillis() {
+        return Math.round( totalWallTimeNanos / 1000.0 ) / 1000.0;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompilerStatsMBean#getTotalAllocatedBytes()
+     */
+    @Override
+    public synchronized long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.task;
+
+/**
+ * MBean interface that publishes the compiler metrics of long-running processes that host the OTM compiler.
+ */
+public interface CompilerStatsMBean {
+
+    /**
+     * Returns the number of compilations whose metrics have been recorded.
+     * 
+     * @return long
+     */
+    public long getCompilationCount();
+
+    /**
+     * Returns the elapsed wall time (in milliseconds) of the most recent compilation.
+     * 
+     * @return double
+     */
+    public double getLastWallTimeMillis();
+
+    /**
+     * Returns the CPU time (in milliseconds) of the most recent compilation.
+     * 
+     * @return double
+     */
+    public double getLastCpuTimeMillis();
+
+    /**
+     * Returns the number of bytes allocated by the most recent compilation.
+     * 
+     * @return long
+     */
+    public long getLastAllocatedBytes();
+
+    /**
+     * Returns a one-line summary of the wall time, CPU time, and allocated bytes of each phase of the most recent
+     * compilation.
+     * 
+     * @return String[]
+     */
+    public String[] getLastPhaseSummary();
+
+    /**
+     * Returns the full JSON report of the phase and library metrics of the most recent compilation.
+     * 
+     * @return String
+     */
+    public String getLastReport();
+
+    /**
+     * Returns the combined wall time (in milliseconds) of all recorded compilations.
+     * 
+     * @return double
+     */
+    public double getTotalWallTimeMillis();
+
+    /**
+     * Returns the combined number of bytes allocated by all recorded compilations.
+     * 
+     * @return long
+     */
+    public long getTotalAllocatedBytes();
+
+}
@@ -118,6 +118,14 @@ public class DocumentationCompileTask extends AbstractCompilerTask implements Ex
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_DOCUMENTATION;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#createContext()
      */
@@ -78,4 +78,12 @@ public class JsonSchemaCompilerTask extends AbstractSchemaCompilerTask {
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_JSON_SCHEMA;
+    }
+
 }
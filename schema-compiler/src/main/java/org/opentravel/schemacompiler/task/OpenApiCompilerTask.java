@@ -53,4 +53,12 @@ public class OpenApiCompilerTask extends AbstractRESTCompilerTask {
         generateOutput( userDefinedLibraries, legacySchemas, CodeGeneratorFactory.OPENAPI_TARGET_FORMAT );
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_OPENAPI;
+    }
+
 }
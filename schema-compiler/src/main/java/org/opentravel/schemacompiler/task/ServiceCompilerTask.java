@@ -121,6 +121,14 @@ public class ServiceCompilerTask extends AbstractSchemaCompilerTask implements S
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_WSDL;
+    }
+
     /**
      * Returns the location of the output folder for the specified service.
      * 
@@ -130,6 +130,14 @@ public class ServiceProjectCompilerTask extends AbstractSchemaCompilerTask imple
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_WSDL;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.task.AbstractSchemaCompilerTask#getExampleOutputFolder(org.opentravel.schemacompiler.model.LibraryMember,
      *      org.opentravel.schemacompiler.codegen.CodeGenerationContext)
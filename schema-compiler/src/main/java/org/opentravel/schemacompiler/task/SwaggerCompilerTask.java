@@ -53,4 +53,12 @@ public class SwaggerCompilerTask extends AbstractRESTCompilerTask {
         generateOutput( userDefinedLibraries, legacySchemas, CodeGeneratorFactory.SWAGGER_TARGET_FORMAT );
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_SWAGGER;
+    }
+
 }
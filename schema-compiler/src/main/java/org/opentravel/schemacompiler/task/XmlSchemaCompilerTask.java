@@ -74,4 +74,12 @@ public class XmlSchemaCompilerTask extends AbstractSchemaCompilerTask {
         }
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#getMetricsPhase()
+     */
+    @Override
+    protected String getMetricsPhase() {
+        return CompilerMetrics.PHASE_XSD;
+    }
+
 }
@@ -21,6 +21,11 @@ import org.apache.logging.log4j.Logger;
 import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.springframework.context.ApplicationContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,11 +33,19 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Default implementation of the transformer factory that uses Java annotations to identify the transformer
  * implementations.
  * 
+ * <p>
+ * The transformer mappings for each factory bean are compiled only once per application context into an immutable
+ * dispatch table that holds a pre-resolved constructor for each transformer class. Calls to
+ * <code>getInstance()</code> return a lightweight factory that shares the dispatch table and carries only the
+ * transformer context of the caller.
+ * 
  * @param <C> the type of context required by the transformers provided by the factory
  * @author S. Livezey
  */
@@ -40,9 +53,25 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
 
     private static final Logger log = LogManager.getLogger( TransformerFactory.class );
 
-    private Map<Class<?>,Map<Class<?>,Class<?>>> sourceTypeMappings = new HashMap<>();
+    private static volatile DispatchTableRegistry dispatchTableRegistry = new DispatchTableRegistry( null );
+
+    private DispatchTable dispatchTable = DispatchTable.EMPTY;
     private C transformerContext;
 
+    /**
+     * Default constructor.
+     */
+    public TransformerFactory() {}
+
+    /**
+     * Constructor that specifies a pre-compiled dispatch table for the new factory.
+     * 
+     * @param dispatchTable the dispatch table to be used by the new factory
+     */
+    private TransformerFactory(DispatchTable dispatchTable) {
+        this.dispatchTable = dispatchTable;
+    }
+
     /**
      * Returns the an instance of the <code>TransformerFactory</code> from the application context with the specified
      * factory name.
@@ -52,16 +81,34 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @param <C> the type of the context required by the transformer factory
      * @return TransformerFactory
      */
-    @SuppressWarnings("unchecked")
     public static <C extends ObjectTransformerContext> TransformerFactory<C> getInstance(String factoryName,
         C transformerContext) {
-        ApplicationContext appContext = SchemaCompilerApplicationContext.getContext();
-        TransformerFactory<C> factory = (TransformerFactory<C>) appContext.getBean( factoryName );
+        TransformerFactory<C> factory = new TransformerFactory<>( getDispatchTable( factoryName ) );
 
         factory.setContext( transformerContext );
         return factory;
     }
 
+    /**
+     * Returns the compiled dispatch table for the factory bean with the specified name. The factory bean is only
+     * retrieved from the application context the first time its dispatch table is requested (or after the active
+     * application context has changed).
+     * 
+     * @param factoryName the bean ID of the factory instance from the application context
+     * @return DispatchTable
+     */
+    private static DispatchTable getDispatchTable(String factoryName) {
+        ApplicationContext appContext = SchemaCompilerApplicationContext.getContext();
+        DispatchTableRegistry registry = dispatchTableRegistry;
+
+        if (registry.appContext != appContext) {
+            registry = new DispatchTableRegistry( appContext );
+            dispatchTableRegistry = registry;
+        }
+        return registry.tables.computeIfAbsent( factoryName,
+            name -> ((TransformerFactory<?>) appContext.getBean( name )).dispatchTable );
+    }
+
     /**
      * Returns the transformer context for this factory instance.
      * 
@@ -89,17 +136,7 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @param mappings the mapping specifications for this transformer
      */
     public void setTransformerMappings(Collection<TransformerMapping> mappings) {
-        sourceTypeMappings.clear();
-
-        for (TransformerMapping mapping : mappings) {
-            Map<Class<?>,Class<?>> targetTypeMappings = sourceTypeMappings.get( mapping.getSource() );
-
-            if (targetTypeMappings == null) {
-                targetTypeMappings = new HashMap<>();
-                sourceTypeMappings.put( mapping.getSource(), targetTypeMappings );
-            }
-            targetTypeMappings.put( mapping.getTarget(), mapping.getTransformer() );
-        }
+        dispatchTable = new DispatchTable( mappings );
     }
 
     /**
@@ -108,17 +145,7 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @return Map&lt;Class&lt;?&gt;,Set&lt;Class&lt;?&gt;&gt;&gt;
      */
     public Map<Class<?>,Set<Class<?>>> getTypeMappings() {
-        Map<Class<?>,Set<Class<?>>> mappings = new HashMap<>();
-
-        for (Entry<Class<?>,Map<Class<?>,Class<?>>> entry : sourceTypeMappings.entrySet()) {
-            Map<Class<?>,Class<?>> targetTypes = entry.getValue();
-            Class<?> sourceType = entry.getKey();
-
-            if (targetTypes != null) {
-                mappings.put( sourceType, new HashSet<>( targetTypes.keySet() ) );
-            }
-        }
-        return Collections.unmodifiableMap( mappings );
+        return dispatchTable.typeMappings;
     }
 
     /**
@@ -140,15 +167,7 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @return Set&lt;Class&lt;?&gt;&gt;
      */
     public Set<Class<?>> findTargetTypes(Class<?> sourceType) {
-        Map<Class<?>,Class<?>> targetTypeMappings = sourceTypeMappings.get( sourceType );
-        Set<Class<?>> targetTypes;
-
-        if ((targetTypeMappings != null) && !targetTypeMappings.isEmpty()) {
-            targetTypes = targetTypeMappings.keySet();
-        } else {
-            targetTypes = new HashSet<>();
-        }
-        return targetTypes;
+        return dispatchTable.typeMappings.getOrDefault( sourceType, Collections.emptySet() );
     }
 
     /**
@@ -184,16 +203,15 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      */
     @SuppressWarnings("unchecked")
     public <S, T> ObjectTransformer<S,T,C> getTransformer(Class<S> sourceType, Class<T> targetType) {
-        Map<Class<?>,Class<?>> targetTypeMappings = sourceTypeMappings.get( sourceType );
+        Map<Class<?>,TransformerConstructor> targetTypeMappings = dispatchTable.constructors.get( sourceType );
         ObjectTransformer<S,T,C> transformer = null;
 
         if (targetTypeMappings != null) {
-            Class<ObjectTransformer<S,T,C>> transformerClass =
-                (Class<ObjectTransformer<S,T,C>>) targetTypeMappings.get( targetType );
+            TransformerConstructor constructor = targetTypeMappings.get( targetType );
 
             try {
-                if (transformerClass != null) {
-                    transformer = transformerClass.getConstructor().newInstance();
+                if (constructor != null) {
+                    transformer = (ObjectTransformer<S,T,C>) constructor.newTransformer();
                     transformer.setContext( transformerContext );
                 }
             } catch (Exception e) {
@@ -203,4 +221,138 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
         return transformer;
     }
 
+    /**
+     * Pre-resolved constructor for a single transformer class.
+     */
+    @FunctionalInterface
+    private interface TransformerConstructor {
+
+        /**
+         * Creates a new instance of the transformer class.
+         * 
+         * @return ObjectTransformer&lt;?,?,?&gt;
+         * @throws ReflectiveOperationException thrown if the transformer cannot be instantiated
+         */
+        public ObjectTransformer<?,?,?> newTransformer() throws ReflectiveOperationException;
+
+    }
+
+    /**
+     * Immutable table of transformer constructors, indexed by source and target type.
+     */
+    private static class DispatchTable {
+
+        public static final DispatchTable EMPTY = new DispatchTable( Collections.emptyList() );
+
+        private final Map<Class<?>,Map<Class<?>,TransformerConstructor>> constructors;
+        private final Map<Class<?>,Set<Class<?>>> typeMappings;
+
+        /**
+         * Constructor that compiles the dispatch table from the given list of transformer mappings.
+         * 
+         * @param mappings the mapping specifications for the transformer factory
+         */
+        public DispatchTable(Collection<TransformerMapping> mappings) {
+            Map<Class<?>,Map<Class<?>,TransformerConstructor>> ctorMap = new HashMap<>();
+            Map<Class<?>,Set<Class<?>>> typeMap = new HashMap<>();
+
+            for (TransformerMapping mapping : mappings) {
+                ctorMap.computeIfAbsent( mapping.getSource(), s -> new HashMap<>() ).put( mapping.getTarget(),
+                    resolveConstructor( mapping.getTransformer() ) );
+            }
+            for (Entry<Class<?>,Map<Class<?>,TransformerConstructor>> entry : ctorMap.entrySet()) {
+                entry.setValue( Collections.unmodifiableMap( entry.getValue() ) );
+                typeMap.put( entry.getKey(), Collections.unmodifiableSet( new HashSet<>( entry.getValue().keySet() ) ) );
+            }
+            this.constructors = Collections.unmodifiableMap( ctorMap );
+            this.typeMappings = Collections.unmodifiableMap( typeMap );
+        }
+
+        /**
+         * Resolves the default constructor of the given transformer class. A method handle is used where the class is
+         * accessible; otherwise, the reflective constructor is retained. If the class does not declare a public
+         * default constructor, the error will be reported each time an instance of the transformer is requested.
+         * 
+         * @param transformerClass the transformer class whose constructor is to be resolved
+         * @return TransformerConstructor
+         */
+        private static TransformerConstructor resolveConstructor(Class<?> transformerClass) {
+            TransformerConstructor result;
+
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().findConstructor( transformerClass,
+                    MethodType.methodType( void.class ) );
+
+                result = () -> invokeConstructor( handle );
+
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                result = resolveReflectiveConstructor( transformerClass );
+            }
+            return result;
+        }
+
+        /**
+         * Invokes the given constructor handle, wrapping any checked exception thrown by the constructor.
+         * 
+         * @param handle the method handle of the transformer constructor
+         * @return ObjectTransformer&lt;?,?,?&gt;
+         * @throws InvocationTargetException thrown if the constructor throws a checked exception
+         */
+        @SuppressWarnings("squid:S1181") // Errors and runtime exceptions are re-thrown
+        private static ObjectTransformer<?,?,?> invokeConstructor(MethodHandle handle)
+            throws InvocationTargetException {
+            try {
+                return (ObjectTransformer<?,?,?>) handle.invoke();
+
+            } catch (RuntimeException | Error e) {
+                throw e;
+
+            } catch (Throwable t) {
+                throw new InvocationTargetException( t );
+            }
+        }
+
+        /**
+         * Resolves the default constructor of the given transformer class using reflection.
+         * 
+         * @param transformerClass the transformer class whose constructor is to be resolved
+         * @return TransformerConstructor
+         */
+        private static TransformerConstructor resolveReflectiveConstructor(Class<?> transformerClass) {
+            TransformerConstructor result;
+
+            try {
+                Constructor<?> constructor = transformerClass.getConstructor();
+
+                result = () -> (ObjectTransformer<?,?,?>) constructor.newInstance();
+
+            } catch (NoSuchMethodException e) {
+                result = () -> {
+                    throw e;
+                };
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Registry of the dispatch tables that have been compiled for a single application context.
+     */
+    private static class DispatchTableRegistry {
+
+        private final ApplicationContext appContext;
+        private final ConcurrentMap<String,DispatchTable> tables = new ConcurrentHashMap<>();
+
+        /**
+         * Constructor that specifies the application context from which the factory beans are obtained.
+         * 
+         * @param appContext the application context for the registry
+         */
+        public DispatchTableRegistry(ApplicationContext appContext) {
+            this.appContext = appContext;
+        }
+
+    }
+
 }
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.util;
+
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventType;
+import org.opentravel.schemacompiler.event.OwnershipEvent;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the user-defined libraries in a <code>TLModel</code>, keyed by base namespace and library name. All versions
+ * of a library share the same key, so the index can be used to locate the members of a library's version chain without
+ * scanning every library in the model. The index is constructed the first time it is queried and is updated as
+ * libraries are added to or removed from the model, and as the name, namespace, or version scheme of a library is
+ * modified.
+ *
+ * <p>
+ * Like the <code>ModelReferenceIndex</code>, this index is maintained for all events published by the model, regardless
+ * of whether the model's listeners are currently enabled. Changes that bypass the event mechanism entirely must call
+ * the <code>invalidate()</code> method.
+ */
+public class LibraryVersionIndex {
+
+    private TLModel model;
+    private Map<String,Map<String,List<TLLibrary>>> versionIndex;
+    private Map<TLLibrary,IndexKey> libraryKeys;
+
+    /**
+     * Constructor that specifies the model to be indexed.
+     *
+     * @param model the model whose libraries are to be indexed
+     */
+    public LibraryVersionIndex(TLModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns all versions of the user-defined library with the specified base namespace and name. The libraries are
+     * returned in no particular order; an empty list is returned if no matching libraries exist.
+     *
+     * @param baseNamespace the base namespace of the library versions to return
+     * @param libraryName the name of the library versions to return
+     * @return List&lt;TLLibrary&gt;
+     */
+    public List<TLLibrary> getLibraryVersions(String baseNamespace, String libraryName) {
+        List<TLLibrary> versions = null;
+
+        if ((baseNamespace != null) && (libraryName != null)) {
+            buildIndex();
+            versions = versionIndex.getOrDefault( baseNamespace, Collections.emptyMap() ).get( libraryName );
+        }
+        return (versions == null) ? Collections.emptyList() : new ArrayList<>( versions );
+    }
+
+    /**
+     * Returns all versions of the given library (including the library itself) that are members of the indexed model.
+     *
+     * @param library the library for which to return all versions
+     * @return List&lt;TLLibrary&gt;
+     */
+    public List<TLLibrary> getLibraryVersions(TLLibrary library) {
+        return getLibraryVersions( library.getBaseNamespace(), library.getName() );
+    }
+
+    /**
+     * Updates the index to reflect the changes indicated by the given model event. If the index has not yet been
+     * constructed, this method takes no action.
+     *
+     * @param event the model event that was published
+     */
+    public void processModelEvent(ModelEvent<?> event) {
+        if (versionIndex == null) {
+            return;
+        }
+        ModelEventType eventType = event.getType();
+
+        if (((eventType == ModelEventType.LIBRARY_ADDED) || (eventType == ModelEventType.LIBRARY_REMOVED))
+            && (event instanceof OwnershipEvent)) {
+            Object affectedItem = ((OwnershipEvent<?,?>) event).getAffectedItem();
+
+            if (affectedItem instanceof TLLibrary) {
+                refreshLibrary( (TLLibrary) affectedItem );
+            }
+
+        } else if (((eventType == ModelEventType.NAME_MODIFIED) || (eventType == ModelEventType.NAMESPACE_MODIFIED)
+            || (eventType == ModelEventType.VERSION_SCHEME_MODIFIED)) && (event.getSource() instanceof TLLibrary)) {
+            refreshLibrary( (TLLibrary) event.getSource() );
+        }
+    }
+
+    /**
+     * Discards the current content of the index so that it will be reconstructed the next time it is queried.
+     */
+    public void invalidate() {
+        versionIndex = null;
+        libraryKeys = null;
+    }
+
+    /**
+     * Constructs the index from the user-defined libraries of the model if it has not already been constructed.
+     */
+    private void buildIndex() {
+        if (versionIndex == null) {
+            versionIndex = new HashMap<>();
+            libraryKeys = new IdentityHashMap<>();
+
+            for (TLLibrary library : model.getUserDefinedLibraries()) {
+                refreshLibrary( library );
+            }
+        }
+    }
+
+    /**
+     * Replaces the index entry for the given library using its current base namespace and name. If the library is no
+     * longer a member of the model, its entry is removed from the index.
+     *
+     * @param library the library to refresh
+     */
+    private void refreshLibrary(TLLibrary library) {
+        IndexKey oldKey = libraryKeys.remove( library );
+
+        if (oldKey != null) {
+            Map<String,List<TLLibrary>> nameIndex = versionIndex.get( oldKey.baseNamespace );
+            List<TLLibrary> versions = (nameIndex == null) ? null : nameIndex.get( oldKey.libraryName );
+
+            if (versions != null) {
+                versions.remove( library );
+
+                if (versions.isEmpty()) {
+                    nameIndex.remove( oldKey.libraryName );
+                }
+                if (nameIndex.isEmpty()) {
+                    versionIndex.remove( oldKey.baseNamespace );
+                }
+            }
+        }
+
+        if (library.getOwningModel() == model) {
+            String baseNamespace = library.getBaseNamespace();
+            String libraryName = library.getName();
+
+            if ((baseNamespace != null) && (libraryName != null)) {
+                versionIndex.computeIfAbsent( baseNamespace, ns -> new HashMap<>() )
+                    .computeIfAbsent( libraryName, n -> new ArrayList<>() ).add( library );
+                libraryKeys.put( library, new IndexKey( baseNamespace, libraryName ) );
+            }
+        }
+    }
+
+    /**
+     * The base namespace and name under which a library is currently indexed.
+     */
+    private static class IndexKey {
+
+        private String baseNamespace;
+        private String libraryName;
+
+        /**
+         * Constructor that assigns the base namespace and library name for the key.
+         *
+         * @param baseNamespace the base namespace of the library
+         * @param libraryName the name of the library
+         */
+        public IndexKey(String baseNamespace, String libraryName) {
+            this.baseNamespace = baseNamespace;
+            this.libraryName = libraryName;
+        }
+
+    }
+
+}
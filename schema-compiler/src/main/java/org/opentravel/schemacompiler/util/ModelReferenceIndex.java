@@ -0,0 +1,490 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.util;
+
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.OwnershipEvent;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.LibraryElement;
+import org.opentravel.schemacompiler.model.TLActionRequest;
+import org.opentravel.schemacompiler.model.TLActionResponse;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLContextualFacet;
+import org.opentravel.schemacompiler.model.TLExtension;
+import org.opentravel.schemacompiler.model.TLFacetOwner;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLParamGroup;
+import org.opentravel.schemacompiler.model.TLParameter;
+import org.opentravel.schemacompiler.model.TLProperty;
+import org.opentravel.schemacompiler.model.TLResource;
+import org.opentravel.schemacompiler.model.TLResourceParentRef;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.opentravel.schemacompiler.model.TLSimpleFacet;
+import org.opentravel.schemacompiler.model.TLValueWithAttributes;
+import org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter;
+import org.opentravel.schemacompiler.visitor.ModelNavigator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reverse-reference index that identifies the model elements that refer to each entity, member field, or parameter
+ * group of a <code>TLModel</code>. The index is constructed with a single navigation of the model the first time it is
+ * queried. After that, it is updated incrementally as each event is published by the model, so that queries only
+ * touch the referring elements instead of the entire model.
+ *
+ * <p>
+ * The index is maintained for all events published by the model, regardless of whether the model's listeners are
+ * currently enabled. Changes that bypass the event mechanism entirely (such as <code>TLModel.clearModel()</code>)
+ * must call the <code>invalidate()</code> method so that the index will be reconstructed on the next query.
+ *
+ * <p>
+ * Transient elements that are not members of their owners (such as the ghost facets that are created during code
+ * generation) are never added to the index, even if they publish events to the model.
+ */
+public class ModelReferenceIndex {
+
+    private TLModel model;
+    private Map<LibraryElement,List<LibraryElement>> referrerIndex;
+    private Map<LibraryElement,Set<LibraryElement>> referenceIndex;
+
+    /**
+     * Constructor that specifies the model to be indexed.
+     *
+     * @param model the model whose references are to be indexed
+     */
+    public ModelReferenceIndex(TLModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Returns the list of model elements that hold a direct reference to the given element.
+     *
+     * @param referencedElement the referenced element for which to return referrers
+     * @return List&lt;LibraryElement&gt;
+     */
+    public List<LibraryElement> getReferrers(LibraryElement referencedElement) {
+        return getReferrers( Collections.singletonList( referencedElement ) );
+    }
+
+    /**
+     * Returns the list of model elements that hold a direct reference to one or more of the given elements. Each
+     * referring element is included only once in the list that is returned.
+     *
+     * @param referencedElements the referenced elements for which to return referrers
+     * @return List&lt;LibraryElement&gt;
+     */
+    public List<LibraryElement> getReferrers(Collection<? extends LibraryElement> referencedElements) {
+        Set<LibraryElement> referrers = Collections.newSetFromMap( new IdentityHashMap<>() );
+        List<LibraryElement> referrerList = new ArrayList<>();
+
+        buildIndex();
+
+        for (LibraryElement referencedElement : referencedElements) {
+            for (LibraryElement referrer : referenceIndex.getOrDefault( referencedElement,
+                Collections.emptySet() )) {
+                if (referrers.add( referrer )) {
+                    referrerList.add( referrer );
+                }
+            }
+        }
+        return referrerList;
+    }
+
+    /**
+     * Returns the total number of references from entities defined in other libraries to entities defined in the given
+     * library.
+     *
+     * @param library the library for which to return the reference count
+     * @return int
+     */
+    public int getReferenceCount(AbstractLibrary library) {
+        int referenceCount = 0;
+
+        buildIndex();
+
+        for (Map.Entry<LibraryElement,Set<LibraryElement>> entry : referenceIndex.entrySet()) {
+            if (entry.getKey().getOwningLibrary() != library) {
+                continue;
+            }
+            for (LibraryElement referrer : entry.getValue()) {
+                if (!(referrer instanceof TLContextualFacet) && (referrer.getOwningLibrary() != library)) {
+                    referenceCount += countReferences( referrer, entry.getKey() );
+                }
+            }
+        }
+        return referenceCount;
+    }
+
+    /**
+     * Updates the index to reflect the changes indicated by the given model event. If the index has not yet been
+     * constructed, this method takes no action.
+     *
+     * @param event the model event that was published
+     */
+    public void processModelEvent(ModelEvent<?> event) {
+        if (referrerIndex == null) {
+            return;
+        }
+
+        if (event instanceof OwnershipEvent) {
+            Object affectedItem = ((OwnershipEvent<?,?>) event).getAffectedItem();
+
+            if (affectedItem instanceof AbstractLibrary) {
+                AbstractLibrary library = (AbstractLibrary) affectedItem;
+                boolean attached = (library.getOwningModel() == model);
+
+                ModelNavigator.navigate( library, new ReferrerVisitor( r -> refreshReferrer( r, attached ) ) );
+
+            } else if (affectedItem instanceof LibraryElement) {
+                LibraryElement element = (LibraryElement) affectedItem;
+                boolean attached = (element.getOwningModel() == model);
+
+                ModelNavigator.navigate( element, new ReferrerVisitor( r -> refreshReferrer( r, attached ) ) );
+            }
+
+        } else if (event.getSource() instanceof LibraryElement) {
+            LibraryElement element = (LibraryElement) event.getSource();
+
+            refreshReferrer( element, element.getOwningModel() == model );
+        }
+    }
+
+    /**
+     * Discards the current content of the index so that it will be reconstructed the next time it is queried.
+     */
+    public void invalidate() {
+        referrerIndex = null;
+        referenceIndex = null;
+    }
+
+    /**
+     * Constructs the index by navigating the entire model if it has not already been constructed.
+     */
+    private void buildIndex() {
+        if (referrerIndex == null) {
+            referrerIndex = new IdentityHashMap<>();
+            referenceIndex = new IdentityHashMap<>();
+            ModelNavigator.navigate( model, new ReferrerVisitor( r -> refreshReferrer( r, true ) ) );
+        }
+    }
+
+    /**
+     * Replaces the index entries for the given referrer with its current references. If the referrer is no longer
+     * attached to the model (or is not a member of its owner), its entries are removed from the index.
+     *
+     * @param referrer the referring element to refresh
+     * @param attached flag indicating whether the referrer is currently attached to the model
+     */
+    private void refreshReferrer(LibraryElement referrer, boolean attached) {
+        List<LibraryElement> oldReferences = referrerIndex.remove( referrer );
+
+        if (oldReferences != null) {
+            for (LibraryElement reference : oldReferences) {
+                Set<LibraryElement> referrers = referenceIndex.get( reference );
+
+                if (referrers != null) {
+                    referrers.remove( referrer );
+
+                    if (referrers.isEmpty()) {
+                        referenceIndex.remove( reference );
+                    }
+                }
+            }
+        }
+
+        if (attached && isOwnerMember( referrer )) {
+            List<LibraryElement> references = getReferences( referrer );
+
+            if (!references.isEmpty()) {
+                referrerIndex.put( referrer, references );
+
+                for (LibraryElement reference : references) {
+                    referenceIndex
+                        .computeIfAbsent( reference, r -> Collections.newSetFromMap( new IdentityHashMap<>() ) )
+                        .add( referrer );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns false if the given element is a contextual facet that is neither one of the facets of its owning entity
+     * nor a member of its owning library. Such facets are ghost facets that exist only for the purposes of code
+     * generation.
+     *
+     * @param element the model element to check
+     * @return boolean
+     */
+    private static boolean isOwnerMember(LibraryElement element) {
+        boolean isMember = true;
+
+        if (element instanceof TLContextualFacet) {
+            TLContextualFacet facet = (TLContextualFacet) element;
+            AbstractLibrary owningLibrary = facet.getOwningLibrary();
+            TLFacetOwner owningEntity = facet.getOwningEntity();
+
+            isMember = ((owningEntity != null) && containsElement( owningEntity.getAllFacets(), facet ))
+                || ((owningLibrary != null) && containsElement( owningLibrary.getNamedMembers(), facet ));
+        }
+        return isMember;
+    }
+
+    /**
+     * Returns true if the given list contains the specified element (using identity rather than equality).
+     *
+     * @param elements the list of elements to search
+     * @param element the element to find
+     * @return boolean
+     */
+    private static boolean containsElement(List<?> elements, Object element) {
+        boolean found = false;
+
+        for (Object listElement : elements) {
+            if (listElement == element) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of times the given referrer refers to the referenced element.
+     *
+     * @param referrer the referring element
+     * @param referencedElement the referenced element
+     * @return int
+     */
+    private int countReferences(LibraryElement referrer, LibraryElement referencedElement) {
+        int count = 0;
+
+        for (LibraryElement reference : referrerIndex.getOrDefault( referrer, Collections.emptyList() )) {
+            if (reference == referencedElement) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the list of elements that are directly referenced by the given model element.
+     *
+     * @param referrer the model element whose references are to be returned
+     * @return List&lt;LibraryElement&gt;
+     */
+    private static List<LibraryElement> getReferences(LibraryElement referrer) {
+        List<LibraryElement> references = new ArrayList<>( 2 );
+
+        if (referrer instanceof TLSimple) {
+            addReference( ((TLSimple) referrer).getParentType(), references );
+
+        } else if (referrer instanceof TLValueWithAttributes) {
+            addReference( ((TLValueWithAttributes) referrer).getParentType(), references );
+
+        } else if (referrer instanceof TLExtension) {
+            addReference( ((TLExtension) referrer).getExtendsEntity(), references );
+
+        } else if (referrer instanceof TLSimpleFacet) {
+            addReference( ((TLSimpleFacet) referrer).getSimpleType(), references );
+
+        } else if (referrer instanceof TLContextualFacet) {
+            addReference( ((TLContextualFacet) referrer).getOwningEntity(), references );
+
+        } else if (referrer instanceof TLAttribute) {
+            addReference( ((TLAttribute) referrer).getType(), references );
+
+        } else if (referrer instanceof TLProperty) {
+            addReference( ((TLProperty) referrer).getType(), references );
+
+        } else if (referrer instanceof TLResource) {
+            addReference( ((TLResource) referrer).getBusinessObjectRef(), references );
+
+        } else if (referrer instanceof TLResourceParentRef) {
+            addReference( ((TLResourceParentRef) referrer).getParentResource(), references );
+            addReference( ((TLResourceParentRef) referrer).getParentParamGroup(), references );
+
+        } else if (referrer instanceof TLParamGroup) {
+            addReference( ((TLParamGroup) referrer).getFacetRef(), references );
+
+        } else if (referrer instanceof TLParameter) {
+            addReference( ((TLParameter) referrer).getFieldRef(), references );
+
+        } else if (referrer instanceof TLActionRequest) {
+            addReference( ((TLActionRequest) referrer).getParamGroup(), references );
+            addReference( ((TLActionRequest) referrer).getPayloadType(), references );
+
+        } else if (referrer instanceof TLActionResponse) {
+            addReference( ((TLActionResponse) referrer).getPayloadType(), references );
+        }
+        return references;
+    }
+
+    /**
+     * Adds the given reference to the list provided if it is non-null.
+     *
+     * @param reference the referenced element to add
+     * @param references the list of references being constructed
+     */
+    private static void addReference(LibraryElement reference, List<LibraryElement> references) {
+        if (reference != null) {
+            references.add( reference );
+        }
+    }
+
+    /**
+     * Visitor that passes each model element that is capable of referring to another element to a consumer.
+     */
+    private static class ReferrerVisitor extends ModelElementVisitorAdapter {
+
+        private Consumer<LibraryElement> referrerConsumer;
+
+        /**
+         * Constructor that specifies the consumer of each referring element that is encountered.
+         *
+         * @param referrerConsumer the consumer of referring elements
+         */
+        public ReferrerVisitor(Consumer<LibraryElement> referrerConsumer) {
+            this.referrerConsumer = referrerConsumer;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitSimple(org.opentravel.schemacompiler.model.TLSimple)
+         */
+        @Override
+        public boolean visitSimple(TLSimple simple) {
+            referrerConsumer.accept( simple );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitValueWithAttributes(org.opentravel.schemacompiler.model.TLValueWithAttributes)
+         */
+        @Override
+        public boolean visitValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
+            referrerConsumer.accept( valueWithAttributes );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitExtension(org.opentravel.schemacompiler.model.TLExtension)
+         */
+        @Override
+        public boolean visitExtension(TLExtension extension) {
+            referrerConsumer.accept( extension );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitSimpleFacet(org.opentravel.schemacompiler.model.TLSimpleFacet)
+         */
+        @Override
+        public boolean visitSimpleFacet(TLSimpleFacet simpleFacet) {
+            referrerConsumer.accept( simpleFacet );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitContextualFacet(org.opentravel.schemacompiler.model.TLContextualFacet)
+         */
+        @Override
+        public boolean visitContextualFacet(TLContextualFacet facet) {
+            referrerConsumer.accept( facet );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitAttribute(org.opentravel.schemacompiler.model.TLAttribute)
+         */
+        @Override
+        public boolean visitAttribute(TLAttribute attribute) {
+            referrerConsumer.accept( attribute );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitElement(org.opentravel.schemacompiler.model.TLProperty)
+         */
+        @Override
+        public boolean visitElement(TLProperty element) {
+            referrerConsumer.accept( element );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitResource(org.opentravel.schemacompiler.model.TLResource)
+         */
+        @Override
+        public boolean visitResource(TLResource resource) {
+            referrerConsumer.accept( resource );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitResourceParentRef(org.opentravel.schemacompiler.model.TLResourceParentRef)
+         */
+        @Override
+        public boolean visitResourceParentRef(TLResourceParentRef parentRef) {
+            referrerConsumer.accept( parentRef );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitParamGroup(org.opentravel.schemacompiler.model.TLParamGroup)
+         */
+        @Override
+        public boolean visitParamGroup(TLParamGroup paramGroup) {
+            referrerConsumer.accept( paramGroup );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitParameter(org.opentravel.schemacompiler.model.TLParameter)
+         */
+        @Override
+        public boolean visitParameter(TLParameter parameter) {
+            referrerConsumer.accept( parameter );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitActionRequest(org.opentravel.schemacompiler.model.TLActionRequest)
+         */
+        @Override
+        public boolean visitActionRequest(TLActionRequest actionRequest) {
+            referrerConsumer.accept( actionRequest );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitActionResponse(org.opentravel.schemacompiler.model.TLActionResponse)
+         */
+        @Override
+        public boolean visitActionResponse(TLActionResponse actionResponse) {
+            referrerConsumer.accept( actionResponse );
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.validate.compile;
+
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLModelElement;
+import org.opentravel.schemacompiler.validate.Validatable;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.validate.ValidatorFactory;
+import org.opentravel.schemacompiler.validate.impl.TLModelValidator;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of compile-time validation results for the elements of a single model during a compilation run. Results are
+ * keyed by the identity of each model element and remain valid only as long as the modification count of the owning
+ * model is unchanged; if the model is modified, all cached results are discarded.
+ *
+ * <p>
+ * Entities are validated serially because validation is not free of side-effects (e.g. the creation of ghost facets
+ * can modify the model and its listeners), and the validation context of a <code>ValidatorFactory</code> is not
+ * thread-safe.
+ */
+public class CompileValidationCache {
+
+    private final Map<Validatable,ValidationFindings> entityFindings = new IdentityHashMap<>();
+    private final Map<TLModelElement,ValidationFindings> elementFindings = new IdentityHashMap<>();
+    private TLModel model;
+    private long modificationCount;
+    private ValidatorFactory validatorFactory;
+
+    /**
+     * Returns the validation findings for the given model element and all of its dependencies. After the first call for
+     * a given element, subsequent calls return the cached findings until the owning model is modified.
+     *
+     * @param modelElement the model element to validate
+     * @return ValidationFindings
+     */
+    public synchronized ValidationFindings getFindings(TLModelElement modelElement) {
+        checkModel( modelElement.getOwningModel() );
+        ValidationFindings findings = elementFindings.get( modelElement );
+
+        if (findings == null) {
+            if (modelElement instanceof NamedEntity) {
+                List<Validatable> closure = TLModelCompileValidator.getValidationClosure( (NamedEntity) modelElement );
+
+                validateEntities( closure );
+                findings = new ValidationFindings();
+
+                for (Validatable entity : closure) {
+                    findings.addAll( entityFindings.get( entity ) );
+                }
+
+            } else {
+                findings =
+                    TLModelValidator.validateModelElement( modelElement, ValidatorFactory.COMPILE_RULE_SET_ID );
+            }
+            elementFindings.put( modelElement, findings );
+        }
+        return findings;
+    }
+
+    /**
+     * Returns the number of individual entities whose validation findings are currently cached.
+     *
+     * @return int
+     */
+    public synchronized int getCachedEntityCount() {
+        return entityFindings.size();
+    }
+
+    /**
+     * Validates each of the given entities whose findings are not already cached.
+     *
+     * @param entities the list of entities to validate
+     */
+    private void validateEntities(List<Validatable> entities) {
+        for (Validatable entity : entities) {
+            if (!entityFindings.containsKey( entity )) {
+                entityFindings.put( entity, TLModelCompileValidator.validateEntity( entity, validatorFactory ) );
+            }
+        }
+    }
+
+    /**
+     * Discards all cached results and releases the validator factory so that the cache no longer holds a reference to
+     * the model that was last validated.
+     */
+    public synchronized void clear() {
+        entityFindings.clear();
+        elementFindings.clear();
+        model = null;
+        modificationCount = 0L;
+        validatorFactory = null;
+    }
+
+    /**
+     * Discards all cached results if the given model is not the one for which results are currently cached, or if it
+     * has been modified since the results were cached.
+     *
+     * @param currentModel the model that owns the element to be validated
+     */
+    private void checkModel(TLModel currentModel) {
+        long currentCount = (currentModel == null) ? 0L : currentModel.getModificationCount();
+
+        if ((validatorFactory == null) || (currentModel != model) || (currentCount != modificationCount)) {
+            clear();
+            model = currentModel;
+            modificationCount = currentCount;
+            validatorFactory = TLModelCompileValidator.newValidatorFactory( currentModel );
+        }
+    }
+
+}
@@ -51,6 +51,12 @@ import org.opentravel.schemacompiler.validate.impl.TLModelValidator;
 import org.opentravel.schemacompiler.visitor.DependencyNavigator;
 import org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Static utility methods used for the validation of <code>TLModel</code> elements prior to compilation / code
  * generation.
@@ -104,10 +110,38 @@ public class TLModelCompileValidator {
         ValidationFindings findings;
 
         if (validateDependencies && (modelElement instanceof NamedEntity)) {
-            ValidationDependencyVisitor visitor = new ValidationDependencyVisitor( modelElement.getOwningModel() );
+            findings = validateModelElement( modelElement, (CompileValidationCache) null );
 
-            DependencyNavigator.navigate( (NamedEntity) modelElement, visitor );
-            findings = visitor.getFindings();
+        } else {
+            findings = TLModelValidator.validateModelElement( modelElement, ValidatorFactory.COMPILE_RULE_SET_ID );
+        }
+        return findings;
+    }
+
+    /**
+     * Utility method that validates the given model element and all of its dependencies using the cache provided. The
+     * findings for the element and each of its dependencies are retained by the cache, so that dependencies shared by
+     * multiple model elements are only validated once during a compilation run.
+     * 
+     * @param modelElement the model element to validate
+     * @param validationCache the validation cache for the current compilation run (may be null)
+     * @return TLModelElement
+     */
+    public static ValidationFindings validateModelElement(TLModelElement modelElement,
+        CompileValidationCache validationCache) {
+        ValidationFindings findings;
+
+        if (validationCache != null) {
+            findings = validationCache.getFindings( modelElement );
+
+        } else if (modelElement instanceof NamedEntity) {
+            ValidatorFactory factory = newValidatorFactory( modelElement.getOwningModel() );
+
+            findings = new ValidationFindings();
+
+            for (Validatable entity : getValidationClosure( (NamedEntity) modelElement )) {
+                findings.addAll( validateEntity( entity, factory ) );
+            }
 
         } else {
             findings = TLModelValidator.validateModelElement( modelElement, ValidatorFactory.COMPILE_RULE_SET_ID );
@@ -116,51 +150,76 @@ public class TLModelCompileValidator {
     }
 
     /**
-     * Visitor that performs validation checks for the assigned model element and all of its dependencies to determine
+     * Returns the given entity and all of its dependencies that are members of user-defined libraries. Each entity is
+     * included only once, in the order it was discovered.
+     * 
+     * @param entity the entity for which to return the validation closure
+     * @return List&lt;Validatable&gt;
+     */
+    static List<Validatable> getValidationClosure(NamedEntity entity) {
+        ValidationDependencyVisitor visitor = new ValidationDependencyVisitor();
+
+        DependencyNavigator.navigate( entity, visitor );
+        return visitor.getClosure();
+    }
+
+    /**
+     * Creates a new validator factory for the compile-time rule set of the given model.
+     * 
+     * @param model the model whose elements are to be validated
+     * @return ValidatorFactory
+     */
+    static ValidatorFactory newValidatorFactory(TLModel model) {
+        return ValidatorFactory.getInstance( ValidatorFactory.COMPILE_RULE_SET_ID,
+            new TLModelValidationContext( model ) );
+    }
+
+    /**
+     * Validates the given entity (without its dependencies) using the factory provided.
+     * 
+     * @param entity the entity to validate
+     * @param factory the factory that will supply the validator for the entity
+     * @return ValidationFindings
+     */
+    static ValidationFindings validateEntity(Validatable entity, ValidatorFactory factory) {
+        Validator<Validatable> validator = factory.getValidatorForTarget( entity );
+        ValidationFindings findings = (validator == null) ? null : validator.validate( entity );
+
+        return (findings == null) ? new ValidationFindings() : findings;
+    }
+
+    /**
+     * Visitor that collects the assigned model element and all of its dependencies that must be validated to determine
      * whether any errors exist prior to producing EXAMPLE output.
      * 
      * @author S. Livezey
      */
     private static class ValidationDependencyVisitor extends ModelElementVisitorAdapter {
 
-        private ValidatorFactory factory;
-        private ValidationFindings findings = new ValidationFindings();
-
-        /**
-         * Constructor that provides a reference to the model that owns all elements to be validated.
-         * 
-         * @param model the model instance to be validated
-         */
-        public ValidationDependencyVisitor(TLModel model) {
-            factory = ValidatorFactory.getInstance( ValidatorFactory.COMPILE_RULE_SET_ID,
-                new TLModelValidationContext( model ) );
-        }
+        private Set<Validatable> visitedEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+        private List<Validatable> closure = new ArrayList<>();
 
         /**
-         * Returns the validation findings that were discovered during dependency navigation.
+         * Returns the entities that were discovered during dependency navigation.
          * 
-         * @return ValidationFindings
+         * @return List&lt;Validatable&gt;
          */
-        public ValidationFindings getFindings() {
-            return findings;
+        public List<Validatable> getClosure() {
+            return closure;
         }
 
         /**
-         * Validates the entity and reports any validation findings that are discovered.
+         * Adds the entity to the validation closure if it is a member of a user-defined library.
          * 
          * @param entity the model element to be validated
          */
-        private void validateEntity(Validatable entity) {
+        private void addEntity(Validatable entity) {
             if (entity instanceof LibraryElement) {
                 LibraryElement libElement = (LibraryElement) entity;
 
                 // Only validate members of user-defined libraries
-                if (libElement.getOwningLibrary() instanceof TLLibrary) {
-                    Validator<Validatable> validator = factory.getValidatorForTarget( entity );
-
-                    if (validator != null) {
-                        findings.addAll( validator.validate( entity ) );
-                    }
+                if ((libElement.getOwningLibrary() instanceof TLLibrary) && visitedEntities.add( entity )) {
+                    closure.add( entity );
                 }
             }
         }
@@ -170,7 +229,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitSimple(TLSimple simple) {
-            validateEntity( simple );
+            addEntity( simple );
             return true;
         }
 
@@ -179,7 +238,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
-            validateEntity( valueWithAttributes );
+            addEntity( valueWithAttributes );
             return true;
         }
 
@@ -188,7 +247,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitClosedEnumeration(TLClosedEnumeration enumeration) {
-            validateEntity( enumeration );
+            addEntity( enumeration );
             return true;
         }
 
@@ -197,7 +256,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitCoreObject(TLCoreObject coreObject) {
-            validateEntity( coreObject );
+            addEntity( coreObject );
             return true;
         }
 
@@ -206,7 +265,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitBusinessObject(TLBusinessObject businessObject) {
-            validateEntity( businessObject );
+            addEntity( businessObject );
             return true;
         }
 
@@ -215,7 +274,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitService(TLService service) {
-            validateEntity( service );
+            addEntity( service );
             return true;
         }
 
@@ -224,7 +283,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitOperation(TLOperation operation) {
-            validateEntity( operation );
+            addEntity( operation );
             return true;
         }
 
@@ -233,7 +292,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitExtensionPointFacet(TLExtensionPointFacet extensionPointFacet) {
-            validateEntity( extensionPointFacet );
+            addEntity( extensionPointFacet );
             return true;
         }
 
@@ -242,7 +301,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitFacet(TLFacet facet) {
-            validateEntity( facet );
+            addEntity( facet );
             return true;
         }
 
@@ -251,7 +310,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitSimpleFacet(TLSimpleFacet simpleFacet) {
-            validateEntity( simpleFacet );
+            addEntity( simpleFacet );
             return true;
         }
 
@@ -260,7 +319,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitListFacet(TLListFacet listFacet) {
-            validateEntity( listFacet );
+            addEntity( listFacet );
             return true;
         }
 
@@ -269,7 +328,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitAlias(TLAlias alias) {
-            validateEntity( alias );
+            addEntity( alias );
             return true;
         }
 
@@ -278,7 +337,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitChoiceObject(TLChoiceObject choiceObject) {
-            validateEntity( choiceObject );
+            addEntity( choiceObject );
             return true;
         }
 
@@ -287,7 +346,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitResource(TLResource resource) {
-            validateEntity( resource );
+            addEntity( resource );
             return true;
         }
 
@@ -296,7 +355,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitResourceParentRef(TLResourceParentRef parentRef) {
-            validateEntity( parentRef );
+            addEntity( parentRef );
             return true;
         }
 
@@ -305,7 +364,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitParamGroup(TLParamGroup paramGroup) {
-            validateEntity( paramGroup );
+            addEntity( paramGroup );
             return true;
         }
 
@@ -314,7 +373,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitParameter(TLParameter parameter) {
-            validateEntity( parameter );
+            addEntity( parameter );
             return true;
         }
 
@@ -323,7 +382,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitAction(TLAction action) {
-            validateEntity( action );
+            addEntity( action );
             return true;
         }
 
@@ -332,7 +391,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitActionRequest(TLActionRequest actionRequest) {
-            validateEntity( actionRequest );
+            addEntity( actionRequest );
             return true;
         }
 
@@ -341,7 +400,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitActionResponse(TLActionResponse actionResponse) {
-            validateEntity( actionResponse );
+            addEntity( actionResponse );
             return true;
         }
 
@@ -350,7 +409,7 @@ public class TLModelCompileValidator {
          */
         @Override
         public boolean visitActionFacet(TLActionFacet facet) {
-            validateEntity( facet );
+            addEntity( facet );
             return true;
         }
 
@@ -62,7 +62,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base class for version helpers used to retrieve related versions of a library or entity from a model or to create new
@@ -75,6 +78,7 @@ public abstract class AbstractVersionHelper {
     private static final String NO_OWNING_MODEL = "The given library is not associated with an owning model instance: ";
 
     private VersionHandlerFactory handlerFactory = new VersionHandlerFactory();
+    private Map<Repository,Map<String,List<RepositoryItem>>> repositoryListings = new IdentityHashMap<>();
     private Project activeProject;
 
     /**
@@ -111,10 +115,11 @@ public abstract class AbstractVersionHelper {
         if (library.getOwningModel() == null) {
             throw new IllegalStateException( NO_OWNING_MODEL + library.getLibraryUrl().toExternalForm() );
         }
+        List<TLLibrary> libraryVersions = getLibraryVersions( library );
 
         // Find all prior patch versions
         while (versionScheme.isPatchVersion( currentVersionNS )) {
-            TLLibrary currentVersionLib = findLibrary( currentVersionNS, library.getName(), library.getOwningModel() );
+            TLLibrary currentVersionLib = findLibrary( currentVersionNS, libraryVersions );
             String currentVersion = versionScheme.getVersionIdentifier( currentVersionNS );
 
             if (currentVersionLib != null) {
@@ -126,7 +131,7 @@ public abstract class AbstractVersionHelper {
 
         // Find all prior minor versions
         while (!versionScheme.isMajorVersion( currentVersionNS )) {
-            TLLibrary currentVersionLib = findLibrary( currentVersionNS, library.getName(), library.getOwningModel() );
+            TLLibrary currentVersionLib = findLibrary( currentVersionNS, libraryVersions );
             String currentVersion = versionScheme.getVersionIdentifier( currentVersionNS );
 
             if (currentVersionLib != null) {
@@ -137,7 +142,7 @@ public abstract class AbstractVersionHelper {
         }
 
         // Add the major version to the end of the chain
-        TLLibrary majorVersionLib = findLibrary( currentVersionNS, library.getName(), library.getOwningModel() );
+        TLLibrary majorVersionLib = findLibrary( currentVersionNS, libraryVersions );
 
         if (majorVersionLib != null) {
             versionChain.add( majorVersionLib );
@@ -170,16 +175,33 @@ public abstract class AbstractVersionHelper {
     }
 
     /**
-     * Returns the library from the model with the specified name and namespace, or null if no such library exists.
+     * Returns the library version with the specified namespace, or null if no such library exists.
      * 
      * @param namespace the namespace of the library to retrieve
-     * @param libraryName the name of the library to retrieve
-     * @param model the model from which to retrieve the library
+     * @param libraryVersions the versions of the library to search
      * @return TLLibrary
      */
-    private TLLibrary findLibrary(String namespace, String libraryName, TLModel model) {
-        AbstractLibrary library = model.getLibrary( namespace, libraryName );
-        return (library instanceof TLLibrary) ? (TLLibrary) library : null;
+    private TLLibrary findLibrary(String namespace, List<TLLibrary> libraryVersions) {
+        TLLibrary library = null;
+
+        for (TLLibrary libraryVersion : libraryVersions) {
+            if (namespace.equals( libraryVersion.getNamespace() )) {
+                library = libraryVersion;
+                break;
+            }
+        }
+        return library;
+    }
+
+    /**
+     * Returns all versions of the given library from its owning model, including the library itself. The versions are
+     * obtained from the model's version index, so the other libraries of the model are not scanned.
+     * 
+     * @param library the library for which to return all versions
+     * @return List&lt;TLLibrary&gt;
+     */
+    List<TLLibrary> getLibraryVersions(TLLibrary library) {
+        return library.getOwningModel().getVersionIndex().getLibraryVersions( library );
     }
 
     /**
@@ -211,7 +233,7 @@ public abstract class AbstractVersionHelper {
         if (library.getNamespace() != null) {
             VersionScheme versionScheme = getVersionScheme( library );
 
-            for (TLLibrary lib : library.getOwningModel().getUserDefinedLibraries()) {
+            for (TLLibrary lib : getLibraryVersions( library )) {
                 if ((lib == library) || !isVersionCandidateMatch( lib, library )
                     || versionScheme.isPatchVersion( lib.getNamespace() )) {
                     continue;
@@ -254,7 +276,7 @@ public abstract class AbstractVersionHelper {
             minorVersionNS = library.getNamespace();
         }
 
-        for (TLLibrary lib : library.getOwningModel().getUserDefinedLibraries()) {
+        for (TLLibrary lib : getLibraryVersions( library )) {
             if ((lib == library) || !isVersionCandidateMatch( lib, library )
                 || !versionScheme.isPatchVersion( lib.getNamespace() )) {
                 continue;
@@ -477,7 +499,7 @@ public abstract class AbstractVersionHelper {
                 if (baseNamespace == null) {
                     continue;
                 }
-                for (RepositoryItem item : repository.listItems( baseNamespace, TLLibraryStatus.DRAFT, false )) {
+                for (RepositoryItem item : listRepositoryItems( repository, baseNamespace )) {
                     String itemKey = getRepositoryItemKey( item );
 
                     if (!itemKeys.contains( itemKey ) && item.getBaseNamespace().equals( baseNamespace )) {
@@ -492,6 +514,37 @@ public abstract class AbstractVersionHelper {
         return newVersions;
     }
 
+    /**
+     * Returns the list of draft and later items that are assigned to the given base namespace in the repository. The
+     * listing for each repository and base namespace is only retrieved once during a versioning operation, since the
+     * same namespace is often searched for both minor and patch versions.
+     * 
+     * @param repository the repository to search
+     * @param baseNamespace the base namespace of the items to return
+     * @return List&lt;RepositoryItem&gt;
+     * @throws RepositoryException thrown if an error occurs while accessing the repository
+     */
+    private List<RepositoryItem> listRepositoryItems(Repository repository, String baseNamespace)
+        throws RepositoryException {
+        Map<String,List<RepositoryItem>> namespaceListings =
+            repositoryListings.computeIfAbsent( repository, r -> new HashMap<>() );
+        List<RepositoryItem> items = namespaceListings.get( baseNamespace );
+
+        if (items == null) {
+            items = repository.listItems( baseNamespace, TLLibraryStatus.DRAFT, false );
+            namespaceListings.put( baseNamespace, items );
+        }
+        return items;
+    }
+
+    /**
+     * Discards the repository listings that were retrieved during the current versioning operation. This method must be
+     * called at the end of each operation so that later operations will observe changes to the repository contents.
+     */
+    void clearRepositoryListings() {
+        repositoryListings.clear();
+    }
+
     /**
      * Adds the given repository item to the list of new versions if it represents a prior version library that has not
      * yet been loaded to the active project.
@@ -103,7 +103,7 @@ public final class MajorVersionHelper extends AbstractVersionHelper {
                 String majorVersionNS =
                     versionChain.isEmpty() ? library.getNamespace() : versionChain.get( versionChain.size() - 1 );
 
-                for (TLLibrary lib : library.getOwningModel().getUserDefinedLibraries()) {
+                for (TLLibrary lib : getLibraryVersions( library )) {
                     if ((lib != library) && isVersionCandidateMatch( lib, library )
                         && majorVersionNS.equals( lib.getNamespace() )) {
                         majorVersion = lib;
@@ -238,6 +238,7 @@ public final class MajorVersionHelper extends AbstractVersionHelper {
 
         } finally {
             removeImportedVersions( importedVersions );
+            clearRepositoryListings();
         }
     }
 
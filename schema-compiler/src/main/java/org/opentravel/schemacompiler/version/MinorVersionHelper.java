@@ -141,7 +141,7 @@ public final class MinorVersionHelper extends AbstractVersionHelper {
             }
 
             // Search the model for a matching library
-            for (TLLibrary lib : library.getOwningModel().getUserDefinedLibraries()) {
+            for (TLLibrary lib : getLibraryVersions( library )) {
                 if ((lib != library) && isVersionCandidateMatch( lib, library )
                     && baseNamespace.equals( lib.getBaseNamespace() ) && priorMinorVersion.equals( lib.getVersion() )) {
                     priorVersion = lib;
@@ -423,6 +423,7 @@ public final class MinorVersionHelper extends AbstractVersionHelper {
 
         } finally {
             removeImportedVersions( importedVersions );
+            clearRepositoryListings();
         }
     }
 
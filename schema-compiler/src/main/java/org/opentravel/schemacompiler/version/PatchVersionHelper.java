@@ -257,6 +257,7 @@ public final class PatchVersionHelper extends AbstractVersionHelper {
 
         } finally {
             removeImportedVersions( importedVersions );
+            clearRepositoryListings();
         }
     }
 
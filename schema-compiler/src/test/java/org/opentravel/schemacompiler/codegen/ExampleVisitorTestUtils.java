@@ -0,0 +1,57 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen;
+
+import org.opentravel.schemacompiler.codegen.example.ExampleVisitor;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shared utility methods for tests that verify the sequence of events delivered to an <code>ExampleVisitor</code>.
+ */
+public class ExampleVisitorTestUtils {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ExampleVisitorTestUtils() {}
+
+    /**
+     * Returns a visitor that adds a description of each event it receives to the list provided.
+     *
+     * @param eventLog the list to which event descriptions will be added
+     * @return ExampleVisitor
+     */
+    public static ExampleVisitor newLoggingVisitor(List<String> eventLog) {
+        return (ExampleVisitor) Proxy.newProxyInstance( ExampleVisitor.class.getClassLoader(),
+            new Class<?>[] {ExampleVisitor.class}, (proxy, method, args) -> {
+                if (method.getName().equals( "getBoundNamespaces" )) {
+                    return Collections.emptyList();
+                }
+                StringBuilder event = new StringBuilder( method.getName() );
+
+                for (Object arg : args) {
+                    event.append( ':' ).append( System.identityHashCode( arg ) );
+                }
+                eventLog.add( event.toString() );
+                return null;
+            } );
+    }
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.opentravel.schemacompiler.codegen.ExampleVisitorTestUtils.newLoggingVisitor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opentravel.schemacompiler.codegen.example.ExampleGenerationCache;
+import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions;
+import org.opentravel.schemacompiler.codegen.example.ExampleNavigator;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.transform.AbstractTestTransformers;
+import org.opentravel.schemacompiler.validate.FindingType;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.validate.compile.TLModelCompileValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Verifies that the validation and navigation results shared by the <code>ExampleGenerationCache</code> match the
+ * results produced without the cache.
+ */
+public class TestExampleGenerationCache extends AbstractTestTransformers {
+
+    private TLBusinessObject exampleBusinessObject;
+    private ExampleGenerationCache generationCache;
+
+    @Before
+    public void setUp() throws Exception {
+        exampleBusinessObject = getBusinessObject( PACKAGE_2_NAMESPACE, "library_3_p2", "ExampleBusinessObject" );
+        generationCache = new ExampleGenerationCache();
+    }
+
+    @Test
+    public void testCachedValidationFindings() throws Exception {
+        ValidationFindings expectedFindings = TLModelCompileValidator.validateModelElement( exampleBusinessObject );
+        ValidationFindings cachedFindings = generationCache.getValidationFindings( exampleBusinessObject );
+
+        assertEquals( expectedFindings.count( FindingType.ERROR ), cachedFindings.count( FindingType.ERROR ) );
+        assertEquals( expectedFindings.count( FindingType.WARNING ), cachedFindings.count( FindingType.WARNING ) );
+        assertSame( cachedFindings, generationCache.getValidationFindings( exampleBusinessObject ) );
+    }
+
+    @Test
+    public void testSharedNavigation() throws Exception {
+        ExampleGeneratorOptions options = new ExampleGeneratorOptions();
+        List<String> expectedEvents = new ArrayList<>();
+        List<String> xmlEvents = new ArrayList<>();
+        List<String> jsonEvents = new ArrayList<>();
+
+        ExampleNavigator.navigate( exampleBusinessObject, newLoggingVisitor( expectedEvents ), options, false );
+        generationCache.navigate( exampleBusinessObject, newLoggingVisitor( xmlEvents ), options, false );
+        generationCache.navigate( exampleBusinessObject, newLoggingVisitor( jsonEvents ),
+            new ExampleGeneratorOptions(), false );
+
+        assertFalse( expectedEvents.isEmpty() );
+        assertEquals( expectedEvents, xmlEvents );
+        assertEquals( expectedEvents, jsonEvents );
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opentravel.schemacompiler.codegen.ExampleVisitorTestUtils.newLoggingVisitor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions;
+import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions.DetailLevel;
+import org.opentravel.schemacompiler.codegen.example.ExampleNavigator;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.transform.AbstractTestTransformers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Verifies that the subtree memoization performed by the <code>ExampleNavigator</code> produces the same sequence of
+ * visitor events as a full navigation of the model.
+ */
+public class TestExampleNavigator extends AbstractTestTransformers {
+
+    private TLBusinessObject exampleBusinessObject;
+    private ExampleGeneratorOptions options;
+
+    @Before
+    public void setUp() throws Exception {
+        exampleBusinessObject = getBusinessObject( PACKAGE_2_NAMESPACE, "library_3_p2", "ExampleBusinessObject" );
+        options = new ExampleGeneratorOptions();
+        options.setDetailLevel( DetailLevel.MAXIMUM );
+        options.setMaxRepeat( 3 );
+        options.setMaxRecursionDepth( 2 );
+    }
+
+    @Test
+    public void testReplayedSubtreeMatchesNavigation() throws Exception {
+        List<String> expectedEvents = new ArrayList<>();
+        List<String> actualEvents = new ArrayList<>();
+
+        // Navigate once with a new navigator to capture the events of a full navigation
+        new ExampleNavigator( newLoggingVisitor( expectedEvents ), options, exampleBusinessObject.getOwningModel(),
+            false ).navigateEntity( exampleBusinessObject );
+
+        // Navigate twice with the same navigator; the second pass is replayed from the memoized subtree
+        ExampleNavigator navigator = new ExampleNavigator( newLoggingVisitor( actualEvents ), options,
+            exampleBusinessObject.getOwningModel(), false );
+
+        navigator.navigateEntity( exampleBusinessObject );
+        assertEquals( expectedEvents, actualEvents );
+        int initialReplayCount = navigator.getReplayCount();
+
+        actualEvents.clear();
+        navigator.navigateEntity( exampleBusinessObject );
+        assertEquals( expectedEvents, actualEvents );
+        assertFalse( expectedEvents.isEmpty() );
+        assertTrue( navigator.getReplayCount() > initialReplayCount );
+    }
+
+}
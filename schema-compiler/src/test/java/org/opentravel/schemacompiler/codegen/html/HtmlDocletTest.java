@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.codegen.html;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
@@ -23,6 +24,11 @@ import org.junit.Test;
 import org.opentravel.schemacompiler.codegen.html.writers.AbstractWriterTest;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * @author Eric.Bronson
@@ -74,4 +80,35 @@ public class HtmlDocletTest extends AbstractWriterTest {
         doclet.generateLibraryFiles( config.getModel() );
     }
 
+    @Test
+    public void testConcurrentGeneration() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            List<File> outputFolders = new ArrayList<>();
+
+            for (int i = 0; i < 2; i++) {
+                File outputFolder = new File( DEST_DIR, "concurrent" + i );
+                Configuration runConfig = new Configuration();
+
+                runConfig.setDestDirName( outputFolder + File.separator );
+                runConfig.setWindowtitle( "TestProject" );
+                runConfig.setDoctitle( "TestProject.otp" );
+                runConfig.setWorkerCount( 2 );
+                runConfig.setModel( TestLibraryProvider.loadModel() ); // generation modifies the model
+                outputFolders.add( outputFolder );
+                results.add( executor.submit( () -> HtmlDoclet.start( runConfig, runConfig.getModel() ) ) );
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue( result.get() );
+            }
+            assertEquals( outputFolders.get( 0 ).list().length, outputFolders.get( 1 ).list().length );
+            assertTrue( Configuration.getInstance() == config );
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 }
@@ -53,21 +53,29 @@ public class TestLibraryProvider {
     public static synchronized TLLibrary getLibrary() throws Exception {
 
         if (library == null) {
-            URL url =
-                TestLibraryProvider.class.getResource( "/libraries_1_5/test-package_v2/" + LIBRARY_NAME + ".xml" );
-            LibraryInputSource<InputStream> libraryInput = new LibraryStreamInputSource( new File( url.getFile() ) );
-            LibraryModelLoader<InputStream> modelLoader = new LibraryModelLoader<InputStream>();
-
-            ValidationFindings findings = modelLoader.loadLibraryModel( libraryInput );
-            if (DEBUG) {
-                printFindings( findings );
-            }
-
-            library = (TLLibrary) modelLoader.getLibraryModel().getLibrary( NAMESPACE, LIBRARY_NAME );
+            library = (TLLibrary) loadModel().getLibrary( NAMESPACE, LIBRARY_NAME );
         }
         return library;
     }
 
+    /**
+     * Loads a new copy of the test model that is not shared with any other caller.
+     * 
+     * @return TLModel
+     * @throws Exception thrown if the test library cannot be loaded
+     */
+    public static TLModel loadModel() throws Exception {
+        URL url = TestLibraryProvider.class.getResource( "/libraries_1_5/test-package_v2/" + LIBRARY_NAME + ".xml" );
+        LibraryInputSource<InputStream> libraryInput = new LibraryStreamInputSource( new File( url.getFile() ) );
+        LibraryModelLoader<InputStream> modelLoader = new LibraryModelLoader<InputStream>();
+
+        ValidationFindings findings = modelLoader.loadLibraryModel( libraryInput );
+        if (DEBUG) {
+            printFindings( findings );
+        }
+        return modelLoader.getLibraryModel();
+    }
+
     public static TLModel getModel() throws Exception {
         return getLibrary().getOwningModel();
     }
@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.diff;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -89,6 +90,19 @@ public class TestReleaseComparator extends AbstractDiffTest {
         assertTrue( changeSet.getChangeItems().size() == 0 );
     }
 
+    @Test
+    public void testCompareReleases_identicalContent() throws Exception {
+        ModelComparator comparator = new ModelComparator( ModelCompareOptions.getDefaultOptions() );
+        ReleaseManager oldRelease = loadRelease( "Release-1", "1.0.0", "/test-package-diff/project-1.xml" );
+        ReleaseManager newRelease = loadRelease( "Release-1", "1.0.0", "/test-package-diff/project-1.xml" );
+        ReleaseChangeSet changeSet;
+
+        assertNotSame( oldRelease.getModel(), newRelease.getModel() );
+        changeSet = comparator.compareReleases( oldRelease, newRelease );
+        assertNotNull( changeSet );
+        assertTrue( changeSet.getChangeItems().size() == 0 );
+    }
+
     protected ReleaseManager loadRelease(String releaseName, String releaseVersion, String libraryPath)
         throws Exception {
         String releaseFilename = releaseName + "_" + releaseVersion.replace( '.', '_' ) + ".otr";
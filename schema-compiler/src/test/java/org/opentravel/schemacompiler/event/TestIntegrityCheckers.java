@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.junit.Test;
@@ -27,6 +28,7 @@ import org.opentravel.schemacompiler.ic.ModelIntegrityChecker;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryModelLoader;
 import org.opentravel.schemacompiler.loader.impl.LibraryStreamInputSource;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
 import org.opentravel.schemacompiler.model.TLAttribute;
 import org.opentravel.schemacompiler.model.TLAttributeType;
 import org.opentravel.schemacompiler.model.TLChoiceObject;
@@ -39,10 +41,12 @@ import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLNamespaceImport;
 import org.opentravel.schemacompiler.model.TLSimple;
 import org.opentravel.schemacompiler.model.TLValueWithAttributes;
+import org.opentravel.schemacompiler.util.ReferenceCountVisitor;
 import org.opentravel.schemacompiler.util.SchemaCompilerTestUtils;
 import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.visitor.ModelNavigator;
 
 import java.io.File;
 import java.io.InputStream;
@@ -326,6 +330,58 @@ public class TestIntegrityCheckers extends AbstractModelEventTests {
         }
     }
 
+    @Test
+    public void testReferenceIndex() throws Exception {
+        TLLibrary library1p2 = (TLLibrary) testModel.getLibrary( PACKAGE_2_NAMESPACE, "library_1_p2" );
+        TLLibrary library2p2 = (TLLibrary) testModel.getLibrary( PACKAGE_2_NAMESPACE, "library_2_p2" );
+        TLValueWithAttributes testVWA = library2p2.getValueWithAttributesType( "MyVWA" );
+        TLAttribute testAttr = testVWA.getAttribute( "testAttr" );
+        TLSimple testType = library2p2.getSimpleType( "SampleDocumentation" );
+        TLAttributeType originalParentType = testType.getParentType();
+        TLSimple counter3 = library1p2.getSimpleType( "Counter_3" );
+        try {
+            assertReferenceCountsMatch();
+            assertFalse( testModel.getReferenceIndex().getReferrers( counter3 ).contains( testType ) );
+
+            // Verify incremental updates for type assignments
+            testType.setParentType( counter3 );
+            assertTrue( testModel.getReferenceIndex().getReferrers( counter3 ).contains( testType ) );
+            assertReferenceCountsMatch();
+
+            // Verify incremental updates for removed and re-added members
+            testVWA.removeAttribute( testAttr );
+            assertFalse( testModel.getReferenceIndex().getReferrers( testAttr.getType() ).contains( testAttr ) );
+            assertReferenceCountsMatch();
+
+            library2p2.removeNamedMember( testType );
+            assertFalse( testModel.getReferenceIndex().getReferrers( counter3 ).contains( testType ) );
+            assertReferenceCountsMatch();
+
+            library2p2.addNamedMember( testType );
+            testVWA.addAttribute( testAttr );
+            assertTrue( testModel.getReferenceIndex().getReferrers( counter3 ).contains( testType ) );
+            assertReferenceCountsMatch();
+
+            // Verify changes made while listeners are disabled
+            testModel.setListenersEnabled( false );
+            testType.setParentType( originalParentType );
+            testModel.setListenersEnabled( true );
+            assertFalse( testModel.getReferenceIndex().getReferrers( counter3 ).contains( testType ) );
+            assertReferenceCountsMatch();
+
+        } finally {
+            testModel.setListenersEnabled( true );
+
+            if (testType.getOwningLibrary() == null) {
+                library2p2.addNamedMember( testType );
+            }
+            if (testAttr.getOwner() == null) {
+                testVWA.addAttribute( testAttr );
+            }
+            testType.setParentType( originalParentType );
+        }
+    }
+
     @Test
     public void testLoadModelWithIntegrityCheckersEnabled() throws Exception {
         TLModel model = new TLModel();
@@ -341,6 +397,15 @@ public class TestIntegrityCheckers extends AbstractModelEventTests {
         assertFalse( findings.hasFinding( FindingType.ERROR ) );
     }
 
+    protected void assertReferenceCountsMatch() {
+        for (AbstractLibrary library : testModel.getAllLibraries()) {
+            ReferenceCountVisitor visitor = new ReferenceCountVisitor( library );
+
+            ModelNavigator.navigate( testModel, visitor );
+            assertEquals( library.getName(), visitor.getReferenceCount(), library.getReferenceCount() );
+        }
+    }
+
     protected void displayImportsAndIncludes(TLLibrary library) {
         System.out.println( "Includes:" );
         for (TLInclude include : library.getIncludes()) {
@@ -17,9 +17,16 @@
 package org.opentravel.schemacompiler.ioc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
 
 import java.util.List;
 
@@ -44,4 +51,44 @@ public class TestCompilerExtensionRegistry {
         assertEquals( "XYZ", CompilerExtensionRegistry.getActiveExtension() );
     }
 
+    @Test
+    public void testApplicationContextReuse() throws Exception {
+        String originalExtension = CompilerExtensionRegistry.getActiveExtension();
+
+        try {
+            CompilerExtensionRegistry.setActiveExtension( "OTA2" );
+            ApplicationContext ota2Context = SchemaCompilerApplicationContext.getContext();
+
+            CompilerExtensionRegistry.setActiveExtension( "XYZ" );
+            ApplicationContext xyzContext = SchemaCompilerApplicationContext.getContext();
+
+            CompilerExtensionRegistry.setActiveExtension( "OTA2" );
+            assertNotSame( ota2Context, xyzContext );
+            assertSame( ota2Context, SchemaCompilerApplicationContext.getContext() );
+            assertNotNull( ota2Context.getBean( SchemaCompilerApplicationContext.BUILT_IN_LIBRARY_FACTORY ) );
+
+        } finally {
+            CompilerExtensionRegistry.setActiveExtension( originalExtension );
+        }
+    }
+
+    @Test
+    public void testLazyInitializationTargets() throws Exception {
+        String originalExtension = CompilerExtensionRegistry.getActiveExtension();
+
+        try {
+            CompilerExtensionRegistry.setActiveExtension( "OTA2" );
+            ConfigurableListableBeanFactory beanFactory =
+                ((GenericApplicationContext) SchemaCompilerApplicationContext.getContext()).getBeanFactory();
+
+            assertTrue( beanFactory.getBeanDefinition( "symbolTableFactory" ).isLazyInit() );
+            assertTrue( beanFactory.getBeanDefinition( "otmCommonSchema" ).isLazyInit() );
+            assertFalse( beanFactory.getBeanDefinition( "contextApplicationContextProvider" ).isLazyInit() );
+            assertFalse( beanFactory.getBeanDefinition( "versionSchemeFactory" ).isLazyInit() );
+
+        } finally {
+            CompilerExtensionRegistry.setActiveExtension( originalExtension );
+        }
+    }
+
 }
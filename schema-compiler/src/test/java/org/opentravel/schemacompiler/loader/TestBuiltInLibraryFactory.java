@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.BuiltInLibrary;
+import org.opentravel.schemacompiler.model.BuiltInLibrary.BuiltInType;
+import org.opentravel.schemacompiler.model.LibraryMember;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.XSDSimpleType;
+
+import java.util.List;
+
+/**
+ * Verifies the functions of the <code>BuiltInLibraryFactory</code>.
+ */
+public class TestBuiltInLibraryFactory {
+
+    @Test
+    public void testBuiltInLibrariesAreIsolatedPerModel() throws Exception {
+        TLModel model1 = new TLModel();
+        TLModel model2 = new TLModel();
+        List<BuiltInLibrary> builtIns1 = model1.getBuiltInLibraries();
+        List<BuiltInLibrary> builtIns2 = model2.getBuiltInLibraries();
+
+        assertFalse( builtIns1.isEmpty() );
+        assertEquals( builtIns1.size(), builtIns2.size() );
+
+        for (int i = 0; i < builtIns1.size(); i++) {
+            BuiltInLibrary lib1 = builtIns1.get( i );
+            BuiltInLibrary lib2 = builtIns2.get( i );
+
+            assertNotSame( lib1, lib2 );
+            assertSame( model1, lib1.getOwningModel() );
+            assertSame( model2, lib2.getOwningModel() );
+            assertEquals( lib1.getNamespace(), lib2.getNamespace() );
+            assertEquals( lib1.getName(), lib2.getName() );
+            assertEquals( lib1.getNamedMembers().size(), lib2.getNamedMembers().size() );
+        }
+    }
+
+    @Test
+    public void testSchemaContentIsShared() throws Exception {
+        TLModel model1 = new TLModel();
+        TLModel model2 = new TLModel();
+        int sharedCount = 0;
+
+        for (BuiltInLibrary lib1 : model1.getBuiltInLibraries()) {
+            if (lib1.getBuiltInType() != BuiltInType.XSD_BUILTIN) {
+                continue;
+            }
+            AbstractLibrary lib2 = model2.getLibrary( lib1.getNamespace(), lib1.getName() );
+
+            for (LibraryMember member1 : lib1.getNamedMembers()) {
+                if (member1 instanceof XSDSimpleType) {
+                    XSDSimpleType member2 = (XSDSimpleType) lib2.getNamedMember( member1.getLocalName() );
+
+                    assertNotSame( member1, member2 );
+                    assertSame( ((XSDSimpleType) member1).getJaxbType(), member2.getJaxbType() );
+                    sharedCount++;
+                }
+            }
+        }
+        assertFalse( sharedCount == 0 );
+    }
+
+}
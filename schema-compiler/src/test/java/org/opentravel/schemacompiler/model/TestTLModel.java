@@ -23,10 +23,14 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.event.ModelElementListener;
+import org.opentravel.schemacompiler.event.ModelEventBatchListener;
+import org.opentravel.schemacompiler.event.ModelEventListener;
 import org.opentravel.schemacompiler.event.OwnershipEvent;
 import org.opentravel.schemacompiler.event.ValueChangeEvent;
+import org.opentravel.schemacompiler.util.LibraryVersionIndex;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -102,6 +106,105 @@ public class TestTLModel extends AbstractModelTest {
         assertEquals( 0, library1.getListeners().size() );
     }
 
+    @Test
+    public void testEventBatch() throws Exception {
+        List<String> batchNotifications = new ArrayList<>();
+        List<String> eventNotifications = new ArrayList<>();
+        ModelEventBatchListener<ValueChangeEvent<TLLibrary,String>,TLLibrary> batchListener =
+            new ModelEventBatchListener<ValueChangeEvent<TLLibrary,String>,TLLibrary>() {
+                public void processModelEvent(ValueChangeEvent<TLLibrary,String> event) {
+                    batchNotifications.add( "single" );
+                }
+
+                public void processModelEvents(List<ValueChangeEvent<TLLibrary,String>> events) {
+                    batchNotifications.add( "batch:" + events.size() );
+                }
+
+                public Class<?> getEventClass() {
+                    return ValueChangeEvent.class;
+                }
+
+                public Class<TLLibrary> getSourceObjectClass() {
+                    return TLLibrary.class;
+                }
+            };
+        ModelEventListener<ValueChangeEvent<TLLibrary,String>,TLLibrary> eventListener =
+            new ModelEventListener<ValueChangeEvent<TLLibrary,String>,TLLibrary>() {
+                public void processModelEvent(ValueChangeEvent<TLLibrary,String> event) {
+                    eventNotifications.add( event.getType().toString() );
+                }
+
+                public Class<?> getEventClass() {
+                    return ValueChangeEvent.class;
+                }
+
+                public Class<TLLibrary> getSourceObjectClass() {
+                    return TLLibrary.class;
+                }
+            };
+
+        model.addListener( batchListener );
+        model.addListener( eventListener );
+
+        model.startEventBatch();
+        model.startEventBatch();
+        library1.setComments( "Comment 1" );
+        library1.setComments( "Comment 2" );
+        model.endEventBatch();
+        library2.setComments( "Comment 3" );
+        assertTrue( model.isEventBatchActive() );
+        assertTrue( batchNotifications.isEmpty() );
+        assertTrue( eventNotifications.isEmpty() );
+
+        model.endEventBatch();
+        assertFalse( model.isEventBatchActive() );
+        assertEquals( Arrays.asList( "batch:3" ), batchNotifications );
+        assertEquals( 3, eventNotifications.size() );
+
+        library1.setComments( "Comment 4" );
+        assertEquals( Arrays.asList( "batch:3", "single" ), batchNotifications );
+        assertEquals( 4, eventNotifications.size() );
+
+        model.removeListener( batchListener );
+        model.removeListener( eventListener );
+    }
+
+    @Test
+    public void testVersionIndex() throws Exception {
+        LibraryVersionIndex versionIndex = model.getVersionIndex();
+        TLLibrary library1v11 = newLibrary( "http://www.opentravel.org/schemas/pkg1/v1_1", "TestLibrary1_v1_1", "p1" );
+        TLLibrary library1v2 = newLibrary( "http://www.opentravel.org/schemas/pkg1/v2", "TestLibrary1_v2", "p1" );
+        String baseNamespace = library1.getBaseNamespace();
+
+        assertEquals( Arrays.asList( library1 ), versionIndex.getLibraryVersions( library1 ) );
+
+        library1v11.setName( library1.getName() );
+        library1v2.setName( library1.getName() );
+        model.addLibrary( library1v11 );
+        model.addLibrary( library1v2 );
+        assertEquals( 3, versionIndex.getLibraryVersions( baseNamespace, library1.getName() ).size() );
+        assertEquals( 1, versionIndex.getLibraryVersions( library2 ).size() );
+
+        library1v2.setName( "RenamedLibrary" );
+        assertEquals( 2, versionIndex.getLibraryVersions( baseNamespace, library1.getName() ).size() );
+        assertEquals( Arrays.asList( library1v2 ), versionIndex.getLibraryVersions( baseNamespace, "RenamedLibrary" ) );
+
+        library1v11.setNamespace( "http://www.opentravel.org/schemas/pkg3/v1_1" );
+        assertEquals( Arrays.asList( library1 ), versionIndex.getLibraryVersions( library1 ) );
+        assertEquals( Arrays.asList( library1v11 ), versionIndex.getLibraryVersions( library1v11 ) );
+
+        model.removeLibrary( library1v11 );
+        assertTrue( versionIndex.getLibraryVersions( library1v11 ).isEmpty() );
+
+        model.clearModel();
+        assertTrue( versionIndex.getLibraryVersions( library1 ).isEmpty() );
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndEventBatchWithoutStart() throws Exception {
+        model.endEventBatch();
+    }
+
     @Test
     public void testCloneModelElement() throws Exception {
         TLCoreObject origEntity = addCore( "TestObject", library1 );
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryItemType;
+import org.opentravel.schemacompiler.repository.impl.DefaultRepositoryFileManager;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Verifies that the <code>RepositoryHistoryManager</code> returns the exact content of each commit when the history
+ * is stored as periodic snapshots and deltas.
+ */
+public class TestRepositoryHistoryManager {
+
+    private static final int COMMIT_COUNT = 8;
+    private static final int SNAPSHOT_INTERVAL = 3;
+    private static final long COMMIT_INTERVAL = 60000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        RepositoryHistoryManager.clearReconstructedContent();
+    }
+
+    @Test
+    public void testHistoryRoundTrip() throws Exception {
+        DefaultRepositoryFileManager fileManager = new DefaultRepositoryFileManager( folder.newFolder( "repository" ) );
+        RepositoryManager manager = new RepositoryManager( fileManager );
+        RepositoryHistoryManager historyManager = manager.getHistoryManager();
+        RepositoryItem item = newRepositoryItem( manager );
+        File contentFile = fileManager.getLibraryContentLocation( item.getBaseNamespace(), item.getFilename(),
+            item.getVersion() );
+        long firstCommitTime = (System.currentTimeMillis() / 1000L) * 1000L - (COMMIT_COUNT * COMMIT_INTERVAL);
+        List<byte[]> commitContent = new ArrayList<>();
+        boolean deltaFound = false;
+
+        historyManager.setSnapshotInterval( SNAPSHOT_INTERVAL );
+        contentFile.getParentFile().mkdirs();
+
+        // Commit enough versions to cross at least two snapshot boundaries
+        for (int i = 0; i < COMMIT_COUNT; i++) {
+            byte[] content = newLibraryContent( i );
+
+            Files.write( contentFile.toPath(), content );
+            fileManager.startChangeSet();
+            historyManager.addToHistory( item, new Date( firstCommitTime + (i * COMMIT_INTERVAL) ), "Commit " + i );
+            fileManager.commitChangeSet();
+            commitContent.add( content );
+        }
+
+        for (LibraryHistoryItemType commitItem : historyManager.getHistory( item ).getLibraryHistoryItem()) {
+            deltaFound |= commitItem.getFilename().endsWith( ".delta" );
+        }
+        assertEquals( COMMIT_COUNT, historyManager.getHistory( item ).getLibraryHistoryItem().size() );
+        assertTrue( deltaFound );
+
+        // The content at each effective date must match the committed content byte for byte
+        for (int i = 0; i < COMMIT_COUNT; i++) {
+            Date commitDate = new Date( firstCommitTime + (i * COMMIT_INTERVAL) );
+            Date betweenCommits = new Date( commitDate.getTime() + (COMMIT_INTERVAL / 2) );
+
+            assertArrayEquals( commitContent.get( i ), readContent( historyManager.getHistoricalContent( item, i ) ) );
+            assertArrayEquals( commitContent.get( i ),
+                readContent( historyManager.getHistoricalContent( item, commitDate ) ) );
+            assertArrayEquals( commitContent.get( i ),
+                readContent( historyManager.getHistoricalContent( item, betweenCommits ) ) );
+        }
+    }
+
+    private RepositoryItem newRepositoryItem(RepositoryManager manager) {
+        RepositoryItemImpl item = new RepositoryItemImpl();
+
+        item.setRepository( manager );
+        item.setBaseNamespace( "http://www.OpenTravel.org/ns/OTA2/History" );
+        item.setNamespace( "http://www.OpenTravel.org/ns/OTA2/History/v1" );
+        item.setLibraryName( "HistoryLibrary" );
+        item.setFilename( "HistoryLibrary_1_0_0.otm" );
+        item.setVersion( "1.0.0" );
+        return item;
+    }
+
+    private byte[] newLibraryContent(int commitNumber) {
+        StringBuilder content = new StringBuilder( "<Library name=\"HistoryLibrary\">\n" );
+
+        // Each commit modifies one element and adds another, so most of the content is shared between commits
+        for (int i = 0; i < 50 + commitNumber; i++) {
+            String suffix = (i == commitNumber) ? "Modified" + commitNumber : "";
+
+            content.append( "  <CoreObject name=\"Element" ).append( i ).append( suffix ).append( "\"/>\n" );
+        }
+        return content.append( "</Library>\n" ).toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+    private byte[] readContent(File file) throws Exception {
+        return Files.readAllBytes( file.toPath() );
+    }
+
+}
@@ -18,9 +18,18 @@ package org.opentravel.schemacompiler.repository;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +47,7 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.RefreshPolicy;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryInfoType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryState;
 import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLLibraryStatus;
 import org.opentravel.schemacompiler.repository.impl.DefaultRepositoryFileManager;
 import org.opentravel.schemacompiler.repository.impl.LibraryContentWrapper;
 import org.opentravel.schemacompiler.repository.impl.RemoteRepositoryUtils;
@@ -45,6 +55,10 @@ import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
 import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -332,6 +346,75 @@ public class TestRepositoryManager {
         repositoryManager.createRootNamespace( childNS );
     }
 
+    @Test
+    public void testPublishBatch() throws Exception {
+        RepositoryListener mockListener = mock( RepositoryListener.class );
+        String batchNS = repositoryManager.listRootNamespaces().get( 0 ) + "/batch";
+        List<PublicationRequest> requests = Arrays.asList( newPublicationRequest( batchNS, "BatchLibrary1" ),
+            newPublicationRequest( batchNS, "BatchLibrary2" ) );
+
+        repositoryManager.addListener( mockListener );
+        clearInvocations( mockFileManager );
+        List<RepositoryItem> publishedItems = repositoryManager.publish( requests );
+
+        assertEquals( 2, publishedItems.size() );
+        assertEquals( "BatchLibrary1.otm", publishedItems.get( 0 ).getFilename() );
+        assertEquals( "BatchLibrary2.otm", publishedItems.get( 1 ).getFilename() );
+        verify( mockFileManager, times( 1 ) ).commitChangeSet( anySet() );
+        verify( mockListener, times( 2 ) ).onPublish( any() );
+    }
+
+    @Test
+    public void testPublishBatch_rollback() throws Exception {
+        RepositoryListener mockListener = mock( RepositoryListener.class );
+        String batchNS = repositoryManager.listRootNamespaces().get( 0 ) + "/batch";
+        List<PublicationRequest> requests = Arrays.asList( newPublicationRequest( batchNS, "BatchLibrary1" ),
+            new PublicationRequest( new File( folder.getRoot(), "missing.otm" ), "BatchLibrary2.otm",
+                "BatchLibrary2", batchNS, "1.0.0", null, TLLibraryStatus.DRAFT ) );
+
+        repositoryManager.addListener( mockListener );
+        clearInvocations( mockFileManager );
+
+        try {
+            repositoryManager.publish( requests );
+            fail( "Expected exception not thrown." );
+
+        } catch (RepositoryException e) {
+            // Expected exception - content of the second item does not exist
+        }
+        verify( mockFileManager, never() ).commitChangeSet( anySet() );
+        verify( mockFileManager, times( 1 ) ).rollbackChangeSet( anySet() );
+        verify( mockListener, never() ).onPublish( any() );
+    }
+
+    @Test
+    public void testDefaultBatchMethods() throws Exception {
+        Repository mockRepository = mock( Repository.class );
+        RepositoryItem mockItem = mock( RepositoryItem.class );
+        List<PublicationRequest> requests = Arrays.asList( newPublicationRequest( "http://www.test.com", "Library1" ),
+            newPublicationRequest( "http://www.test.com", "Library2" ) );
+
+        when( mockRepository.publish( anyList() ) ).thenCallRealMethod();
+        doCallRealMethod().when( mockRepository ).commit( anyCollection(), any() );
+        when( mockRepository.publish( any( InputStream.class ), any(), any(), any(), any(), any(), any() ) )
+            .thenReturn( mockItem );
+
+        assertEquals( 2, mockRepository.publish( requests ).size() );
+        verify( mockRepository, times( 2 ) ).publish( any( InputStream.class ), any(), any(), any(), any(), any(),
+            any() );
+
+        mockRepository.commit( Arrays.asList( mockItem, mockItem ), "Remarks" );
+        verify( mockRepository, times( 2 ) ).commit( mockItem, "Remarks" );
+    }
+
+    private PublicationRequest newPublicationRequest(String namespace, String libraryName) throws Exception {
+        File contentFile = folder.newFile( libraryName + ".otm" );
+
+        Files.write( contentFile.toPath(), "<Library/>".getBytes( StandardCharsets.UTF_8 ) );
+        return new PublicationRequest( contentFile, libraryName + ".otm", libraryName, namespace, "1.0.0", null,
+            TLLibraryStatus.DRAFT );
+    }
+
     @Test
     public void testRefreshLocalRepositoryInfo_noLocalRepo() throws Exception {
         mockFileManager = mock( DefaultRepositoryFileManager.class );
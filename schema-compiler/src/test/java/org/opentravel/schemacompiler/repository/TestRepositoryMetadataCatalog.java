@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryStatus;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryState;
+import org.opentravel.schemacompiler.repository.impl.DefaultRepositoryFileManager;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies the functions of the <code>RepositoryMetadataCatalog</code> class.
+ */
+public class TestRepositoryMetadataCatalog {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private RepositoryMetadataCatalog catalog;
+    private AtomicInteger loadCount;
+
+    @Before
+    public void setup() {
+        catalog = new RepositoryMetadataCatalog();
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    public void testCachedMetadata() throws Exception {
+        File metadataFile = writeFile( folder.getRoot(), "library-info.xml", "content" );
+        LibraryInfoType metadata1 = catalog.getMetadata( metadataFile, this::loadMetadata );
+        LibraryInfoType metadata2 = catalog.getMetadata( metadataFile, this::loadMetadata );
+
+        assertNotSame( metadata1, metadata2 );
+        assertEquals( metadata1.getFilename(), metadata2.getFilename() );
+        assertEquals( 1, loadCount.get() );
+
+        // Changes made by the caller must not affect the cached record
+        metadata1.setFilename( "modified-info.xml" );
+        assertEquals( "library-info.xml", catalog.getMetadata( metadataFile, this::loadMetadata ).getFilename() );
+        assertEquals( 1, loadCount.get() );
+    }
+
+    @Test
+    public void testModifiedMetadata() throws Exception {
+        File metadataFile = writeFile( folder.getRoot(), "library-info.xml", "content" );
+        LibraryInfoType metadata1 = catalog.getMetadata( metadataFile, this::loadMetadata );
+
+        writeFile( folder.getRoot(), "library-info.xml", "modified content" );
+        assertEquals( metadata1.getFilename(), catalog.getMetadata( metadataFile, this::loadMetadata ).getFilename() );
+        assertEquals( 2, loadCount.get() );
+
+        catalog.invalidate( metadataFile );
+        catalog.getMetadata( metadataFile, this::loadMetadata );
+        assertEquals( 3, loadCount.get() );
+    }
+
+    @Test
+    public void testFolderListing() throws Exception {
+        File nsFolder = folder.newFolder( "ns" );
+        File versionFolder = new File( nsFolder, "v1" );
+        File file1 = writeFile( nsFolder, "library1-info.xml", "content" );
+
+        versionFolder.mkdir();
+        assertEquals( Arrays.asList( file1 ), catalog.getFiles( nsFolder ) );
+        assertEquals( Arrays.asList( versionFolder ), catalog.getSubfolders( nsFolder ) );
+
+        // Changes made by other processes are detected by the folder's last-modified timestamp
+        File file2 = writeFile( nsFolder, "library2-info.xml", "content" );
+
+        nsFolder.setLastModified( nsFolder.lastModified() + 2000L );
+        assertEquals( 2, catalog.getFiles( nsFolder ).size() );
+        assertTrue( catalog.getFiles( nsFolder ).contains( file2 ) );
+
+        // Explicit invalidation detects changes that do not alter the folder's timestamp
+        long lastModified = nsFolder.lastModified();
+        File file3 = writeFile( nsFolder, "library3-info.xml", "content" );
+
+        nsFolder.setLastModified( lastModified );
+        assertFalse( catalog.getFiles( nsFolder ).contains( file3 ) );
+
+        catalog.invalidate( Arrays.asList( file3 ) );
+        assertTrue( catalog.getFiles( nsFolder ).contains( file3 ) );
+
+        // Invalidating a file also discards the listings of all its ancestor folders
+        File newFolder = new File( versionFolder, "child/grandchild" );
+
+        newFolder.mkdirs();
+        catalog.invalidate( newFolder );
+        assertEquals( 1, catalog.getSubfolders( versionFolder ).size() );
+    }
+
+    @Test
+    public void testNonExistentFolder() throws Exception {
+        File nsFolder = new File( folder.getRoot(), "missing" );
+
+        assertTrue( catalog.getFiles( nsFolder ).isEmpty() );
+        assertTrue( catalog.getSubfolders( nsFolder ).isEmpty() );
+
+        nsFolder.mkdir();
+        writeFile( nsFolder, "library-info.xml", "content" );
+        assertEquals( 1, catalog.getFiles( nsFolder ).size() );
+    }
+
+    @Test
+    public void testSharedRepositoryCatalog() throws Exception {
+        File repositoryLocation = folder.newFolder( "repository" );
+        DefaultRepositoryFileManager fileManager1 = new DefaultRepositoryFileManager( repositoryLocation );
+        DefaultRepositoryFileManager fileManager2 = new DefaultRepositoryFileManager( repositoryLocation );
+        String baseNamespace = "http://www.OpenTravel.org/ns/OTA2/Catalog";
+        LibraryInfoType metadata = newLibraryMetadata( baseNamespace, "Library", "1.0.0" );
+
+        assertSame( RepositoryMetadataCatalog.getCatalog( repositoryLocation ),
+            RepositoryMetadataCatalog.getCatalog( new File( repositoryLocation.getAbsolutePath() ) ) );
+        fileManager1.getNamespaceFolder( baseNamespace, null ).mkdirs();
+        assertTrue( fileManager2.loadLibraryMetadataRecords( baseNamespace ).isEmpty() );
+
+        // Records saved by one file manager must be visible to the other
+        fileManager1.startChangeSet();
+        fileManager1.saveLibraryMetadata( metadata );
+        fileManager1.commitChangeSet();
+        assertEquals( 1, fileManager2.loadLibraryMetadataRecords( baseNamespace ).size() );
+    }
+
+    @Test
+    public void testExternalFolderChange() throws Exception {
+        File repositoryLocation = folder.newFolder( "external-repository" );
+        DefaultRepositoryFileManager fileManager = new DefaultRepositoryFileManager( repositoryLocation );
+        String baseNamespace = "http://www.OpenTravel.org/ns/OTA2/External";
+        LibraryInfoType metadata = newLibraryMetadata( baseNamespace, "Library", "1.0.0" );
+        File metadataFile;
+
+        fileManager.startChangeSet();
+        metadataFile = fileManager.saveLibraryMetadata( metadata );
+        fileManager.commitChangeSet();
+        assertEquals( 1, fileManager.loadLibraryMetadataRecords( baseNamespace ).size() );
+        assertEquals( 1, fileManager.findChildVersionNamespacePaths( baseNamespace ).size() );
+
+        // Simulate another process that publishes a new version without using this file manager
+        File baseFolder = fileManager.getNamespaceFolder( baseNamespace, null );
+        File versionFolder = new File( baseFolder, "2.0.0" );
+        File externalFile = new File( versionFolder, metadataFile.getName().replace( "1_0_0", "2_0_0" ) );
+        String content = new String( Files.readAllBytes( metadataFile.toPath() ), StandardCharsets.UTF_8 );
+
+        versionFolder.mkdir();
+        writeFile( versionFolder, externalFile.getName(),
+            content.replace( "/v01_00", "/v02_00" ).replace( "1.0.0", "2.0.0" ).replace( "1_0_0", "2_0_0" ) );
+        baseFolder.setLastModified( baseFolder.lastModified() + 2000L );
+
+        assertEquals( 2, fileManager.loadLibraryMetadataRecords( baseNamespace ).size() );
+        assertEquals( 2, fileManager.findChildVersionNamespacePaths( baseNamespace ).size() );
+    }
+
+    private LibraryInfoType newLibraryMetadata(String baseNamespace, String libraryName, String version) {
+        LibraryInfoType metadata = new LibraryInfoType();
+        String versionSuffix = version.replace( ".", "_" );
+
+        metadata.setNamespace( baseNamespace + "/v0" + version.substring( 0, 1 ) + "_00" );
+        metadata.setBaseNamespace( baseNamespace );
+        metadata.setFilename( libraryName + "_" + versionSuffix + ".otm" );
+        metadata.setLibraryName( libraryName );
+        metadata.setVersion( version );
+        metadata.setVersionScheme( "OTA2" );
+        metadata.setStatus( LibraryStatus.DRAFT );
+        metadata.setState( RepositoryState.MANAGED_UNLOCKED );
+        metadata.setOwningRepository( "test-repository" );
+        return metadata;
+    }
+
+    private LibraryInfoType loadMetadata(File metadataFile) {
+        LibraryInfoType metadata = new LibraryInfoType();
+
+        metadata.setFilename( metadataFile.getName() );
+        loadCount.incrementAndGet();
+        return metadata;
+    }
+
+    private File writeFile(File parentFolder, String filename, String content) throws Exception {
+        File file = new File( parentFolder, filename );
+
+        Files.write( file.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+        return file;
+    }
+
+}
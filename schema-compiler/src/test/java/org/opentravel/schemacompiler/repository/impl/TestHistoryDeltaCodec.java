@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Verifies the functions of the <code>HistoryDeltaCodec</code> class.
+ */
+public class TestHistoryDeltaCodec {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        byte[] base = buildLibrary( 200, -1 );
+        byte[] target = buildLibrary( 201, 57 );
+        byte[] delta = HistoryDeltaCodec.encode( base, target );
+
+        assertArrayEquals( target, HistoryDeltaCodec.decode( base, delta ) );
+        assertTrue( delta.length < (target.length / 20) );
+    }
+
+    @Test
+    public void testUnrelatedContent() throws Exception {
+        byte[] base = "completely different content".getBytes( StandardCharsets.UTF_8 );
+        byte[] target = buildLibrary( 10, -1 );
+
+        assertArrayEquals( target, HistoryDeltaCodec.decode( base, HistoryDeltaCodec.encode( base, target ) ) );
+    }
+
+    @Test
+    public void testEmptyContent() throws Exception {
+        byte[] base = new byte[0];
+        byte[] target = buildLibrary( 3, -1 );
+
+        assertArrayEquals( target, HistoryDeltaCodec.decode( base, HistoryDeltaCodec.encode( base, target ) ) );
+        assertArrayEquals( base, HistoryDeltaCodec.decode( target, HistoryDeltaCodec.encode( target, base ) ) );
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongBaseContent() throws Exception {
+        byte[] base = buildLibrary( 50, -1 );
+        byte[] delta = HistoryDeltaCodec.encode( base, buildLibrary( 50, 10 ) );
+
+        HistoryDeltaCodec.decode( buildLibrary( 51, -1 ), delta );
+    }
+
+    private byte[] buildLibrary(int elementCount, int modifiedIndex) {
+        StringBuilder content = new StringBuilder( "<Library xmlns=\"http://www.OpenTravel.org/ns/OTA2/LibraryModel_v01_06\">\n" );
+
+        for (int i = 0; i < elementCount; i++) {
+            content.append( "  <CoreObject name=\"Element" ).append( i ).append( "\" notExtendable=\"false\">\n" );
+            content.append( "    <Documentation><Description>" )
+                .append( (i == modifiedIndex) ? "Modified description" : "Original description" )
+                .append( "</Description></Documentation>\n" );
+            content.append( "  </CoreObject>\n" );
+        }
+        content.append( "</Library>\n" );
+        return content.toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+}
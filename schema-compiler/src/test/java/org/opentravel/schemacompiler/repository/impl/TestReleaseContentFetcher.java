@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.loader.LibraryInputSource;
+import org.opentravel.schemacompiler.loader.impl.LibraryStreamInputSource;
+import org.opentravel.schemacompiler.repository.ReleaseMember;
+import org.opentravel.schemacompiler.repository.RemoteRepository;
+import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryItem;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Verifies the functions of the <code>ReleaseContentFetcher</code> class.
+ */
+public class TestReleaseContentFetcher {
+
+    private static final File testFolder =
+        new File( System.getProperty( "user.dir" ), "/target/test-output/TestReleaseContentFetcher" );
+
+    @Test
+    public void testFetchRemoteContent() throws Exception {
+        RepositoryManager repositoryManager = mock( RepositoryManager.class );
+        File contentArchive = createContentArchive( "content.zip", 12 );
+        List<ReleaseMember> members = newReleaseMembers( 12 );
+        Set<Thread> resolvingThreads = ConcurrentHashMap.newKeySet();
+
+        doAnswer( invocation -> {
+            RepositoryItem item = invocation.getArgument( 0 );
+
+            resolvingThreads.add( Thread.currentThread() );
+            return new LibraryStreamInputSource( getArchiveUrl( contentArchive, item ) );
+        } ).when( repositoryManager ).getHistoricalContentSource( any(), any() );
+
+        try (ReleaseContentFetcher fetcher = new ReleaseContentFetcher( repositoryManager, members )) {
+            for (ReleaseMember member : members) {
+                LibraryInputSource<InputStream> inputSource = fetcher.getInputSource( member );
+
+                try (InputStream content = inputSource.getLibraryContent()) {
+                    assertNotNull( content );
+                    assertEquals( member.getRepositoryItem().getFilename(),
+                        new String( content.readAllBytes(), StandardCharsets.UTF_8 ) );
+                }
+            }
+        }
+
+        // The repository manager must only be accessed from the calling thread
+        assertEquals( Collections.singleton( Thread.currentThread() ), resolvingThreads );
+        verify( repositoryManager, times( members.size() ) ).getHistoricalContentSource( any(), any() );
+    }
+
+    @Test
+    public void testRemoteHistoryLookup() throws Exception {
+        RepositoryManager repositoryManager = mock( RepositoryManager.class );
+        RemoteRepository remoteRepository = mock( RemoteRepository.class );
+        File contentArchive = createContentArchive( "remote-content.zip", 4 );
+        List<ReleaseMember> members = newReleaseMembers( 4 );
+        Set<Thread> resolvingThreads = ConcurrentHashMap.newKeySet();
+
+        for (ReleaseMember member : members) {
+            ((RepositoryItemImpl) member.getRepositoryItem()).setRepository( remoteRepository );
+        }
+        doAnswer( invocation -> {
+            RepositoryItem item = invocation.getArgument( 0 );
+
+            resolvingThreads.add( Thread.currentThread() );
+            return new LibraryStreamInputSource( getArchiveUrl( contentArchive, item ) );
+        } ).when( remoteRepository ).getHistoricalContentSource( any(), any() );
+
+        try (ReleaseContentFetcher fetcher = new ReleaseContentFetcher( repositoryManager, members )) {
+            for (ReleaseMember member : members) {
+                try (InputStream content = fetcher.getInputSource( member ).getLibraryContent()) {
+                    assertEquals( member.getRepositoryItem().getFilename(),
+                        new String( content.readAllBytes(), StandardCharsets.UTF_8 ) );
+                }
+            }
+        }
+
+        // The remote history lookups must be performed by the background threads without the repository manager
+        assertFalse( resolvingThreads.contains( Thread.currentThread() ) );
+        verify( remoteRepository, times( members.size() ) ).getHistoricalContentSource( any(), any() );
+        verify( repositoryManager, never() ).getHistoricalContentSource( any(), any() );
+    }
+
+    @Test
+    public void testDownloadFailure() throws Exception {
+        RepositoryManager repositoryManager = mock( RepositoryManager.class );
+        File contentArchive = createContentArchive( "partial-content.zip", 1 );
+        List<ReleaseMember> members = newReleaseMembers( 2 );
+
+        doAnswer( invocation -> new LibraryStreamInputSource(
+            getArchiveUrl( contentArchive, invocation.getArgument( 0 ) ) ) ).when( repositoryManager )
+                .getHistoricalContentSource( any(), any() );
+
+        try (ReleaseContentFetcher fetcher = new ReleaseContentFetcher( repositoryManager, members )) {
+            assertNotNull( fetcher.getInputSource( members.get( 0 ) ) );
+
+            try {
+                fetcher.getInputSource( members.get( 1 ) );
+                fail( "Expected exception not thrown." );
+
+            } catch (RepositoryException e) {
+                // Expected - the content of the second member does not exist
+            }
+        }
+    }
+
+    @Test
+    public void testResolutionFailure() throws Exception {
+        RepositoryManager repositoryManager = mock( RepositoryManager.class );
+        List<ReleaseMember> members = newReleaseMembers( 1 );
+
+        doThrow( new RepositoryException( "Repository unavailable." ) ).when( repositoryManager )
+            .getHistoricalContentSource( any(), any() );
+
+        // Resolution errors are reported when the member's input source is requested
+        try (ReleaseContentFetcher fetcher = new ReleaseContentFetcher( repositoryManager, members )) {
+            fetcher.getInputSource( members.get( 0 ) );
+            fail( "Expected exception not thrown." );
+
+        } catch (RepositoryException e) {
+            assertEquals( "Repository unavailable.", e.getMessage() );
+        }
+    }
+
+    private List<ReleaseMember> newReleaseMembers(int memberCount) {
+        List<ReleaseMember> members = new ArrayList<>();
+
+        for (int i = 0; i < memberCount; i++) {
+            RepositoryItemImpl item = new RepositoryItemImpl();
+            ReleaseMember member = new ReleaseMember();
+
+            item.setFilename( "Library" + i + "_1_0_0.otm" );
+            member.setRepositoryItem( item );
+            member.setEffectiveDate( new Date() );
+            members.add( member );
+        }
+        return members;
+    }
+
+    private File createContentArchive(String filename, int entryCount) throws Exception {
+        File archiveFile = new File( testFolder, filename );
+
+        testFolder.mkdirs();
+
+        try (ZipOutputStream out = new ZipOutputStream( new FileOutputStream( archiveFile ) )) {
+            for (int i = 0; i < entryCount; i++) {
+                String entryName = "Library" + i + "_1_0_0.otm";
+
+                out.putNextEntry( new ZipEntry( entryName ) );
+                out.write( entryName.getBytes( StandardCharsets.UTF_8 ) );
+                out.closeEntry();
+            }
+        }
+        return archiveFile;
+    }
+
+    private URL getArchiveUrl(File archiveFile, RepositoryItem item) throws Exception {
+        return new URL( "jar:" + archiveFile.toURI().toURL().toExternalForm() + "!/" + item.getFilename() );
+    }
+
+}
@@ -16,11 +16,14 @@
 
 package org.opentravel.schemacompiler.saver;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import org.junit.Assume;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
@@ -36,6 +39,10 @@ import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
 
 /**
  * Verifies the operation of the <code>LibraryModelSaver</code> components.
@@ -135,6 +142,81 @@ public class TestLibraryModelSaver {
         }
     }
 
+    @Test
+    public void testBackupFile_previousContentRetained() throws Exception {
+        TLModel model = loadTestModel();
+        TLLibrary library = model.getUserDefinedLibraries().get( 0 );
+        File backupFile = null;
+
+        try {
+            moveLibraryUrlToTempLocation( library );
+            new LibraryModelSaver().saveLibrary( library );
+
+            File libraryFile = URLUtils.toFile( library.getLibraryUrl() );
+            byte[] originalContent = Files.readAllBytes( libraryFile.toPath() );
+
+            // Save a modified copy and verify the backup holds the content of the first save
+            backupFile = getBackupFile( library );
+            library.setComments( "Modified library comments." );
+            new LibraryModelSaver().saveLibrary( library );
+
+            assertTrue( backupFile.exists() );
+            assertArrayEquals( originalContent, Files.readAllBytes( backupFile.toPath() ) );
+            assertFalse( Arrays.equals( originalContent, Files.readAllBytes( libraryFile.toPath() ) ) );
+
+            // Temporary files should never be left behind after a successful save
+            File[] tempFiles = libraryFile.getParentFile().listFiles( (dir, name) -> name.endsWith( ".tmp" ) );
+
+            assertNotNull( tempFiles );
+            assertEquals( 0, tempFiles.length );
+
+        } finally {
+            deleteLibraryFile( library );
+
+            if (backupFile != null) {
+                backupFile.delete();
+            }
+        }
+    }
+
+    @Test
+    public void testSaveThroughSymbolicLink() throws Exception {
+        Assume.assumeTrue( FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" ) );
+        TLModel model = loadTestModel();
+        TLLibrary library = model.getUserDefinedLibraries().get( 0 );
+        File linkFile = null;
+        File targetFile = null;
+
+        try {
+            moveLibraryUrlToTempLocation( library );
+            linkFile = URLUtils.toFile( library.getLibraryUrl() );
+            targetFile = new File( linkFile.getParentFile(), "link-target_" + linkFile.getName() );
+            linkFile.getParentFile().mkdirs();
+            Files.deleteIfExists( linkFile.toPath() );
+            Files.deleteIfExists( targetFile.toPath() );
+            Files.write( targetFile.toPath(), new byte[0] );
+            Files.setPosixFilePermissions( targetFile.toPath(), PosixFilePermissions.fromString( "rw-rw-r--" ) );
+            Files.createSymbolicLink( linkFile.toPath(), targetFile.toPath().getFileName() );
+
+            new LibraryModelSaver().saveLibrary( library );
+
+            // The link must be preserved and the new content written to the file it refers to
+            assertTrue( Files.isSymbolicLink( linkFile.toPath() ) );
+            assertTrue( targetFile.length() > 0 );
+            assertEquals( PosixFilePermissions.fromString( "rw-rw-r--" ),
+                Files.getPosixFilePermissions( targetFile.toPath() ) );
+
+        } finally {
+            if (linkFile != null) {
+                Files.deleteIfExists( linkFile.toPath() );
+                getBackupFile( library ).delete();
+            }
+            if (targetFile != null) {
+                targetFile.delete();
+            }
+        }
+    }
+
     // @Test
     public void testLoadAndSave_ManualTest() throws Exception {
         String filepath = "src/test/resources/libraries_1_5/test-package_v2/";
@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.task.CompilerMetrics.PhaseTimer;
+
+import com.google.gson.JsonObject;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+/**
+ * Verifies the functions of the <code>CompilerMetrics</code> class.
+ */
+public class TestCompilerMetrics {
+
+    @Test
+    public void testDisabledMetrics() throws Exception {
+        CompilerMetrics metrics = CompilerMetrics.disabled();
+        PhaseTimer phaseTimer = metrics.startPhase( CompilerMetrics.PHASE_XSD );
+        PhaseTimer libraryTimer = metrics.startLibrary( newLibrary( "Library1" ) );
+
+        libraryTimer.close();
+        phaseTimer.close();
+        assertFalse( metrics.isEnabled() );
+        assertSame( phaseTimer, libraryTimer );
+        assertTrue( metrics.getPhaseMetrics().isEmpty() );
+        assertTrue( metrics.getLibraryMetrics().isEmpty() );
+    }
+
+    @Test
+    public void testNestedPhases() throws Exception {
+        CompilerMetrics metrics = new CompilerMetrics();
+        TLLibrary library1 = newLibrary( "Library1" );
+        TLLibrary library2 = newLibrary( "Library2" );
+
+        try (PhaseTimer loadTimer = metrics.startPhase( CompilerMetrics.PHASE_LOADING )) {
+            allocate();
+        }
+        try (PhaseTimer xsdTimer = metrics.startPhase( CompilerMetrics.PHASE_XSD )) {
+            try (PhaseTimer libraryTimer = metrics.startLibrary( library1 )) {
+                // Nested library measurements within the same phase are ignored
+                try (PhaseTimer nestedTimer = metrics.startLibrary( library2 )) {
+                    allocate();
+                }
+            }
+            try (PhaseTimer exampleTimer = metrics.startPhase( CompilerMetrics.PHASE_EXAMPLES )) {
+                try (PhaseTimer libraryTimer = metrics.startLibrary( library2 )) {
+                    allocate();
+                }
+            }
+        }
+        List<CompilerPhaseMetrics> phaseMetrics = metrics.getPhaseMetrics();
+        List<CompilerPhaseMetrics> libraryMetrics = metrics.getLibraryMetrics();
+        CompilerPhaseMetrics totals = metrics.getTotalMetrics();
+
+        assertEquals( 3, phaseMetrics.size() );
+        assertEquals( CompilerMetrics.PHASE_LOADING, phaseMetrics.get( 0 ).getPhase() );
+        assertEquals( CompilerMetrics.PHASE_XSD, phaseMetrics.get( 1 ).getPhase() );
+        assertEquals( CompilerMetrics.PHASE_EXAMPLES, phaseMetrics.get( 2 ).getPhase() );
+
+        // Only the outermost phases contribute to the totals
+        assertEquals( 2, totals.getInvocationCount() );
+        assertEquals( phaseMetrics.get( 0 ).getWallTimeNanos() + phaseMetrics.get( 1 ).getWallTimeNanos(),
+            totals.getWallTimeNanos() );
+        assertTrue( phaseMetrics.get( 1 ).getWallTimeNanos() >= phaseMetrics.get( 2 ).getWallTimeNanos() );
+
+        assertEquals( 2, libraryMetrics.size() );
+        assertEquals( "Library1", libraryMetrics.get( 0 ).getLibraryName() );
+        assertEquals( CompilerMetrics.PHASE_XSD, libraryMetrics.get( 0 ).getPhase() );
+        assertEquals( "Library2", libraryMetrics.get( 1 ).getLibraryName() );
+        assertEquals( CompilerMetrics.PHASE_EXAMPLES, libraryMetrics.get( 1 ).getPhase() );
+
+        if (metrics.isAllocationSupported()) {
+            assertTrue( totals.getAllocatedBytes() > 0L );
+        }
+    }
+
+    @Test
+    public void testReport() throws Exception {
+        CompilerMetrics metrics = new CompilerMetrics();
+
+        try (PhaseTimer timer = metrics.startPhase( CompilerMetrics.PHASE_VALIDATION )) {
+            try (PhaseTimer libraryTimer = metrics.startLibrary( newLibrary( "Library1" ) )) {
+                allocate();
+            }
+        }
+        JsonObject report = metrics.toJson();
+
+        assertEquals( 1, report.getAsJsonArray( "phases" ).size() );
+        assertEquals( 1, report.getAsJsonArray( "libraries" ).size() );
+        assertEquals( "Library1",
+            report.getAsJsonArray( "libraries" ).get( 0 ).getAsJsonObject().get( "name" ).getAsString() );
+        assertTrue( metrics.toReport().contains( CompilerMetrics.PHASE_VALIDATION ) );
+
+        CompilerStats.getInstance().recordCompilation( metrics );
+        assertTrue( CompilerStats.getInstance().getCompilationCount() > 0 );
+        assertTrue(
+            CompilerStats.getInstance().getLastPhaseSummary()[0].startsWith( CompilerMetrics.PHASE_VALIDATION ) );
+
+        metrics.reset();
+        assertTrue( metrics.getPhaseMetrics().isEmpty() );
+        assertEquals( 0, metrics.getTotalMetrics().getInvocationCount() );
+    }
+
+    @Test
+    public void testCompilerStatsRegistration() throws Exception {
+        ObjectName name = new ObjectName( CompilerStats.MBEAN_NAME );
+
+        // Registration must be idempotent since both the Maven plugin and the compiler daemon perform it
+        CompilerStats.register();
+        CompilerStats.register();
+        assertTrue( ManagementFactory.getPlatformMBeanServer().isRegistered( name ) );
+    }
+
+    private TLLibrary newLibrary(String name) {
+        TLLibrary library = new TLLibrary();
+
+        library.setName( name );
+        library.setNamespace( "http://www.OpenTravel.org/ns/OTA2/SchemaCompiler/test-package/v1" );
+        return library;
+    }
+
+    private void allocate() {
+        StringBuilder buffer = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            buffer.append( i );
+        }
+        assertTrue( buffer.length() > 0 );
+    }
+
+}
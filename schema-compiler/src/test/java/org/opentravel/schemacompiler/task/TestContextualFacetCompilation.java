@@ -23,6 +23,8 @@ import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 import org.opentravel.schemacompiler.codegen.CodeGeneratorTestAssertions;
 import org.opentravel.schemacompiler.codegen.util.FacetCodegenUtils;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.LibraryElement;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
 import org.opentravel.schemacompiler.model.TLContextualFacet;
 import org.opentravel.schemacompiler.model.TLFacetOwner;
@@ -38,8 +40,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jackson.JsonLoader;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -134,6 +139,45 @@ public class TestContextualFacetCompilation {
         assertTrue( nestedGhostFacets.get( 0 ).isLocalFacet() );
     }
 
+    @Test
+    public void testGhostFacetsNotIndexed() throws Exception {
+        File projectFile = new File(
+            SchemaCompilerTestUtils.getBaseLibraryLocation() + "/test-package-facets/project_facets_all.otp" );
+        ProjectManager projectManager = new ProjectManager( false );
+        ValidationFindings findings = new ValidationFindings();
+
+        projectManager.loadProject( projectFile, findings );
+        SchemaCompilerTestUtils.printFindings( findings );
+        assertFalse( findings.hasFinding( FindingType.ERROR ) );
+
+        TLModel model = projectManager.getModel();
+        TLLibrary library = (TLLibrary) model.getLibrary( NAMESPACE_BASELIB, LIBNAME_BASELIB );
+        TLBusinessObject bo = library.getBusinessObjectType( "ExtFacetTestBO" );
+        Map<AbstractLibrary,Integer> referenceCounts = new HashMap<>();
+        List<TLContextualFacet> ghostFacets = new ArrayList<>();
+
+        for (AbstractLibrary lib : model.getAllLibraries()) {
+            referenceCounts.put( lib, lib.getReferenceCount() );
+        }
+        ghostFacets.addAll( FacetCodegenUtils.findGhostFacets( bo, TLFacetType.CUSTOM ) );
+        ghostFacets.addAll( FacetCodegenUtils
+            .findNonLocalGhostFacets( (TLLibrary) model.getLibrary( NAMESPACE_FACETS1, LIBNAME_FACETS1 ) ) );
+        assertFalse( ghostFacets.isEmpty() );
+
+        // Events published by ghost facets after they are created must not add them to the index
+        for (TLContextualFacet ghostFacet : ghostFacets) {
+            ghostFacet.setLabel( "Ghost Facet" );
+        }
+        for (AbstractLibrary lib : model.getAllLibraries()) {
+            assertEquals( lib.getName(), referenceCounts.get( lib ).intValue(), lib.getReferenceCount() );
+        }
+        List<LibraryElement> boReferrers = model.getReferenceIndex().getReferrers( bo );
+
+        for (TLContextualFacet ghostFacet : ghostFacets) {
+            assertFalse( boReferrers.contains( ghostFacet ) );
+        }
+    }
+
     @Test
     public void testNonLocalGhostFacets() throws Exception {
         File projectFile = new File(
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opentravel.ns.ota2.librarymodel_v01_06.Simple;
+import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.opentravel.schemacompiler.transform.symbols.DefaultTransformerContext;
+
+/**
+ * Verifies the functions of the <code>TransformerFactory</code>.
+ */
+public class TestTransformerFactory {
+
+    @Test
+    public void testFactoryInstancesShareDispatchTable() throws Exception {
+        DefaultTransformerContext context1 = new DefaultTransformerContext();
+        DefaultTransformerContext context2 = new DefaultTransformerContext();
+        TransformerFactory<DefaultTransformerContext> factory1 =
+            TransformerFactory.getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, context1 );
+        TransformerFactory<DefaultTransformerContext> factory2 =
+            TransformerFactory.getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, context2 );
+
+        assertNotSame( factory1, factory2 );
+        assertSame( context1, factory1.getContext() );
+        assertSame( context2, factory2.getContext() );
+        assertSame( factory1, context1.getTransformerFactory() );
+        assertSame( factory2, context2.getTransformerFactory() );
+        assertFalse( factory1.getTypeMappings().isEmpty() );
+        assertSame( factory1.getTypeMappings(), factory2.getTypeMappings() );
+    }
+
+    @Test
+    public void testGetTransformer() throws Exception {
+        DefaultTransformerContext context = new DefaultTransformerContext();
+        TransformerFactory<DefaultTransformerContext> factory =
+            TransformerFactory.getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, context );
+        ObjectTransformer<Simple,TLSimple,DefaultTransformerContext> transformer1 =
+            factory.getTransformer( Simple.class, TLSimple.class );
+        ObjectTransformer<Simple,TLSimple,DefaultTransformerContext> transformer2 =
+            factory.getTransformer( Simple.class, TLSimple.class );
+
+        assertNotNull( transformer1 );
+        assertNotSame( transformer1, transformer2 );
+        assertEquals( transformer1.getClass(), transformer2.getClass() );
+        assertTrue( factory.findTargetTypes( Simple.class ).contains( TLSimple.class ) );
+        assertNull( factory.getTransformer( String.class, TLSimple.class ) );
+        assertTrue( factory.findTargetTypes( String.class ).isEmpty() );
+    }
+
+}
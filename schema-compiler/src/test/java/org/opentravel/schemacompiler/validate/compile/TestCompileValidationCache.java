@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.validate.compile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.model.LibraryMember;
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLModelElement;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.opentravel.schemacompiler.validate.AbstractValidatorTest;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+
+/**
+ * Verifies the functions of the <code>CompileValidationCache</code> class.
+ */
+public class TestCompileValidationCache extends AbstractValidatorTest {
+
+    @Test
+    public void testCachedFindingsMatchValidation() throws Exception {
+        CompileValidationCache validationCache = new CompileValidationCache();
+
+        for (LibraryMember member : getLibrary( TLIBRARY_ERROR1_V1_1 ).getNamedMembers()) {
+            if (!(member instanceof NamedEntity)) {
+                continue;
+            }
+            TLModelElement element = (TLModelElement) member;
+            ValidationFindings expectedFindings = TLModelCompileValidator.validateModelElement( element );
+            ValidationFindings cachedFindings = validationCache.getFindings( element );
+
+            assertEquals( expectedFindings.count(), cachedFindings.count() );
+            assertSame( cachedFindings, validationCache.getFindings( element ) );
+        }
+        assertTrue( validationCache.getCachedEntityCount() > 0 );
+
+        validationCache.clear();
+        assertEquals( 0, validationCache.getCachedEntityCount() );
+    }
+
+    @Test
+    public void testModelModificationClearsCache() throws Exception {
+        CompileValidationCache validationCache = new CompileValidationCache();
+        TLSimple simple = getMember( TLIBRARY_ERROR1_V1, "TestPatternError", TLSimple.class );
+        ValidationFindings findings = validationCache.getFindings( simple );
+        long modificationCount = model.getModificationCount();
+
+        simple.setName( simple.getName() );
+        assertTrue( model.getModificationCount() > modificationCount );
+        assertNotSame( findings, validationCache.getFindings( simple ) );
+    }
+
+}